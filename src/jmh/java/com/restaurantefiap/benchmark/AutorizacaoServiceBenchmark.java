@@ -0,0 +1,73 @@
+package com.restaurantefiap.benchmark;
+
+import com.restaurantefiap.entities.usuario.UserPrincipal;
+import com.restaurantefiap.entities.usuario.Usuario;
+import com.restaurantefiap.security.AutorizacaoService;
+import com.restaurantefiap.util.UsuarioTestBuilder;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Regras do {@link AutorizacaoService} avaliadas pelo {@code @PreAuthorize}, com um CLIENTE
+ * autenticado no contexto (o pior caso de {@code isAdminOuProprio}: avalia as duas regras).
+ *
+ * <p>O contexto de segurança é por thread: o estado é {@link Scope#Thread}.</p>
+ *
+ * @author Danilo de Paula
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class AutorizacaoServiceBenchmark {
+
+    private final AutorizacaoService autorizacao = new AutorizacaoService();
+    private Long idProprio;
+    private Long idOutro;
+
+    @Setup
+    public void setUp() {
+        Usuario usuario = UsuarioTestBuilder.criarUsuarioValido();
+        UserPrincipal principal = new UserPrincipal(usuario);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+        idProprio = usuario.getId();
+        idOutro = usuario.getId() + 1;
+    }
+
+    @TearDown
+    public void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Benchmark
+    public boolean isMaster() {
+        return autorizacao.isMaster();
+    }
+
+    @Benchmark
+    public boolean isAdminOuProprio() {
+        return autorizacao.isAdminOuProprio(idProprio);
+    }
+
+    @Benchmark
+    public boolean isMasterOuProprioNegado() {
+        return autorizacao.isMasterOuProprio(idOutro);
+    }
+}
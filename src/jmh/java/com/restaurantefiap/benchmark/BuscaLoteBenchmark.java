@@ -0,0 +1,197 @@
+package com.restaurantefiap.benchmark;
+
+import com.restaurantefiap.dto.response.UsuarioLoteItemDTO;
+import com.restaurantefiap.dto.response.UsuarioResponseDTO;
+import com.restaurantefiap.entities.usuario.UserPrincipal;
+import com.restaurantefiap.entities.usuario.Usuario;
+import com.restaurantefiap.enums.Role;
+import com.restaurantefiap.mapper.UsuarioMapper;
+import com.restaurantefiap.repository.UsuarioRepository;
+import com.restaurantefiap.security.AutorizacaoService;
+import com.restaurantefiap.service.BuscaLoteUsuariosService;
+import com.restaurantefiap.util.UsuarioTestBuilder;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Busca de N usuários: {@link BuscaLoteUsuariosService} (consultas {@code IN} em blocos de 100)
+ * contra o laço de N buscas por ID que o cliente faria com {@code GET /v1/usuarios/{id}}.
+ *
+ * <p>As consultas rodam num H2 em memória por JDBC, atrás de um {@link UsuarioRepository}
+ * mínimo (só os dois métodos usados). {@code idaEVoltaUs} soma a cada comando o tempo de rede
+ * até o banco — com 0 sobra só o custo do driver e do plano; com 500 µs, o de um MySQL em
+ * outra máquina. O resultado do lote inclui a autorização por ID, como no endpoint.</p>
+ *
+ * @author Danilo de Paula
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BuscaLoteBenchmark {
+
+    private static final int USUARIOS = 1_000;
+
+    @Param({"10", "100"})
+    private int quantidade;
+
+    @Param({"0", "500"})
+    private long idaEVoltaUs;
+
+    private Connection conexao;
+    private PreparedStatement porId;
+    private UsuarioRepository repository;
+    private BuscaLoteUsuariosService lote;
+    private List<Long> ids;
+
+    @Setup
+    public void setUp() throws SQLException {
+        conexao = DriverManager.getConnection("jdbc:h2:mem:busca-lote;MODE=MySQL", "sa", "");
+        try (Statement ddl = conexao.createStatement()) {
+            ddl.execute("CREATE TABLE usuarios (id BIGINT PRIMARY KEY, login VARCHAR(100), email VARCHAR(255), "
+                    + "nome VARCHAR(255), telefone VARCHAR(20), role VARCHAR(30), versao BIGINT, "
+                    + "deletado_em TIMESTAMP NULL)");
+        }
+        try (PreparedStatement insert = conexao.prepareStatement(
+                "INSERT INTO usuarios VALUES (?, ?, ?, 'Usuário Teste', '11987654321', 'CLIENTE', 0, NULL)")) {
+            for (long id = 1; id <= USUARIOS; id++) {
+                insert.setLong(1, id);
+                insert.setString(2, "usuario." + id);
+                insert.setString(3, "usuario" + id + "@teste.com");
+                insert.addBatch();
+            }
+            insert.executeBatch();
+        }
+        porId = conexao.prepareStatement(
+                "SELECT id, login, email, nome, telefone, role, versao FROM usuarios "
+                        + "WHERE id = ? AND deletado_em IS NULL");
+        repository = repositorioJdbc();
+        lote = new BuscaLoteUsuariosService(repository, new AutorizacaoService(), 200, 100);
+
+        ids = new ArrayList<>(quantidade);
+        for (int i = 0; i < quantidade; i++) {
+            ids.add((long) (i * 7 % USUARIOS) + 1);
+        }
+
+        Usuario master = UsuarioTestBuilder.criarUsuarioValido();
+        master.setRole(Role.MASTER);
+        UserPrincipal principal = new UserPrincipal(master);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        SecurityContextHolder.clearContext();
+        try (Statement ddl = conexao.createStatement()) {
+            ddl.execute("DROP ALL OBJECTS");
+        }
+        conexao.close();
+    }
+
+    /** Uma requisição {@code POST /v1/usuarios/lote}. */
+    @Benchmark
+    public List<UsuarioLoteItemDTO> lote() {
+        return lote.buscarPorIds(ids);
+    }
+
+    /** N requisições {@code GET /v1/usuarios/{id}} (sem o HTTP). */
+    @Benchmark
+    public List<UsuarioResponseDTO> porId() {
+        List<UsuarioResponseDTO> resultado = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            repository.findAtivoById(id).map(UsuarioMapper::paraDto).ifPresent(resultado::add);
+        }
+        return resultado;
+    }
+
+    // ========== Métodos Auxiliares ==========
+
+    private UsuarioRepository repositorioJdbc() {
+        return (UsuarioRepository) Proxy.newProxyInstance(
+                UsuarioRepository.class.getClassLoader(),
+                new Class<?>[]{UsuarioRepository.class},
+                (proxy, metodo, argumentos) -> switch (metodo.getName()) {
+                    case "findAtivoById" -> buscarPorId((Long) argumentos[0]);
+                    case "findAtivosByIdIn" -> buscarPorIds((Collection<?>) argumentos[0]);
+                    default -> throw new UnsupportedOperationException(metodo.getName());
+                });
+    }
+
+    private Optional<Usuario> buscarPorId(Long id) throws SQLException {
+        idaEVolta();
+        porId.setLong(1, id);
+        try (ResultSet linhas = porId.executeQuery()) {
+            return linhas.next() ? Optional.of(usuario(linhas)) : Optional.empty();
+        }
+    }
+
+    /** Como o Hibernate: um parâmetro por ID (o plano muda com o tamanho do bloco). */
+    private List<Usuario> buscarPorIds(Collection<?> bloco) throws SQLException {
+        idaEVolta();
+        String parametros = String.join(",", Collections.nCopies(bloco.size(), "?"));
+        try (PreparedStatement in = conexao.prepareStatement(
+                "SELECT id, login, email, nome, telefone, role, versao FROM usuarios "
+                        + "WHERE id IN (" + parametros + ") AND deletado_em IS NULL")) {
+            int indice = 1;
+            for (Object id : bloco) {
+                in.setLong(indice++, (Long) id);
+            }
+            List<Usuario> usuarios = new ArrayList<>(bloco.size());
+            try (ResultSet linhas = in.executeQuery()) {
+                while (linhas.next()) {
+                    usuarios.add(usuario(linhas));
+                }
+            }
+            return usuarios;
+        }
+    }
+
+    private void idaEVolta() {
+        if (idaEVoltaUs > 0) {
+            LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(idaEVoltaUs));
+        }
+    }
+
+    private static Usuario usuario(ResultSet linha) throws SQLException {
+        return Usuario.builder()
+                .id(linha.getLong(1))
+                .login(linha.getString(2))
+                .email(linha.getString(3))
+                .nome(linha.getString(4))
+                .telefone(linha.getString(5))
+                .role(Role.valueOf(linha.getString(6)))
+                .versao(linha.getLong(7))
+                .build();
+    }
+}
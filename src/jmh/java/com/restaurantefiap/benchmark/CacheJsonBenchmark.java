@@ -0,0 +1,103 @@
+package com.restaurantefiap.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.restaurantefiap.entities.endereco.Endereco;
+import com.restaurantefiap.entities.usuario.Usuario;
+import com.restaurantefiap.mapper.UsuarioMapper;
+import com.restaurantefiap.service.CacheJsonUsuarios;
+import com.restaurantefiap.util.UsuarioTestBuilder;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Corpo de {@code GET /v1/usuarios/{id}} com o {@link CacheJsonUsuarios} contra o caminho sem
+ * cache (mapper + Jackson a cada requisição), em vazão.
+ *
+ * <p>As requisições percorrem {@value #USUARIOS} usuários em sequência. Para a taxa de acerto
+ * ser exatamente {@code acertoPercentual}, as demais requisições encontram o usuário numa versão
+ * nova (como depois de um {@code PUT}) e pagam a falta: mapper, Jackson e a troca da entrada.
+ * A consulta da versão atual, que os dois caminhos fazem no endpoint, fica de fora.</p>
+ *
+ * @author Danilo de Paula
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CacheJsonBenchmark {
+
+    private static final int USUARIOS = 1_000;
+
+    @Param({"90"})
+    private int acertoPercentual;
+
+    private ObjectMapper objectMapper;
+    private CacheJsonUsuarios cache;
+    private Usuario[] usuarios;
+    private long requisicoes;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        cache = new CacheJsonUsuarios(objectMapper, true, USUARIOS * 2);
+
+        usuarios = new Usuario[USUARIOS];
+        for (int i = 0; i < USUARIOS; i++) {
+            Usuario usuario = UsuarioTestBuilder.criarUsuarioValido();
+            usuario.setId(i + 1L);
+            usuario.setVersao(0L);
+            usuario.setCriadoEm(LocalDateTime.of(2026, 1, 1, 12, 0));
+            usuario.setAtualizadoEm(LocalDateTime.of(2026, 1, 2, 12, 0));
+            usuario.setEndereco(new Endereco(UsuarioTestBuilder.criarEnderecoValido()));
+            usuarios[i] = usuario;
+            cache.serializarEGuardar(usuario.getId(), 0L, CacheJsonUsuarios.COMPLETO, UsuarioMapper.paraDto(usuario));
+        }
+    }
+
+    /** Caminho do endpoint: bytes do cache, ou mapper + Jackson e guarda na falta. */
+    @Benchmark
+    public byte[] comCache() {
+        Usuario usuario = proximo();
+        byte[] json = cache.obter(usuario.getId(), usuario.getVersao(), CacheJsonUsuarios.COMPLETO);
+        if (json != null) {
+            return json;
+        }
+        return cache.serializarEGuardar(usuario.getId(), usuario.getVersao(), CacheJsonUsuarios.COMPLETO,
+                UsuarioMapper.paraDto(usuario));
+    }
+
+    /** Mapper + Jackson a cada requisição, como o conversor JSON do Spring MVC. */
+    @Benchmark
+    public byte[] semCache() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(UsuarioMapper.paraDto(proximo()));
+    }
+
+    // ========== Métodos Auxiliares ==========
+
+    /** Próximo usuário da sequência; {@code 100 - acertoPercentual} de cada 100 mudam de versão. */
+    private Usuario proximo() {
+        long requisicao = requisicoes++;
+        Usuario usuario = usuarios[(int) (requisicao % USUARIOS)];
+        if (requisicao % 100 < 100 - acertoPercentual) {
+            usuario.setVersao(usuario.getVersao() + 1);
+        }
+        return usuario;
+    }
+}
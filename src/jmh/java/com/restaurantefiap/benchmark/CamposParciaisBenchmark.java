@@ -0,0 +1,121 @@
+package com.restaurantefiap.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.restaurantefiap.dto.response.UsuarioParcialDTO;
+import com.restaurantefiap.dto.response.UsuarioResponseDTO;
+import com.restaurantefiap.entities.endereco.Endereco;
+import com.restaurantefiap.entities.usuario.Usuario;
+import com.restaurantefiap.enums.CampoUsuario;
+import com.restaurantefiap.mapper.UsuarioMapper;
+import com.restaurantefiap.util.UsuarioTestBuilder;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialização de uma página de usuários: a representação completa ({@link UsuarioResponseDTO})
+ * contra a parcial de {@code fields=} ({@link UsuarioParcialDTO}), com o {@code ObjectMapper}
+ * configurado como o do Spring MVC.
+ *
+ * <p>{@code campos=id,nome,role} é o uso típico de uma listagem; {@code campos=todos} pede os
+ * mesmos campos da completa e isola o custo do mapa de {@link UsuarioParcialDTO} contra o
+ * serializador do record. O tamanho de cada corpo é impresso no início da medição. Mede só o
+ * Jackson — a consulta projetada, que também lê menos colunas, fica de fora.</p>
+ *
+ * @author Danilo de Paula
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CamposParciaisBenchmark {
+
+    @Param({"1", "20"})
+    private int quantidade;
+
+    @Param({"id,nome,role", "todos"})
+    private String campos;
+
+    private ObjectMapper objectMapper;
+    private List<UsuarioResponseDTO> completos;
+    private List<UsuarioParcialDTO> parciais;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        Set<CampoUsuario> pedidos = "todos".equals(campos)
+                ? Set.of(CampoUsuario.values())
+                : CampoUsuario.deParametro(campos);
+
+        completos = new ArrayList<>(quantidade);
+        parciais = new ArrayList<>(quantidade);
+        for (long id = 1; id <= quantidade; id++) {
+            Usuario usuario = UsuarioTestBuilder.criarUsuarioValido();
+            usuario.setId(id);
+            usuario.setCriadoEm(LocalDateTime.of(2026, 1, 1, 12, 0));
+            usuario.setAtualizadoEm(LocalDateTime.of(2026, 1, 2, 12, 0));
+            usuario.setEndereco(new Endereco(UsuarioTestBuilder.criarEnderecoValido()));
+            UsuarioResponseDTO dto = UsuarioMapper.paraDto(usuario);
+            completos.add(dto);
+            parciais.add(parcial(dto, pedidos));
+        }
+
+        System.out.printf("%nbytes: completa=%d parcial=%d%n",
+                objectMapper.writeValueAsBytes(completos).length,
+                objectMapper.writeValueAsBytes(parciais).length);
+    }
+
+    @Benchmark
+    public byte[] completa() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(completos);
+    }
+
+    @Benchmark
+    public byte[] parcial() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(parciais);
+    }
+
+    // ========== Métodos Auxiliares ==========
+
+    /** Mesmo mapa que a consulta projetada monta, na ordem de declaração dos campos. */
+    private static UsuarioParcialDTO parcial(UsuarioResponseDTO dto, Set<CampoUsuario> pedidos) {
+        Map<String, Object> valores = new LinkedHashMap<>();
+        for (CampoUsuario campo : CampoUsuario.values()) {
+            if (pedidos.contains(campo)) {
+                valores.put(campo.getNome(), switch (campo) {
+                    case ID -> dto.id();
+                    case LOGIN -> dto.login();
+                    case EMAIL -> dto.email();
+                    case NOME -> dto.nome();
+                    case TELEFONE -> dto.telefone();
+                    case ROLE -> dto.role();
+                    case CRIADO_EM -> dto.criadoEm();
+                    case ATUALIZADO_EM -> dto.atualizadoEm();
+                    case ENDERECO -> dto.endereco();
+                });
+            }
+        }
+        return new UsuarioParcialDTO(dto.id(), dto.versao(), valores);
+    }
+}
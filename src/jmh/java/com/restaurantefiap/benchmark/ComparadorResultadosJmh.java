@@ -0,0 +1,115 @@
+package com.restaurantefiap.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compara dois resultados do JMH ({@code -rf json}), por exemplo o da versão anterior e o atual:
+ * <pre>
+ * mvn -Pbenchmarks -DskipTests test-compile exec:exec@comparar -Dantes=jmh-base.json -Ddepois=target/jmh-resultado.json
+ * </pre>
+ *
+ * <p>Para cada benchmark (com seus parâmetros) presente nos dois arquivos, imprime o score, a
+ * variação percentual e, se medida com {@code -prof gc}, a alocação por operação. Variações
+ * dentro da soma dos erros das duas medições aparecem como {@code ~}.</p>
+ *
+ * @author Danilo de Paula
+ */
+public final class ComparadorResultadosJmh {
+
+    private static final String ALOCACAO = "gc.alloc.rate.norm";
+
+    /** Score, erro e alocação de um benchmark. */
+    record Medicao(double score, double erro, String unidade, Double bytesPorOp) { }
+
+    private ComparadorResultadosJmh() { }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("Uso: ComparadorResultadosJmh <antes.json> <depois.json>");
+            System.exit(2);
+        }
+        Map<String, Medicao> antes = ler(Path.of(args[0]));
+        Map<String, Medicao> depois = ler(Path.of(args[1]));
+
+        System.out.printf(Locale.ROOT, "%-70s %14s %14s %9s %12s %12s%n",
+                "benchmark", "antes", "depois", "var.", "B/op antes", "B/op depois");
+        depois.forEach((nome, atual) -> {
+            Medicao anterior = antes.get(nome);
+            if (anterior == null) {
+                System.out.printf(Locale.ROOT, "%-70s %14s %14.3f %9s%n", nome, "(novo)", atual.score(), "");
+                return;
+            }
+            System.out.printf(Locale.ROOT, "%-70s %14.3f %14.3f %9s %12s %12s%n",
+                    nome, anterior.score(), atual.score(), variacao(anterior, atual),
+                    bytes(anterior.bytesPorOp()), bytes(atual.bytesPorOp()));
+        });
+        antes.keySet().stream()
+                .filter(nome -> !depois.containsKey(nome))
+                .forEach(nome -> System.out.printf(Locale.ROOT, "%-70s %14s%n", nome, "(removido)"));
+    }
+
+    /**
+     * Lê um resultado do JMH, indexado por benchmark e parâmetros.
+     *
+     * @param arquivo JSON gerado com {@code -rf json}
+     * @return medições por nome, em ordem alfabética
+     * @throws IOException se o arquivo não puder ser lido
+     */
+    static Map<String, Medicao> ler(Path arquivo) throws IOException {
+        Map<String, Medicao> medicoes = new TreeMap<>();
+        for (JsonNode resultado : new ObjectMapper().readTree(arquivo.toFile())) {
+            JsonNode primaria = resultado.path("primaryMetric");
+            Double bytesPorOp = null;
+            Iterator<Map.Entry<String, JsonNode>> secundarias = resultado.path("secondaryMetrics").fields();
+            while (secundarias.hasNext()) {
+                Map.Entry<String, JsonNode> metrica = secundarias.next();
+                // Versões antigas do JMH prefixam as métricas dos profilers com "·"
+                if (metrica.getKey().replace("·", "").equals(ALOCACAO)) {
+                    bytesPorOp = metrica.getValue().path("score").asDouble();
+                }
+            }
+            medicoes.put(nome(resultado), new Medicao(primaria.path("score").asDouble(),
+                    primaria.path("scoreError").asDouble(), primaria.path("scoreUnit").asText(), bytesPorOp));
+        }
+        return medicoes;
+    }
+
+    private static String nome(JsonNode resultado) {
+        String benchmark = resultado.path("benchmark").asText().replace("com.restaurantefiap.benchmark.", "");
+        Map<String, String> parametros = new LinkedHashMap<>();
+        resultado.path("params").fields().forEachRemaining(p -> parametros.put(p.getKey(), p.getValue().asText()));
+        String modo = resultado.path("mode").asText();
+        return parametros.isEmpty()
+                ? benchmark + " [" + modo + "]"
+                : benchmark + parametros + " [" + modo + "]";
+    }
+
+    private static String variacao(Medicao antes, Medicao depois) {
+        if (!antes.unidade().equals(depois.unidade()) || antes.score() == 0) {
+            return "n/a";
+        }
+        double diferenca = depois.score() - antes.score();
+        if (Math.abs(diferenca) <= errosFinitos(antes) + errosFinitos(depois)) {
+            return "~";
+        }
+        return String.format(Locale.ROOT, "%+.1f%%", 100 * diferenca / antes.score());
+    }
+
+    /** O JMH grava {@code NaN} como erro quando há uma só iteração. */
+    private static double errosFinitos(Medicao medicao) {
+        return Double.isFinite(medicao.erro()) ? medicao.erro() : 0;
+    }
+
+    private static String bytes(Double valor) {
+        return valor == null ? "-" : String.format(Locale.ROOT, "%.0f", valor);
+    }
+}
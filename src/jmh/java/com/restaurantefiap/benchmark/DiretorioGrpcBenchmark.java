@@ -0,0 +1,177 @@
+package com.restaurantefiap.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.restaurantefiap.RestauranteFiapApplication;
+import com.restaurantefiap.dto.response.UsuarioResponseDTO;
+import com.restaurantefiap.entities.endereco.Endereco;
+import com.restaurantefiap.entities.usuario.UserPrincipal;
+import com.restaurantefiap.entities.usuario.Usuario;
+import com.restaurantefiap.enums.Role;
+import com.restaurantefiap.grpc.ServidorGrpc;
+import com.restaurantefiap.grpc.proto.BuscarPorIdRequest;
+import com.restaurantefiap.grpc.proto.DiretorioUsuariosGrpc;
+import com.restaurantefiap.repository.UsuarioRepository;
+import com.restaurantefiap.service.JwtService;
+import com.restaurantefiap.util.UsuarioTestBuilder;
+
+import io.grpc.Grpc;
+import io.grpc.InsecureChannelCredentials;
+import io.grpc.ManagedChannel;
+import io.grpc.Metadata;
+import io.grpc.stub.MetadataUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Uma consulta de usuário por ID entre serviços: {@code GET /v1/usuarios/{id}} (HTTP/1.1 e JSON,
+ * com a desserialização no cliente) contra o {@code BuscarPorId} do diretório gRPC (HTTP/2 e
+ * protobuf), de ponta a ponta pela interface de loopback.
+ *
+ * <p>Sobe a aplicação com o perfil {@code test} (H2 em memória) e os dois servidores em portas
+ * aleatórias; o token JWT é o mesmo nos dois protocolos. Cliente e servidor dividem o processo,
+ * então o tempo de CPU por consulta, impresso ao fim de cada iteração, é a soma dos dois lados —
+ * comparável entre os protocolos, não um custo só do servidor. Com o {@code -prof gc} padrão
+ * do perfil, o JMH mostra também a alocação por consulta.</p>
+ *
+ * <p>O aquecimento é longo porque o JIT compila a pilha inteira (Tomcat, Spring Security, Netty,
+ * Hibernate); com poucos núcleos, confira no {@code cpu/consulta} se ele já estabilizou.</p>
+ *
+ * @author Danilo de Paula
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 10, time = 5)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DiretorioGrpcBenchmark {
+
+    private static final int USUARIOS = 100;
+
+    private ConfigurableApplicationContext contexto;
+    private ObjectMapper objectMapper;
+    private HttpClient http;
+    private ManagedChannel canal;
+    private DiretorioUsuariosGrpc.DiretorioUsuariosBlockingStub diretorio;
+    private String urlUsuarios;
+    private String autorizacao;
+    private List<Long> ids;
+    private int proximo;
+
+    private final com.sun.management.OperatingSystemMXBean sistema =
+            (com.sun.management.OperatingSystemMXBean) ManagementFactory.getOperatingSystemMXBean();
+    private long cpuInicioNs;
+    private long consultas;
+
+    @Setup
+    public void setUp() {
+        System.setProperty("spring.devtools.restart.enabled", "false");
+        contexto = new SpringApplicationBuilder(RestauranteFiapApplication.class).run(
+                "--spring.profiles.active=test", "--server.port=0",
+                "--app.grpc.habilitado=true", "--app.grpc.porta=0", "--logging.level.root=WARN");
+        objectMapper = contexto.getBean(ObjectMapper.class);
+
+        UsuarioRepository repository = contexto.getBean(UsuarioRepository.class);
+        Usuario master = repository.save(usuario("diretorio.master", Role.MASTER));
+        ids = new ArrayList<>(USUARIOS);
+        for (int i = 0; i < USUARIOS; i++) {
+            ids.add(repository.save(usuario("diretorio." + i, Role.CLIENTE)).getId());
+        }
+        autorizacao = "Bearer " + contexto.getBean(JwtService.class).generateToken(new UserPrincipal(master));
+
+        http = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        urlUsuarios = "http://localhost:" + contexto.getEnvironment().getProperty("local.server.port")
+                + "/v1/usuarios/";
+
+        Metadata metadados = new Metadata();
+        metadados.put(Metadata.Key.of("authorization", Metadata.ASCII_STRING_MARSHALLER), autorizacao);
+        canal = Grpc.newChannelBuilderForAddress("localhost", contexto.getBean(ServidorGrpc.class).getPorta(),
+                InsecureChannelCredentials.create()).build();
+        diretorio = DiretorioUsuariosGrpc.newBlockingStub(canal)
+                .withInterceptors(MetadataUtils.newAttachHeadersInterceptor(metadados));
+    }
+
+    @TearDown
+    public void tearDown() throws InterruptedException {
+        canal.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+        http.close();
+        contexto.close();
+    }
+
+    @Setup(Level.Iteration)
+    public void iniciarIteracao() {
+        consultas = 0;
+        cpuInicioNs = sistema.getProcessCpuTime();
+    }
+
+    @TearDown(Level.Iteration)
+    public void encerrarIteracao() {
+        long cpuNs = sistema.getProcessCpuTime() - cpuInicioNs;
+        System.out.printf("%ncpu/consulta: %.1f us (%d consultas)%n",
+                cpuNs / 1_000.0 / Math.max(consultas, 1), consultas);
+    }
+
+    @Benchmark
+    public UsuarioResponseDTO json() throws IOException, InterruptedException {
+        HttpResponse<byte[]> resposta = http.send(
+                HttpRequest.newBuilder(URI.create(urlUsuarios + proximoId()))
+                        .header("Authorization", autorizacao)
+                        .GET()
+                        .build(),
+                HttpResponse.BodyHandlers.ofByteArray());
+        if (resposta.statusCode() != 200) {
+            throw new IllegalStateException("GET /v1/usuarios/{id} respondeu " + resposta.statusCode() + ": "
+                    + new String(resposta.body(), StandardCharsets.UTF_8));
+        }
+        return objectMapper.readValue(resposta.body(), UsuarioResponseDTO.class);
+    }
+
+    @Benchmark
+    public com.restaurantefiap.grpc.proto.Usuario grpc() {
+        return diretorio.buscarPorId(BuscarPorIdRequest.newBuilder().setId(proximoId()).build());
+    }
+
+    // ========== Métodos Auxiliares ==========
+
+    private static Usuario usuario(String login, Role role) {
+        return Usuario.builder()
+                .login(login)
+                .email(login + "@teste.com")
+                .nome("Usuário Diretório")
+                .telefone("11999999999")
+                .role(role)
+                .password("$2a$10$naoUsadaNoBenchmark")
+                .endereco(new Endereco(UsuarioTestBuilder.criarEnderecoValido()))
+                .build();
+    }
+
+    private long proximoId() {
+        consultas++;
+        Long id = ids.get(proximo);
+        proximo = (proximo + 1) % ids.size();
+        return id;
+    }
+}
@@ -0,0 +1,132 @@
+package com.restaurantefiap.benchmark;
+
+import com.restaurantefiap.dto.request.UsuarioRequestDTO;
+import com.restaurantefiap.exception.DuplicateResourceException;
+import com.restaurantefiap.exception.ExcecaoEsperada;
+import com.restaurantefiap.exception.GlobalExceptionHandler;
+import com.restaurantefiap.exception.ResourceNotFoundException;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Respostas do {@link GlobalExceptionHandler}: lançar, capturar e montar o {@link ProblemDetail}.
+ *
+ * <p>{@code rastroCompleto} compara as exceções esperadas sem stack trace (padrão) com a
+ * captura ligada, como em {@code app.excecoes.rastro-completo=true}. A pilha do benchmark é
+ * rasa; numa requisição real (filtros, proxies, MVC) a diferença é maior.</p>
+ *
+ * <p>{@code varreduraNaoEncontrados} mede em vazão uma sequência de 404 com IDs diferentes,
+ * como numa varredura de IDs, em que cada resposta monta uma mensagem nova.</p>
+ *
+ * @author Danilo de Paula
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ExcecoesBenchmark {
+
+    @Param({"false", "true"})
+    private boolean rastroCompleto;
+
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler();
+    private WebRequest request;
+    private MethodArgumentNotValidException validacao;
+    private long proximoId;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        ExcecaoEsperada.setRastroCompleto(rastroCompleto);
+        request = new ServletWebRequest(new MockHttpServletRequest("GET", "/v1/usuarios/99999"));
+
+        BeanPropertyBindingResult erros = new BeanPropertyBindingResult(new Object(), "usuarioRequestDTO");
+        erros.addError(new FieldError("usuarioRequestDTO", "login", "Login é obrigatório"));
+        erros.addError(new FieldError("usuarioRequestDTO", "email", "Email inválido"));
+        MethodParameter parametro = new MethodParameter(
+                ExcecoesBenchmark.class.getDeclaredMethod("alvo", UsuarioRequestDTO.class), 0);
+        validacao = new MethodArgumentNotValidException(parametro, erros);
+    }
+
+    @TearDown
+    public void tearDown() {
+        ExcecaoEsperada.setRastroCompleto(false);
+    }
+
+    @SuppressWarnings("unused")
+    private void alvo(UsuarioRequestDTO dto) {
+        // Assinatura usada só como MethodParameter da exceção de validação
+    }
+
+    /** 404 de ID inexistente: o caso das varreduras de IDs. */
+    @Benchmark
+    public ResponseEntity<ProblemDetail> naoEncontrado() {
+        try {
+            throw new ResourceNotFoundException("Usuário", 99999L);
+        } catch (ResourceNotFoundException e) {
+            return handler.handleResourceNotFound(e, request);
+        }
+    }
+
+    /** 409 de login ou email já cadastrado: exceção esperada, como o 404. */
+    @Benchmark
+    public ResponseEntity<ProblemDetail> conflito() {
+        try {
+            throw new DuplicateResourceException("Email", "joao@email.com");
+        } catch (DuplicateResourceException e) {
+            return handler.handleDuplicateResource(e, request);
+        }
+    }
+
+    /** 404 seguidos com IDs sempre novos, em requisições por milissegundo. */
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public ResponseEntity<ProblemDetail> varreduraNaoEncontrados() {
+        try {
+            throw new ResourceNotFoundException("Usuário", ++proximoId);
+        } catch (ResourceNotFoundException e) {
+            return handler.handleResourceNotFound(e, request);
+        }
+    }
+
+    /** 403: exceção do Spring Security, sempre com stack trace (referência). */
+    @Benchmark
+    public ResponseEntity<ProblemDetail> acessoNegado() {
+        try {
+            throw new AccessDeniedException("Acesso negado");
+        } catch (AccessDeniedException e) {
+            return handler.handleAccessDenied(e, request);
+        }
+    }
+
+    /** 400 de Bean Validation: a exceção já existe, mede só a montagem do corpo. */
+    @Benchmark
+    public ResponseEntity<ProblemDetail> validacao() {
+        return handler.handleValidationErrors(validacao, request);
+    }
+}
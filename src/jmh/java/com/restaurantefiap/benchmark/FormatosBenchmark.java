@@ -0,0 +1,61 @@
+package com.restaurantefiap.benchmark;
+
+import com.restaurantefiap.enums.FormatoValidacao;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Para cada {@link FormatoValidacao}, o validador escrito à mão contra a regex que ele substitui,
+ * com uma entrada válida (o caso comum, que percorre a entrada inteira).
+ *
+ * @author Danilo de Paula
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FormatosBenchmark {
+
+    @Param({"TELEFONE_BR", "NOME_PROPRIO", "LOGIN_USUARIO", "SENHA_FORTE"})
+    private FormatoValidacao formato;
+
+    private Pattern regex;
+    private String entrada;
+
+    @Setup
+    public void setUp() {
+        regex = Pattern.compile(formato.getRegex());
+        entrada = switch (formato) {
+            case TELEFONE_BR -> "+55 (11) 91234-5678";
+            case NOME_PROPRIO -> "Maria Aparecida D'Ávila Conceição";
+            case LOGIN_USUARIO -> "joao_silva-01";
+            case SENHA_FORTE -> "Restaurante@2026";
+            default -> throw new IllegalStateException("Formato sem entrada de referência: " + formato);
+        };
+    }
+
+    @Benchmark
+    public boolean formatoEscritoAMao() {
+        return formato.aceita(entrada);
+    }
+
+    @Benchmark
+    public boolean formatoRegex() {
+        return regex.matcher(entrada).matches();
+    }
+}
@@ -0,0 +1,76 @@
+package com.restaurantefiap.benchmark;
+
+import com.restaurantefiap.entities.usuario.UserPrincipal;
+import com.restaurantefiap.security.JwtAuthenticationFilter;
+import com.restaurantefiap.service.JwtService;
+import com.restaurantefiap.util.UsuarioTestBuilder;
+
+import jakarta.servlet.ServletException;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link JwtAuthenticationFilter} de ponta a ponta, com requisição e cadeia simuladas e o
+ * {@code UserDetailsService} em memória — mede o filtro sem o banco.
+ *
+ * @author Danilo de Paula
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class JwtAuthenticationFilterBenchmark {
+
+    private JwtAuthenticationFilter filtro;
+    private String cabecalho;
+
+    @Setup
+    public void setUp() {
+        JwtService jwtService = JwtServiceBenchmark.criarJwtService();
+        UserPrincipal principal = new UserPrincipal(UsuarioTestBuilder.criarUsuarioValido());
+        filtro = new JwtAuthenticationFilter(jwtService, login -> principal);
+        cabecalho = "Bearer " + jwtService.generateToken(principal);
+    }
+
+    @Benchmark
+    public MockHttpServletResponse comToken() throws ServletException, IOException {
+        return filtrar(cabecalho);
+    }
+
+    @Benchmark
+    public MockHttpServletResponse semToken() throws ServletException, IOException {
+        return filtrar(null);
+    }
+
+    private MockHttpServletResponse filtrar(String authorization) throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/v1/usuarios/me");
+        if (authorization != null) {
+            request.addHeader("Authorization", authorization);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        try {
+            filtro.doFilter(request, response, new MockFilterChain());
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+        return response;
+    }
+}
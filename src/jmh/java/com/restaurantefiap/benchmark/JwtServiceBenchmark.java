@@ -0,0 +1,71 @@
+package com.restaurantefiap.benchmark;
+
+import com.restaurantefiap.entities.usuario.UserPrincipal;
+import com.restaurantefiap.service.JwtService;
+import com.restaurantefiap.util.UsuarioTestBuilder;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Assinatura e leitura de tokens no {@link JwtService}, com o timer e o evento JFR reais.
+ *
+ * @author Danilo de Paula
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtServiceBenchmark {
+
+    static final String SEGREDO = "dGVzdC1zZWNyZXQta2V5LWZvci1pbnRlZ3JhdGlvbi10ZXN0cw==";
+
+    private JwtService jwtService;
+    private UserPrincipal principal;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtService = criarJwtService();
+        principal = new UserPrincipal(UsuarioTestBuilder.criarUsuarioValido());
+        token = jwtService.generateToken(principal);
+    }
+
+    static JwtService criarJwtService() {
+        JwtService servico = new JwtService(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(servico, "secretBase64", SEGREDO);
+        ReflectionTestUtils.setField(servico, "expirationMs", 3_600_000L);
+        return servico;
+    }
+
+    @Benchmark
+    public String gerarToken() {
+        return jwtService.generateToken(principal);
+    }
+
+    @Benchmark
+    public String extrairUsuario() {
+        return jwtService.extractUsername(token);
+    }
+
+    /** Caminho do filtro: extrai o usuário e depois valida o token (dois parses). */
+    @Benchmark
+    public boolean extrairEValidar() {
+        return jwtService.extractUsername(token) != null && jwtService.isTokenValid(token, principal);
+    }
+}
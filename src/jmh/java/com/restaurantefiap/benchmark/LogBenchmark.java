@@ -0,0 +1,188 @@
+package com.restaurantefiap.benchmark;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.FileAppender;
+import com.restaurantefiap.exception.GlobalExceptionHandler;
+import com.restaurantefiap.observability.FiltroAmostragemLog;
+import com.restaurantefiap.observability.FiltroCorrelacao;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.logging.logback.StructuredLogEncoder;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.ResponseBody;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * Vazão de requisições (MockMvc, com o {@link FiltroCorrelacao} e o {@link GlobalExceptionHandler})
+ * conforme o log: desligado, síncrono, assíncrono e assíncrono com amostragem de 10%.
+ *
+ * <p>Cada requisição loga como no perfil dev: três comandos em {@code org.hibernate.SQL}
+ * (DEBUG) com um bind cada em {@code org.hibernate.orm.jdbc.bind} (TRACE), em JSON
+ * (logstash) num arquivo temporário — E/S real, como o console redirecionado de um container.
+ * {@code erro} é o 503 de timeout, que o handler registra em WARN.</p>
+ *
+ * <p>O assíncrono nunca bloqueia: saturado, descarta eventos em vez de frear a requisição. Por
+ * isso o tamanho do arquivo gerado é impresso ao fim de cada configuração — compare-o junto
+ * com a vazão.</p>
+ *
+ * @author Danilo de Paula
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class LogBenchmark {
+
+    @Param({"desligado", "sincrono", "assincrono", "amostrado"})
+    private String modo;
+
+    private LoggerContext contexto;
+    private Path arquivo;
+    private MockMvc mockMvc;
+
+    /**
+     * Endpoint com o log de uma leitura típica. Sem {@code @RestController}: registrado só no
+     * {@code standaloneSetup}, fica fora da varredura de componentes quando outro benchmark sobe
+     * a aplicação inteira.
+     */
+    @ResponseBody
+    static class RequisicaoSimulada {
+
+        private static final org.slf4j.Logger SQL = LoggerFactory.getLogger("org.hibernate.SQL");
+        private static final org.slf4j.Logger BIND = LoggerFactory.getLogger("org.hibernate.orm.jdbc.bind");
+
+        @GetMapping("/v1/usuarios/{id}")
+        public Map<String, Object> buscar(@PathVariable Long id) {
+            for (int i = 0; i < 3; i++) {
+                // Como o Hibernate: verifica o nível antes de montar a mensagem
+                if (SQL.isDebugEnabled()) {
+                    SQL.debug("select u1_0.id,u1_0.email,u1_0.login,u1_0.nome,u1_0.role,u1_0.versao "
+                            + "from usuarios u1_0 where u1_0.id=? and u1_0.deletado_em is null");
+                }
+                if (BIND.isTraceEnabled()) {
+                    BIND.trace("binding parameter ({}:{}) <- [{}]", 1, "BIGINT", id);
+                }
+            }
+            return Map.of("id", id, "login", "usuario.teste", "nome", "Usuário Teste");
+        }
+
+        @GetMapping("/v1/usuarios/lento")
+        public Map<String, Object> lento() {
+            throw new QueryTimeoutException("Statement cancelled due to timeout");
+        }
+    }
+
+    @Setup
+    public void setUp() throws IOException {
+        contexto = (LoggerContext) LoggerFactory.getILoggerFactory();
+        contexto.reset();
+        contexto.putObject(Environment.class.getName(), new StandardEnvironment());
+        arquivo = Files.createTempFile("log-benchmark", ".json");
+
+        Logger root = contexto.getLogger(Logger.ROOT_LOGGER_NAME);
+        if (modo.equals("desligado")) {
+            root.setLevel(Level.OFF);
+        } else {
+            root.setLevel(Level.INFO);
+            contexto.getLogger("org.hibernate.SQL").setLevel(Level.DEBUG);
+            contexto.getLogger("org.hibernate.orm.jdbc.bind").setLevel(Level.TRACE);
+            root.addAppender(modo.equals("sincrono") ? arquivo() : assincrono(arquivo()));
+        }
+        if (modo.equals("amostrado")) {
+            FiltroAmostragemLog amostragem = new FiltroAmostragemLog();
+            amostragem.setCategorias("org.hibernate.SQL,org.hibernate.orm.jdbc.bind");
+            amostragem.setTaxa(0.1);
+            amostragem.setContext(contexto);
+            amostragem.start();
+            contexto.addTurboFilter(amostragem);
+        }
+
+        mockMvc = MockMvcBuilders.standaloneSetup(new RequisicaoSimulada())
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .addFilters(new FiltroCorrelacao())
+                .build();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        contexto.stop();
+        System.out.printf("%n[%s] %d KiB de log%n", modo, Files.size(arquivo) / 1024);
+        Files.deleteIfExists(arquivo);
+        contexto.reset();
+    }
+
+    /** Leitura com SQL e binds no log. */
+    @Benchmark
+    public MvcResult leitura() throws Exception {
+        return mockMvc.perform(get("/v1/usuarios/42")).andReturn();
+    }
+
+    /** 503 de timeout de consulta: WARN do {@link GlobalExceptionHandler}. */
+    @Benchmark
+    public MvcResult erro() throws Exception {
+        return mockMvc.perform(get("/v1/usuarios/lento")).andReturn();
+    }
+
+    // ========== Métodos Auxiliares ==========
+
+    private Appender<ILoggingEvent> arquivo() {
+        StructuredLogEncoder encoder = new StructuredLogEncoder();
+        encoder.setContext(contexto);
+        encoder.setFormat("logstash");
+        encoder.start();
+
+        FileAppender<ILoggingEvent> appender = new FileAppender<>();
+        appender.setContext(contexto);
+        appender.setFile(arquivo.toString());
+        appender.setEncoder(encoder);
+        appender.start();
+        return appender;
+    }
+
+    /** Mesma configuração do {@code logback-spring.xml}. */
+    private Appender<ILoggingEvent> assincrono(Appender<ILoggingEvent> destino) {
+        AsyncAppender appender = new AsyncAppender();
+        appender.setContext(contexto);
+        appender.setQueueSize(8192);
+        appender.setNeverBlock(true);
+        appender.setIncludeCallerData(false);
+        appender.addAppender(destino);
+        appender.start();
+        return appender;
+    }
+}
@@ -0,0 +1,104 @@
+package com.restaurantefiap.benchmark;
+
+import com.restaurantefiap.enums.EtapaRequisicao;
+import com.restaurantefiap.observability.CronometroRequisicao;
+import com.restaurantefiap.observability.FiltroPerfilLatencias;
+import com.restaurantefiap.observability.PerfilLatencias;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo do {@link PerfilLatencias} por requisição: a gravação de uma rota e das cinco etapas
+ * nos recorders (com uma e com quatro threads gravando na mesma série) e o
+ * {@link FiltroPerfilLatencias} de ponta a ponta, com uma cadeia vazia que só acumula a
+ * etapa de repositório.
+ *
+ * <p>O perfil é compartilhado ({@link Scope#Benchmark}); a rotação não roda durante a
+ * medição, como entre duas fatias em produção.</p>
+ *
+ * @author Danilo de Paula
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PerfilLatenciasBenchmark {
+
+    private static final String ROTA = "GET /v1/usuarios/{id:\\d+}";
+
+    private final PerfilLatencias perfil = new PerfilLatencias(10, 30, 200);
+    private final FiltroPerfilLatencias filtro = new FiltroPerfilLatencias(perfil);
+    private final FiltroPerfilLatencias.Aplicacao filtroAplicacao = new FiltroPerfilLatencias.Aplicacao();
+
+    private final FilterChain aplicacao = (request, response) ->
+            CronometroRequisicao.acumular(EtapaRequisicao.REPOSITORIO, 250_000);
+    private final FilterChain cadeia = (request, response) -> {
+        try {
+            filtroAplicacao.doFilter(request, response, aplicacao);
+        } catch (IOException | ServletException e) {
+            throw new IllegalStateException(e);
+        }
+    };
+
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+
+    @Setup
+    public void setUp() {
+        request = new MockHttpServletRequest("GET", "/v1/usuarios/1");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/v1/usuarios/{id:\\d+}");
+        response = new MockHttpServletResponse();
+    }
+
+    @Benchmark
+    public void registrar() {
+        perfil.registrar(ROTA, ThreadLocalRandom.current().nextLong(1_000_000, 5_000_000), etapas());
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void registrarQuatroThreads() {
+        perfil.registrar(ROTA, ThreadLocalRandom.current().nextLong(1_000_000, 5_000_000), etapas());
+    }
+
+    /** Mesmo {@code request} em todas as chamadas: o estado precisa ser de uma thread só. */
+    @Benchmark
+    @Threads(1)
+    public MockHttpServletResponse filtro() throws IOException, ServletException {
+        filtro.doFilter(request, response, cadeia);
+        return response;
+    }
+
+    private static long[] etapas() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return new long[] {
+                random.nextLong(50_000, 200_000),
+                random.nextLong(100, 1_000),
+                random.nextLong(500_000, 2_000_000),
+                random.nextLong(200_000, 1_000_000),
+                random.nextLong(10_000, 100_000)
+        };
+    }
+}
@@ -0,0 +1,88 @@
+package com.restaurantefiap.benchmark;
+
+import com.restaurantefiap.adapters.SimplePasswordPolicy;
+import com.restaurantefiap.security.FiltroBloom;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link SimplePasswordPolicy} sem e com a lista de senhas vazadas, e a consulta isolada ao
+ * {@link FiltroBloom} (senha presente e ausente).
+ *
+ * <p>O filtro é gerado na preparação com {@value #SENHAS_NO_FILTRO} senhas sintéticas, a 0,1%
+ * de falsos positivos.</p>
+ *
+ * @author Danilo de Paula
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SenhasBenchmark {
+
+    static final int SENHAS_NO_FILTRO = 1_000_000;
+
+    private static final String SENHA_VALIDA = "Restaurante@2026";
+    private static final String SENHA_VAZADA = "senha-vazada-123456";
+
+    private Path arquivo;
+    private FiltroBloom filtro;
+    private SimplePasswordPolicy semLista;
+    private SimplePasswordPolicy comLista;
+
+    @Setup
+    public void setUp() throws IOException {
+        arquivo = Files.createTempFile("senhas-vazadas", ".bloom");
+        FiltroBloom gerado = FiltroBloom.criar(arquivo, SENHAS_NO_FILTRO, 0.001);
+        for (int i = 0; i < SENHAS_NO_FILTRO; i++) {
+            gerado.adicionar("senha-vazada-" + i);
+        }
+        gerado.gravar();
+
+        filtro = FiltroBloom.abrir(arquivo);
+        semLista = new SimplePasswordPolicy(senha -> false);
+        comLista = new SimplePasswordPolicy(filtro::contem);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(arquivo);
+    }
+
+    @Benchmark
+    public void politicaSemLista() {
+        semLista.validateOrThrow(SENHA_VALIDA);
+    }
+
+    @Benchmark
+    public void politicaComLista() {
+        comLista.validateOrThrow(SENHA_VALIDA);
+    }
+
+    @Benchmark
+    public boolean bloomSenhaAusente() {
+        return filtro.contem(SENHA_VALIDA);
+    }
+
+    @Benchmark
+    public boolean bloomSenhaPresente() {
+        return filtro.contem(SENHA_VAZADA);
+    }
+}
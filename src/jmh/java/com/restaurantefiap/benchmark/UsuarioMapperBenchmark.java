@@ -0,0 +1,54 @@
+package com.restaurantefiap.benchmark;
+
+import com.restaurantefiap.dto.response.UsuarioResponseDTO;
+import com.restaurantefiap.entities.endereco.Endereco;
+import com.restaurantefiap.entities.usuario.Usuario;
+import com.restaurantefiap.mapper.UsuarioMapper;
+import com.restaurantefiap.util.UsuarioTestBuilder;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Conversão de {@link Usuario} para {@link UsuarioResponseDTO}, com e sem endereço.
+ *
+ * @author Danilo de Paula
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UsuarioMapperBenchmark {
+
+    private Usuario semEndereco;
+    private Usuario comEndereco;
+
+    @Setup
+    public void setUp() {
+        semEndereco = UsuarioTestBuilder.criarUsuarioValido();
+        comEndereco = UsuarioTestBuilder.criarUsuarioValido();
+        comEndereco.setEndereco(new Endereco(UsuarioTestBuilder.criarEnderecoValido()));
+    }
+
+    @Benchmark
+    public UsuarioResponseDTO paraDtoSemEndereco() {
+        return UsuarioMapper.paraDto(semEndereco);
+    }
+
+    @Benchmark
+    public UsuarioResponseDTO paraDtoComEndereco() {
+        return UsuarioMapper.paraDto(comEndereco);
+    }
+}
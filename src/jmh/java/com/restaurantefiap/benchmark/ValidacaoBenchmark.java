@@ -0,0 +1,70 @@
+package com.restaurantefiap.benchmark;
+
+import com.restaurantefiap.dto.request.UsuarioRequestDTO;
+import com.restaurantefiap.enums.Role;
+import com.restaurantefiap.util.UsuarioTestBuilder;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bean Validation do {@link UsuarioRequestDTO}, como no {@code @Valid} do controller: válido e
+ * com violações em todos os campos (interpolação das mensagens incluída).
+ *
+ * <p>Os formatos isolados estão em {@link FormatosBenchmark}.</p>
+ *
+ * @author Danilo de Paula
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ValidacaoBenchmark {
+
+    private ValidatorFactory fabrica;
+    private Validator validator;
+    private UsuarioRequestDTO valido;
+    private UsuarioRequestDTO invalido;
+
+    @Setup
+    public void setUp() {
+        fabrica = Validation.buildDefaultValidatorFactory();
+        validator = fabrica.getValidator();
+        valido = UsuarioTestBuilder.criarUsuarioRequestDTOValido();
+        invalido = new UsuarioRequestDTO("Ab", "email-invalido", "J0ão", "123", Role.CLIENTE, "fraca", null);
+    }
+
+    @TearDown
+    public void tearDown() {
+        fabrica.close();
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<UsuarioRequestDTO>> dtoValido() {
+        return validator.validate(valido);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<UsuarioRequestDTO>> dtoInvalido() {
+        return validator.validate(invalido);
+    }
+}
@@ -2,11 +2,14 @@ package com.restaurantefiap.adapters;
 
 import org.springframework.stereotype.Component;
 import com.restaurantefiap.security.PasswordPolicy;
+import com.restaurantefiap.security.SenhasVazadas;
 
 /**
  * Implementação simplificada de política de segurança para senhas.
  * * <p>Esta classe verifica se a senha atende aos requisitos mínimos de complexidade
  * antes de permitir o processamento pelo sistema.</p>
+ * <p>A senha é percorrida uma única vez para detectar dígito e maiúscula; em seguida é
+ * consultada a lista local de senhas vazadas ({@link SenhasVazadas}), sem chamada de rede.</p>
  * @author Thiago de Jesus
  * @author Danilo Fernando
  */
@@ -14,16 +17,21 @@ import com.restaurantefiap.security.PasswordPolicy;
 public class SimplePasswordPolicy implements PasswordPolicy {
 
     private static final int MIN_LENGTH = 8;
-    private static final String REGEX_DIGITO = ".*\\d.*";
-    private static final String REGEX_MAIUSCULA = ".*[A-Z].*";
+
+    private final SenhasVazadas senhasVazadas;
+
+    public SimplePasswordPolicy(SenhasVazadas senhasVazadas) {
+        this.senhasVazadas = senhasVazadas;
+    }
 
     /**
      * Valida a complexidade da senha fornecida.
      * * <p>Os critérios atuais são:</p>
      * <ul>
      * <li>Pelo menos {@value #MIN_LENGTH} caracteres.</li>
-     * <li>Presença de ao menos um dígito numérico.</li>
-     * <li>Presença de ao menos uma letra maiúscula.</li>
+     * <li>Presença de ao menos um dígito numérico ({@code 0-9}).</li>
+     * <li>Presença de ao menos uma letra maiúscula ({@code A-Z}).</li>
+     * <li>Ausência na lista de senhas vazadas.</li>
      * </ul>
      *
      * @param raw A senha em texto plano a ser validada.
@@ -36,12 +44,27 @@ public class SimplePasswordPolicy implements PasswordPolicy {
             throw new IllegalArgumentException("A senha deve ter no mínimo " + MIN_LENGTH + " caracteres.");
         }
 
-        if (!raw.matches(REGEX_DIGITO)) {
+        boolean temDigito = false;
+        boolean temMaiuscula = false;
+        for (int i = 0; i < raw.length() && !(temDigito && temMaiuscula); i++) {
+            char c = raw.charAt(i);
+            if (c >= '0' && c <= '9') {
+                temDigito = true;
+            } else if (c >= 'A' && c <= 'Z') {
+                temMaiuscula = true;
+            }
+        }
+
+        if (!temDigito) {
             throw new IllegalArgumentException("A senha deve conter pelo menos um dígito numérico.");
         }
 
-        if (!raw.matches(REGEX_MAIUSCULA)) {
+        if (!temMaiuscula) {
             throw new IllegalArgumentException("A senha deve conter pelo menos uma letra maiúscula.");
         }
+
+        if (senhasVazadas.contem(raw)) {
+            throw new IllegalArgumentException("A senha aparece em vazamentos conhecidos. Escolha outra senha.");
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,103 @@
+package com.restaurantefiap.concurrency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.restaurantefiap.enums.ParticaoConcorrencia;
+import com.restaurantefiap.enums.TipoProblema;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Filtro que aplica o {@link LimiteAdaptativo} de cada {@link ParticaoConcorrencia}.
+ *
+ * <p>Registrado antes da cadeia do Spring Security (portanto antes do
+ * {@code JwtAuthenticationFilter}): uma requisição recusada não paga validação de token
+ * nem carga do usuário. O excesso recebe 503 com {@code Retry-After} imediatamente, em vez
+ * de esperar na fila do Tomcat ou do Hikari.</p>
+ *
+ * <p>Respostas 503 de quem passou (ex.: timeout de consulta) contam como sinal de
+ * sobrecarga para o limite.</p>
+ *
+ * @author Danilo de Paula
+ * @see com.restaurantefiap.config.LimiteConcorrenciaConfig
+ */
+public class FiltroLimiteConcorrencia extends OncePerRequestFilter {
+
+    private final Map<ParticaoConcorrencia, LimiteAdaptativo> limites;
+    private final ObjectMapper objectMapper;
+    private final String retryAfterSegundos;
+
+    public FiltroLimiteConcorrencia(Map<ParticaoConcorrencia, LimiteAdaptativo> limites,
+                                    ObjectMapper objectMapper,
+                                    int retryAfterSegundos) {
+        this.limites = Collections.unmodifiableMap(new EnumMap<>(limites));
+        this.objectMapper = objectMapper;
+        this.retryAfterSegundos = String.valueOf(retryAfterSegundos);
+    }
+
+    /**
+     * Somente a API ({@code /v1/**} e {@code /internal/**}); documentação e estáticos passam livres.
+     */
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String caminho = request.getRequestURI().substring(request.getContextPath().length());
+        return !(caminho.startsWith("/v1/") || caminho.startsWith("/internal/"));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain chain)
+            throws ServletException, IOException {
+
+        LimiteAdaptativo limite = limites.get(ParticaoConcorrencia.de(request));
+        if (limite == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+        LimiteAdaptativo.Permissao permissao = limite.tentarAdquirir();
+        if (permissao == null) {
+            recusar(response);
+            return;
+        }
+
+        long inicio = System.nanoTime();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            permissao.liberar(System.nanoTime() - inicio,
+                    response.getStatus() == HttpStatus.SERVICE_UNAVAILABLE.value());
+        }
+    }
+
+    /**
+     * Limites por partição, para métricas e diagnóstico.
+     */
+    public Map<ParticaoConcorrencia, LimiteAdaptativo> getLimites() {
+        return limites;
+    }
+
+    // ========== Métodos Auxiliares ==========
+
+    private void recusar(HttpServletResponse response) throws IOException {
+        ProblemDetail problemDetail = TipoProblema.SERVICE_UNAVAILABLE.criar(
+                "O serviço está sobrecarregado. Tente novamente em instantes.");
+
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, retryAfterSegundos);
+        response.setContentType(MediaType.APPLICATION_PROBLEM_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), problemDetail);
+    }
+}
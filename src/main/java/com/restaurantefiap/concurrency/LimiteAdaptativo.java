@@ -0,0 +1,246 @@
+package com.restaurantefiap.concurrency;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Limite de concorrência adaptativo (AIMD) guiado pela latência medida.
+ *
+ * <p>A latência de referência é a menor observada nas duas últimas janelas de
+ * {@code janelaAmostras} respostas (o tempo "sem fila"). O alvo é
+ * {@code referência × tolerância}, limitado a {@code latenciaMaximaMs} — sob sobrecarga
+ * contínua a referência tende a subir junto com a fila, e o teto impede essa deriva.
+ * A cada resposta:</p>
+ * <ul>
+ *   <li>latência acima do alvo, ou sobrecarga sinalizada (ex.: 503 de timeout de banco):
+ *       o limite é multiplicado por {@code fatorReducao} — no máximo uma vez por "volta",
+ *       ou seja, respostas admitidas antes da última redução não reduzem de novo;</li>
+ *   <li>caso contrário, com pelo menos metade do limite em uso, o limite cresce
+ *       {@code 1/limite} — cerca de uma unidade por volta completa de requisições.</li>
+ * </ul>
+ * <p>Quem passa do limite é recusado na hora ({@link #tentarAdquirir()} retorna
+ * {@code null}), sem fila: a fila fica no cliente, que recebe 503 e tenta de novo.</p>
+ *
+ * <p>{@link #tentarAdquirir()} é livre de locks, assim como o caminho comum da liberação:
+ * a amostra de latência e o aumento aditivo são feitos com CAS. Só a redução multiplicativa
+ * e a troca de janela usam um {@link ReentrantLock} curto (não prende a carrier thread de
+ * virtual threads). Amostras concorrentes com a troca podem cair na janela vizinha — a
+ * referência é aproximada de qualquer forma.</p>
+ *
+ * @author Danilo de Paula
+ */
+public final class LimiteAdaptativo {
+
+    private final int minimo;
+    private final int maximo;
+    private final double tolerancia;
+    private final double fatorReducao;
+    private final int janelaAmostras;
+    private final long pisoLatenciaNs;
+    private final long latenciaMaximaNs;
+
+    private final AtomicInteger emUso = new AtomicInteger();
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /** Limite atual ({@code double}, em bits), alterado por CAS. */
+    private final AtomicLong limiteBits = new AtomicLong();
+
+    /** Incrementada a cada redução; permissões de gerações anteriores não reduzem de novo. */
+    private volatile long geracao;
+
+    // ---- Latência de referência (troca de janela sob o lock) ----
+    private final AtomicLong minimoJanelaAtual = new AtomicLong(Long.MAX_VALUE);
+    private volatile long minimoJanelaAnterior = Long.MAX_VALUE;
+    private final AtomicInteger amostrasJanela = new AtomicInteger();
+
+    // ---- Métricas ----
+    private final AtomicLong aceitas = new AtomicLong();
+    private final AtomicLong rejeicoes = new AtomicLong();
+    private final AtomicLong reducoes = new AtomicLong();
+
+    /**
+     * @param inicial         limite inicial
+     * @param minimo          limite mínimo (nunca recusa abaixo disso)
+     * @param maximo          limite máximo
+     * @param tolerancia      quanto a latência pode exceder a referência antes de reduzir (ex.: 2.0)
+     * @param fatorReducao    fator multiplicativo de redução (ex.: 0.9)
+     * @param janelaAmostras  respostas por janela da latência de referência
+     * @param pisoLatenciaMs  latência abaixo da qual nunca se reduz (evita reagir a ruído de sub-milissegundo)
+     * @param latenciaMaximaMs latência acima da qual sempre se reduz (teto do alvo)
+     */
+    public LimiteAdaptativo(int inicial, int minimo, int maximo, double tolerancia,
+                            double fatorReducao, int janelaAmostras, long pisoLatenciaMs,
+                            long latenciaMaximaMs) {
+        if (minimo <= 0 || maximo < minimo) {
+            throw new IllegalArgumentException("Limites de concorrência inválidos: mínimo " + minimo + ", máximo " + maximo);
+        }
+        if (tolerancia < 1.0 || fatorReducao <= 0 || fatorReducao >= 1.0) {
+            throw new IllegalArgumentException("Tolerância deve ser >= 1 e fator de redução entre 0 e 1.");
+        }
+        this.minimo = minimo;
+        this.maximo = maximo;
+        this.tolerancia = tolerancia;
+        this.fatorReducao = fatorReducao;
+        this.janelaAmostras = Math.max(1, janelaAmostras);
+        this.pisoLatenciaNs = TimeUnit.MILLISECONDS.toNanos(pisoLatenciaMs);
+        this.latenciaMaximaNs = Math.max(pisoLatenciaNs, TimeUnit.MILLISECONDS.toNanos(latenciaMaximaMs));
+        this.limiteBits.set(Double.doubleToRawLongBits(Math.clamp(inicial, minimo, maximo)));
+    }
+
+    // ========== Aquisição ==========
+
+    /**
+     * Ocupa uma vaga se houver.
+     *
+     * @return permissão a liberar ao final da requisição, ou {@code null} se o limite foi atingido
+     */
+    public Permissao tentarAdquirir() {
+        while (true) {
+            int atual = emUso.get();
+            if (atual >= (int) limite()) {
+                rejeicoes.incrementAndGet();
+                return null;
+            }
+            if (emUso.compareAndSet(atual, atual + 1)) {
+                aceitas.incrementAndGet();
+                return new Permissao(geracao);
+            }
+        }
+    }
+
+    /**
+     * Vaga ocupada por uma requisição. Deve ser liberada exatamente uma vez.
+     */
+    public final class Permissao {
+
+        private final long geracaoAquisicao;
+        private boolean liberada;
+
+        private Permissao(long geracaoAquisicao) {
+            this.geracaoAquisicao = geracaoAquisicao;
+        }
+
+        /**
+         * Libera a vaga e ajusta o limite com a latência medida.
+         *
+         * @param latenciaNs  duração da requisição
+         * @param sobrecarga  {@code true} se a resposta indicou sobrecarga a jusante
+         */
+        public void liberar(long latenciaNs, boolean sobrecarga) {
+            if (liberada) {
+                return;
+            }
+            liberada = true;
+            ajustar(emUso.getAndDecrement(), geracaoAquisicao, latenciaNs, sobrecarga);
+        }
+    }
+
+    // ========== Métricas ==========
+
+    public int getLimite() {
+        return (int) limite();
+    }
+
+    public int getEmUso() {
+        return emUso.get();
+    }
+
+    public long getAceitas() {
+        return aceitas.get();
+    }
+
+    public long getRejeicoes() {
+        return rejeicoes.get();
+    }
+
+    public long getReducoes() {
+        return reducoes.get();
+    }
+
+    /** Latência de referência atual em milissegundos (0 antes da primeira amostra). */
+    public double getLatenciaReferenciaMs() {
+        long referencia = Math.min(minimoJanelaAtual.get(), minimoJanelaAnterior);
+        return referencia == Long.MAX_VALUE ? 0 : referencia / 1_000_000.0;
+    }
+
+    // ========== Métodos Auxiliares ==========
+
+    private void ajustar(int emUsoAntes, long geracaoAquisicao, long latenciaNs, boolean sobrecarga) {
+        long referencia = registrarAmostra(latenciaNs);
+        long alvo = Math.min(latenciaMaximaNs, Math.max(pisoLatenciaNs, (long) (referencia * tolerancia)));
+
+        if (sobrecarga || latenciaNs > alvo) {
+            reduzir(geracaoAquisicao);
+        } else if (emUsoAntes * 2 >= (int) limite()) {
+            aumentar();
+        }
+    }
+
+    /** Aumento aditivo de {@code 1/limite}, sem lock. */
+    private void aumentar() {
+        while (true) {
+            long bits = limiteBits.get();
+            double atual = Double.longBitsToDouble(bits);
+            if (atual >= maximo) {
+                return;
+            }
+            double novo = Math.min(maximo, atual + 1.0 / atual);
+            if (limiteBits.compareAndSet(bits, Double.doubleToRawLongBits(novo))) {
+                return;
+            }
+        }
+    }
+
+    /** Redução multiplicativa, no máximo uma por geração. */
+    private void reduzir(long geracaoAquisicao) {
+        if (geracaoAquisicao != geracao) {
+            return;
+        }
+        lock.lock();
+        try {
+            if (geracaoAquisicao != geracao) {
+                return;
+            }
+            // CAS mesmo sob o lock: o aumento aditivo não o toma.
+            while (true) {
+                long bits = limiteBits.get();
+                double atual = Double.longBitsToDouble(bits);
+                if (atual <= minimo) {
+                    return;
+                }
+                if (limiteBits.compareAndSet(bits, Double.doubleToRawLongBits(Math.max(minimo, atual * fatorReducao)))) {
+                    break;
+                }
+            }
+            geracao++;
+            reducoes.incrementAndGet();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Registra a latência na janela atual e retorna a referência. Só a troca de janela toma o lock.
+     */
+    private long registrarAmostra(long latenciaNs) {
+        if (amostrasJanela.incrementAndGet() > janelaAmostras) {
+            lock.lock();
+            try {
+                if (amostrasJanela.get() > janelaAmostras) {
+                    minimoJanelaAnterior = minimoJanelaAtual.getAndSet(Long.MAX_VALUE);
+                    amostrasJanela.set(1);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+        long atual = minimoJanelaAtual.accumulateAndGet(latenciaNs, Math::min);
+        return Math.min(atual, minimoJanelaAnterior);
+    }
+
+    private double limite() {
+        return Double.longBitsToDouble(limiteBits.get());
+    }
+}
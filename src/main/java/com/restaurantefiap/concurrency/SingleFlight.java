@@ -0,0 +1,145 @@
+package com.restaurantefiap.concurrency;
+
+import org.springframework.dao.QueryTimeoutException;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Coalescência de chamadas concorrentes idênticas ("single flight").
+ *
+ * <p>Enquanto uma chamada para a chave {@code K} está em andamento, as demais chamadas
+ * com a mesma chave não executam o carregador: aguardam e recebem o mesmo resultado
+ * (ou a mesma exceção). Assim que a chamada termina a chave é liberada — não há cache,
+ * a próxima chamada executa novamente.</p>
+ *
+ * <p><b>Regras:</b></p>
+ * <ul>
+ *   <li>O carregador roda na thread da primeira chamada (a "líder"), preservando o contexto
+ *       transacional e de segurança dela.</li>
+ *   <li>Falhas do líder são propagadas a todos que aguardavam.</li>
+ *   <li>Quem aguarda desiste após {@code timeout} com {@link QueryTimeoutException};
+ *       a chamada do líder não é afetada.</li>
+ * </ul>
+ *
+ * <p>O valor é compartilhado entre threads: use apenas com resultados imutáveis ou
+ * que não sejam alterados por quem os recebe.</p>
+ *
+ * @param <K> tipo da chave
+ * @param <V> tipo do resultado
+ * @author Danilo de Paula
+ */
+public final class SingleFlight<K, V> {
+
+    private final String nome;
+    private final Duration timeout;
+    private final ConcurrentMap<K, CompletableFuture<V>> emVoo = new ConcurrentHashMap<>();
+
+    // ---- Métricas ----
+    private final LongAdder executadas = new LongAdder();
+    private final LongAdder coalescidas = new LongAdder();
+    private final LongAdder falhas = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+
+    public SingleFlight(String nome, Duration timeout) {
+        if (timeout == null || timeout.isNegative() || timeout.isZero()) {
+            throw new IllegalArgumentException("Timeout do single flight deve ser positivo.");
+        }
+        this.nome = nome;
+        this.timeout = timeout;
+    }
+
+    /**
+     * Executa o carregador ou aguarda a execução já em andamento para a mesma chave.
+     *
+     * @param chave      chave da chamada
+     * @param carregador consulta a executar quando não houver outra em andamento
+     * @return resultado do carregador (próprio ou compartilhado)
+     * @throws QueryTimeoutException se a espera pela chamada em andamento exceder o timeout
+     */
+    public V executar(K chave, Supplier<V> carregador) {
+        CompletableFuture<V> proprio = new CompletableFuture<>();
+        CompletableFuture<V> existente = emVoo.putIfAbsent(chave, proprio);
+
+        if (existente != null) {
+            coalescidas.increment();
+            return aguardar(chave, existente);
+        }
+
+        executadas.increment();
+        try {
+            V valor = carregador.get();
+            proprio.complete(valor);
+            return valor;
+        } catch (RuntimeException | Error e) {
+            falhas.increment();
+            proprio.completeExceptionally(e);
+            throw e;
+        } finally {
+            emVoo.remove(chave, proprio);
+        }
+    }
+
+    // ========== Métricas ==========
+
+    public String getNome() {
+        return nome;
+    }
+
+    /** Chamadas que executaram o carregador. */
+    public long getExecutadas() {
+        return executadas.sum();
+    }
+
+    /** Chamadas atendidas pelo resultado de outra chamada em andamento. */
+    public long getCoalescidas() {
+        return coalescidas.sum();
+    }
+
+    /** Execuções do carregador que terminaram com exceção. */
+    public long getFalhas() {
+        return falhas.sum();
+    }
+
+    /** Esperas abandonadas por timeout. */
+    public long getTimeouts() {
+        return timeouts.sum();
+    }
+
+    /** Chaves com chamada em andamento neste instante. */
+    public int getEmVoo() {
+        return emVoo.size();
+    }
+
+    // ========== Métodos Auxiliares ==========
+
+    private V aguardar(K chave, CompletableFuture<V> emAndamento) {
+        try {
+            return emAndamento.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            timeouts.increment();
+            throw new QueryTimeoutException(String.format(
+                    "Timeout de %d ms aguardando consulta em andamento (%s, chave %s).",
+                    timeout.toMillis(), nome, chave), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new QueryTimeoutException("Espera por consulta em andamento interrompida (" + nome + ").", e);
+        } catch (ExecutionException e) {
+            Throwable causa = e.getCause();
+            if (causa instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (causa instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(causa);
+        }
+    }
+}
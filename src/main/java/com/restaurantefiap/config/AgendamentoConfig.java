@@ -0,0 +1,19 @@
+package com.restaurantefiap.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Habilita as tarefas agendadas ({@code @Scheduled}) da aplicação.
+ *
+ * <p>Pode ser desligado com {@code app.agendamento.habilitado=false} — usado nos testes,
+ * que disparam as tarefas manualmente para manter o resultado determinístico.</p>
+ *
+ * @author Danilo de Paula
+ */
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "app.agendamento.habilitado", havingValue = "true", matchIfMissing = true)
+public class AgendamentoConfig {
+}
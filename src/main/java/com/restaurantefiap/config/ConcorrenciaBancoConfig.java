@@ -0,0 +1,39 @@
+package com.restaurantefiap.config;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+
+/**
+ * Coloca o {@link DataSourceLimitado} na frente do pool de conexões.
+ *
+ * <p>Ativo com {@code app.datasource.limite.habilitado=true} (perfil {@code virtual}).
+ * O limite padrão é o tamanho do pool do Hikari: quem passa pelo semáforo sempre
+ * encontra conexão livre, e a fila de espera fica no semáforo.</p>
+ *
+ * @author Danilo de Paula
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.limite.habilitado", havingValue = "true")
+public class ConcorrenciaBancoConfig {
+
+    @Bean
+    public static BeanPostProcessor dataSourceLimitadoPostProcessor(Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof DataSourceLimitado) {
+                    return bean;
+                }
+                int tamanhoPool = environment.getProperty("spring.datasource.hikari.maximum-pool-size", Integer.class, 10);
+                int maximo = environment.getProperty("app.datasource.limite.maximo", Integer.class, tamanhoPool);
+                long esperaMs = environment.getProperty("app.datasource.limite.espera-ms", Long.class, 2000L);
+                return new DataSourceLimitado(dataSource, maximo, esperaMs);
+            }
+        };
+    }
+}
@@ -0,0 +1,137 @@
+package com.restaurantefiap.config;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link DataSource} que limita, com um semáforo justo, quantas conexões podem estar
+ * emprestadas ao mesmo tempo.
+ *
+ * <p>Com virtual threads a concorrência deixa de ser limitada pelo pool do Tomcat:
+ * milhares de requisições podem pedir conexão ao Hikari simultaneamente. O semáforo
+ * fica na frente do pool, enfileira as threads em ordem de chegada (sem bloquear
+ * carrier threads — {@link Semaphore} é compatível com virtual threads) e falha rápido
+ * com {@link SQLTransientConnectionException} quando a espera excede o limite.</p>
+ *
+ * <p>A permissão é devolvida no {@code close()} da conexão (uma única vez, mesmo que
+ * {@code close()} seja chamado de novo).</p>
+ *
+ * @author Danilo de Paula
+ */
+public class DataSourceLimitado extends DelegatingDataSource {
+
+    private final Semaphore permissoes;
+    private final int maximo;
+    private final long esperaMaximaMs;
+
+    // ---- Métricas ----
+    private final AtomicLong aguardando = new AtomicLong();
+    private final AtomicLong rejeicoes = new AtomicLong();
+
+    public DataSourceLimitado(DataSource alvo, int maximo, long esperaMaximaMs) {
+        super(alvo);
+        if (maximo <= 0) {
+            throw new IllegalArgumentException("Limite de conexões concorrentes deve ser positivo.");
+        }
+        this.permissoes = new Semaphore(maximo, true);
+        this.maximo = maximo;
+        this.esperaMaximaMs = esperaMaximaMs;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        adquirir();
+        return liberarSeFalhar(() -> super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        adquirir();
+        return liberarSeFalhar(() -> super.getConnection(username, password));
+    }
+
+    // ========== Métricas ==========
+
+    public int getMaximo() {
+        return maximo;
+    }
+
+    /** Conexões emprestadas neste instante. */
+    public int getEmUso() {
+        return maximo - permissoes.availablePermits();
+    }
+
+    /** Threads aguardando permissão neste instante. */
+    public long getAguardando() {
+        return aguardando.get();
+    }
+
+    /** Pedidos de conexão rejeitados por timeout desde a subida. */
+    public long getRejeicoes() {
+        return rejeicoes.get();
+    }
+
+    // ========== Métodos Auxiliares ==========
+
+    private void adquirir() throws SQLException {
+        aguardando.incrementAndGet();
+        try {
+            if (!permissoes.tryAcquire(esperaMaximaMs, TimeUnit.MILLISECONDS)) {
+                rejeicoes.incrementAndGet();
+                throw new SQLTransientConnectionException(String.format(
+                        "Limite de %d conexões concorrentes atingido; espera de %d ms excedida.",
+                        maximo, esperaMaximaMs));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Espera por conexão interrompida.", e);
+        } finally {
+            aguardando.decrementAndGet();
+        }
+    }
+
+    private Connection liberarSeFalhar(FonteConexao fonte) throws SQLException {
+        try {
+            return envolver(fonte.obter());
+        } catch (SQLException | RuntimeException e) {
+            permissoes.release();
+            throw e;
+        }
+    }
+
+    private Connection envolver(Connection conexao) {
+        AtomicBoolean liberada = new AtomicBoolean(false);
+        InvocationHandler handler = (proxy, metodo, args) -> invocar(conexao, liberada, metodo, args);
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(), new Class<?>[]{Connection.class}, handler);
+    }
+
+    private Object invocar(Connection conexao, AtomicBoolean liberada, Method metodo, Object[] args) throws Throwable {
+        try {
+            return metodo.invoke(conexao, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        } finally {
+            if ("close".equals(metodo.getName()) && liberada.compareAndSet(false, true)) {
+                permissoes.release();
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface FonteConexao {
+        Connection obter() throws SQLException;
+    }
+}
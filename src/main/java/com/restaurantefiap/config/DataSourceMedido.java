@@ -0,0 +1,95 @@
+package com.restaurantefiap.config;
+
+import com.restaurantefiap.observability.EstatisticasSql;
+import com.restaurantefiap.observability.EstatisticasSql.Estatistica;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * {@link DataSource} que mede o tempo de execução de cada comando SQL e o registra em
+ * {@link EstatisticasSql}.
+ *
+ * <p>Conexões e statements são envolvidos em proxies (como no {@link DataSourceLimitado}).
+ * O SQL é associado ao statement no {@code prepareStatement}; só os métodos
+ * {@code execute*} são medidos — {@code setXxx} e demais chamadas passam direto, e os
+ * valores dos parâmetros nunca são lidos.</p>
+ *
+ * @author Danilo de Paula
+ */
+public class DataSourceMedido extends DelegatingDataSource {
+
+    private final EstatisticasSql estatisticas;
+
+    public DataSourceMedido(DataSource alvo, EstatisticasSql estatisticas) {
+        super(alvo);
+        this.estatisticas = estatisticas;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return envolverConexao(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return envolverConexao(super.getConnection(username, password));
+    }
+
+    // ========== Métodos Auxiliares ==========
+
+    private Connection envolverConexao(Connection conexao) {
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, metodo, args) -> {
+                    Object resultado = invocar(conexao, metodo, args);
+                    if (resultado instanceof Statement statement) {
+                        // prepareStatement/prepareCall recebem o SQL; createStatement, não
+                        Estatistica estatistica = args != null && args.length > 0 && args[0] instanceof String sql
+                                ? estatisticas.estatistica(sql)
+                                : null;
+                        return envolverStatement(statement, metodo.getReturnType(), estatistica);
+                    }
+                    return resultado;
+                });
+    }
+
+    private Object envolverStatement(Statement statement, Class<?> tipo, Estatistica preparada) {
+        return Proxy.newProxyInstance(Statement.class.getClassLoader(), new Class<?>[]{tipo},
+                (proxy, metodo, args) -> {
+                    if (!metodo.getName().startsWith("execute")) {
+                        return invocar(statement, metodo, args);
+                    }
+                    Estatistica estatistica = args != null && args.length > 0 && args[0] instanceof String sql
+                            ? estatisticas.estatistica(sql)
+                            : preparada;
+                    if (estatistica == null) {
+                        return invocar(statement, metodo, args);
+                    }
+
+                    long inicio = System.nanoTime();
+                    boolean erro = true;
+                    try {
+                        Object resultado = invocar(statement, metodo, args);
+                        erro = false;
+                        return resultado;
+                    } finally {
+                        estatisticas.registrar(estatistica, System.nanoTime() - inicio, erro);
+                    }
+                });
+    }
+
+    private static Object invocar(Object alvo, Method metodo, Object[] args) throws Throwable {
+        try {
+            return metodo.invoke(alvo, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.restaurantefiap.config;
+
+import com.restaurantefiap.observability.EstatisticasSql;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import javax.sql.DataSource;
+
+/**
+ * Coloca o {@link DataSourceMedido} na frente do pool de conexões.
+ *
+ * <p>Ativo por padrão ({@code app.sql.estatisticas.habilitado}). O post-processor é
+ * {@link Ordered}, então roda antes do que aplica o {@link DataSourceLimitado}: o semáforo
+ * fica por fora e o tempo de espera por conexão não entra no tempo dos comandos.</p>
+ *
+ * @author Danilo de Paula
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.sql.estatisticas.habilitado", havingValue = "true", matchIfMissing = true)
+public class EstatisticasSqlConfig {
+
+    @Bean
+    public static BeanPostProcessor dataSourceMedidoPostProcessor(ObjectProvider<EstatisticasSql> estatisticas) {
+        return new PostProcessorMedido(estatisticas);
+    }
+
+    private record PostProcessorMedido(ObjectProvider<EstatisticasSql> estatisticas)
+            implements BeanPostProcessor, Ordered {
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (!(bean instanceof DataSource dataSource) || bean instanceof DataSourceMedido
+                    || bean instanceof DataSourceLimitado) {
+                return bean;
+            }
+            return new DataSourceMedido(dataSource, estatisticas.getObject());
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.HIGHEST_PRECEDENCE;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.restaurantefiap.config;
+
+import com.restaurantefiap.events.BrokerEventos;
+import com.restaurantefiap.events.BrokerEventosEmMemoria;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuração da distribuição de eventos de usuário entre nós.
+ *
+ * <p>Sem um adaptador de broker registrado, usa o {@link BrokerEventosEmMemoria}.</p>
+ *
+ * @author Danilo de Paula
+ */
+@Configuration
+public class EventosConfig {
+
+    @Bean
+    @ConditionalOnMissingBean(BrokerEventos.class)
+    public BrokerEventos brokerEventosEmMemoria() {
+        return new BrokerEventosEmMemoria();
+    }
+}
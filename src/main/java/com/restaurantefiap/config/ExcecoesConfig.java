@@ -0,0 +1,22 @@
+package com.restaurantefiap.config;
+
+import com.restaurantefiap.exception.ExcecaoEsperada;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Aplica o interruptor de stack trace das exceções esperadas ({@link ExcecaoEsperada}).
+ *
+ * <p>As exceções são criadas fora do contexto Spring, por isso o valor de
+ * {@code app.excecoes.rastro-completo} é copiado para o campo estático na subida.</p>
+ *
+ * @author Danilo de Paula
+ */
+@Configuration
+public class ExcecoesConfig {
+
+    public ExcecoesConfig(@Value("${app.excecoes.rastro-completo:false}") boolean rastroCompleto) {
+        ExcecaoEsperada.setRastroCompleto(rastroCompleto);
+    }
+}
@@ -0,0 +1,18 @@
+package com.restaurantefiap.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+/**
+ * Habilita a execução de métodos {@code @Async}.
+ *
+ * <p>Usa o executor padrão do Spring Boot ({@code applicationTaskExecutor}): pool de
+ * platform threads por padrão e virtual threads com {@code spring.threads.virtual.enabled=true}
+ * (perfil {@code virtual}).</p>
+ *
+ * @author Danilo de Paula
+ */
+@Configuration
+@EnableAsync
+public class ExecucaoAssincronaConfig {
+}
@@ -0,0 +1,73 @@
+package com.restaurantefiap.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.restaurantefiap.concurrency.FiltroLimiteConcorrencia;
+import com.restaurantefiap.concurrency.LimiteAdaptativo;
+import com.restaurantefiap.enums.ParticaoConcorrencia;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Registra o {@link FiltroLimiteConcorrencia} antes da cadeia do Spring Security.
+ *
+ * <p>Configuração ({@code app.limite-concorrencia.*}): {@code habilitado},
+ * {@code tolerancia}, {@code fator-reducao}, {@code janela-amostras},
+ * {@code piso-latencia-ms}, {@code latencia-maxima-ms}, {@code retry-after-segundos} e, por partição
+ * ({@code auth}, {@code leitura}, {@code escrita}), {@code inicial}, {@code minimo}
+ * e {@code maximo}.</p>
+ *
+ * @author Danilo de Paula
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.limite-concorrencia.habilitado", havingValue = "true", matchIfMissing = true)
+public class LimiteConcorrenciaConfig {
+
+    private static final String PREFIXO = "app.limite-concorrencia.";
+
+    @Bean
+    public FiltroLimiteConcorrencia filtroLimiteConcorrencia(Environment environment, ObjectMapper objectMapper) {
+        Map<ParticaoConcorrencia, LimiteAdaptativo> limites = new EnumMap<>(ParticaoConcorrencia.class);
+        limites.put(ParticaoConcorrencia.AUTH, limite(environment, "auth", 20, 200));
+        limites.put(ParticaoConcorrencia.LEITURA, limite(environment, "leitura", 100, 1000));
+        limites.put(ParticaoConcorrencia.ESCRITA, limite(environment, "escrita", 50, 500));
+
+        int retryAfter = environment.getProperty(PREFIXO + "retry-after-segundos", Integer.class, 1);
+        return new FiltroLimiteConcorrencia(limites, objectMapper, retryAfter);
+    }
+
+    /**
+     * Ordem logo antes do {@code springSecurityFilterChain}: a requisição recusada
+     * não chega ao filtro JWT.
+     */
+    @Bean
+    public FilterRegistrationBean<FiltroLimiteConcorrencia> registroFiltroLimiteConcorrencia(
+            FiltroLimiteConcorrencia filtro) {
+        FilterRegistrationBean<FiltroLimiteConcorrencia> registro = new FilterRegistrationBean<>(filtro);
+        registro.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 1);
+        return registro;
+    }
+
+    // ========== Métodos Auxiliares ==========
+
+    private static LimiteAdaptativo limite(Environment environment, String particao, int inicial, int maximo) {
+        String prefixo = PREFIXO + particao + ".";
+        return new LimiteAdaptativo(
+                environment.getProperty(prefixo + "inicial", Integer.class, inicial),
+                environment.getProperty(prefixo + "minimo", Integer.class, 5),
+                environment.getProperty(prefixo + "maximo", Integer.class, maximo),
+                environment.getProperty(PREFIXO + "tolerancia", Double.class, 2.0),
+                environment.getProperty(PREFIXO + "fator-reducao", Double.class, 0.9),
+                environment.getProperty(PREFIXO + "janela-amostras", Integer.class, 500),
+                environment.getProperty(PREFIXO + "piso-latencia-ms", Long.class, 20L),
+                environment.getProperty(PREFIXO + "latencia-maxima-ms", Long.class, 1000L)
+        );
+    }
+}
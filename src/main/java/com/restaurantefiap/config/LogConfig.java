@@ -0,0 +1,64 @@
+package com.restaurantefiap.config;
+
+import com.restaurantefiap.observability.FiltroCorrelacao;
+
+import org.slf4j.MDC;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.task.TaskDecorator;
+
+import java.util.Map;
+
+/**
+ * Id de correlação nos logs: registra o {@link FiltroCorrelacao} e propaga o MDC para as
+ * tarefas {@code @Async}.
+ *
+ * <p>O appender assíncrono, o formato (texto ou JSON) e a amostragem ficam no
+ * {@code logback-spring.xml} ({@code app.log.*}).</p>
+ *
+ * @author Danilo de Paula
+ */
+@Configuration
+public class LogConfig {
+
+    /**
+     * Primeiro filtro da cadeia: até as respostas do limite de concorrência e do
+     * Spring Security levam o id.
+     */
+    @Bean
+    public FilterRegistrationBean<FiltroCorrelacao> registroFiltroCorrelacao() {
+        FilterRegistrationBean<FiltroCorrelacao> registro = new FilterRegistrationBean<>(new FiltroCorrelacao());
+        registro.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registro;
+    }
+
+    /**
+     * Usado pelo {@code applicationTaskExecutor} do Spring Boot: a tarefa assíncrona loga com
+     * o id da requisição que a disparou.
+     */
+    @Bean
+    public TaskDecorator propagacaoMdc() {
+        return tarefa -> {
+            Map<String, String> contexto = MDC.getCopyOfContextMap();
+            return () -> {
+                Map<String, String> anterior = MDC.getCopyOfContextMap();
+                if (contexto != null) {
+                    MDC.setContextMap(contexto);
+                } else {
+                    MDC.clear();
+                }
+                try {
+                    tarefa.run();
+                } finally {
+                    if (anterior != null) {
+                        MDC.setContextMap(anterior);
+                    } else {
+                        MDC.clear();
+                    }
+                }
+            };
+        };
+    }
+}
@@ -0,0 +1,38 @@
+package com.restaurantefiap.config;
+
+import com.restaurantefiap.observability.PasswordEncoderMedido;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * Instrumentação que não cabe nas próprias classes: envolve o {@link PasswordEncoder}
+ * (BCrypt) em {@link PasswordEncoderMedido}.
+ *
+ * <p>Timers de endpoints ({@code http.server.requests}), de repositórios
+ * ({@code spring.data.repository.invocations}), do pool Hikari e da JVM vêm da
+ * autoconfiguração do Actuator; os histogramas são ligados em {@code application.properties}.</p>
+ *
+ * @author Danilo de Paula
+ */
+@Configuration
+public class MetricasConfig {
+
+    @Bean
+    public static BeanPostProcessor passwordEncoderMedidoPostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof PasswordEncoder encoder) || bean instanceof PasswordEncoderMedido) {
+                    return bean;
+                }
+                return new PasswordEncoderMedido(encoder, meterRegistry.getObject());
+            }
+        };
+    }
+}
@@ -0,0 +1,28 @@
+package com.restaurantefiap.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * Identificação deste nó da API quando há várias instâncias.
+ *
+ * <p>Vem de {@code app.no.id}; sem valor configurado, é gerado um ID aleatório a cada subida.
+ * Usado para que cada nó publique os próprios eventos da outbox e ignore o eco deles no broker.</p>
+ *
+ * @author Danilo de Paula
+ */
+@Component
+public class NoAplicacao {
+
+    private final String id;
+
+    public NoAplicacao(@Value("${app.no.id:}") String id) {
+        this.id = id == null || id.isBlank() ? "no-" + UUID.randomUUID() : id.trim();
+    }
+
+    public String getId() {
+        return id;
+    }
+}
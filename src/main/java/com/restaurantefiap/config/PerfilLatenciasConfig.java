@@ -0,0 +1,95 @@
+package com.restaurantefiap.config;
+
+import com.restaurantefiap.enums.EtapaRequisicao;
+import com.restaurantefiap.observability.ConversorJsonMedido;
+import com.restaurantefiap.observability.CronometroRequisicao;
+import com.restaurantefiap.observability.FiltroPerfilLatencias;
+import com.restaurantefiap.observability.PerfilLatencias;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Liga as medições do {@link PerfilLatencias} ({@code /internal/perf}): os dois filtros que
+ * abrem o cronômetro e separam o tempo dos filtros, o conversor JSON medido e o listener
+ * dos repositórios Spring Data. A etapa de autorização é medida no próprio
+ * {@code EventoAutorizacao}.
+ *
+ * <p>Configuração ({@code app.perf.*}): {@code habilitado}, {@code fatia-segundos},
+ * {@code fatias} e {@code max-rotas}.</p>
+ *
+ * @author Danilo de Paula
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.perf.habilitado", havingValue = "true", matchIfMissing = true)
+public class PerfilLatenciasConfig {
+
+    /**
+     * Logo depois do {@code FiltroCorrelacao}: o tempo de todos os outros filtros entra na medição.
+     */
+    @Bean
+    public FilterRegistrationBean<FiltroPerfilLatencias> registroFiltroPerfilLatencias(PerfilLatencias perfil) {
+        FilterRegistrationBean<FiltroPerfilLatencias> registro =
+                new FilterRegistrationBean<>(new FiltroPerfilLatencias(perfil));
+        registro.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        return registro;
+    }
+
+    /**
+     * Último filtro, imediatamente antes do {@code DispatcherServlet}.
+     */
+    @Bean
+    public FilterRegistrationBean<FiltroPerfilLatencias.Aplicacao> registroFiltroPerfilAplicacao() {
+        FilterRegistrationBean<FiltroPerfilLatencias.Aplicacao> registro =
+                new FilterRegistrationBean<>(new FiltroPerfilLatencias.Aplicacao());
+        registro.setOrder(Ordered.LOWEST_PRECEDENCE);
+        return registro;
+    }
+
+    /**
+     * Troca o conversor Jackson do Spring MVC pelo {@link ConversorJsonMedido}, com o mesmo
+     * {@code ObjectMapper} e os mesmos media types.
+     */
+    @Bean
+    public WebMvcConfigurer conversorJsonMedido() {
+        return new WebMvcConfigurer() {
+            @Override
+            public void extendMessageConverters(List<HttpMessageConverter<?>> conversores) {
+                for (int i = 0; i < conversores.size(); i++) {
+                    if (conversores.get(i) instanceof MappingJackson2HttpMessageConverter original
+                            && !(original instanceof ConversorJsonMedido)) {
+                        ConversorJsonMedido medido = new ConversorJsonMedido(original.getObjectMapper());
+                        medido.setSupportedMediaTypes(original.getSupportedMediaTypes());
+                        conversores.set(i, medido);
+                    }
+                }
+            }
+        };
+    }
+
+    @Bean
+    public static BeanPostProcessor repositorioMedidoPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> fabrica) {
+                    fabrica.addRepositoryFactoryCustomizer(repositorio -> repositorio.addInvocationListener(
+                            invocacao -> CronometroRequisicao.acumular(EtapaRequisicao.REPOSITORIO,
+                                    invocacao.getDuration(TimeUnit.NANOSECONDS))));
+                }
+                return bean;
+            }
+        };
+    }
+}
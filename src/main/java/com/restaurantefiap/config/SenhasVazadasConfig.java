@@ -0,0 +1,40 @@
+package com.restaurantefiap.config;
+
+import com.restaurantefiap.security.FiltroBloom;
+import com.restaurantefiap.security.GeradorFiltroSenhasVazadas;
+import com.restaurantefiap.security.SenhasVazadas;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Carrega o filtro de senhas vazadas gerado por {@link GeradorFiltroSenhasVazadas}.
+ *
+ * <p>Sem {@code app.senhas-vazadas.arquivo} configurado, a verificação fica desligada.
+ * Um arquivo configurado mas inválido impede a subida — não é ignorado em silêncio.</p>
+ *
+ * @author Danilo de Paula
+ */
+@Configuration
+public class SenhasVazadasConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(SenhasVazadasConfig.class);
+
+    @Bean
+    public SenhasVazadas senhasVazadas(@Value("${app.senhas-vazadas.arquivo:}") String arquivo) throws IOException {
+        if (arquivo.isBlank()) {
+            log.info("Filtro de senhas vazadas não configurado — verificação desligada.");
+            return SenhasVazadas.nenhuma();
+        }
+        FiltroBloom filtro = FiltroBloom.abrir(Path.of(arquivo));
+        log.info("Filtro de senhas vazadas carregado: {} senha(s), {} KiB fora do heap, {} hash(es).",
+                filtro.getInseridas(), filtro.getTamanhoBytes() / 1024, filtro.getNumHashes());
+        return filtro::contem;
+    }
+}
@@ -13,7 +13,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -34,14 +34,14 @@ import org.springframework.web.bind.annotation.RestController;
 public class AuthController {
 
     private final AuthenticationManager authManager;
-    private final UserDetailsService userDetailsService;
     private final JwtService jwtService;
 
     /**
      * Realiza a autenticação do usuário e retorna um token JWT.
      * <p>O processo envolve a validação das credenciais pelo {@link AuthenticationManager},
-     * que por sua vez utiliza o {@link UserDetailsService} e o algoritmo de criptografia
-     * configurado na aplicação.</p>
+     * que por sua vez utiliza o {@code UserDetailsService} e o algoritmo de criptografia
+     * configurado na aplicação. O token é gerado a partir do principal já carregado na
+     * autenticação, sem consultar o usuário de novo.</p>
      * @param req Objeto contendo o login (login) e a senha em texto plano.
      * @return {@link ResponseEntity} contendo o {@link AuthResponse} com o token gerado.
      */
@@ -66,12 +66,12 @@ public class AuthController {
 
         // 1. Tenta autenticar as credenciais enviadas
         // Se falhar, o AuthenticationManager lançará uma exceção capturada pelo GlobalExceptionHandler
-        authManager.authenticate(
+        var autenticacao = authManager.authenticate(
                 new UsernamePasswordAuthenticationToken(req.login(), req.password())
         );
 
-        // 2. Recupera os detalhes do usuário autenticado
-        var userDetails = userDetailsService.loadUserByUsername(req.login());
+        // 2. Recupera os detalhes do usuário autenticado (carregados no passo 1)
+        var userDetails = (UserDetails) autenticacao.getPrincipal();
 
         // 3. Gera o token de acesso (Bearer Token)
         String token = jwtService.generateToken(userDetails);
@@ -0,0 +1,186 @@
+package com.restaurantefiap.controller;
+
+import com.restaurantefiap.concurrency.FiltroLimiteConcorrencia;
+import com.restaurantefiap.concurrency.LimiteAdaptativo;
+import com.restaurantefiap.dto.response.EstatisticaSqlDTO;
+import com.restaurantefiap.dto.response.LimiteConcorrenciaDTO;
+import com.restaurantefiap.dto.response.PerfilLatenciasDTO;
+import com.restaurantefiap.enums.ParticaoConcorrencia;
+import com.restaurantefiap.observability.EstatisticasSql;
+import com.restaurantefiap.observability.MonitorPinningVirtualThreads;
+import com.restaurantefiap.observability.MonitorPinningVirtualThreads.OcorrenciaPinning;
+import com.restaurantefiap.observability.PerfilLatencias;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * Endpoints internos de diagnóstico de desempenho.
+ *
+ * <p><strong>Restrição:</strong> todas as operações são exclusivas do perfil MASTER.</p>
+ *
+ * @author Danilo de Paula
+ */
+@RestController
+@RequestMapping("/internal")
+@PreAuthorize("@autorizacaoService.isMaster()")
+public class DiagnosticoController {
+
+    private final ObjectProvider<MonitorPinningVirtualThreads> monitorPinning;
+    private final ObjectProvider<FiltroLimiteConcorrencia> filtroLimite;
+    private final ObjectProvider<EstatisticasSql> estatisticasSql;
+    private final ObjectProvider<PerfilLatencias> perfilLatencias;
+
+    public DiagnosticoController(ObjectProvider<MonitorPinningVirtualThreads> monitorPinning,
+                                 ObjectProvider<FiltroLimiteConcorrencia> filtroLimite,
+                                 ObjectProvider<EstatisticasSql> estatisticasSql,
+                                 ObjectProvider<PerfilLatencias> perfilLatencias) {
+        this.monitorPinning = monitorPinning;
+        this.filtroLimite = filtroLimite;
+        this.estatisticasSql = estatisticasSql;
+        this.perfilLatencias = perfilLatencias;
+    }
+
+    /**
+     * Relatório de virtual threads presas à carrier thread, agregado por frame de origem.
+     * <p>Disponível apenas com o monitor ativo (perfil {@code virtual}).</p>
+     *
+     * @return Ocorrências ordenadas pela duração total, ou 404 se o monitor estiver desligado.
+     */
+    @Operation(summary = "Relatório de pinning de virtual threads (JFR)")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Relatório retornado com sucesso"),
+            @ApiResponse(responseCode = "403", description = "Acesso negado"),
+            @ApiResponse(responseCode = "404", description = "Monitor de pinning desligado")
+    })
+    @GetMapping("/pinning")
+    public ResponseEntity<List<OcorrenciaPinning>> pinning() {
+        MonitorPinningVirtualThreads monitor = monitorPinning.getIfAvailable();
+        return monitor == null
+                ? ResponseEntity.notFound().build()
+                : ResponseEntity.ok(monitor.relatorio());
+    }
+
+    /**
+     * Estado do limite adaptativo de concorrência de cada partição de rotas.
+     *
+     * @return Limite atual, uso e rejeições por partição, ou 404 se o limite estiver desligado.
+     */
+    @Operation(summary = "Limites adaptativos de concorrência por partição")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Limites retornados com sucesso"),
+            @ApiResponse(responseCode = "403", description = "Acesso negado"),
+            @ApiResponse(responseCode = "404", description = "Limite de concorrência desligado")
+    })
+    @GetMapping("/limites")
+    public ResponseEntity<List<LimiteConcorrenciaDTO>> limites() {
+        FiltroLimiteConcorrencia filtro = filtroLimite.getIfAvailable();
+        if (filtro == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(filtro.getLimites().entrySet().stream()
+                .map(e -> paraDto(e.getKey(), e.getValue()))
+                .toList());
+    }
+
+    /**
+     * Comandos SQL normalizados com maior tempo total de execução.
+     *
+     * @param limite quantidade máxima de comandos (padrão 20)
+     * @return Estatísticas por comando, ou 404 se as estatísticas estiverem desligadas.
+     */
+    @Operation(summary = "Top-N comandos SQL por tempo total de execução")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Estatísticas retornadas com sucesso"),
+            @ApiResponse(responseCode = "403", description = "Acesso negado"),
+            @ApiResponse(responseCode = "404", description = "Estatísticas de SQL desligadas")
+    })
+    @GetMapping("/sql")
+    public ResponseEntity<List<EstatisticaSqlDTO>> sql(@RequestParam(defaultValue = "20") int limite) {
+        EstatisticasSql estatisticas = estatisticasSql.getIfAvailable();
+        return estatisticas == null
+                ? ResponseEntity.notFound().build()
+                : ResponseEntity.ok(estatisticas.top(Math.max(1, limite)));
+    }
+
+    /**
+     * Zera as estatísticas de SQL (ex.: antes de uma rodada de teste de carga).
+     *
+     * @return 204, ou 404 se as estatísticas estiverem desligadas.
+     */
+    @Operation(summary = "Zera as estatísticas de SQL")
+    @ApiResponses({
+            @ApiResponse(responseCode = "204", description = "Estatísticas zeradas"),
+            @ApiResponse(responseCode = "403", description = "Acesso negado"),
+            @ApiResponse(responseCode = "404", description = "Estatísticas de SQL desligadas")
+    })
+    @DeleteMapping("/sql")
+    public ResponseEntity<Void> limparSql() {
+        EstatisticasSql estatisticas = estatisticasSql.getIfAvailable();
+        if (estatisticas == null) {
+            return ResponseEntity.notFound().build();
+        }
+        estatisticas.limpar();
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * Percentis de latência por rota e por etapa da requisição numa janela deslizante.
+     *
+     * @param janela duração da janela em segundos (padrão 60), limitada à janela máxima
+     * @return p50/p90/p99/p99,9 por rota e por etapa, ou 404 se o perfil estiver desligado.
+     */
+    @Operation(summary = "Percentis de latência por rota e por etapa (janela deslizante)")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Perfil retornado com sucesso"),
+            @ApiResponse(responseCode = "403", description = "Acesso negado"),
+            @ApiResponse(responseCode = "404", description = "Perfil de latências desligado")
+    })
+    @GetMapping("/perf")
+    public ResponseEntity<PerfilLatenciasDTO> perf(@RequestParam(defaultValue = "60") int janela) {
+        PerfilLatencias perfil = perfilLatencias.getIfAvailable();
+        return perfil == null
+                ? ResponseEntity.notFound().build()
+                : ResponseEntity.ok(perfil.retrato(Math.max(1, janela)));
+    }
+
+    /**
+     * Zera o perfil de latências (ex.: antes de uma rodada de teste de carga).
+     *
+     * @return 204, ou 404 se o perfil estiver desligado.
+     */
+    @Operation(summary = "Zera o perfil de latências")
+    @ApiResponses({
+            @ApiResponse(responseCode = "204", description = "Perfil zerado"),
+            @ApiResponse(responseCode = "403", description = "Acesso negado"),
+            @ApiResponse(responseCode = "404", description = "Perfil de latências desligado")
+    })
+    @DeleteMapping("/perf")
+    public ResponseEntity<Void> limparPerf() {
+        PerfilLatencias perfil = perfilLatencias.getIfAvailable();
+        if (perfil == null) {
+            return ResponseEntity.notFound().build();
+        }
+        perfil.limpar();
+        return ResponseEntity.noContent().build();
+    }
+
+    // ========== Métodos Auxiliares ==========
+
+    private static LimiteConcorrenciaDTO paraDto(ParticaoConcorrencia particao, LimiteAdaptativo limite) {
+        return new LimiteConcorrenciaDTO(particao, limite.getLimite(), limite.getEmUso(), limite.getAceitas(),
+                limite.getRejeicoes(), limite.getReducoes(), limite.getLatenciaReferenciaMs());
+    }
+}
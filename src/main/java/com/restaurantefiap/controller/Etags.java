@@ -0,0 +1,190 @@
+package com.restaurantefiap.controller;
+
+import com.restaurantefiap.enums.CampoUsuario;
+
+import org.springframework.data.domain.Page;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Conversão entre a versão de um registro ({@code @Version}) e os cabeçalhos
+ * {@code ETag} / {@code If-Match} / {@code If-None-Match}.
+ *
+ * <p>O ETag é forte e contém o ID e a versão: {@code "42-3"}. Só a versão não basta — em
+ * {@code /me} o recurso muda de usuário com o login, e dois usuários podem estar na mesma
+ * versão. Um {@code If-Match} com {@code *} aceita qualquer versão; ETags fracos
+ * ({@code W/"42-3"}), malformados ou de outro ID nunca casam, como manda a RFC 9110 para
+ * comparação forte. Já o {@code If-None-Match} usa comparação fraca e aceita lista de ETags.</p>
+ *
+ * <p>Uma representação parcial ({@code fields=}) é outra representação do mesmo recurso e tem
+ * seu próprio ETag, com o conjunto de campos: {@code "42-3-c2a"}. Assim um {@code 304} nunca
+ * confirma ao cliente um corpo com outros campos, e o {@code If-Match} de uma escrita não
+ * aceita o ETag de uma leitura parcial.</p>
+ *
+ * @author Danilo de Paula
+ */
+final class Etags {
+
+    /** Valor de {@code If-Match} que aceita qualquer versão. */
+    static final String QUALQUER = "*";
+
+    /** Versão que nunca existe — usada quando o {@code If-Match} não pode casar. */
+    static final long VERSAO_INVALIDA = -1L;
+
+    private Etags() {
+    }
+
+    /**
+     * Monta o ETag forte da versão informada.
+     *
+     * @param id     ID do registro
+     * @param versao versão do registro
+     * @return ETag entre aspas, ou {@code null} se a versão for nula
+     */
+    static String deVersao(Long id, Long versao) {
+        return versao == null ? null : "\"" + id + "-" + versao + "\"";
+    }
+
+    /**
+     * Monta o ETag forte da representação parcial ({@code fields=}) da versão informada.
+     *
+     * @param id     ID do registro
+     * @param versao versão do registro
+     * @param campos campos pedidos
+     * @return ETag entre aspas, ou {@code null} se a versão for nula
+     */
+    static String deVersao(Long id, Long versao, Set<CampoUsuario> campos) {
+        return versao == null ? null : "\"" + id + "-" + versao + "-c" + mascara(campos) + "\"";
+    }
+
+    /**
+     * Monta o ETag forte de uma página: hash do número, tamanho, ordenação, total
+     * e dos pares (ID, versão) dos itens, nessa ordem.
+     *
+     * <p>Qualquer alteração, inclusão ou exclusão que mude o conteúdo da página muda o ETag.</p>
+     *
+     * @param pagina página de itens
+     * @param id     extrai o ID de um item
+     * @param versao extrai a versão de um item
+     * @return ETag entre aspas
+     */
+    static <T> String dePagina(Page<T> pagina, Function<T, Long> id, Function<T, Long> versao) {
+        return dePagina(pagina, id, versao, null);
+    }
+
+    /**
+     * Monta o ETag forte de uma página parcial ({@code fields=}): como
+     * {@link #dePagina(Page, Function, Function)}, com o conjunto de campos no hash.
+     *
+     * @param pagina página de itens
+     * @param id     extrai o ID de um item
+     * @param versao extrai a versão de um item
+     * @param campos campos pedidos ({@code null} para a representação completa)
+     * @return ETag entre aspas
+     */
+    static <T> String dePagina(Page<T> pagina, Function<T, Long> id, Function<T, Long> versao,
+                               Set<CampoUsuario> campos) {
+        StringBuilder conteudo = new StringBuilder()
+                .append(pagina.getNumber()).append('|')
+                .append(pagina.getSize()).append('|')
+                .append(pagina.getSort()).append('|')
+                .append(pagina.getTotalElements());
+        if (campos != null) {
+            conteudo.append("|c").append(mascara(campos));
+        }
+        for (T item : pagina.getContent()) {
+            conteudo.append('|').append(id.apply(item)).append(':').append(versao.apply(item));
+        }
+        return "\"p-" + resumo(conteudo.toString()) + "\"";
+    }
+
+    /**
+     * Verifica se um cabeçalho {@code If-None-Match} casa com o ETag atual.
+     *
+     * <p>Comparação fraca (RFC 9110 §13.1.2): {@code W/"3"} casa com {@code "3"}.
+     * Aceita lista separada por vírgula e {@code *}.</p>
+     *
+     * @param ifNoneMatch valor do cabeçalho (pode ser nulo)
+     * @param etagAtual   ETag atual do recurso (pode ser nulo)
+     * @return {@code true} se algum ETag da lista casar — a resposta pode ser {@code 304}
+     */
+    static boolean corresponde(String ifNoneMatch, String etagAtual) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank() || etagAtual == null) {
+            return false;
+        }
+
+        String atual = semPrefixoFraco(etagAtual);
+        for (String candidato : ifNoneMatch.split(",")) {
+            String etag = candidato.trim();
+            if (QUALQUER.equals(etag) || semPrefixoFraco(etag).equals(atual)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Extrai a versão esperada de um cabeçalho {@code If-Match}.
+     *
+     * <p>Aceita lista de ETags separados por vírgula; apenas o primeiro é considerado.</p>
+     *
+     * @param id      ID do registro alvo
+     * @param ifMatch valor do cabeçalho (pode ser nulo)
+     * @return {@code null} se ausente ou {@code *} (sem condição), a versão se o ETag
+     *         for válido e do mesmo ID, ou {@link #VERSAO_INVALIDA} se fraco, malformado
+     *         ou de outro registro
+     */
+    static Long versaoEsperada(Long id, String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank()) {
+            return null;
+        }
+
+        String etag = ifMatch.split(",")[0].trim();
+        if (QUALQUER.equals(etag)) {
+            return null;
+        }
+        if (etag.length() < 3 || !etag.startsWith("\"") || !etag.endsWith("\"")) {
+            return VERSAO_INVALIDA;
+        }
+
+        String valor = etag.substring(1, etag.length() - 1);
+        int separador = valor.lastIndexOf('-');
+        if (separador <= 0 || !valor.substring(0, separador).equals(String.valueOf(id))) {
+            return VERSAO_INVALIDA;
+        }
+        try {
+            return Long.parseLong(valor.substring(separador + 1));
+        } catch (NumberFormatException e) {
+            return VERSAO_INVALIDA;
+        }
+    }
+
+    // ========== Métodos Auxiliares ==========
+
+    /** Conjunto de campos como máscara de bits em hexadecimal, independente da ordem do pedido. */
+    private static String mascara(Set<CampoUsuario> campos) {
+        int bits = 0;
+        for (CampoUsuario campo : campos) {
+            bits |= 1 << campo.ordinal();
+        }
+        return Integer.toHexString(bits);
+    }
+
+    private static String semPrefixoFraco(String etag) {
+        return etag.startsWith("W/") ? etag.substring(2) : etag;
+    }
+
+    private static String resumo(String conteudo) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(conteudo.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponível", e);
+        }
+    }
+}
@@ -3,9 +3,25 @@ package com.restaurantefiap.controller;
 import com.restaurantefiap.dto.request.AlterarSenhaRequestDTO;
 import com.restaurantefiap.dto.request.UsuarioRequestDTO;
 import com.restaurantefiap.dto.request.UsuarioUpdateDTO;
+import com.restaurantefiap.dto.request.UsuariosLoteRequestDTO;
+import com.restaurantefiap.dto.response.ArquivamentoStatusDTO;
+import com.restaurantefiap.dto.response.OutboxStatusDTO;
+import com.restaurantefiap.dto.response.UsuarioLoteItemDTO;
+import com.restaurantefiap.dto.response.UsuarioParcialDTO;
 import com.restaurantefiap.dto.response.UsuarioResponseDTO;
+import com.restaurantefiap.dto.response.VersaoUsuarioDTO;
+import com.restaurantefiap.entities.usuario.RetratoUsuario;
+import com.restaurantefiap.entities.usuario.UserPrincipal;
+import com.restaurantefiap.enums.CampoUsuario;
+import com.restaurantefiap.service.ArquivamentoUsuariosService;
+import com.restaurantefiap.service.BuscaLoteUsuariosService;
+import com.restaurantefiap.service.CacheJsonUsuarios;
+import com.restaurantefiap.service.OutboxUsuariosService;
+import com.restaurantefiap.service.ResilienciaLeiturasUsuario;
 import com.restaurantefiap.service.UsuarioService;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import jakarta.persistence.EntityNotFoundException;
@@ -13,7 +29,10 @@ import jakarta.validation.Valid;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
@@ -21,6 +40,7 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.security.core.Authentication;
 
 import java.util.List;
+import java.util.Set;
 
 /**
  * Controller REST para operações de usuários.
@@ -36,10 +56,30 @@ import java.util.List;
 @RequestMapping("/v1/usuarios")
 public class UsuarioController {
 
+    static final String HEADER_TOTAL = "X-Total-Count";
+    static final String HEADER_DESATUALIZADO = "X-Stale";
+
     private final UsuarioService usuarioService;
+    private final ArquivamentoUsuariosService arquivamentoService;
+    private final BuscaLoteUsuariosService buscaLoteService;
+    private final OutboxUsuariosService outboxService;
+    private final CacheJsonUsuarios cacheJson;
+    private final ResilienciaLeiturasUsuario resiliencia;
 
-    public UsuarioController(UsuarioService usuarioService) {
+    public UsuarioController(
+            UsuarioService usuarioService,
+            ArquivamentoUsuariosService arquivamentoService,
+            BuscaLoteUsuariosService buscaLoteService,
+            OutboxUsuariosService outboxService,
+            CacheJsonUsuarios cacheJson,
+            ResilienciaLeiturasUsuario resiliencia
+    ) {
         this.usuarioService = usuarioService;
+        this.arquivamentoService = arquivamentoService;
+        this.buscaLoteService = buscaLoteService;
+        this.outboxService = outboxService;
+        this.cacheJson = cacheJson;
+        this.resiliencia = resiliencia;
     }
 
     // ========= READ =========
@@ -48,19 +88,104 @@ public class UsuarioController {
     /**
      * Recupera uma lista paginada de todos os usuários ativos no sistema.
      * * <p><strong>Restrição:</strong> Operação exclusiva para usuários com perfil ADMIN.</p>
+     * <p><strong>Cache:</strong> a resposta traz um ETag calculado a partir dos IDs e versões
+     * da página. Com {@code If-None-Match} igual, responde {@code 304} consultando apenas
+     * IDs e versões, sem carregar nem serializar os usuários.</p>
      *
      * @param pageable Objeto contendo as informações de paginação (página, tamanho, ordenação).
-     * @return Um {@link Page} contendo os DTOs dos usuários encontrados.
+     * @param ifNoneMatch ETag(s) já conhecidos pelo cliente (opcional).
+     * @return Um {@link Page} contendo os DTOs dos usuários encontrados, ou {@code 304}.
      */
     @Operation(summary = "Lista usuários ativos paginados")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Lista retornada com sucesso"),
+            @ApiResponse(responseCode = "304", description = "Página não modificada"),
             @ApiResponse(responseCode = "403", description = "Acesso negado")
     })
     @PreAuthorize("@autorizacaoService.isAdmin()")
     @GetMapping("/page")
-    public Page<UsuarioResponseDTO> listarPaginado(Pageable pageable) {
-        return usuarioService.listar(pageable);
+    public ResponseEntity<Page<UsuarioResponseDTO>> listarPaginado(
+            Pageable pageable,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        if (ifNoneMatch != null) {
+            String etagAtual = Etags.dePagina(resiliencia.executar(() -> usuarioService.listarVersoes(pageable)),
+                    VersaoUsuarioDTO::id, VersaoUsuarioDTO::versao);
+            if (Etags.corresponde(ifNoneMatch, etagAtual)) {
+                return naoModificado(etagAtual);
+            }
+        }
+
+        Page<UsuarioResponseDTO> pagina = resiliencia.executar(() -> usuarioService.listar(pageable));
+        return ResponseEntity.ok()
+                .eTag(Etags.dePagina(pagina, UsuarioResponseDTO::id, UsuarioResponseDTO::versao))
+                .body(pagina);
+    }
+
+
+    /**
+     * Variante de {@code /page} com sparse fieldset: {@code fields=id,nome,role}.
+     * * <p>Apenas as colunas dos campos pedidos são consultadas e serializadas. Os nomes
+     * aceitos são os de {@link UsuarioResponseDTO}; qualquer outro gera {@code 400}.
+     * Suporta {@code If-None-Match} como {@code /page}, com um ETag por conjunto de campos.</p>
+     * <p><strong>Restrição:</strong> Operação exclusiva para usuários com perfil ADMIN.</p>
+     *
+     * @param pageable Objeto contendo as informações de paginação (página, tamanho, ordenação).
+     * @param fields Campos pedidos, separados por vírgula.
+     * @param ifNoneMatch ETag(s) já conhecidos pelo cliente (opcional).
+     * @return Um {@link Page} com os usuários parciais, ou {@code 304}.
+     */
+    @Operation(summary = "Lista usuários ativos paginados, apenas com os campos pedidos")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Lista retornada com sucesso"),
+            @ApiResponse(responseCode = "304", description = "Página não modificada"),
+            @ApiResponse(responseCode = "400", description = "Campo inválido em fields"),
+            @ApiResponse(responseCode = "403", description = "Acesso negado")
+    })
+    @PreAuthorize("@autorizacaoService.isAdmin()")
+    @GetMapping(value = "/page", params = "fields")
+    public ResponseEntity<Page<UsuarioParcialDTO>> listarPaginadoParcial(
+            Pageable pageable,
+            @RequestParam String fields,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        Set<CampoUsuario> campos = CampoUsuario.deParametro(fields);
+        if (ifNoneMatch != null) {
+            String etagAtual = Etags.dePagina(resiliencia.executar(() -> usuarioService.listarVersoes(pageable)),
+                    VersaoUsuarioDTO::id, VersaoUsuarioDTO::versao, campos);
+            if (Etags.corresponde(ifNoneMatch, etagAtual)) {
+                return naoModificado(etagAtual);
+            }
+        }
+
+        Page<UsuarioParcialDTO> pagina = resiliencia.executar(() -> usuarioService.listarParcial(campos, pageable));
+        return ResponseEntity.ok()
+                .eTag(Etags.dePagina(pagina, UsuarioParcialDTO::id, UsuarioParcialDTO::versao, campos))
+                .body(pagina);
+    }
+
+
+    /**
+     * Recupera uma fatia de usuários ativos, sem calcular o total de registros.
+     * * <p>Evita o {@code COUNT(*)} executado por {@code /page}: a resposta informa apenas
+     * se existe próxima fatia. O total aproximado de usuários ativos é enviado no cabeçalho
+     * {@value #HEADER_TOTAL}, lido de um contador em memória.</p>
+     * <p><strong>Restrição:</strong> Operação exclusiva para usuários com perfil ADMIN.</p>
+     *
+     * @param pageable Objeto contendo as informações de paginação (página, tamanho, ordenação).
+     * @return Um {@link Slice} contendo os DTOs dos usuários encontrados.
+     */
+    @Operation(summary = "Lista usuários ativos em fatias (sem contagem)")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Fatia retornada com sucesso"),
+            @ApiResponse(responseCode = "403", description = "Acesso negado")
+    })
+    @PreAuthorize("@autorizacaoService.isAdmin()")
+    @GetMapping("/slice")
+    public ResponseEntity<Slice<UsuarioResponseDTO>> listarFatia(Pageable pageable) {
+        return ResponseEntity.ok()
+                .header(HEADER_TOTAL, String.valueOf(usuarioService.contarAtivos()))
+                .body(resiliencia.executar(() -> usuarioService.listarFatia(pageable)));
     }
 
 
@@ -69,21 +194,152 @@ public class UsuarioController {
      * * <p><strong>Regra de Autorização (Ownership/Role):</strong>
      * Permite o acesso se o usuário logado for um ADMIN OU se o ID solicitado
      * for o do próprio usuário autenticado.</p>
+     * <p><strong>Cache:</strong> com {@code If-None-Match} igual à versão atual, responde
+     * {@code 304} consultando apenas a versão, sem carregar o usuário. Caso contrário, o JSON
+     * da versão atual vem de {@link CacheJsonUsuarios} quando disponível, sem mapear nem
+     * serializar de novo.</p>
+     * <p><strong>Indisponibilidade:</strong> com o banco fora do ar (circuito aberto), responde
+     * com a última representação conhecida, com {@value #HEADER_DESATUALIZADO} e {@code Age}.</p>
      *
      * @param id O identificador único do usuário.
-     * @return O DTO com as informações do usuário encontrado.
+     * @param ifNoneMatch ETag(s) já conhecidos pelo cliente (opcional).
+     * @return O JSON de {@link UsuarioResponseDTO} e o ETag, ou {@code 304}.
      * @throws EntityNotFoundException Caso o ID não corresponda a nenhum usuário ativo.
      */
     @Operation(summary = "Busca usuário ativo por ID")
     @ApiResponses({
-            @ApiResponse(responseCode = "200", description = "Usuário encontrado"),
+            @ApiResponse(responseCode = "200", description = "Usuário encontrado",
+                    content = @Content(schema = @Schema(implementation = UsuarioResponseDTO.class))),
+            @ApiResponse(responseCode = "304", description = "Usuário não modificado"),
             @ApiResponse(responseCode = "403", description = "Acesso negado"),
-            @ApiResponse(responseCode = "404", description = "Usuário não encontrado")
+            @ApiResponse(responseCode = "404", description = "Usuário não encontrado"),
+            @ApiResponse(responseCode = "503", description = "Banco indisponível e usuário sem representação conhecida")
     })
     @PreAuthorize("@autorizacaoService.isAdminOuProprio(#id)")
     @GetMapping("/{id:\\d+}")
-    public UsuarioResponseDTO buscarPorId(@PathVariable Long id) {
-        return usuarioService.buscarPorId(id);
+    public ResponseEntity<byte[]> buscarPorId(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        try {
+            Long versaoAtual = resiliencia.executar(() -> usuarioService.buscarVersaoPorId(id)).orElse(null);
+            String etagAtual = Etags.deVersao(id, versaoAtual);
+            if (Etags.corresponde(ifNoneMatch, etagAtual)) {
+                return naoModificado(etagAtual);
+            }
+
+            byte[] emCache = cacheJson.obter(id, versaoAtual, CacheJsonUsuarios.COMPLETO);
+            if (emCache != null) {
+                resiliencia.guardarJson(id, null, versaoAtual, emCache);
+                return json(emCache, id, versaoAtual);
+            }
+
+            UsuarioResponseDTO dto = resiliencia.executar(() -> usuarioService.buscarPorId(id));
+            byte[] conteudo = cacheJson.serializarEGuardar(id, dto.versao(), CacheJsonUsuarios.COMPLETO, dto);
+            resiliencia.guardarJson(id, dto.login(), dto.versao(), conteudo);
+            return json(conteudo, dto.id(), dto.versao());
+        } catch (RuntimeException e) {
+            return resiliencia.jsonDesatualizadoPorId(id, e)
+                    .map(UsuarioController::desatualizado)
+                    .orElseThrow(() -> e);
+        }
+    }
+
+
+    /**
+     * Variante de {@code GET /{id}} com sparse fieldset: {@code fields=id,nome,role}.
+     * * <p>Mesmas regras de autorização, {@code If-None-Match} e cache de JSON de {@code GET /{id}};
+     * cada conjunto de campos tem sua própria entrada no cache e seu próprio ETag.</p>
+     * <p><strong>Indisponibilidade:</strong> com o banco fora do ar, responde com os campos pedidos
+     * recortados da última representação completa conhecida (a guardada por {@code GET /{id}} e
+     * {@code /me}), com {@value #HEADER_DESATUALIZADO} e {@code Age}. A leitura parcial não
+     * alimenta esse valor: ela não carrega a representação completa.</p>
+     *
+     * @param id O identificador único do usuário.
+     * @param fields Campos pedidos, separados por vírgula.
+     * @param ifNoneMatch ETag(s) já conhecidos pelo cliente (opcional).
+     * @return O JSON do usuário parcial e o ETag, ou {@code 304}.
+     */
+    @Operation(summary = "Busca usuário ativo por ID, apenas com os campos pedidos")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Usuário encontrado",
+                    content = @Content(schema = @Schema(implementation = UsuarioParcialDTO.class))),
+            @ApiResponse(responseCode = "304", description = "Usuário não modificado"),
+            @ApiResponse(responseCode = "400", description = "Campo inválido em fields"),
+            @ApiResponse(responseCode = "403", description = "Acesso negado"),
+            @ApiResponse(responseCode = "404", description = "Usuário não encontrado"),
+            @ApiResponse(responseCode = "503", description = "Banco indisponível e usuário sem representação conhecida")
+    })
+    @PreAuthorize("@autorizacaoService.isAdminOuProprio(#id)")
+    @GetMapping(value = "/{id:\\d+}", params = "fields")
+    public ResponseEntity<byte[]> buscarParcialPorId(
+            @PathVariable Long id,
+            @RequestParam String fields,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        Set<CampoUsuario> campos = CampoUsuario.deParametro(fields);
+        try {
+            Long versaoAtual = resiliencia.executar(() -> usuarioService.buscarVersaoPorId(id)).orElse(null);
+            String etagAtual = Etags.deVersao(id, versaoAtual, campos);
+            if (Etags.corresponde(ifNoneMatch, etagAtual)) {
+                return naoModificado(etagAtual);
+            }
+
+            String chaveCampos = CacheJsonUsuarios.chave(campos);
+            byte[] emCache = cacheJson.obter(id, versaoAtual, chaveCampos);
+            if (emCache != null) {
+                return json(emCache, etagAtual);
+            }
+
+            UsuarioParcialDTO dto = resiliencia.executar(() -> usuarioService.buscarParcialPorId(id, campos));
+            byte[] conteudo = cacheJson.serializarEGuardar(id, dto.versao(), chaveCampos, dto);
+            return json(conteudo, Etags.deVersao(id, dto.versao(), campos));
+        } catch (RuntimeException e) {
+            return resiliencia.jsonDesatualizadoPorId(id, e)
+                    .map(conhecido -> desatualizado(conhecido,
+                            Etags.deVersao(conhecido.id(), conhecido.versao(), campos),
+                            cacheJson.projetar(conhecido.json(), campos)))
+                    .orElseThrow(() -> e);
+        }
+    }
+
+
+    /**
+     * Busca vários usuários ativos por ID em uma única requisição.
+     * * <p>Substitui chamadas repetidas a {@code GET /{id}}. A resposta contém um item por ID,
+     * na ordem da requisição, com status {@code ENCONTRADO}, {@code NAO_ENCONTRADO} ou
+     * {@code ACESSO_NEGADO}.</p>
+     * <p><strong>Regra de Autorização:</strong> a mesma de {@code GET /{id}}, aplicada por item.</p>
+     *
+     * @param ids IDs separados por vírgula (ex.: {@code ?ids=1,2,3}).
+     * @return Lista de itens na ordem dos IDs solicitados.
+     */
+    @Operation(summary = "Busca usuários ativos em lote por ID")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Resultado por ID, na ordem da requisição"),
+            @ApiResponse(responseCode = "400", description = "Lista vazia ou acima do limite")
+    })
+    @GetMapping(params = "ids")
+    public List<UsuarioLoteItemDTO> buscarPorIds(@RequestParam List<Long> ids) {
+        return resiliencia.executar(() -> buscaLoteService.buscarPorIds(ids));
+    }
+
+
+    /**
+     * Variante de {@link #buscarPorIds(List)} com os IDs no corpo — para listas que não
+     * cabem confortavelmente na URL.
+     *
+     * @param dto Objeto contendo os IDs.
+     * @return Lista de itens na ordem dos IDs solicitados.
+     */
+    @Operation(summary = "Busca usuários ativos em lote por ID (IDs no corpo)")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Resultado por ID, na ordem da requisição"),
+            @ApiResponse(responseCode = "400", description = "Lista vazia ou acima do limite")
+    })
+    @PostMapping("/lote")
+    public List<UsuarioLoteItemDTO> buscarPorIdsLote(@Valid @RequestBody UsuariosLoteRequestDTO dto) {
+        return resiliencia.executar(() -> buscaLoteService.buscarPorIds(dto.ids()));
     }
 
 
@@ -104,7 +360,7 @@ public class UsuarioController {
     @PreAuthorize("@autorizacaoService.isAdmin()")
     @GetMapping("/email/{email}")
     public UsuarioResponseDTO buscarPorEmail(@PathVariable String email) {
-        return usuarioService.buscarPorEmail(email);
+        return resiliencia.executar(() -> usuarioService.buscarPorEmail(email));
     }
 
 
@@ -123,7 +379,7 @@ public class UsuarioController {
     @PreAuthorize("@autorizacaoService.isAdmin()")
     @GetMapping("/buscar")
     public List<UsuarioResponseDTO> buscarPorNome(@RequestParam String nome) {
-        return usuarioService.buscarPorNome(nome);
+        return resiliencia.executar(() -> usuarioService.buscarPorNome(nome));
     }
 
     // ========= CREATE =========
@@ -157,23 +413,34 @@ public class UsuarioController {
      * <p><strong>Regra de Autorização:</strong> Permitido para administradores ou para o
      * próprio usuário proprietário da conta.</p>
      *
-     * @param id  ID do usuário a ser atualizado.
-     * @param dto Objeto contendo os novos dados do usuário.
+     * <p><strong>Concorrência:</strong> com o cabeçalho {@code If-Match} (ETag da versão lida),
+     * a atualização só é aplicada se o registro não mudou desde então; caso contrário retorna 412.
+     * A resposta traz o novo {@code ETag}.</p>
+     *
+     * @param id      ID do usuário a ser atualizado.
+     * @param ifMatch ETag da versão conhecida pelo cliente (opcional).
+     * @param dto     Objeto contendo os novos dados do usuário.
      * @return O DTO do usuário com as informações atualizadas.
      */
     @Operation(summary = "Atualiza dados do usuário")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Usuário atualizado com sucesso"),
             @ApiResponse(responseCode = "403", description = "Acesso negado"),
-            @ApiResponse(responseCode = "404", description = "Usuário não encontrado")
+            @ApiResponse(responseCode = "404", description = "Usuário não encontrado"),
+            @ApiResponse(responseCode = "409", description = "Atualização concorrente detectada"),
+            @ApiResponse(responseCode = "412", description = "If-Match não corresponde à versão atual")
     })
     @PreAuthorize("@autorizacaoService.isAdminOuProprio(#id)")
     @PutMapping("/{id:\\d+}")
-    public UsuarioResponseDTO atualizar(
+    public ResponseEntity<UsuarioResponseDTO> atualizar(
             @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @RequestBody UsuarioUpdateDTO dto
     ) {
-        return usuarioService.atualizar(id, dto);
+        UsuarioResponseDTO atualizado = usuarioService.atualizar(id, dto, Etags.versaoEsperada(id, ifMatch));
+        return ResponseEntity.ok()
+                .eTag(Etags.deVersao(atualizado.id(), atualizado.versao()))
+                .body(atualizado);
     }
 
 
@@ -226,23 +493,175 @@ public class UsuarioController {
         return ResponseEntity.noContent().build();
     }
 
+    // ========= ARQUIVO =========
+
+    /**
+     * Restaura um usuário arquivado (excluído há mais de N dias) para a tabela principal.
+     * <p>O usuário volta reativado, com o mesmo ID.</p>
+     * <p><strong>Restrição:</strong> Operação permitida apenas para usuários com perfil MASTER.</p>
+     *
+     * @param id ID do usuário arquivado.
+     * @return O DTO do usuário restaurado.
+     */
+    @Operation(summary = "Restaura usuário arquivado")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Usuário restaurado com sucesso"),
+            @ApiResponse(responseCode = "403", description = "Acesso negado - apenas MASTER pode restaurar"),
+            @ApiResponse(responseCode = "404", description = "Usuário arquivado não encontrado"),
+            @ApiResponse(responseCode = "409", description = "Login ou e-mail já em uso")
+    })
+    @PreAuthorize("@autorizacaoService.isMaster()")
+    @PostMapping("/arquivados/{id:\\d+}/restaurar")
+    public UsuarioResponseDTO restaurarArquivado(@PathVariable Long id) {
+        return arquivamentoService.restaurar(id);
+    }
+
+    /**
+     * Retorna o progresso do job de arquivamento de usuários excluídos.
+     * <p><strong>Restrição:</strong> Operação permitida apenas para usuários com perfil MASTER.</p>
+     *
+     * @return O DTO com as métricas de progresso do arquivamento.
+     */
+    @Operation(summary = "Progresso do arquivamento de usuários excluídos")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Progresso retornado com sucesso"),
+            @ApiResponse(responseCode = "403", description = "Acesso negado")
+    })
+    @PreAuthorize("@autorizacaoService.isMaster()")
+    @GetMapping("/arquivados/status")
+    public ArquivamentoStatusDTO statusArquivamento() {
+        return arquivamentoService.status();
+    }
+
+    // ========= EVENTOS =========
+
+    /**
+     * Retorna as métricas da outbox de eventos de usuários (pendentes e atrasos de publicação/entrega).
+     * <p><strong>Restrição:</strong> Operação permitida apenas para usuários com perfil MASTER.</p>
+     *
+     * @return O DTO com as métricas da outbox neste nó.
+     */
+    @Operation(summary = "Métricas da outbox de eventos de usuários")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Métricas retornadas com sucesso"),
+            @ApiResponse(responseCode = "403", description = "Acesso negado")
+    })
+    @PreAuthorize("@autorizacaoService.isMaster()")
+    @GetMapping("/eventos/status")
+    public OutboxStatusDTO statusEventos() {
+        return outboxService.status();
+    }
+
     // ========= ME =========
 
     /**
      * Recupera as informações resumidas do usuário que está atualmente autenticado.
-     * <p>Utiliza o contexto de segurança do Spring (JWT) para identificar o usuário.</p>
+     * <p>Utiliza o contexto de segurança do Spring (JWT) para identificar o usuário.
+     * Suporta {@code If-None-Match} e o cache de JSON da mesma forma que {@code GET /{id}}.</p>
+     * <p>O filtro JWT já leu o usuário nesta requisição: a resposta sai do principal, sem
+     * nova consulta. Só com a credencial desatualizada (banco indisponível) o usuário é
+     * buscado pelo login, caindo no último JSON conhecido.</p>
      *
      * @param authentication Objeto contendo os detalhes do usuário autenticado no contexto.
-     * @return O DTO com os dados do usuário logado.
+     * @param ifNoneMatch ETag(s) já conhecidos pelo cliente (opcional).
+     * @return O JSON de {@link UsuarioResponseDTO} do usuário logado e o ETag, ou {@code 304}.
      */
     @Operation(summary = "Retorna dados do usuário logado")
     @ApiResponses({
-            @ApiResponse(responseCode = "200", description = "Dados retornados com sucesso")
+            @ApiResponse(responseCode = "200", description = "Dados retornados com sucesso",
+                    content = @Content(schema = @Schema(implementation = UsuarioResponseDTO.class))),
+            @ApiResponse(responseCode = "304", description = "Dados não modificados")
     })
     @GetMapping("/me")
-    public UsuarioResponseDTO me(Authentication authentication) {
+    public ResponseEntity<byte[]> me(
+            Authentication authentication,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        if (authentication.getPrincipal() instanceof UserPrincipal principal && !principal.isDesatualizado()) {
+            return meDoPrincipal(principal.getUsuario(), ifNoneMatch);
+        }
+
         String login = authentication.getName();
-        return usuarioService.buscarPorLogin(login);
+        try {
+            VersaoUsuarioDTO atual = resiliencia.executar(() -> usuarioService.buscarVersaoPorLogin(login)).orElse(null);
+            String etagAtual = atual == null ? null : Etags.deVersao(atual.id(), atual.versao());
+            if (Etags.corresponde(ifNoneMatch, etagAtual)) {
+                return naoModificado(etagAtual);
+            }
+
+            byte[] emCache = atual == null ? null : cacheJson.obter(atual.id(), atual.versao(), CacheJsonUsuarios.COMPLETO);
+            if (emCache != null) {
+                resiliencia.guardarJson(atual.id(), login, atual.versao(), emCache);
+                return json(emCache, atual.id(), atual.versao());
+            }
+
+            UsuarioResponseDTO dto = resiliencia.executar(() -> usuarioService.buscarPorLogin(login));
+            byte[] conteudo = cacheJson.serializarEGuardar(dto.id(), dto.versao(), CacheJsonUsuarios.COMPLETO, dto);
+            resiliencia.guardarJson(dto.id(), dto.login(), dto.versao(), conteudo);
+            return json(conteudo, dto.id(), dto.versao());
+        } catch (RuntimeException e) {
+            return resiliencia.jsonDesatualizadoPorLogin(login, e)
+                    .map(UsuarioController::desatualizado)
+                    .orElseThrow(() -> e);
+        }
+    }
+
+    // ========== Métodos Auxiliares ==========
+
+    /**
+     * {@code GET /me} a partir do usuário carregado pelo filtro JWT.
+     */
+    private ResponseEntity<byte[]> meDoPrincipal(RetratoUsuario usuario, String ifNoneMatch) {
+        String etagAtual = Etags.deVersao(usuario.id(), usuario.versao());
+        if (Etags.corresponde(ifNoneMatch, etagAtual)) {
+            return naoModificado(etagAtual);
+        }
+
+        byte[] conteudo = cacheJson.obter(usuario.id(), usuario.versao(), CacheJsonUsuarios.COMPLETO);
+        if (conteudo == null) {
+            conteudo = cacheJson.serializarEGuardar(usuario.id(), usuario.versao(),
+                    CacheJsonUsuarios.COMPLETO, usuario.dados());
+        }
+        resiliencia.guardarJson(usuario.id(), usuario.login(), usuario.versao(), conteudo);
+        return json(conteudo, usuario.id(), usuario.versao());
+    }
+
+    /**
+     * Resposta {@code 304} sem corpo, repetindo o ETag atual como exige a RFC 9110.
+     */
+    private static <T> ResponseEntity<T> naoModificado(String etag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+    }
+
+    /**
+     * Resposta {@code 200} com o JSON já serializado (em cache ou recém-gerado), sem passar pelo Jackson.
+     */
+    private static ResponseEntity<byte[]> json(byte[] conteudo, Long id, Long versao) {
+        return json(conteudo, Etags.deVersao(id, versao));
+    }
+
+    private static ResponseEntity<byte[]> json(byte[] conteudo, String etag) {
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(conteudo);
+    }
+
+    /**
+     * Resposta {@code 200} com a última representação conhecida, enquanto o banco está indisponível.
+     */
+    private static ResponseEntity<byte[]> desatualizado(ResilienciaLeiturasUsuario.JsonDesatualizado conhecido) {
+        return desatualizado(conhecido, Etags.deVersao(conhecido.id(), conhecido.versao()), conhecido.json());
+    }
+
+    private static ResponseEntity<byte[]> desatualizado(ResilienciaLeiturasUsuario.JsonDesatualizado conhecido,
+                                                        String etag, byte[] conteudo) {
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .header(HEADER_DESATUALIZADO, "true")
+                .header(HttpHeaders.AGE, String.valueOf(conhecido.idadeSegundos()))
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(conteudo);
     }
 
 }
@@ -1,13 +1,13 @@
 package com.restaurantefiap.dto.request;
 
 import com.restaurantefiap.entities.endereco.DadosEndereco;
+import com.restaurantefiap.enums.FormatoValidacao;
 import com.restaurantefiap.enums.Role;
 
-import com.restaurantefiap.validation.ValidationPatterns;
+import com.restaurantefiap.validation.Formato;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
-import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Size;
 
 /**
@@ -28,7 +28,7 @@ public record UsuarioRequestDTO(
 
         @NotBlank(message = "Login é obrigatório")
         @Size(min = 5, max = 100, message = "Login deve ter entre 5 e 100 caracteres")
-        @Pattern(regexp = ValidationPatterns.LOGIN_USUARIO,
+        @Formato(value = FormatoValidacao.LOGIN_USUARIO,
                 message = "Aceita apenas letras minúsculas, números, underscores, ponto e hífens")
         String login,
 
@@ -39,19 +39,19 @@ public record UsuarioRequestDTO(
 
         @NotBlank(message = "Nome é obrigatório")
         @Size(min = 3, max = 255, message = "Nome deve ter entre 3 e 255 caracteres")
-        @Pattern(regexp = ValidationPatterns.NOME_PROPRIO, message = "O nome deve conter apenas letras")
+        @Formato(value = FormatoValidacao.NOME_PROPRIO, message = "O nome deve conter apenas letras")
         String nome,
 
         @NotBlank(message = "Telefone é obrigatório")
         @Size(max = 20, message = "Telefone deve ter no máximo 20 caracteres")
-        @Pattern(regexp = ValidationPatterns.TELEFONE_BR, message = "Telefone inválido (padrão BR)")
+        @Formato(value = FormatoValidacao.TELEFONE_BR, message = "Telefone inválido (padrão BR)")
         String telefone,
 
         Role role,
 
         @NotBlank(message = "Senha é obrigatória")
         @Size(min = 8, max = 100, message = "Senha deve ter entre 8 e 100 caracteres")
-        @Pattern(regexp = ValidationPatterns.SENHA_FORTE, message = "A senha deve conter ao menos 8 caracteres, letras, números e símbolos")
+        @Formato(value = FormatoValidacao.SENHA_FORTE, message = "A senha deve conter ao menos 8 caracteres, letras, números e símbolos")
         String password,
 
         @Valid
@@ -0,0 +1,21 @@
+package com.restaurantefiap.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.List;
+
+/**
+ * DTO para busca de usuários em lote por ID.
+ *
+ * @param ids IDs dos usuários, na ordem desejada para a resposta
+ * @author Danilo de Paula
+ */
+@Schema(description = "IDs para busca de usuários em lote")
+public record UsuariosLoteRequestDTO(
+
+        @Schema(description = "IDs dos usuários", example = "[1, 2, 3]")
+        @NotEmpty(message = "Informe ao menos um ID")
+        List<@NotNull(message = "ID não pode ser nulo") Long> ids
+) {}
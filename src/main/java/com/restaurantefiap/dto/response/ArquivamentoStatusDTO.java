@@ -0,0 +1,28 @@
+package com.restaurantefiap.dto.response;
+
+import java.time.LocalDateTime;
+
+/**
+ * Progresso do job de arquivamento de usuários excluídos.
+ *
+ * @param emExecucao               indica se há uma execução em andamento
+ * @param totalArquivados          usuários arquivados desde a subida da aplicação
+ * @param totalRestaurados         usuários restaurados desde a subida da aplicação
+ * @param arquivadosExecucaoAtual  usuários arquivados na execução atual (ou na última)
+ * @param lotesExecucaoAtual       lotes processados na execução atual (ou na última)
+ * @param ultimoIdProcessado       último ID arquivado na execução atual
+ * @param inicioUltimaExecucao     início da execução atual (ou da última)
+ * @param fimUltimaExecucao        término da última execução concluída
+ * @author Danilo de Paula
+ */
+public record ArquivamentoStatusDTO(
+        boolean emExecucao,
+        long totalArquivados,
+        long totalRestaurados,
+        long arquivadosExecucaoAtual,
+        long lotesExecucaoAtual,
+        long ultimoIdProcessado,
+        LocalDateTime inicioUltimaExecucao,
+        LocalDateTime fimUltimaExecucao
+) {
+}
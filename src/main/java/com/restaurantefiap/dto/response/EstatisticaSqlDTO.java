@@ -0,0 +1,33 @@
+package com.restaurantefiap.dto.response;
+
+import com.restaurantefiap.enums.OperacaoSql;
+
+/**
+ * Estatísticas de um comando SQL normalizado.
+ *
+ * <p>Os percentis vêm de um histograma com 8 faixas por potência de 2: o valor é o
+ * limite superior da faixa (erro máximo de 12,5%).</p>
+ *
+ * @param comando   SQL normalizado (literais e listas {@code IN} substituídos por {@code ?})
+ * @param operacao  tipo do comando
+ * @param execucoes execuções desde a subida (ou a última limpeza)
+ * @param erros     execuções que lançaram exceção
+ * @param totalMs   tempo total de execução
+ * @param mediaMs   tempo médio por execução
+ * @param p50Ms     mediana aproximada
+ * @param p99Ms     percentil 99 aproximado
+ * @param maximoMs  maior tempo de execução
+ * @author Danilo de Paula
+ */
+public record EstatisticaSqlDTO(
+        String comando,
+        OperacaoSql operacao,
+        long execucoes,
+        long erros,
+        double totalMs,
+        double mediaMs,
+        double p50Ms,
+        double p99Ms,
+        double maximoMs
+) {
+}
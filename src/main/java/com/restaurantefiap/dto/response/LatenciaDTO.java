@@ -0,0 +1,26 @@
+package com.restaurantefiap.dto.response;
+
+/**
+ * Percentis de latência de uma rota ou etapa na janela consultada.
+ *
+ * <p>Os valores vêm de um HdrHistogram com 2 dígitos significativos (erro máximo de 1%).</p>
+ *
+ * @param nome     rota ({@code GET /v1/usuarios/{id}}) ou etapa ({@code REPOSITORIO})
+ * @param amostras requisições medidas na janela
+ * @param p50Ms    mediana
+ * @param p90Ms    percentil 90
+ * @param p99Ms    percentil 99
+ * @param p999Ms   percentil 99,9
+ * @param maximoMs maior valor na janela
+ * @author Danilo de Paula
+ */
+public record LatenciaDTO(
+        String nome,
+        long amostras,
+        double p50Ms,
+        double p90Ms,
+        double p99Ms,
+        double p999Ms,
+        double maximoMs
+) {
+}
@@ -0,0 +1,26 @@
+package com.restaurantefiap.dto.response;
+
+import com.restaurantefiap.enums.ParticaoConcorrencia;
+
+/**
+ * Estado do limite adaptativo de concorrência de uma partição.
+ *
+ * @param particao                partição de rotas
+ * @param limite                  limite atual
+ * @param emUso                   requisições em andamento
+ * @param aceitas                 requisições aceitas desde a subida
+ * @param rejeicoes               requisições recusadas com 503 desde a subida
+ * @param reducoes                reduções do limite desde a subida
+ * @param latenciaReferenciaMs    latência mínima recente (sem fila)
+ * @author Danilo de Paula
+ */
+public record LimiteConcorrenciaDTO(
+        ParticaoConcorrencia particao,
+        int limite,
+        int emUso,
+        long aceitas,
+        long rejeicoes,
+        long reducoes,
+        double latenciaReferenciaMs
+) {
+}
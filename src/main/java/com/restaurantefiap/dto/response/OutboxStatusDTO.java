@@ -0,0 +1,32 @@
+package com.restaurantefiap.dto.response;
+
+import java.time.LocalDateTime;
+
+/**
+ * Métricas da outbox de eventos de usuários.
+ *
+ * @param no                         identificador deste nó
+ * @param pendentes                  eventos ainda não publicados (todos os nós)
+ * @param atrasoPendenteMaisAntigoMs idade do evento pendente mais antigo
+ * @param totalPublicados            eventos publicados por este nó desde a subida
+ * @param totalFalhas                lotes que falharam ao publicar desde a subida
+ * @param atrasoMaximoUltimoLoteMs   maior atraso (publicação − gravação) do último lote
+ * @param ultimaPublicacao           momento da última publicação deste nó
+ * @param recebidosRemotos           eventos de outros nós recebidos pelo broker
+ * @param atrasoUltimaEntregaRemotaMs atraso (recepção − ocorrência) do último evento remoto
+ * @param atrasoMaximoEntregaRemotaMs maior atraso de entrega remota observado
+ * @author Danilo de Paula
+ */
+public record OutboxStatusDTO(
+        String no,
+        long pendentes,
+        long atrasoPendenteMaisAntigoMs,
+        long totalPublicados,
+        long totalFalhas,
+        long atrasoMaximoUltimoLoteMs,
+        LocalDateTime ultimaPublicacao,
+        long recebidosRemotos,
+        long atrasoUltimaEntregaRemotaMs,
+        long atrasoMaximoEntregaRemotaMs
+) {
+}
@@ -0,0 +1,18 @@
+package com.restaurantefiap.dto.response;
+
+import java.util.List;
+
+/**
+ * Retrato das latências por rota e por etapa numa janela deslizante.
+ *
+ * @param janelaSegundos duração da janela consultada
+ * @param rotas          tempo total por rota (método e template), em ordem alfabética
+ * @param etapas         tempo de cada etapa por requisição, na ordem de {@code EtapaRequisicao}
+ * @author Danilo de Paula
+ */
+public record PerfilLatenciasDTO(
+        int janelaSegundos,
+        List<LatenciaDTO> rotas,
+        List<LatenciaDTO> etapas
+) {
+}
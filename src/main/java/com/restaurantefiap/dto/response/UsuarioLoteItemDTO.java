@@ -0,0 +1,35 @@
+package com.restaurantefiap.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.restaurantefiap.enums.StatusItemLote;
+
+/**
+ * Item da resposta de busca de usuários em lote.
+ *
+ * <p>Há exatamente um item por ID solicitado, na mesma ordem da requisição.
+ * O usuário só é preenchido quando o status é {@link StatusItemLote#ENCONTRADO}.</p>
+ *
+ * @param id      ID solicitado
+ * @param status  resultado da busca para o ID
+ * @param usuario dados do usuário (somente quando encontrado)
+ * @author Danilo de Paula
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record UsuarioLoteItemDTO(
+        Long id,
+        StatusItemLote status,
+        UsuarioResponseDTO usuario
+) {
+
+    public static UsuarioLoteItemDTO encontrado(UsuarioResponseDTO usuario) {
+        return new UsuarioLoteItemDTO(usuario.id(), StatusItemLote.ENCONTRADO, usuario);
+    }
+
+    public static UsuarioLoteItemDTO naoEncontrado(Long id) {
+        return new UsuarioLoteItemDTO(id, StatusItemLote.NAO_ENCONTRADO, null);
+    }
+
+    public static UsuarioLoteItemDTO acessoNegado(Long id) {
+        return new UsuarioLoteItemDTO(id, StatusItemLote.ACESSO_NEGADO, null);
+    }
+}
@@ -0,0 +1,37 @@
+package com.restaurantefiap.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonAnyGetter;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.Map;
+
+/**
+ * Representação parcial de um usuário, com apenas os campos pedidos em {@code fields=}.
+ *
+ * <p>Serializa somente o conteúdo de {@code campos}, na ordem em que foram inseridos;
+ * ID e versão são carregados sempre para montar o {@code ETag}, mas só aparecem
+ * no corpo se tiverem sido pedidos.</p>
+ *
+ * @param id     identificador do usuário (não serializado diretamente)
+ * @param versao versão do registro (não serializada: trafega no {@code ETag})
+ * @param campos campos pedidos, por nome no JSON
+ * @author Danilo de Paula
+ */
+@Schema(description = "Usuário com apenas os campos pedidos em fields=")
+public record UsuarioParcialDTO(
+        @JsonIgnore Long id,
+        @JsonIgnore Long versao,
+        @JsonIgnore Map<String, Object> campos
+) {
+
+    /**
+     * Expõe os campos pedidos como propriedades do objeto JSON.
+     *
+     * @return campos pedidos
+     */
+    @JsonAnyGetter
+    public Map<String, Object> propriedades() {
+        return campos;
+    }
+}
@@ -1,7 +1,9 @@
 package com.restaurantefiap.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.restaurantefiap.entities.endereco.DadosEndereco;
 import com.restaurantefiap.enums.Role;
+import io.swagger.v3.oas.annotations.media.Schema;
 
 import java.time.LocalDateTime;
 
@@ -18,6 +20,7 @@ import java.time.LocalDateTime;
  * @param criadoEm     Data e hora em que o registro foi criado.
  * @param atualizadoEm Data e hora da última modificação no cadastro.
  * @param endereco     Objeto contendo os detalhes geográficos do usuário.
+ * @param versao       Versão do registro (locking otimista). Não vai no corpo: trafega no {@code ETag}.
  * @author Juliana Olio
  * @author Danilo Fernando
  * @since 04/01/2026
@@ -31,6 +34,7 @@ public record UsuarioResponseDTO(
         Role role,
         LocalDateTime criadoEm,
         LocalDateTime atualizadoEm,
-        DadosEndereco endereco
+        DadosEndereco endereco,
+        @JsonIgnore @Schema(hidden = true) Long versao
 ) {
 }
\ No newline at end of file
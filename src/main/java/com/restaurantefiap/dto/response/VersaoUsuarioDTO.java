@@ -0,0 +1,14 @@
+package com.restaurantefiap.dto.response;
+
+/**
+ * Projeção mínima de um usuário para validação de cache (ETag): apenas ID e versão.
+ *
+ * @param id     identificador do usuário
+ * @param versao versão do registro (locking otimista)
+ * @author Danilo de Paula
+ */
+public record VersaoUsuarioDTO(
+        Long id,
+        Long versao
+) {
+}
@@ -1,8 +1,8 @@
 package com.restaurantefiap.entities.endereco;
 
-import com.restaurantefiap.validation.ValidationPatterns;
+import com.restaurantefiap.enums.FormatoValidacao;
+import com.restaurantefiap.validation.Formato;
 import jakarta.validation.constraints.NotBlank;
-import jakarta.validation.constraints.Pattern;
 
 /**
  * Representa os dados de endereço de um usuário ou estabelecimento.
@@ -26,14 +26,14 @@ public record DadosEndereco(
         String bairro,
 
         @NotBlank(message = "CEP é obrigatório")
-        @Pattern(regexp = ValidationPatterns.CEP, message = "CEP deve estar no formato 00000-000 ou 00000000")
+        @Formato(value = FormatoValidacao.CEP, message = "CEP deve estar no formato 00000-000 ou 00000000")
         String cep,
 
         @NotBlank(message = "Cidade é obrigatória")
         String cidade,
 
         @NotBlank(message = "UF é obrigatória")
-        @Pattern(regexp = ValidationPatterns.UF_BR, message = "UF deve ser uma sigla válida de estado brasileiro (ex: SP, RJ)")
+        @Formato(value = FormatoValidacao.UF_BR, message = "UF deve ser uma sigla válida de estado brasileiro (ex: SP, RJ)")
         String uf,
 
         @NotBlank(message = "Número é obrigatório")
@@ -0,0 +1,70 @@
+package com.restaurantefiap.entities.idempotencia;
+
+import com.restaurantefiap.enums.EstadoIdempotencia;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * Chave de idempotência gravada em {@code chaves_idempotencia}.
+ *
+ * <p>Criada por INSERT nativo na reserva (a PK garante um único dono entre os nós) e
+ * completada com a resposta quando a primeira execução termina.</p>
+ *
+ * @author Danilo de Paula
+ * @see com.restaurantefiap.idempotency.ArmazemIdempotenciaBanco
+ */
+@Entity
+@Table(name = "chaves_idempotencia",
+        indexes = @Index(name = "idx_chaves_idempotencia_expira_em", columnList = "expira_em"))
+@Getter
+@NoArgsConstructor
+@ToString(exclude = "corpo")
+public class ChaveIdempotencia {
+
+    @Id
+    @Column(length = 64)
+    private String id;
+
+    @Column(nullable = false, length = 64, updatable = false)
+    private String impressao;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private EstadoIdempotencia estado;
+
+    @Column(name = "status_http")
+    private Integer statusHttp;
+
+    @Column(name = "content_type", length = 100)
+    private String contentType;
+
+    @Column(length = 500)
+    private String location;
+
+    @Column(length = 100)
+    private String etag;
+
+    @Lob
+    private byte[] corpo;
+
+    @Column(name = "no_origem", nullable = false, length = 100, updatable = false)
+    private String noOrigem;
+
+    @Column(name = "criado_em", nullable = false, updatable = false)
+    private LocalDateTime criadoEm;
+
+    @Column(name = "expira_em", nullable = false)
+    private LocalDateTime expiraEm;
+}
@@ -0,0 +1,63 @@
+package com.restaurantefiap.entities.outbox;
+
+import com.restaurantefiap.enums.TipoEventoUsuario;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * Evento de alteração de usuário gravado na outbox transacional ({@code usuarios_outbox}).
+ *
+ * <p>Inserido na mesma transação da alteração: o evento existe se, e somente se,
+ * a alteração foi confirmada. A publicação é feita depois, pelo poller.</p>
+ *
+ * @author Danilo de Paula
+ * @see com.restaurantefiap.service.OutboxUsuariosService
+ */
+@Entity
+@Table(name = "usuarios_outbox",
+        indexes = @Index(name = "idx_usuarios_outbox_pendentes", columnList = "publicado_em, id"))
+@Getter
+@NoArgsConstructor
+@ToString
+public class EventoUsuarioOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "usuario_id", nullable = false, updatable = false)
+    private Long usuarioId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 30, updatable = false)
+    private TipoEventoUsuario tipo;
+
+    @Column(name = "no_origem", nullable = false, length = 100, updatable = false)
+    private String noOrigem;
+
+    @Column(name = "criado_em", nullable = false, updatable = false)
+    private LocalDateTime criadoEm;
+
+    @Column(name = "publicado_em")
+    private LocalDateTime publicadoEm;
+
+    public EventoUsuarioOutbox(Long usuarioId, TipoEventoUsuario tipo, String noOrigem, LocalDateTime criadoEm) {
+        this.usuarioId = usuarioId;
+        this.tipo = tipo;
+        this.noOrigem = noOrigem;
+        this.criadoEm = criadoEm;
+    }
+}
@@ -0,0 +1,41 @@
+package com.restaurantefiap.entities.usuario;
+
+import com.restaurantefiap.dto.response.UsuarioResponseDTO;
+import com.restaurantefiap.enums.Role;
+
+/**
+ * Cópia imutável de um {@link Usuario} lido do banco: os dados da resposta e o hash da senha.
+ *
+ * <p>É o que as leituras coalescidas compartilham entre threads e o que o {@link UserPrincipal}
+ * carrega — a entidade JPA pertence ao contexto de persistência de uma única transação e não
+ * deve sair dela.</p>
+ *
+ * <p><b>Observação:</b> Esta classe NÃO é entidade JPA.</p>
+ *
+ * @param dados dados do usuário, como na resposta da API
+ * @param senha hash da senha
+ * @author Danilo de Paula
+ */
+public record RetratoUsuario(UsuarioResponseDTO dados, String senha) {
+
+    public Long id() {
+        return dados.id();
+    }
+
+    public String login() {
+        return dados.login();
+    }
+
+    public Role role() {
+        return dados.role();
+    }
+
+    public Long versao() {
+        return dados.versao();
+    }
+
+    @Override
+    public String toString() {
+        return "RetratoUsuario[dados=" + dados + "]";
+    }
+}
@@ -1,5 +1,6 @@
 package com.restaurantefiap.entities.usuario;
 
+import com.restaurantefiap.mapper.UsuarioMapper;
 import lombok.Getter;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -12,7 +13,9 @@ import java.util.List;
  * Adapter que traduz a interface {@link UserDetails} (Spring Security)
  * para a entidade de domínio {@link Usuario}.
  *
- * <p>Mantém o domínio desacoplado do framework de segurança.</p>
+ * <p>Mantém o domínio desacoplado do framework de segurança. Guarda um {@link RetratoUsuario}
+ * imutável, e não a entidade: o principal é compartilhado entre requisições (leituras
+ * coalescidas, última credencial conhecida) e vive além da transação que leu o usuário.</p>
  *
  * <p><b>Padrão aplicado:</b> Adapter</p>
  *
@@ -33,28 +36,57 @@ public final class UserPrincipal implements UserDetails {
 
     /**
      * -- GETTER --
-     *  Retorna a entidade de domínio encapsulada.
+     *  Retorna o retrato do usuário encapsulado.
      *
      */
-    private final Usuario usuario;
+    private final RetratoUsuario usuario;
 
     /**
-     * Constrói o adapter a partir de um usuário do domínio.
+     * {@code true} quando o usuário veio da última credencial conhecida (banco indisponível),
+     * e não de uma leitura feita nesta requisição.
+     */
+    private final boolean desatualizado;
+
+    /**
+     * Constrói o adapter a partir do retrato de um usuário.
+     *
+     * @param usuario retrato do usuário
+     */
+    public UserPrincipal(RetratoUsuario usuario) {
+        this(usuario, false);
+    }
+
+    /**
+     * Constrói o adapter a partir de um usuário do domínio, copiando-o para um {@link RetratoUsuario}.
      *
      * @param usuario entidade de domínio
      */
     public UserPrincipal(Usuario usuario) {
+        this(UsuarioMapper.paraRetrato(usuario), false);
+    }
+
+    private UserPrincipal(RetratoUsuario usuario, boolean desatualizado) {
         this.usuario = usuario;
+        this.desatualizado = desatualizado;
+    }
+
+    /**
+     * Cópia marcada como desatualizada, para credenciais servidas sem consultar o banco.
+     *
+     * @return principal com o mesmo usuário e {@link #isDesatualizado()} verdadeiro
+     */
+    public UserPrincipal comoDesatualizado() {
+        return desatualizado ? this : new UserPrincipal(usuario, true);
     }
 
     @Override
     public String getUsername() {
-        return usuario.getLogin();
+        return usuario.login();
     }
 
     @Override
     public String getPassword() {
-        return usuario.getPassword();
+        return usuario.senha();
     }
 
     /**
@@ -64,7 +96,7 @@ public final class UserPrincipal implements UserDetails {
      */
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        return List.of(new SimpleGrantedAuthority("ROLE_" +usuario.getRole().name()));
+        return List.of(new SimpleGrantedAuthority("ROLE_" +usuario.role().name()));
     }
 
     @Override
@@ -1,11 +1,12 @@
 package com.restaurantefiap.entities.usuario;
 
 import com.restaurantefiap.entities.endereco.Endereco;
+import com.restaurantefiap.enums.FormatoValidacao;
 import com.restaurantefiap.enums.Role;
 import com.restaurantefiap.security.PasswordHasher;
 import com.restaurantefiap.security.PasswordPolicy;
 
-import com.restaurantefiap.validation.ValidationPatterns;
+import com.restaurantefiap.validation.Formato;
 import jakarta.persistence.Column;
 import jakarta.persistence.Embedded;
 import jakarta.persistence.Entity;
@@ -18,10 +19,10 @@ import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
+import jakarta.persistence.Version;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 
-import jakarta.validation.constraints.Pattern;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -30,6 +31,7 @@ import lombok.Setter;
 import lombok.ToString;
 
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.SQLDelete;
 import org.hibernate.annotations.SQLRestriction;
 import org.hibernate.annotations.UpdateTimestamp;
@@ -49,6 +51,10 @@ import java.time.LocalDateTime;
  *   <li>Normalizar campos antes da persistência</li>
  * </ul>
  *
+ * <p><b>Concorrência:</b> locking otimista via {@link Version} — escritas sobre uma versão
+ * já alterada por outra transação falham em vez de sobrescrevê-la. Com {@link DynamicUpdate}
+ * o {@code UPDATE} gerado contém apenas as colunas efetivamente alteradas.</p>
+ *
  * @author Thiago de Jesus
  * @author Danilo Fernando
  */
@@ -59,8 +65,9 @@ import java.time.LocalDateTime;
                 @UniqueConstraint(columnNames = "login")
         }
 )
-@SQLDelete(sql = "UPDATE usuarios SET deletado_em = NOW() WHERE id = ?")
+@SQLDelete(sql = "UPDATE usuarios SET deletado_em = NOW(), versao = versao + 1 WHERE id = ? AND versao = ?")
 @SQLRestriction("deletado_em IS NULL")
+@DynamicUpdate
 @Getter
 @Setter
 @NoArgsConstructor
@@ -88,7 +95,7 @@ public class Usuario {
 
     @NotBlank
     @Column(nullable = false, length = 30)
-    @Pattern(regexp = ValidationPatterns.TELEFONE_BR, message = "Telefone inválido (padrão BR)")
+    @Formato(value = FormatoValidacao.TELEFONE_BR, message = "Telefone inválido (padrão BR)")
     private String telefone;
 
     @Enumerated(EnumType.STRING)
@@ -109,6 +116,10 @@ public class Usuario {
     @Column(name = "deletado_em")
     private LocalDateTime deletadoEm;
 
+    @Version
+    @Column(nullable = false)
+    private Long versao;
+
     @Embedded
     private Endereco endereco;
 
@@ -0,0 +1,74 @@
+package com.restaurantefiap.entities.usuario;
+
+import com.restaurantefiap.entities.endereco.Endereco;
+import com.restaurantefiap.enums.Role;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embedded;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * Usuário excluído (soft delete) movido para a tabela fria {@code usuarios_arquivados}.
+ *
+ * <p>Cópia fiel da linha de {@code usuarios} no momento do arquivamento, mantendo o mesmo ID.
+ * Somente leitura pela aplicação: a escrita é feita em lote pelo job de arquivamento
+ * e a volta para a tabela principal pela restauração.</p>
+ *
+ * @author Danilo de Paula
+ * @see com.restaurantefiap.service.ArquivamentoUsuariosService
+ */
+@Entity
+@Table(name = "usuarios_arquivados")
+@Getter
+@NoArgsConstructor
+@ToString(exclude = "password")
+public class UsuarioArquivado {
+
+    @Id
+    private Long id;
+
+    @Column(nullable = false, length = 100)
+    private String login;
+
+    @Column(nullable = false, length = 255)
+    private String email;
+
+    @Column(nullable = false, length = 255)
+    private String nome;
+
+    @Column(nullable = false, length = 20)
+    private String telefone;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 30)
+    private Role role;
+
+    @Column(nullable = false, length = 255)
+    private String password;
+
+    private LocalDateTime criadoEm;
+
+    private LocalDateTime atualizadoEm;
+
+    @Column(name = "deletado_em", nullable = false)
+    private LocalDateTime deletadoEm;
+
+    @Column(name = "arquivado_em", nullable = false)
+    private LocalDateTime arquivadoEm;
+
+    /** Versão na exclusão; a restauração volta com a seguinte. */
+    @Column(nullable = false)
+    private Long versao;
+
+    @Embedded
+    private Endereco endereco;
+}
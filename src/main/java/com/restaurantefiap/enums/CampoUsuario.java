@@ -0,0 +1,85 @@
+package com.restaurantefiap.enums;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Campos de usuário que podem ser pedidos no parâmetro {@code fields=} (sparse fieldsets).
+ *
+ * <p>É a lista branca do parâmetro: cada constante corresponde a um componente visível de
+ * {@link com.restaurantefiap.dto.response.UsuarioResponseDTO} (mesmo nome no JSON) e ao
+ * atributo JPA de {@code Usuario} usado na consulta projetada. Campos fora desta lista
+ * — inclusive {@code password} e {@code deletadoEm} — são rejeitados.</p>
+ *
+ * @author Danilo de Paula
+ */
+public enum CampoUsuario {
+
+    ID("id"),
+    LOGIN("login"),
+    EMAIL("email"),
+    NOME("nome"),
+    TELEFONE("telefone"),
+    ROLE("role"),
+    CRIADO_EM("criadoEm"),
+    ATUALIZADO_EM("atualizadoEm"),
+    ENDERECO("endereco");
+
+    private final String nome;
+
+    CampoUsuario(String nome) {
+        this.nome = nome;
+    }
+
+    /**
+     * Nome do campo no JSON, igual ao atributo JPA correspondente.
+     *
+     * @return nome do campo
+     */
+    public String getNome() {
+        return nome;
+    }
+
+    /**
+     * Converte o valor do parâmetro {@code fields} (nomes separados por vírgula).
+     *
+     * <p>A ordem da resposta segue a ordem de {@code UsuarioResponseDTO}, não a do parâmetro.</p>
+     *
+     * @param fields valor do parâmetro, ex.: {@code id,nome,role}
+     * @return campos pedidos, em ordem de declaração
+     * @throws IllegalArgumentException se vazio ou se algum campo não estiver na lista branca
+     */
+    public static Set<CampoUsuario> deParametro(String fields) {
+        if (fields == null || fields.isBlank()) {
+            throw new IllegalArgumentException("O parâmetro fields não pode ser vazio.");
+        }
+
+        EnumSet<CampoUsuario> campos = EnumSet.noneOf(CampoUsuario.class);
+        for (String valor : fields.split(",")) {
+            String nome = valor.trim();
+            if (!nome.isEmpty()) {
+                campos.add(porNome(nome));
+            }
+        }
+
+        if (campos.isEmpty()) {
+            throw new IllegalArgumentException("O parâmetro fields não pode ser vazio.");
+        }
+        return campos;
+    }
+
+    private static CampoUsuario porNome(String nome) {
+        for (CampoUsuario campo : values()) {
+            if (campo.nome.equalsIgnoreCase(nome)) {
+                return campo;
+            }
+        }
+        throw new IllegalArgumentException(String.format(
+                "Campo inválido em fields: '%s'. Permitidos: %s.",
+                nome.toLowerCase(Locale.ROOT),
+                Arrays.stream(values()).map(CampoUsuario::getNome).collect(Collectors.joining(", "))));
+    }
+}
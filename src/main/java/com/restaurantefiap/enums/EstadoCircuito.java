@@ -0,0 +1,18 @@
+package com.restaurantefiap.enums;
+
+/**
+ * Estado de um {@link com.restaurantefiap.resilience.CircuitBreaker}.
+ *
+ * @author Danilo de Paula
+ */
+public enum EstadoCircuito {
+
+    /** Chamadas passam normalmente; falhas consecutivas são contadas. */
+    FECHADO,
+
+    /** Chamadas são recusadas sem tentar até o fim do tempo aberto. */
+    ABERTO,
+
+    /** Uma única chamada de teste passa; o resultado dela fecha ou reabre o circuito. */
+    MEIO_ABERTO
+}
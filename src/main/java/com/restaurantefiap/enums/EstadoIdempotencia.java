@@ -0,0 +1,15 @@
+package com.restaurantefiap.enums;
+
+/**
+ * Estado de uma chave de idempotência ({@code Idempotency-Key}).
+ *
+ * @author Danilo de Paula
+ */
+public enum EstadoIdempotencia {
+
+    /** Reservada: a primeira execução ainda não terminou. */
+    EM_ANDAMENTO,
+
+    /** Concluída: a resposta está gravada e é devolvida nas repetições. */
+    CONCLUIDA
+}
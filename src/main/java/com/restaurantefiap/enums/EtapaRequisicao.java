@@ -0,0 +1,22 @@
+package com.restaurantefiap.enums;
+
+/**
+ * Etapa do processamento de uma requisição, usada no perfil de latências ({@code /internal/perf}).
+ *
+ * <p>As etapas não se sobrepõem: o tempo de uma requisição é a soma delas.</p>
+ *
+ * @author Danilo de Paula
+ */
+public enum EtapaRequisicao {
+
+    /** Filtros (limite de concorrência, Spring Security, JWT) antes e depois do {@code DispatcherServlet}. */
+    FILTRO,
+    /** Regras do {@code AutorizacaoService} avaliadas nos {@code @PreAuthorize}. */
+    AUTORIZACAO,
+    /** {@code DispatcherServlet}, controller e services, descontadas as demais etapas. */
+    SERVICO,
+    /** Chamadas aos repositórios Spring Data. */
+    REPOSITORIO,
+    /** Serialização do corpo da resposta em JSON. */
+    SERIALIZACAO
+}
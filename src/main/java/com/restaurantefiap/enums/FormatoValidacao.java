@@ -0,0 +1,52 @@
+package com.restaurantefiap.enums;
+
+import com.restaurantefiap.validation.Formatos;
+import com.restaurantefiap.validation.ValidationPatterns;
+
+import java.util.function.Predicate;
+
+/**
+ * Formatos validados por {@link com.restaurantefiap.validation.Formato}.
+ *
+ * <p>Cada constante liga o validador escrito à mão ({@link Formatos}) à regex de
+ * {@link ValidationPatterns} que ele substitui — a regex continua sendo a especificação,
+ * usada no teste diferencial.</p>
+ *
+ * @author Danilo de Paula
+ */
+public enum FormatoValidacao {
+
+    TELEFONE_BR(ValidationPatterns.TELEFONE_BR, Formatos::telefone),
+    CEP(ValidationPatterns.CEP, Formatos::cep),
+    UF_BR(ValidationPatterns.UF_BR, Formatos::uf),
+    NOME_PROPRIO(ValidationPatterns.NOME_PROPRIO, Formatos::nomeProprio),
+    LOGIN_USUARIO(ValidationPatterns.LOGIN_USUARIO, Formatos::login),
+    SENHA_FORTE(ValidationPatterns.SENHA_FORTE, Formatos::senhaForte);
+
+    private final String regex;
+    private final Predicate<CharSequence> validador;
+
+    FormatoValidacao(String regex, Predicate<CharSequence> validador) {
+        this.regex = regex;
+        this.validador = validador;
+    }
+
+    /**
+     * Regex equivalente (especificação do formato).
+     *
+     * @return regex de {@link ValidationPatterns}
+     */
+    public String getRegex() {
+        return regex;
+    }
+
+    /**
+     * Verifica o valor sem regex.
+     *
+     * @param valor valor não nulo
+     * @return {@code true} se o valor está no formato
+     */
+    public boolean aceita(CharSequence valor) {
+        return validador.test(valor);
+    }
+}
@@ -0,0 +1,31 @@
+package com.restaurantefiap.enums;
+
+/**
+ * Tipo de comando SQL, usado como tag de baixa cardinalidade nas métricas de SQL.
+ *
+ * @author Danilo de Paula
+ */
+public enum OperacaoSql {
+
+    SELECT,
+    INSERT,
+    UPDATE,
+    DELETE,
+    OUTRA;
+
+    /**
+     * Classifica o comando pela primeira palavra.
+     *
+     * @param sql comando (normalizado ou não)
+     * @return operação correspondente, ou {@link #OUTRA}
+     */
+    public static OperacaoSql de(String sql) {
+        String inicio = sql.stripLeading();
+        for (OperacaoSql operacao : values()) {
+            if (operacao != OUTRA && inicio.regionMatches(true, 0, operacao.name(), 0, operacao.name().length())) {
+                return operacao;
+            }
+        }
+        return OUTRA;
+    }
+}
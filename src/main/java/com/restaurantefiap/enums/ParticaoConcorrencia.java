@@ -0,0 +1,44 @@
+package com.restaurantefiap.enums;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * Partições do limite adaptativo de concorrência — cada uma com limite próprio, para
+ * que uma rota degradada (ex.: escrita com o banco lento) não derrube as outras.
+ *
+ * @author Danilo de Paula
+ */
+public enum ParticaoConcorrencia {
+
+    /** {@code /v1/auth/**} — login, dominado pelo custo do BCrypt. */
+    AUTH,
+
+    /** {@code GET}, {@code HEAD}, {@code OPTIONS} e a busca em lote ({@code POST /v1/usuarios/lote}). */
+    LEITURA,
+
+    /** Demais métodos ({@code POST}, {@code PUT}, {@code PATCH}, {@code DELETE}). */
+    ESCRITA;
+
+    /** {@code POST} só de leitura: o corpo leva a lista de IDs, que não caberia na URL. */
+    private static final String BUSCA_LOTE = "/v1/usuarios/lote";
+
+    /**
+     * Classifica a requisição.
+     *
+     * @param request requisição HTTP
+     * @return partição da requisição
+     */
+    public static ParticaoConcorrencia de(HttpServletRequest request) {
+        if (request.getRequestURI().startsWith(request.getContextPath() + "/v1/auth/")) {
+            return AUTH;
+        }
+        if ("POST".equals(request.getMethod())
+                && request.getRequestURI().equals(request.getContextPath() + BUSCA_LOTE)) {
+            return LEITURA;
+        }
+        return switch (request.getMethod()) {
+            case "GET", "HEAD", "OPTIONS" -> LEITURA;
+            default -> ESCRITA;
+        };
+    }
+}
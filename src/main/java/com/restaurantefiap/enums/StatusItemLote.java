@@ -0,0 +1,18 @@
+package com.restaurantefiap.enums;
+
+/**
+ * Resultado de cada ID em uma busca de usuários em lote.
+ *
+ * @author Danilo de Paula
+ */
+public enum StatusItemLote {
+
+    /** Usuário ativo encontrado e acessível. */
+    ENCONTRADO,
+
+    /** Não existe usuário ativo com o ID. */
+    NAO_ENCONTRADO,
+
+    /** O solicitante não tem permissão para ver este usuário. */
+    ACESSO_NEGADO
+}
@@ -0,0 +1,21 @@
+package com.restaurantefiap.enums;
+
+/**
+ * Tipo de alteração registrada na outbox de usuários.
+ *
+ * @author Danilo de Paula
+ */
+public enum TipoEventoUsuario {
+
+    /** Dados de perfil alterados. */
+    ATUALIZADO,
+
+    /** Senha alterada — sessões e principals em cache devem ser descartados. */
+    SENHA_ALTERADA,
+
+    /** Usuário excluído (soft delete). */
+    EXCLUIDO,
+
+    /** Usuário arquivado restaurado para a tabela principal — a versão volta a zero. */
+    RESTAURADO
+}
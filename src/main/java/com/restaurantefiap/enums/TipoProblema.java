@@ -0,0 +1,80 @@
+package com.restaurantefiap.enums;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+
+import java.net.URI;
+import java.time.Instant;
+
+/**
+ * Tipos de erro da API (RFC 7807): status, título e URI do {@code type} de cada um.
+ *
+ * <p>Status, título e URI são montados uma única vez; cada resposta só cria o
+ * {@link ProblemDetail} (mutável) e preenche o detalhe e o {@code timestamp}.</p>
+ *
+ * @author Danilo de Paula
+ */
+public enum TipoProblema {
+
+    VALIDATION_ERROR(HttpStatus.BAD_REQUEST, "Validation Error", "validation-error"),
+    AUTHENTICATION_FAILED(HttpStatus.UNAUTHORIZED, "Authentication Failed", "authentication-failed"),
+    TOKEN_EXPIRED(HttpStatus.UNAUTHORIZED, "Token Expired", "token-expired"),
+    INVALID_TOKEN(HttpStatus.UNAUTHORIZED, "Invalid Token", "invalid-token"),
+    INVALID_SIGNATURE(HttpStatus.UNAUTHORIZED, "Invalid Token Signature", "invalid-signature"),
+    BUSINESS_RULE_VIOLATION(HttpStatus.BAD_REQUEST, "Business Rule Violation", "business-rule-violation"),
+    ILLEGAL_STATE(HttpStatus.CONFLICT, "Illegal State", "illegal-state"),
+    DATA_INTEGRITY_VIOLATION(HttpStatus.CONFLICT, "Data Integrity Violation", "data-integrity-violation"),
+    INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "Internal Server Error", "internal-server-error"),
+    RESOURCE_NOT_FOUND(HttpStatus.NOT_FOUND, "Resource Not Found", "resource-not-found"),
+    DUPLICATE_RESOURCE(HttpStatus.CONFLICT, "Duplicate Resource", "duplicate-resource"),
+    INVALID_PASSWORD(HttpStatus.BAD_REQUEST, "Invalid Password", "invalid-password"),
+    BUSINESS_RULE(HttpStatus.UNPROCESSABLE_ENTITY, "Business Rule Violation", "business-rule"),
+    PRECONDITION_FAILED(HttpStatus.PRECONDITION_FAILED, "Precondition Failed", "precondition-failed"),
+    CONCURRENT_MODIFICATION(HttpStatus.CONFLICT, "Concurrent Modification", "concurrent-modification"),
+    SERVICE_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "Service Unavailable", "service-unavailable"),
+    ACCESS_DENIED(HttpStatus.FORBIDDEN, "Access Denied", "access-denied"),
+    INVALID_IDEMPOTENCY_KEY(HttpStatus.BAD_REQUEST, "Invalid Idempotency Key", "invalid-idempotency-key"),
+    IDEMPOTENCY_KEY_REUSED(HttpStatus.UNPROCESSABLE_ENTITY, "Idempotency Key Reused", "idempotency-key-reused"),
+    IDEMPOTENCY_REQUEST_IN_PROGRESS(HttpStatus.CONFLICT, "Idempotent Request In Progress",
+            "idempotency-request-in-progress"),
+    IDEMPOTENT_REQUEST_TOO_LARGE(HttpStatus.PAYLOAD_TOO_LARGE, "Idempotent Request Too Large",
+            "idempotent-request-too-large");
+
+    private static final String BASE_URI = "https://api.restaurante.com/errors/";
+
+    private final HttpStatus status;
+    private final String titulo;
+    private final URI tipo;
+
+    TipoProblema(HttpStatus status, String titulo, String caminho) {
+        this.status = status;
+        this.titulo = titulo;
+        this.tipo = URI.create(BASE_URI + caminho);
+    }
+
+    public HttpStatus getStatus() {
+        return status;
+    }
+
+    public String getTitulo() {
+        return titulo;
+    }
+
+    public URI getTipo() {
+        return tipo;
+    }
+
+    /**
+     * Cria o corpo da resposta de erro.
+     *
+     * @param detalhe mensagem para o cliente
+     * @return novo {@link ProblemDetail} com status, título, tipo, detalhe e {@code timestamp}
+     */
+    public ProblemDetail criar(String detalhe) {
+        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(status, detalhe);
+        problemDetail.setTitle(titulo);
+        problemDetail.setType(tipo);
+        problemDetail.setProperty("timestamp", Instant.now());
+        return problemDetail;
+    }
+}
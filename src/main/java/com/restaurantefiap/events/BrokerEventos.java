@@ -0,0 +1,29 @@
+package com.restaurantefiap.events;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Porta para o broker de mensagens que distribui eventos de usuário entre os nós.
+ *
+ * <p>Um adaptador de broker real (Kafka, RabbitMQ, Redis pub/sub...) implementa esta
+ * interface e é registrado como bean; sem nenhum, é usado {@link BrokerEventosEmMemoria}.</p>
+ *
+ * @author Danilo de Paula
+ */
+public interface BrokerEventos {
+
+    /**
+     * Envia um lote para todos os nós assinantes (inclusive o próprio).
+     *
+     * @param lote eventos a enviar
+     */
+    void enviar(List<UsuarioAlteradoEvento> lote);
+
+    /**
+     * Registra um consumidor dos lotes recebidos.
+     *
+     * @param consumidor callback chamado a cada lote
+     */
+    void assinar(Consumer<List<UsuarioAlteradoEvento>> consumidor);
+}
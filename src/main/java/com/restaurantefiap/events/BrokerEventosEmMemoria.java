@@ -0,0 +1,31 @@
+package com.restaurantefiap.events;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * {@link BrokerEventos} em memória: entrega síncrona para os assinantes da mesma JVM.
+ *
+ * <p>Substituto para testes e para execução com um único nó. Em produção com vários
+ * nós, registre um adaptador para o broker real.</p>
+ *
+ * @author Danilo de Paula
+ */
+public class BrokerEventosEmMemoria implements BrokerEventos {
+
+    private final List<Consumer<List<UsuarioAlteradoEvento>>> assinantes = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void enviar(List<UsuarioAlteradoEvento> lote) {
+        List<UsuarioAlteradoEvento> copia = List.copyOf(lote);
+        for (Consumer<List<UsuarioAlteradoEvento>> assinante : assinantes) {
+            assinante.accept(copia);
+        }
+    }
+
+    @Override
+    public void assinar(Consumer<List<UsuarioAlteradoEvento>> consumidor) {
+        assinantes.add(consumidor);
+    }
+}
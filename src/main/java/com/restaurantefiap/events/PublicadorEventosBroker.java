@@ -0,0 +1,77 @@
+package com.restaurantefiap.events;
+
+import com.restaurantefiap.config.NoAplicacao;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Adaptador entre a outbox e o {@link BrokerEventos}.
+ *
+ * <p>Envia cada lote ao broker e, na outra ponta, republica no barramento local os
+ * eventos recebidos de <b>outros</b> nós. Eventos do próprio nó são descartados na
+ * recepção: já foram entregues localmente por {@link PublicadorEventosLocal}.</p>
+ *
+ * <p>Mede o atraso de entrega (recepção − ocorrência) dos eventos remotos.</p>
+ *
+ * @author Danilo de Paula
+ */
+@Component
+public class PublicadorEventosBroker implements PublicadorEventosUsuario {
+
+    private final BrokerEventos broker;
+    private final NoAplicacao no;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // ---- Métricas de recepção ----
+    private final AtomicLong recebidosRemotos = new AtomicLong();
+    private final AtomicLong atrasoUltimaEntregaMs = new AtomicLong();
+    private final AtomicLong atrasoMaximoEntregaMs = new AtomicLong();
+
+    public PublicadorEventosBroker(BrokerEventos broker, NoAplicacao no, ApplicationEventPublisher eventPublisher) {
+        this.broker = broker;
+        this.no = no;
+        this.eventPublisher = eventPublisher;
+        broker.assinar(this::receber);
+    }
+
+    @Override
+    public void publicar(List<UsuarioAlteradoEvento> lote) {
+        broker.enviar(lote);
+    }
+
+    // ========== Métricas ==========
+
+    public long getRecebidosRemotos() {
+        return recebidosRemotos.get();
+    }
+
+    public long getAtrasoUltimaEntregaMs() {
+        return atrasoUltimaEntregaMs.get();
+    }
+
+    public long getAtrasoMaximoEntregaMs() {
+        return atrasoMaximoEntregaMs.get();
+    }
+
+    // ========== Métodos Auxiliares ==========
+
+    private void receber(List<UsuarioAlteradoEvento> lote) {
+        LocalDateTime agora = LocalDateTime.now();
+        for (UsuarioAlteradoEvento evento : lote) {
+            if (no.getId().equals(evento.noOrigem())) {
+                continue;
+            }
+            long atrasoMs = Math.max(0, Duration.between(evento.ocorridoEm(), agora).toMillis());
+            atrasoUltimaEntregaMs.set(atrasoMs);
+            atrasoMaximoEntregaMs.accumulateAndGet(atrasoMs, Math::max);
+            recebidosRemotos.incrementAndGet();
+            eventPublisher.publishEvent(evento);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.restaurantefiap.events;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Publica os eventos da outbox no barramento local ({@link ApplicationEventPublisher}).
+ *
+ * <p>Entrega para os listeners deste nó. Os demais nós recebem pelo broker
+ * ({@link PublicadorEventosBroker}).</p>
+ *
+ * @author Danilo de Paula
+ */
+@Component
+public class PublicadorEventosLocal implements PublicadorEventosUsuario {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    public PublicadorEventosLocal(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Override
+    public void publicar(List<UsuarioAlteradoEvento> lote) {
+        lote.forEach(eventPublisher::publishEvent);
+    }
+}
@@ -0,0 +1,21 @@
+package com.restaurantefiap.events;
+
+import java.util.List;
+
+/**
+ * Destino dos eventos publicados pelo poller da outbox de usuários.
+ *
+ * <p>Todas as implementações registradas como bean recebem cada lote. Uma exceção
+ * faz o lote inteiro ser reenviado no próximo ciclo.</p>
+ *
+ * @author Danilo de Paula
+ */
+public interface PublicadorEventosUsuario {
+
+    /**
+     * Publica um lote de eventos, na ordem de gravação.
+     *
+     * @param lote eventos a publicar
+     */
+    void publicar(List<UsuarioAlteradoEvento> lote);
+}
@@ -0,0 +1,29 @@
+package com.restaurantefiap.events;
+
+import com.restaurantefiap.enums.TipoEventoUsuario;
+
+import java.time.LocalDateTime;
+
+/**
+ * Evento publicado quando um usuário é alterado, excluído, restaurado ou troca a senha.
+ *
+ * <p>Entregue no barramento local ({@code ApplicationEventPublisher}) de todos os nós:
+ * quem mantém cache de usuários ou principals escuta com {@code @EventListener}
+ * e invalida a entrada do {@code usuarioId}. A entrega é "ao menos uma vez" —
+ * o tratamento deve ser idempotente.</p>
+ *
+ * @param eventoId   ID do evento na outbox
+ * @param usuarioId  ID do usuário alterado
+ * @param tipo       tipo da alteração
+ * @param noOrigem   nó que gravou o evento
+ * @param ocorridoEm momento da alteração (base do atraso de entrega)
+ * @author Danilo de Paula
+ */
+public record UsuarioAlteradoEvento(
+        Long eventoId,
+        Long usuarioId,
+        TipoEventoUsuario tipo,
+        String noOrigem,
+        LocalDateTime ocorridoEm
+) {
+}
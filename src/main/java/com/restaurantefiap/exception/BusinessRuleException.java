@@ -1,6 +1,6 @@
 package com.restaurantefiap.exception;
 
-public class BusinessRuleException extends RuntimeException{
+public class BusinessRuleException extends ExcecaoEsperada {
 
     public BusinessRuleException(String message) {
         super(message);
@@ -1,6 +1,6 @@
 package com.restaurantefiap.exception;
 
-public class DuplicateResourceException extends RuntimeException{
+public class DuplicateResourceException extends ExcecaoEsperada {
     public DuplicateResourceException(String message) {
         super(message);
     }
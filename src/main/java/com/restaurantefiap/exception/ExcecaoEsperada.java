@@ -0,0 +1,37 @@
+package com.restaurantefiap.exception;
+
+/**
+ * Base das exceções lançadas em fluxos normais da API (404, 409, 412, 400...).
+ *
+ * <p>Essas exceções viram um {@code ProblemDetail} no {@link GlobalExceptionHandler} e
+ * nunca são impressas com stack trace — capturá-lo é a parte cara do {@code throw}
+ * (percorre a pilha inteira), e uma varredura de IDs inexistentes dispara milhares delas.
+ * Por isso a captura fica desligada; para depuração, {@code app.excecoes.rastro-completo=true}
+ * (ou a propriedade de sistema de mesmo nome) religa.</p>
+ *
+ * @author Danilo de Paula
+ */
+public abstract class ExcecaoEsperada extends RuntimeException {
+
+    private static volatile boolean rastroCompleto = Boolean.getBoolean("app.excecoes.rastro-completo");
+
+    protected ExcecaoEsperada(String message) {
+        super(message);
+    }
+
+    /**
+     * Captura o stack trace somente com {@code app.excecoes.rastro-completo} ligado.
+     */
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return rastroCompleto ? super.fillInStackTrace() : this;
+    }
+
+    public static boolean isRastroCompleto() {
+        return rastroCompleto;
+    }
+
+    public static void setRastroCompleto(boolean habilitado) {
+        rastroCompleto = habilitado;
+    }
+}
@@ -1,9 +1,16 @@
 package com.restaurantefiap.exception;
 
+import com.restaurantefiap.enums.TipoProblema;
+import com.restaurantefiap.observability.FiltroCorrelacao;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.MalformedJwtException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
@@ -16,9 +23,7 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.context.request.WebRequest;
 
-import java.net.URI;
 import java.security.SignatureException;
-import java.time.Instant;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -35,14 +40,8 @@ public class GlobalExceptionHandler {
             MethodArgumentNotValidException exception,
             WebRequest request) {
 
-        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(
-                HttpStatus.BAD_REQUEST,
-                "Erro de validação. Verifique os campos informados."
-        );
-
-        problemDetail.setTitle("Validation Error");
-        problemDetail.setType(URI.create("https://api.restaurante.com/errors/validation-error"));
-        problemDetail.setProperty("timestamp", Instant.now());
+        ProblemDetail problemDetail = TipoProblema.VALIDATION_ERROR.criar(
+                "Erro de validação. Verifique os campos informados.");
 
         Map<String, String> errors = new HashMap<>();
         exception.getBindingResult().getAllErrors().forEach(error -> {
@@ -62,14 +61,7 @@ public class GlobalExceptionHandler {
             BadCredentialsException exception,
             WebRequest request) {
 
-        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(
-                HttpStatus.UNAUTHORIZED,
-                "Login ou senha inválidos."
-        );
-
-        problemDetail.setTitle("Authentication Failed");
-        problemDetail.setType(URI.create("https://api.restaurante.com/errors/authentication-failed"));
-        problemDetail.setProperty("timestamp", Instant.now());
+        ProblemDetail problemDetail = TipoProblema.AUTHENTICATION_FAILED.criar("Login ou senha inválidos.");
 
         return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(problemDetail);
     }
@@ -82,14 +74,8 @@ public class GlobalExceptionHandler {
             ExpiredJwtException exception,
             WebRequest request) {
 
-        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(
-                HttpStatus.UNAUTHORIZED,
-                "Token JWT expirado. Faça login novamente."
-        );
-
-        problemDetail.setTitle("Token Expired");
-        problemDetail.setType(URI.create("https://api.restaurante.com/errors/token-expired"));
-        problemDetail.setProperty("timestamp", Instant.now());
+        ProblemDetail problemDetail = TipoProblema.TOKEN_EXPIRED.criar(
+                "Token JWT expirado. Faça login novamente.");
 
         return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(problemDetail);
     }
@@ -102,14 +88,7 @@ public class GlobalExceptionHandler {
             MalformedJwtException exception,
             WebRequest request) {
 
-        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(
-                HttpStatus.UNAUTHORIZED,
-                "Token JWT inválido ou malformado."
-        );
-
-        problemDetail.setTitle("Invalid Token");
-        problemDetail.setType(URI.create("https://api.restaurante.com/errors/invalid-token"));
-        problemDetail.setProperty("timestamp", Instant.now());
+        ProblemDetail problemDetail = TipoProblema.INVALID_TOKEN.criar("Token JWT inválido ou malformado.");
 
         return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(problemDetail);
     }
@@ -121,14 +100,8 @@ public class GlobalExceptionHandler {
             SignatureException exception,
             WebRequest request) {
 
-        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(
-                HttpStatus.UNAUTHORIZED,
-                "Assinatura do token JWT inválida."
-        );
-
-        problemDetail.setTitle("Invalid Token Signature");
-        problemDetail.setType(URI.create("https://api.restaurante.com/errors/invalid-signature"));
-        problemDetail.setProperty("timestamp", Instant.now());
+        ProblemDetail problemDetail = TipoProblema.INVALID_SIGNATURE.criar(
+                "Assinatura do token JWT inválida.");
 
         return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(problemDetail);
     }
@@ -141,14 +114,7 @@ public class GlobalExceptionHandler {
             IllegalArgumentException ex,
             WebRequest request) {
 
-        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(
-                HttpStatus.BAD_REQUEST,
-                ex.getMessage()
-        );
-
-        problemDetail.setTitle("Business Rule Violation");
-        problemDetail.setType(URI.create("https://api.restaurante.com/errors/business-rule-violation"));
-        problemDetail.setProperty("timestamp", Instant.now());
+        ProblemDetail problemDetail = TipoProblema.BUSINESS_RULE_VIOLATION.criar(ex.getMessage());
 
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(problemDetail);
     }
@@ -161,14 +127,7 @@ public class GlobalExceptionHandler {
             IllegalStateException ex,
             WebRequest request) {
 
-        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(
-                HttpStatus.CONFLICT,
-                ex.getMessage()
-        );
-
-        problemDetail.setTitle("Illegal State");
-        problemDetail.setType(URI.create("https://api.restaurante.com/errors/illegal-state"));
-        problemDetail.setProperty("timestamp", Instant.now());
+        ProblemDetail problemDetail = TipoProblema.ILLEGAL_STATE.criar(ex.getMessage());
 
         return ResponseEntity.status(HttpStatus.CONFLICT).body(problemDetail);
     }
@@ -187,14 +146,7 @@ public class GlobalExceptionHandler {
             detail = "Email já está cadastrado no sistema.";
         }
 
-        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(
-                HttpStatus.CONFLICT,
-                detail
-        );
-
-        problemDetail.setTitle("Data Integrity Violation");
-        problemDetail.setType(URI.create("https://api.restaurante.com/errors/data-integrity-violation"));
-        problemDetail.setProperty("timestamp", Instant.now());
+        ProblemDetail problemDetail = TipoProblema.DATA_INTEGRITY_VIOLATION.criar(detail);
 
         return ResponseEntity.status(HttpStatus.CONFLICT).body(problemDetail);
     }
@@ -207,17 +159,17 @@ public class GlobalExceptionHandler {
             Exception exception,
             WebRequest request) {
 
-        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(
-                HttpStatus.INTERNAL_SERVER_ERROR,
-                "Ocorreu um erro interno no servidor. Tente novamente mais tarde."
-        );
-
-        problemDetail.setTitle("Internal Server Error");
-        problemDetail.setType(URI.create("https://api.restaurante.com/errors/internal-server-error"));
-        problemDetail.setProperty("timestamp", Instant.now());
+        ProblemDetail problemDetail = TipoProblema.INTERNAL_SERVER_ERROR.criar(
+                "Ocorreu um erro interno no servidor. Tente novamente mais tarde.");
 
         log.error("Erro interno não tratado. request={}", request.getDescription(false), exception);
 
+        // Para o cliente informar ao suporte e achar a requisição nos logs
+        String correlacao = MDC.get(FiltroCorrelacao.CHAVE_MDC);
+        if (correlacao != null) {
+            problemDetail.setProperty("correlationId", correlacao);
+        }
+
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(problemDetail);
     }
 
@@ -226,14 +178,7 @@ public class GlobalExceptionHandler {
             ResourceNotFoundException ex,
             WebRequest request) {
 
-        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(
-                HttpStatus.NOT_FOUND,
-                ex.getMessage()
-        );
-
-        problemDetail.setTitle("Resource Not Found");
-        problemDetail.setType(URI.create("https://api.restaurante.com/errors/resource-not-found"));
-        problemDetail.setProperty("timestamp", Instant.now());
+        ProblemDetail problemDetail = TipoProblema.RESOURCE_NOT_FOUND.criar(ex.getMessage());
 
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(problemDetail);
     }
@@ -243,14 +188,7 @@ public class GlobalExceptionHandler {
             DuplicateResourceException ex,
             WebRequest request) {
 
-        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(
-                HttpStatus.CONFLICT,
-                ex.getMessage()
-        );
-
-        problemDetail.setTitle("Duplicate Resource");
-        problemDetail.setType(URI.create("https://api.restaurante.com/errors/duplicate-resource"));
-        problemDetail.setProperty("timestamp", Instant.now());
+        ProblemDetail problemDetail = TipoProblema.DUPLICATE_RESOURCE.criar(ex.getMessage());
 
         return ResponseEntity.status(HttpStatus.CONFLICT).body(problemDetail);
     }
@@ -260,14 +198,7 @@ public class GlobalExceptionHandler {
             InvalidPasswordException ex,
             WebRequest request) {
 
-        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(
-                HttpStatus.BAD_REQUEST,
-                ex.getMessage()
-        );
-
-        problemDetail.setTitle("Invalid Password");
-        problemDetail.setType(URI.create("https://api.restaurante.com/errors/invalid-password"));
-        problemDetail.setProperty("timestamp", Instant.now());
+        ProblemDetail problemDetail = TipoProblema.INVALID_PASSWORD.criar(ex.getMessage());
 
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(problemDetail);
     }
@@ -277,18 +208,69 @@ public class GlobalExceptionHandler {
             BusinessRuleException ex,
             WebRequest request) {
 
-        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(
-                HttpStatus.UNPROCESSABLE_ENTITY,
-                ex.getMessage()
-        );
-
-        problemDetail.setTitle("Business Rule Violation");
-        problemDetail.setType(URI.create("https://api.restaurante.com/errors/business-rule"));
-        problemDetail.setProperty("timestamp", Instant.now());
+        ProblemDetail problemDetail = TipoProblema.BUSINESS_RULE.criar(ex.getMessage());
 
         return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).body(problemDetail);
     }
 
+    /**
+     * Trata escrita condicional cuja versão não confere (412 Precondition Failed)
+     */
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ResponseEntity<ProblemDetail> handlePreconditionFailed(
+            PreconditionFailedException ex,
+            WebRequest request) {
+
+        ProblemDetail problemDetail = TipoProblema.PRECONDITION_FAILED.criar(ex.getMessage());
+
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body(problemDetail);
+    }
+
+    /**
+     * Trata atualização concorrente detectada pelo locking otimista (409 Conflict)
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ProblemDetail> handleOptimisticLocking(
+            OptimisticLockingFailureException ex,
+            WebRequest request) {
+
+        ProblemDetail problemDetail = TipoProblema.CONCURRENT_MODIFICATION.criar(
+                "O registro foi alterado por outra requisição. Recarregue e tente novamente.");
+
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(problemDetail);
+    }
+
+    /**
+     * Trata consulta que excedeu o tempo de espera (503 Service Unavailable)
+     */
+    @ExceptionHandler(QueryTimeoutException.class)
+    public ResponseEntity<ProblemDetail> handleQueryTimeout(
+            QueryTimeoutException ex,
+            WebRequest request) {
+
+        ProblemDetail problemDetail = TipoProblema.SERVICE_UNAVAILABLE.criar(
+                "O serviço está sobrecarregado. Tente novamente em instantes.");
+
+        log.warn("Timeout de consulta. request={} motivo={}", request.getDescription(false), ex.getMessage());
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(problemDetail);
+    }
+
+    /**
+     * Trata dependência indisponível com circuito aberto (503 Service Unavailable)
+     */
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<ProblemDetail> handleServiceUnavailable(
+            ServiceUnavailableException ex,
+            WebRequest request) {
+
+        ProblemDetail problemDetail = TipoProblema.SERVICE_UNAVAILABLE.criar(ex.getMessage());
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSegundos()))
+                .body(problemDetail);
+    }
+
     /**
      * Trata acesso negado (403 Forbidden)
      */
@@ -297,14 +279,8 @@ public class GlobalExceptionHandler {
             AccessDeniedException ex,
             WebRequest request) {
 
-        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(
-                HttpStatus.FORBIDDEN,
-                "Você não tem permissão para acessar este recurso."
-        );
-
-        problemDetail.setTitle("Access Denied");
-        problemDetail.setType(URI.create("https://api.restaurante.com/errors/access-denied"));
-        problemDetail.setProperty("timestamp", Instant.now());
+        ProblemDetail problemDetail = TipoProblema.ACCESS_DENIED.criar(
+                "Você não tem permissão para acessar este recurso.");
 
         return ResponseEntity.status(HttpStatus.FORBIDDEN).body(problemDetail);
     }
@@ -1,6 +1,6 @@
 package com.restaurantefiap.exception;
 
-public class InvalidPasswordException extends RuntimeException{
+public class InvalidPasswordException extends ExcecaoEsperada {
 
     public InvalidPasswordException(String message) {
         super(message);
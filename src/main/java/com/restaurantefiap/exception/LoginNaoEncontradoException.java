@@ -0,0 +1,23 @@
+package com.restaurantefiap.exception;
+
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+/**
+ * {@link UsernameNotFoundException} sem stack trace, lançada a cada login inexistente.
+ *
+ * <p>Segue o mesmo interruptor de {@link ExcecaoEsperada} — a hierarquia do Spring Security
+ * impede estendê-la.</p>
+ *
+ * @author Danilo de Paula
+ */
+public class LoginNaoEncontradoException extends UsernameNotFoundException {
+
+    public LoginNaoEncontradoException(String login) {
+        super("Login não encontrado: " + login);
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return ExcecaoEsperada.isRastroCompleto() ? super.fillInStackTrace() : this;
+    }
+}
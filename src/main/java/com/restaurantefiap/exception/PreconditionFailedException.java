@@ -0,0 +1,21 @@
+package com.restaurantefiap.exception;
+
+/**
+ * Lançada quando a pré-condição de uma escrita condicional não é atendida
+ * (ex.: versão do {@code If-Match} diferente da versão atual do registro).
+ *
+ * <p>Mapeada para {@code 412 Precondition Failed}.</p>
+ *
+ * @author Danilo de Paula
+ */
+public class PreconditionFailedException extends ExcecaoEsperada {
+
+    public PreconditionFailedException(String message) {
+        super(message);
+    }
+
+    public PreconditionFailedException(String recurso, Object id, Long versaoAtual) {
+        super(String.format("%s com ID %s foi alterado por outra requisição (versão atual: %d).",
+                recurso, id, versaoAtual));
+    }
+}
@@ -1,6 +1,6 @@
 package com.restaurantefiap.exception;
 
-public class ResourceNotFoundException extends RuntimeException {
+public class ResourceNotFoundException extends ExcecaoEsperada {
 
     public ResourceNotFoundException(String message) {
         super(message);
@@ -0,0 +1,23 @@
+package com.restaurantefiap.exception;
+
+/**
+ * Lançada quando uma dependência está indisponível e a chamada é recusada sem tentar
+ * (ex.: circuit breaker do banco aberto).
+ *
+ * <p>Mapeada para {@code 503 Service Unavailable} com {@code Retry-After}.</p>
+ *
+ * @author Danilo de Paula
+ */
+public class ServiceUnavailableException extends ExcecaoEsperada {
+
+    private final long retryAfterSegundos;
+
+    public ServiceUnavailableException(String message, long retryAfterSegundos) {
+        super(message);
+        this.retryAfterSegundos = retryAfterSegundos;
+    }
+
+    public long getRetryAfterSegundos() {
+        return retryAfterSegundos;
+    }
+}
@@ -0,0 +1,135 @@
+package com.restaurantefiap.grpc;
+
+import com.restaurantefiap.service.JwtService;
+
+import io.grpc.ForwardingServerCallListener;
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.Status;
+import io.jsonwebtoken.JwtException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+/**
+ * Autenticação JWT das chamadas gRPC — equivalente ao {@code JwtAuthenticationFilter} da API REST.
+ *
+ * <p>Lê o metadado {@code authorization: Bearer <jwt>}, valida com {@link JwtService} e
+ * carrega o usuário pelo mesmo {@link UserDetailsService}. Sem token válido, a chamada
+ * termina com {@code UNAUTHENTICATED}. Com token válido, o {@link SecurityContext} é
+ * preenchido em cada callback da chamada — o gRPC pode usar uma thread diferente em
+ * cada um —, então {@code AutorizacaoService} funciona como nos controllers.</p>
+ *
+ * @author Danilo de Paula
+ */
+@Component
+public class AutenticacaoGrpcInterceptor implements ServerInterceptor {
+
+    static final Metadata.Key<String> AUTHORIZATION =
+            Metadata.Key.of("authorization", Metadata.ASCII_STRING_MARSHALLER);
+
+    private static final String PREFIXO_BEARER = "Bearer ";
+
+    private final JwtService jwtService;
+    private final UserDetailsService userDetailsService;
+
+    public AutenticacaoGrpcInterceptor(JwtService jwtService, UserDetailsService userDetailsService) {
+        this.jwtService = jwtService;
+        this.userDetailsService = userDetailsService;
+    }
+
+    @Override
+    public <Q, R> ServerCall.Listener<Q> interceptCall(
+            ServerCall<Q, R> call, Metadata headers, ServerCallHandler<Q, R> next) {
+
+        Authentication autenticacao = autenticar(headers.get(AUTHORIZATION));
+        if (autenticacao == null) {
+            call.close(Status.UNAUTHENTICATED.withDescription("Token ausente ou inválido"), new Metadata());
+            return new ServerCall.Listener<>() {
+            };
+        }
+
+        ServerCall.Listener<Q> delegado = comAutenticacao(autenticacao, () -> next.startCall(call, headers));
+        return new ForwardingServerCallListener.SimpleForwardingServerCallListener<>(delegado) {
+
+            @Override
+            public void onMessage(Q message) {
+                executarComAutenticacao(autenticacao, () -> super.onMessage(message));
+            }
+
+            @Override
+            public void onHalfClose() {
+                executarComAutenticacao(autenticacao, super::onHalfClose);
+            }
+
+            @Override
+            public void onCancel() {
+                executarComAutenticacao(autenticacao, super::onCancel);
+            }
+
+            @Override
+            public void onComplete() {
+                executarComAutenticacao(autenticacao, super::onComplete);
+            }
+
+            @Override
+            public void onReady() {
+                executarComAutenticacao(autenticacao, super::onReady);
+            }
+        };
+    }
+
+    // ========== Métodos Auxiliares ==========
+
+    /**
+     * Valida o token e monta a autenticação, ou {@code null} se ausente ou inválido.
+     */
+    private Authentication autenticar(String cabecalho) {
+        if (cabecalho == null || !cabecalho.startsWith(PREFIXO_BEARER)) {
+            return null;
+        }
+
+        String token = cabecalho.substring(PREFIXO_BEARER.length());
+        try {
+            String username = jwtService.extractUsername(token);
+            if (username == null) {
+                return null;
+            }
+            UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+            if (!jwtService.isTokenValid(token, userDetails)) {
+                return null;
+            }
+            return new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+        } catch (JwtException | IllegalArgumentException | UsernameNotFoundException e) {
+            return null;
+        }
+    }
+
+    private static void executarComAutenticacao(Authentication autenticacao, Runnable acao) {
+        comAutenticacao(autenticacao, () -> {
+            acao.run();
+            return null;
+        });
+    }
+
+    private static <T> T comAutenticacao(Authentication autenticacao, Supplier<T> acao) {
+        SecurityContext anterior = SecurityContextHolder.getContext();
+        SecurityContext contexto = SecurityContextHolder.createEmptyContext();
+        contexto.setAuthentication(autenticacao);
+        SecurityContextHolder.setContext(contexto);
+        try {
+            return acao.get();
+        } finally {
+            SecurityContextHolder.setContext(anterior);
+        }
+    }
+}
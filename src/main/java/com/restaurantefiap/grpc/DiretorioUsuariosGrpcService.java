@@ -0,0 +1,105 @@
+package com.restaurantefiap.grpc;
+
+import com.restaurantefiap.grpc.proto.BuscarEmLoteRequest;
+import com.restaurantefiap.grpc.proto.BuscarEmLoteResponse;
+import com.restaurantefiap.grpc.proto.BuscarPorIdRequest;
+import com.restaurantefiap.grpc.proto.DiretorioUsuariosGrpc;
+import com.restaurantefiap.grpc.proto.ItemLote;
+import com.restaurantefiap.grpc.proto.Usuario;
+import com.restaurantefiap.security.AutorizacaoService;
+import com.restaurantefiap.service.BuscaLoteUsuariosService;
+import com.restaurantefiap.service.ResilienciaLeiturasUsuario;
+import com.restaurantefiap.service.UsuarioService;
+
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Component;
+
+/**
+ * Diretório interno de usuários via gRPC, para consultas entre serviços.
+ *
+ * <p>Alternativa binária a {@code GET /v1/usuarios/{id}} e à busca em lote: reutiliza
+ * {@link UsuarioService} e {@link BuscaLoteUsuariosService}, com as mesmas regras de
+ * autorização. A autenticação JWT é feita por {@link AutenticacaoGrpcInterceptor}.</p>
+ *
+ * <p>As leituras passam pelo mesmo circuito da API REST ({@link ResilienciaLeiturasUsuario}):
+ * com o banco fora do ar, as consultas gRPC também contam falhas e, com o circuito aberto,
+ * recebem {@code UNAVAILABLE} na hora, sem esperar o pool de conexões.</p>
+ *
+ * @author Danilo de Paula
+ * @see ServidorGrpc
+ */
+@Component
+public class DiretorioUsuariosGrpcService extends DiretorioUsuariosGrpc.DiretorioUsuariosImplBase {
+
+    private final UsuarioService usuarioService;
+    private final BuscaLoteUsuariosService buscaLoteService;
+    private final AutorizacaoService autorizacaoService;
+    private final ResilienciaLeiturasUsuario resiliencia;
+
+    public DiretorioUsuariosGrpcService(
+            UsuarioService usuarioService,
+            BuscaLoteUsuariosService buscaLoteService,
+            AutorizacaoService autorizacaoService,
+            ResilienciaLeiturasUsuario resiliencia
+    ) {
+        this.usuarioService = usuarioService;
+        this.buscaLoteService = buscaLoteService;
+        this.autorizacaoService = autorizacaoService;
+        this.resiliencia = resiliencia;
+    }
+
+    @Override
+    public void buscarPorId(BuscarPorIdRequest request, StreamObserver<Usuario> resposta) {
+        responder(resposta, () -> {
+            if (!autorizacaoService.isAdminOuProprio(request.getId())) {
+                throw new AccessDeniedException("Acesso negado ao usuário " + request.getId());
+            }
+            resposta.onNext(UsuarioProtoMapper.paraProto(
+                    resiliencia.executar(() -> usuarioService.buscarPorId(request.getId()))));
+        });
+    }
+
+    @Override
+    public void buscarEmLote(BuscarEmLoteRequest request, StreamObserver<BuscarEmLoteResponse> resposta) {
+        responder(resposta, () -> {
+            BuscarEmLoteResponse.Builder lote = BuscarEmLoteResponse.newBuilder();
+            resiliencia.executar(() -> {
+                buscaLoteService.buscarPorIdsEmFluxo(request.getIdsList(),
+                        item -> lote.addItens(UsuarioProtoMapper.paraProto(item)));
+                return null;
+            });
+            resposta.onNext(lote.build());
+        });
+    }
+
+    @Override
+    public void buscarEmLoteFluxo(BuscarEmLoteRequest request, StreamObserver<ItemLote> resposta) {
+        ServerCallStreamObserver<ItemLote> chamada = (ServerCallStreamObserver<ItemLote>) resposta;
+        responder(resposta, () -> resiliencia.executar(() -> {
+            buscaLoteService.buscarPorIdsEmFluxo(request.getIdsList(), item -> {
+                if (!chamada.isCancelled()) {
+                    chamada.onNext(UsuarioProtoMapper.paraProto(item));
+                }
+            });
+            return null;
+        }));
+    }
+
+    // ========== Métodos Auxiliares ==========
+
+    /**
+     * Executa a ação e encerra a chamada: {@code onCompleted} em caso de sucesso ou
+     * {@code onError} com o status traduzido por {@link ErrosGrpc}.
+     */
+    private static void responder(StreamObserver<?> resposta, Runnable acao) {
+        try {
+            acao.run();
+        } catch (RuntimeException e) {
+            resposta.onError(ErrosGrpc.paraStatus(e).asRuntimeException());
+            return;
+        }
+        resposta.onCompleted();
+    }
+}
@@ -0,0 +1,54 @@
+package com.restaurantefiap.grpc;
+
+import com.restaurantefiap.exception.ResourceNotFoundException;
+import com.restaurantefiap.service.ResilienciaLeiturasUsuario;
+
+import io.grpc.Status;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.security.access.AccessDeniedException;
+
+/**
+ * Tradução das exceções da aplicação para {@link Status} do gRPC.
+ *
+ * <p>Equivalente ao {@code GlobalExceptionHandler} da API REST: mesmas exceções,
+ * mesmas decisões (404 → {@code NOT_FOUND}, 403 → {@code PERMISSION_DENIED},
+ * 400 → {@code INVALID_ARGUMENT}, 503 → {@code UNAVAILABLE}, inclusive circuito aberto e
+ * banco fora do ar). Erros não previstos
+ * viram {@code INTERNAL} sem expor detalhes ao cliente.</p>
+ *
+ * @author Danilo de Paula
+ */
+final class ErrosGrpc {
+
+    private static final Logger log = LoggerFactory.getLogger(ErrosGrpc.class);
+
+    private ErrosGrpc() {
+        // Utility class
+    }
+
+    /**
+     * Converte uma exceção para o status gRPC correspondente.
+     *
+     * @param erro exceção lançada pela aplicação
+     * @return status com descrição
+     */
+    static Status paraStatus(Throwable erro) {
+        if (erro instanceof ResourceNotFoundException) {
+            return Status.NOT_FOUND.withDescription(erro.getMessage());
+        }
+        if (erro instanceof AccessDeniedException) {
+            return Status.PERMISSION_DENIED.withDescription("Acesso negado");
+        }
+        if (erro instanceof IllegalArgumentException) {
+            return Status.INVALID_ARGUMENT.withDescription(erro.getMessage());
+        }
+        if (erro instanceof QueryTimeoutException || ResilienciaLeiturasUsuario.falhaDeInfraestrutura(erro)) {
+            return Status.UNAVAILABLE.withDescription(erro.getMessage());
+        }
+
+        log.error("Erro interno não tratado no diretório gRPC.", erro);
+        return Status.INTERNAL.withDescription("Erro interno");
+    }
+}
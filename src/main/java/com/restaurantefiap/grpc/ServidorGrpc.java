@@ -0,0 +1,115 @@
+package com.restaurantefiap.grpc;
+
+import io.grpc.Grpc;
+import io.grpc.InsecureServerCredentials;
+import io.grpc.Server;
+import io.grpc.ServerBuilder;
+import io.grpc.ServerInterceptors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Servidor gRPC do diretório interno de usuários, ao lado da API REST.
+ *
+ * <p>Sobe na porta {@code app.grpc.porta} com {@link DiretorioUsuariosGrpcService}
+ * protegido por {@link AutenticacaoGrpcInterceptor}. Sem TLS: destinado à rede interna,
+ * atrás do mesmo perímetro dos serviços que o consomem. Com
+ * {@code spring.threads.virtual.enabled=true}, as chamadas rodam em virtual threads,
+ * como as requisições HTTP.</p>
+ *
+ * <p>Ativo com {@code app.grpc.habilitado=true}.</p>
+ *
+ * @author Danilo de Paula
+ */
+@Component
+@ConditionalOnProperty(name = "app.grpc.habilitado", havingValue = "true")
+public class ServidorGrpc implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(ServidorGrpc.class);
+
+    private static final long ESPERA_DESLIGAMENTO_SEGUNDOS = 5;
+
+    private final DiretorioUsuariosGrpcService diretorio;
+    private final AutenticacaoGrpcInterceptor autenticacao;
+    private final int porta;
+    private final boolean virtualThreads;
+
+    private volatile Server servidor;
+    private volatile ExecutorService executor;
+
+    public ServidorGrpc(
+            DiretorioUsuariosGrpcService diretorio,
+            AutenticacaoGrpcInterceptor autenticacao,
+            @Value("${app.grpc.porta:9090}") int porta,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads
+    ) {
+        this.diretorio = diretorio;
+        this.autenticacao = autenticacao;
+        this.porta = porta;
+        this.virtualThreads = virtualThreads;
+    }
+
+    // ========== Ciclo de vida ==========
+
+    @Override
+    public void start() {
+        ServerBuilder<?> builder = Grpc.newServerBuilderForPort(porta, InsecureServerCredentials.create())
+                .addService(ServerInterceptors.intercept(diretorio, autenticacao));
+        if (virtualThreads) {
+            executor = Executors.newVirtualThreadPerTaskExecutor();
+            builder.executor(executor);
+        }
+
+        try {
+            servidor = builder.build().start();
+        } catch (IOException e) {
+            throw new IllegalStateException("Não foi possível iniciar o servidor gRPC na porta " + porta, e);
+        }
+        log.info("Servidor gRPC do diretório de usuários ativo na porta {}.", servidor.getPort());
+    }
+
+    @Override
+    public void stop() {
+        Server atual = servidor;
+        servidor = null;
+        if (atual != null) {
+            atual.shutdown();
+            try {
+                if (!atual.awaitTermination(ESPERA_DESLIGAMENTO_SEGUNDOS, TimeUnit.SECONDS)) {
+                    atual.shutdownNow();
+                }
+            } catch (InterruptedException e) {
+                atual.shutdownNow();
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (executor != null) {
+            executor.shutdown();
+            executor = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return servidor != null;
+    }
+
+    /**
+     * Porta efetivamente em uso (útil com {@code app.grpc.porta=0}).
+     *
+     * @return porta do servidor, ou {@code -1} se parado
+     */
+    public int getPorta() {
+        Server atual = servidor;
+        return atual == null ? -1 : atual.getPort();
+    }
+}
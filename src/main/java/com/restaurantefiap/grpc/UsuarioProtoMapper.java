@@ -0,0 +1,101 @@
+package com.restaurantefiap.grpc;
+
+import com.restaurantefiap.dto.response.UsuarioLoteItemDTO;
+import com.restaurantefiap.dto.response.UsuarioResponseDTO;
+import com.restaurantefiap.entities.endereco.DadosEndereco;
+import com.restaurantefiap.grpc.proto.Endereco;
+import com.restaurantefiap.grpc.proto.ItemLote;
+import com.restaurantefiap.grpc.proto.Role;
+import com.restaurantefiap.grpc.proto.StatusItemLote;
+import com.restaurantefiap.grpc.proto.Usuario;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Conversão dos DTOs de usuário para as mensagens protobuf do diretório gRPC.
+ *
+ * <p>Classe utilitária com métodos estáticos — não deve ser instanciada. Campos nulos
+ * ficam ausentes na mensagem (proto3 não aceita {@code null}).</p>
+ *
+ * @author Danilo de Paula
+ */
+final class UsuarioProtoMapper {
+
+    private UsuarioProtoMapper() {
+        // Utility class
+    }
+
+    /**
+     * Converte {@link UsuarioResponseDTO} para a mensagem {@link Usuario}.
+     *
+     * @param dto DTO de resposta
+     * @return mensagem protobuf
+     */
+    static Usuario paraProto(UsuarioResponseDTO dto) {
+        Usuario.Builder usuario = Usuario.newBuilder()
+                .setId(dto.id())
+                .setLogin(valor(dto.login()))
+                .setEmail(valor(dto.email()))
+                .setNome(valor(dto.nome()))
+                .setTelefone(valor(dto.telefone()))
+                .setRole(dto.role() == null ? Role.ROLE_NAO_INFORMADO : Role.valueOf(dto.role().name()));
+
+        if (dto.versao() != null) {
+            usuario.setVersao(dto.versao());
+        }
+        if (dto.criadoEm() != null) {
+            usuario.setCriadoEm(data(dto.criadoEm()));
+        }
+        if (dto.atualizadoEm() != null) {
+            usuario.setAtualizadoEm(data(dto.atualizadoEm()));
+        }
+        if (dto.endereco() != null) {
+            usuario.setEndereco(paraProto(dto.endereco()));
+        }
+        return usuario.build();
+    }
+
+    /**
+     * Converte um item da busca em lote para a mensagem {@link ItemLote}.
+     *
+     * @param item item da busca em lote
+     * @return mensagem protobuf
+     */
+    static ItemLote paraProto(UsuarioLoteItemDTO item) {
+        ItemLote.Builder proto = ItemLote.newBuilder()
+                .setId(item.id())
+                .setStatus(StatusItemLote.valueOf(item.status().name()));
+        if (item.usuario() != null) {
+            proto.setUsuario(paraProto(item.usuario()));
+        }
+        return proto.build();
+    }
+
+    // ========== Métodos Auxiliares ==========
+
+    private static Endereco paraProto(DadosEndereco endereco) {
+        Endereco.Builder proto = Endereco.newBuilder()
+                .setLogradouro(valor(endereco.logradouro()))
+                .setBairro(valor(endereco.bairro()))
+                .setCep(valor(endereco.cep()))
+                .setCidade(valor(endereco.cidade()))
+                .setUf(valor(endereco.uf()))
+                .setNumero(valor(endereco.numero()));
+        if (endereco.complemento() != null) {
+            proto.setComplemento(endereco.complemento());
+        }
+        return proto.build();
+    }
+
+    private static String valor(String texto) {
+        return texto == null ? "" : texto;
+    }
+
+    /**
+     * Mesmo formato do JSON da API REST (ISO-8601 local).
+     */
+    private static String data(LocalDateTime data) {
+        return DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(data);
+    }
+}
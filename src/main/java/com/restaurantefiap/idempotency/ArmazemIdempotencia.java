@@ -0,0 +1,56 @@
+package com.restaurantefiap.idempotency;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Armazém das chaves de idempotência.
+ *
+ * <p>Implementações: {@link ArmazemIdempotenciaBanco} (padrão, compartilhado entre os nós)
+ * e {@link ArmazemIdempotenciaMemoria} (nó único), escolhidas por
+ * {@code app.idempotencia.armazem}.</p>
+ *
+ * @author Danilo de Paula
+ */
+public interface ArmazemIdempotencia {
+
+    /**
+     * Reserva a chave se ela ainda não existir. Operação atômica: entre execuções
+     * concorrentes (inclusive de nós diferentes) somente uma obtém a reserva.
+     *
+     * @param id        hash da chave
+     * @param impressao hash do corpo da requisição
+     * @param criadoEm  instante da reserva
+     * @param expiraEm  validade da reserva
+     * @return {@code true} se a reserva foi obtida
+     */
+    boolean reservar(String id, String impressao, LocalDateTime criadoEm, LocalDateTime expiraEm);
+
+    /**
+     * Lê a chave.
+     *
+     * @param id hash da chave
+     * @return registro, ou vazio se não existir
+     */
+    Optional<RegistroIdempotencia> buscar(String id);
+
+    /**
+     * Grava a resposta da reserva criada em {@code criadoEm}.
+     *
+     * @return {@code true} se a reserva ainda era a mesma e foi concluída
+     */
+    boolean concluir(String id, LocalDateTime criadoEm, RespostaIdempotente resposta, LocalDateTime expiraEm);
+
+    /**
+     * Remove a chave criada em {@code criadoEm} (liberada, abandonada ou expirada).
+     */
+    void descartar(String id, LocalDateTime criadoEm);
+
+    /**
+     * Remove as chaves expiradas.
+     *
+     * @param agora instante de referência
+     * @return quantidade removida
+     */
+    int removerExpiradas(LocalDateTime agora);
+}
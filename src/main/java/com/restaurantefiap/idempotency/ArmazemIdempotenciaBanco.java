@@ -0,0 +1,88 @@
+package com.restaurantefiap.idempotency;
+
+import com.restaurantefiap.config.NoAplicacao;
+import com.restaurantefiap.entities.idempotencia.ChaveIdempotencia;
+import com.restaurantefiap.enums.EstadoIdempotencia;
+import com.restaurantefiap.repository.ChaveIdempotenciaRepository;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Armazém de chaves de idempotência na tabela {@code chaves_idempotencia}.
+ *
+ * <p>A reserva é um INSERT: a PK faz o papel de lock entre os nós, sem
+ * {@code SELECT ... FOR UPDATE}. Cada operação roda em transação própria e curta,
+ * independente da transação do endpoint.</p>
+ *
+ * @author Danilo de Paula
+ */
+@Component
+@ConditionalOnProperty(name = "app.idempotencia.armazem", havingValue = "banco", matchIfMissing = true)
+public class ArmazemIdempotenciaBanco implements ArmazemIdempotencia {
+
+    private final ChaveIdempotenciaRepository repository;
+    private final NoAplicacao no;
+    private final TransactionTemplate transacao;
+
+    public ArmazemIdempotenciaBanco(ChaveIdempotenciaRepository repository,
+                                    NoAplicacao no,
+                                    PlatformTransactionManager transactionManager) {
+        this.repository = repository;
+        this.no = no;
+        this.transacao = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public boolean reservar(String id, String impressao, LocalDateTime criadoEm, LocalDateTime expiraEm) {
+        try {
+            Integer inseridas = transacao.execute(status ->
+                    repository.reservar(id, impressao, no.getId(), criadoEm, expiraEm));
+            return inseridas != null && inseridas == 1;
+        } catch (DataIntegrityViolationException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public Optional<RegistroIdempotencia> buscar(String id) {
+        return Optional.ofNullable(transacao.execute(status ->
+                repository.findById(id).map(ArmazemIdempotenciaBanco::paraRegistro).orElse(null)));
+    }
+
+    @Override
+    public boolean concluir(String id, LocalDateTime criadoEm, RespostaIdempotente resposta, LocalDateTime expiraEm) {
+        Integer atualizadas = transacao.execute(status -> repository.concluir(
+                id, criadoEm, resposta.status(), resposta.contentType(), resposta.location(),
+                resposta.etag(), resposta.corpo(), expiraEm));
+        return atualizadas != null && atualizadas == 1;
+    }
+
+    @Override
+    public void descartar(String id, LocalDateTime criadoEm) {
+        transacao.executeWithoutResult(status -> repository.descartar(id, criadoEm));
+    }
+
+    @Override
+    public int removerExpiradas(LocalDateTime agora) {
+        Integer removidas = transacao.execute(status -> repository.apagarExpiradas(agora));
+        return removidas == null ? 0 : removidas;
+    }
+
+    // ========== Métodos Auxiliares ==========
+
+    private static RegistroIdempotencia paraRegistro(ChaveIdempotencia chave) {
+        RespostaIdempotente resposta = chave.getEstado() == EstadoIdempotencia.CONCLUIDA
+                ? new RespostaIdempotente(chave.getStatusHttp(), chave.getContentType(),
+                        chave.getLocation(), chave.getEtag(), chave.getCorpo())
+                : null;
+        return new RegistroIdempotencia(chave.getId(), chave.getImpressao(), chave.getEstado(),
+                chave.getCriadoEm(), chave.getExpiraEm(), resposta);
+    }
+}
@@ -0,0 +1,99 @@
+package com.restaurantefiap.idempotency;
+
+import com.restaurantefiap.enums.EstadoIdempotencia;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Armazém de chaves de idempotência em memória, limitado a {@code app.idempotencia.max-chaves}.
+ *
+ * <p>Só vale para um nó: em várias instâncias, use o armazém em banco. Quando cheio,
+ * remove as expiradas e, se ainda faltar espaço, descarta chaves concluídas quaisquer
+ * (despejo aproximado); reservas em andamento nunca são despejadas.</p>
+ *
+ * @author Danilo de Paula
+ */
+@Component
+@ConditionalOnProperty(name = "app.idempotencia.armazem", havingValue = "memoria")
+public class ArmazemIdempotenciaMemoria implements ArmazemIdempotencia {
+
+    private final Map<String, RegistroIdempotencia> chaves = new ConcurrentHashMap<>();
+    private final int maxChaves;
+
+    public ArmazemIdempotenciaMemoria(@Value("${app.idempotencia.max-chaves:10000}") int maxChaves) {
+        this.maxChaves = Math.max(1, maxChaves);
+    }
+
+    @Override
+    public boolean reservar(String id, String impressao, LocalDateTime criadoEm, LocalDateTime expiraEm) {
+        if (!chaves.containsKey(id)) {
+            liberarEspaco(criadoEm);
+        }
+        RegistroIdempotencia reserva = new RegistroIdempotencia(
+                id, impressao, EstadoIdempotencia.EM_ANDAMENTO, criadoEm, expiraEm, null);
+        return chaves.putIfAbsent(id, reserva) == null;
+    }
+
+    @Override
+    public Optional<RegistroIdempotencia> buscar(String id) {
+        return Optional.ofNullable(chaves.get(id));
+    }
+
+    @Override
+    public boolean concluir(String id, LocalDateTime criadoEm, RespostaIdempotente resposta, LocalDateTime expiraEm) {
+        RegistroIdempotencia concluido = chaves.computeIfPresent(id, (chave, atual) ->
+                mesmaReserva(atual, criadoEm) && atual.estado() == EstadoIdempotencia.EM_ANDAMENTO
+                        ? new RegistroIdempotencia(id, atual.impressao(), EstadoIdempotencia.CONCLUIDA,
+                                criadoEm, expiraEm, resposta)
+                        : atual);
+        return concluido != null && concluido.resposta() == resposta;
+    }
+
+    @Override
+    public void descartar(String id, LocalDateTime criadoEm) {
+        chaves.computeIfPresent(id, (chave, atual) -> mesmaReserva(atual, criadoEm) ? null : atual);
+    }
+
+    @Override
+    public int removerExpiradas(LocalDateTime agora) {
+        int removidas = 0;
+        for (Iterator<RegistroIdempotencia> it = chaves.values().iterator(); it.hasNext(); ) {
+            if (it.next().expiraEm().isBefore(agora)) {
+                it.remove();
+                removidas++;
+            }
+        }
+        return removidas;
+    }
+
+    public int getTamanho() {
+        return chaves.size();
+    }
+
+    // ========== Métodos Auxiliares ==========
+
+    private static boolean mesmaReserva(RegistroIdempotencia registro, LocalDateTime criadoEm) {
+        return registro.criadoEm().equals(criadoEm);
+    }
+
+    private void liberarEspaco(LocalDateTime agora) {
+        if (chaves.size() < maxChaves) {
+            return;
+        }
+        removerExpiradas(agora);
+        for (Iterator<RegistroIdempotencia> it = chaves.values().iterator();
+             chaves.size() >= maxChaves && it.hasNext(); ) {
+            if (it.next().estado() == EstadoIdempotencia.CONCLUIDA) {
+                it.remove();
+            }
+        }
+    }
+}
@@ -0,0 +1,251 @@
+package com.restaurantefiap.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.restaurantefiap.enums.TipoProblema;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * Filtro do cabeçalho {@code Idempotency-Key} para {@code POST} e {@code PATCH}.
+ *
+ * <p>Roda depois da autorização: a chave vale no escopo do usuário autenticado, do método e
+ * da URI, e é associada ao hash do corpo. Fluxo:</p>
+ * <ol>
+ * <li>Primeira requisição: executa e grava a resposta (status menor que 500).</li>
+ * <li>Repetição com o mesmo corpo: devolve a resposta gravada com
+ * {@code Idempotency-Replayed: true}, sem reexecutar.</li>
+ * <li>Repetição com outro corpo: 422.</li>
+ * <li>Duplicata concorrente: espera a primeira execução; se ela não terminar a tempo, 409
+ * com {@code Retry-After}.</li>
+ * </ol>
+ * <p>Respostas 5xx (ou exceções) liberam a chave para uma nova tentativa.
+ * Requisições sem o cabeçalho seguem normalmente. O corpo é lido em memória para o hash:
+ * acima de {@code app.idempotencia.max-requisicao-bytes}, a requisição recebe 413.</p>
+ *
+ * @author Danilo de Paula
+ * @see IdempotenciaService
+ */
+@Component
+public class FiltroIdempotencia extends OncePerRequestFilter {
+
+    public static final String CABECALHO_CHAVE = "Idempotency-Key";
+    public static final String CABECALHO_REPETIDA = "Idempotency-Replayed";
+
+    private static final Logger log = LoggerFactory.getLogger(FiltroIdempotencia.class);
+    private static final int TAMANHO_MAXIMO_CHAVE = 255;
+
+    private final IdempotenciaService service;
+    private final ObjectMapper objectMapper;
+    private final int maxCorpoBytes;
+    private final int maxRequisicaoBytes;
+
+    public FiltroIdempotencia(IdempotenciaService service,
+                              ObjectMapper objectMapper,
+                              @Value("${app.idempotencia.max-corpo-bytes:65536}") int maxCorpoBytes,
+                              @Value("${app.idempotencia.max-requisicao-bytes:65536}") int maxRequisicaoBytes) {
+        this.service = service;
+        this.objectMapper = objectMapper;
+        this.maxCorpoBytes = maxCorpoBytes;
+        this.maxRequisicaoBytes = maxRequisicaoBytes;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String metodo = request.getMethod();
+        return request.getHeader(CABECALHO_CHAVE) == null
+                || !("POST".equals(metodo) || "PATCH".equals(metodo))
+                || request.getRequestURI().startsWith(request.getContextPath() + "/v1/auth/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain chain)
+            throws ServletException, IOException {
+
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth == null || auth instanceof AnonymousAuthenticationToken) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        String chave = request.getHeader(CABECALHO_CHAVE).trim();
+        if (chave.isEmpty() || chave.length() > TAMANHO_MAXIMO_CHAVE) {
+            escreverProblema(response, TipoProblema.INVALID_IDEMPOTENCY_KEY,
+                    "O cabeçalho Idempotency-Key deve ter entre 1 e " + TAMANHO_MAXIMO_CHAVE + " caracteres.");
+            return;
+        }
+
+        // Content-Length declarado ou, sem ele (chunked), no máximo um byte além do limite
+        byte[] corpo = request.getContentLengthLong() > maxRequisicaoBytes
+                ? null
+                : request.getInputStream().readNBytes(maxRequisicaoBytes + 1);
+        if (corpo == null || corpo.length > maxRequisicaoBytes) {
+            escreverProblema(response, TipoProblema.IDEMPOTENT_REQUEST_TOO_LARGE,
+                    "Requisições com Idempotency-Key aceitam corpo de até " + maxRequisicaoBytes + " bytes.");
+            return;
+        }
+
+        CorpoEmCache requisicao = new CorpoEmCache(request, corpo);
+        String id = hash((auth.getName() + '\n' + request.getMethod() + '\n' + request.getRequestURI()
+                + '\n' + chave).getBytes(StandardCharsets.UTF_8));
+        String impressao = hash(requisicao.corpo);
+
+        IdempotenciaService.Decisao decisao = service.decidir(id, impressao);
+        switch (decisao.tipo()) {
+            case REPETIR -> repetir(response, decisao.resposta());
+            case CORPO_DIFERENTE -> escreverProblema(response, TipoProblema.IDEMPOTENCY_KEY_REUSED,
+                    "A chave de idempotência já foi usada com outro corpo de requisição.");
+            case EM_ANDAMENTO -> {
+                response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+                escreverProblema(response, TipoProblema.IDEMPOTENCY_REQUEST_IN_PROGRESS,
+                        "A requisição com esta chave de idempotência ainda está em execução.");
+            }
+            case EXECUTAR -> executar(requisicao, response, chain, id, decisao);
+        }
+    }
+
+    // ========== Métodos Auxiliares ==========
+
+    private void executar(CorpoEmCache request, HttpServletResponse response, FilterChain chain,
+                          String id, IdempotenciaService.Decisao decisao)
+            throws ServletException, IOException {
+
+        ContentCachingResponseWrapper resposta = new ContentCachingResponseWrapper(response);
+        boolean gravada = false;
+        try {
+            chain.doFilter(request, resposta);
+
+            byte[] corpo = resposta.getContentAsByteArray();
+            if (resposta.getStatus() < 500 && corpo.length <= maxCorpoBytes) {
+                service.concluir(id, decisao.criadoEm(), new RespostaIdempotente(
+                        resposta.getStatus(), resposta.getContentType(),
+                        resposta.getHeader(HttpHeaders.LOCATION), resposta.getHeader(HttpHeaders.ETAG), corpo));
+                gravada = true;
+            } else if (resposta.getStatus() < 500) {
+                log.debug("Resposta com {} bytes excede o limite de idempotência — chave liberada.", corpo.length);
+            }
+        } finally {
+            if (!gravada) {
+                service.liberar(id, decisao.criadoEm());
+            }
+            resposta.copyBodyToResponse();
+        }
+    }
+
+    private static void repetir(HttpServletResponse response, RespostaIdempotente gravada) throws IOException {
+        response.setStatus(gravada.status());
+        if (gravada.contentType() != null) {
+            response.setContentType(gravada.contentType());
+        }
+        if (gravada.location() != null) {
+            response.setHeader(HttpHeaders.LOCATION, gravada.location());
+        }
+        if (gravada.etag() != null) {
+            response.setHeader(HttpHeaders.ETAG, gravada.etag());
+        }
+        response.setHeader(CABECALHO_REPETIDA, "true");
+        if (gravada.corpo() != null) {
+            response.setContentLength(gravada.corpo().length);
+            response.getOutputStream().write(gravada.corpo());
+        }
+    }
+
+    private void escreverProblema(HttpServletResponse response, TipoProblema tipo, String detalhe)
+            throws IOException {
+        ProblemDetail problemDetail = tipo.criar(detalhe);
+
+        response.setStatus(tipo.getStatus().value());
+        response.setContentType(MediaType.APPLICATION_PROBLEM_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), problemDetail);
+    }
+
+    private static String hash(byte[] dados) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(dados));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponível", e);
+        }
+    }
+
+    /**
+     * Requisição com o corpo já lido, para calcular o hash e ainda entregá-lo ao controller.
+     */
+    private static final class CorpoEmCache extends HttpServletRequestWrapper {
+
+        private final byte[] corpo;
+
+        CorpoEmCache(HttpServletRequest request, byte[] corpo) {
+            super(request);
+            this.corpo = corpo;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream entrada = new ByteArrayInputStream(corpo);
+            return new ServletInputStream() {
+                @Override
+                public int read() {
+                    return entrada.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return entrada.read(b, off, len);
+                }
+
+                @Override
+                public boolean isFinished() {
+                    return entrada.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                // Leitura assíncrona (Servlet 3.1) não é suportada: o corpo já foi lido de forma
+                // bloqueante pelo filtro, e os controllers da aplicação leem de forma síncrona.
+                @Override
+                public void setReadListener(ReadListener listener) {
+                    throw new IllegalStateException(
+                            "Leitura assíncrona não suportada para requisições com Idempotency-Key.");
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String charset = getCharacterEncoding() != null ? getCharacterEncoding() : StandardCharsets.UTF_8.name();
+            return new BufferedReader(new InputStreamReader(getInputStream(), Charset.forName(charset)));
+        }
+    }
+}
@@ -0,0 +1,252 @@
+package com.restaurantefiap.idempotency;
+
+import com.restaurantefiap.enums.EstadoIdempotencia;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Decide o que fazer com uma requisição que traz {@code Idempotency-Key}.
+ *
+ * <p>A primeira requisição reserva a chave e executa; as repetições recebem a resposta
+ * gravada sem reexecutar. Duplicatas concorrentes esperam a primeira terminar: no mesmo nó
+ * por um {@link CompletableFuture} local, entre nós consultando o armazém a cada
+ * {@code intervalo-consulta-ms}. Uma reserva mais velha que {@code reserva-ms} é
+ * considerada abandonada (nó caiu no meio da execução) e pode ser assumida.</p>
+ *
+ * <p>Configuração ({@code app.idempotencia.*}): {@code ttl-horas}, {@code reserva-ms},
+ * {@code espera-ms}, {@code intervalo-consulta-ms} e {@code cron-limpeza}.</p>
+ *
+ * @author Danilo de Paula
+ */
+@Service
+public class IdempotenciaService {
+
+    private static final Logger log = LoggerFactory.getLogger(IdempotenciaService.class);
+
+    private final ArmazemIdempotencia armazem;
+    private final Duration ttl;
+    private final Duration reserva;
+    private final long esperaMs;
+    private final long intervaloConsultaMs;
+
+    /** Execuções em andamento neste nó, para acordar as duplicatas sem consultar o armazém. */
+    private final Map<String, CompletableFuture<Void>> emAndamento = new ConcurrentHashMap<>();
+
+    private final AtomicLong execucoes = new AtomicLong();
+    private final AtomicLong repeticoes = new AtomicLong();
+    private final AtomicLong conflitos = new AtomicLong();
+
+    public IdempotenciaService(
+            ArmazemIdempotencia armazem,
+            @Value("${app.idempotencia.ttl-horas:24}") long ttlHoras,
+            @Value("${app.idempotencia.reserva-ms:60000}") long reservaMs,
+            @Value("${app.idempotencia.espera-ms:10000}") long esperaMs,
+            @Value("${app.idempotencia.intervalo-consulta-ms:50}") long intervaloConsultaMs
+    ) {
+        this.armazem = armazem;
+        this.ttl = Duration.ofHours(ttlHoras);
+        this.reserva = Duration.ofMillis(reservaMs);
+        this.esperaMs = esperaMs;
+        this.intervaloConsultaMs = Math.max(1, intervaloConsultaMs);
+    }
+
+    /**
+     * Resultado de {@link #decidir}.
+     *
+     * @param tipo     o que o chamador deve fazer
+     * @param criadoEm instante da reserva obtida ({@link Tipo#EXECUTAR})
+     * @param resposta resposta gravada ({@link Tipo#REPETIR})
+     */
+    public record Decisao(Tipo tipo, LocalDateTime criadoEm, RespostaIdempotente resposta) {
+
+        public enum Tipo {
+            /** Chave reservada: executar e depois {@link #concluir} ou {@link #liberar}. */
+            EXECUTAR,
+            /** Já executada: devolver a resposta gravada. */
+            REPETIR,
+            /** Chave já usada com outro corpo. */
+            CORPO_DIFERENTE,
+            /** A primeira execução não terminou dentro de {@code espera-ms}. */
+            EM_ANDAMENTO
+        }
+    }
+
+    // ========== Decisão ==========
+
+    /**
+     * Reserva a chave ou espera a execução que já a reservou.
+     *
+     * @param id        hash da chave no escopo
+     * @param impressao hash do corpo da requisição
+     * @return decisão para a requisição
+     */
+    public Decisao decidir(String id, String impressao) {
+        long limite = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(esperaMs);
+
+        while (true) {
+            LocalDateTime agora = agora();
+            if (armazem.reservar(id, impressao, agora, agora.plus(ttl))) {
+                emAndamento.put(id, new CompletableFuture<>());
+                execucoes.incrementAndGet();
+                return new Decisao(Decisao.Tipo.EXECUTAR, agora, null);
+            }
+
+            Optional<RegistroIdempotencia> existente = armazem.buscar(id);
+            if (existente.isEmpty()) {
+                continue; // liberada entre a reserva e a leitura
+            }
+
+            RegistroIdempotencia registro = existente.get();
+            if (registro.expiraEm().isBefore(agora)) {
+                armazem.descartar(id, registro.criadoEm());
+                continue;
+            }
+            if (!registro.impressao().equals(impressao)) {
+                conflitos.incrementAndGet();
+                return new Decisao(Decisao.Tipo.CORPO_DIFERENTE, null, null);
+            }
+            if (registro.estado() == EstadoIdempotencia.CONCLUIDA) {
+                repeticoes.incrementAndGet();
+                return new Decisao(Decisao.Tipo.REPETIR, null, registro.resposta());
+            }
+            if (registro.criadoEm().isBefore(agora.minus(reserva))) {
+                log.warn("Reserva de idempotência abandonada desde {} — assumindo a chave.", registro.criadoEm());
+                armazem.descartar(id, registro.criadoEm());
+                continue;
+            }
+            if (!aguardar(id, limite)) {
+                return new Decisao(Decisao.Tipo.EM_ANDAMENTO, null, null);
+            }
+        }
+    }
+
+    /**
+     * Grava a resposta da execução e acorda as duplicatas que esperam neste nó.
+     *
+     * @param id       hash da chave
+     * @param criadoEm instante da reserva ({@link Decisao#criadoEm()})
+     * @param resposta resposta a devolver nas repetições
+     */
+    public void concluir(String id, LocalDateTime criadoEm, RespostaIdempotente resposta) {
+        try {
+            if (!armazem.concluir(id, criadoEm, resposta, agora().plus(ttl))) {
+                log.warn("Reserva de idempotência assumida por outra execução antes de concluir.");
+            }
+        } finally {
+            acordar(id);
+        }
+    }
+
+    /**
+     * Libera a reserva sem gravar resposta (falha na execução): a próxima tentativa executa de novo.
+     *
+     * @param id       hash da chave
+     * @param criadoEm instante da reserva ({@link Decisao#criadoEm()})
+     */
+    public void liberar(String id, LocalDateTime criadoEm) {
+        try {
+            armazem.descartar(id, criadoEm);
+        } finally {
+            acordar(id);
+        }
+    }
+
+    // ========== Limpeza ==========
+
+    /**
+     * Execução agendada da limpeza das chaves expiradas (padrão: a cada hora, no minuto 45).
+     */
+    @Scheduled(cron = "${app.idempotencia.cron-limpeza:0 45 * * * *}")
+    public void executarAgendado() {
+        limparExpiradas();
+    }
+
+    /**
+     * Remove as chaves cujo TTL já passou.
+     *
+     * @return quantidade removida
+     */
+    public int limparExpiradas() {
+        int removidas = armazem.removerExpiradas(agora());
+        if (removidas > 0) {
+            log.info("Limpeza de idempotência: {} chave(s) expirada(s) removida(s).", removidas);
+        }
+        return removidas;
+    }
+
+    // ========== Métricas ==========
+
+    public long getExecucoes() {
+        return execucoes.get();
+    }
+
+    public long getRepeticoes() {
+        return repeticoes.get();
+    }
+
+    public long getConflitos() {
+        return conflitos.get();
+    }
+
+    // ========== Métodos Auxiliares ==========
+
+    /**
+     * Milissegundos: a reserva é identificada pelo instante e o banco guarda {@code DATETIME(3)}.
+     */
+    private static LocalDateTime agora() {
+        return LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+    }
+
+    /**
+     * Espera a execução em andamento: pelo futuro local, se ela roda neste nó,
+     * ou um intervalo de consulta, se roda em outro.
+     *
+     * @return {@code false} se o prazo de espera acabou
+     */
+    private boolean aguardar(String id, long limite) {
+        long restanteNs = limite - System.nanoTime();
+        if (restanteNs <= 0) {
+            return false;
+        }
+
+        CompletableFuture<Void> local = emAndamento.get(id);
+        try {
+            if (local != null) {
+                local.get(restanteNs, TimeUnit.NANOSECONDS);
+            } else {
+                Thread.sleep(Math.min(intervaloConsultaMs, TimeUnit.NANOSECONDS.toMillis(restanteNs) + 1));
+            }
+            return true;
+        } catch (TimeoutException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (ExecutionException e) {
+            return true;
+        }
+    }
+
+    private void acordar(String id) {
+        CompletableFuture<Void> local = emAndamento.remove(id);
+        if (local != null) {
+            local.complete(null);
+        }
+    }
+}
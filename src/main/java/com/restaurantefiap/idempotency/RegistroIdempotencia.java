@@ -0,0 +1,26 @@
+package com.restaurantefiap.idempotency;
+
+import com.restaurantefiap.enums.EstadoIdempotencia;
+
+import java.time.LocalDateTime;
+
+/**
+ * Estado de uma chave de idempotência lido do armazém.
+ *
+ * @param id        hash da chave no escopo (usuário, método, URI)
+ * @param impressao hash do corpo da requisição original
+ * @param estado    reservada ou concluída
+ * @param criadoEm  instante da reserva (identifica a reserva)
+ * @param expiraEm  instante a partir do qual a chave pode ser descartada
+ * @param resposta  resposta gravada (nula enquanto em andamento)
+ * @author Danilo de Paula
+ */
+public record RegistroIdempotencia(
+        String id,
+        String impressao,
+        EstadoIdempotencia estado,
+        LocalDateTime criadoEm,
+        LocalDateTime expiraEm,
+        RespostaIdempotente resposta
+) {
+}
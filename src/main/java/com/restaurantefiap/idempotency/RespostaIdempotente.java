@@ -0,0 +1,20 @@
+package com.restaurantefiap.idempotency;
+
+/**
+ * Resposta gravada da primeira execução de uma requisição com {@code Idempotency-Key}.
+ *
+ * @param status      status HTTP
+ * @param contentType {@code Content-Type} (pode ser nulo)
+ * @param location    cabeçalho {@code Location} (pode ser nulo)
+ * @param etag        cabeçalho {@code ETag} (pode ser nulo)
+ * @param corpo       corpo da resposta
+ * @author Danilo de Paula
+ */
+public record RespostaIdempotente(
+        int status,
+        String contentType,
+        String location,
+        String etag,
+        byte[] corpo
+) {
+}
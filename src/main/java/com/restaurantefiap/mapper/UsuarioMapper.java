@@ -4,6 +4,7 @@ import com.restaurantefiap.dto.request.UsuarioRequestDTO;
 import com.restaurantefiap.dto.response.UsuarioResponseDTO;
 import com.restaurantefiap.entities.endereco.DadosEndereco;
 import com.restaurantefiap.entities.endereco.Endereco;
+import com.restaurantefiap.entities.usuario.RetratoUsuario;
 import com.restaurantefiap.entities.usuario.Usuario;
 
 /**
@@ -41,17 +42,28 @@ public final class UsuarioMapper {
                 usuario.getRole(),
                 usuario.getCriadoEm(),
                 usuario.getAtualizadoEm(),
-                paraEnderecoDto(usuario.getEndereco())
+                paraEnderecoDto(usuario.getEndereco()),
+                usuario.getVersao()
         );
     }
 
+    /**
+     * Converte entidade {@link Usuario} para {@link RetratoUsuario} (cópia imutável com o hash da senha).
+     *
+     * @param usuario entidade a ser convertida
+     * @return retrato do usuário
+     */
+    public static RetratoUsuario paraRetrato(Usuario usuario) {
+        return new RetratoUsuario(paraDto(usuario), usuario.getPassword());
+    }
+
     /**
      * Converte {@link Endereco} para {@link DadosEndereco}.
      *
      * @param endereco entidade de endereço
      * @return DTO de endereço ou null se entrada for null
      */
-    private static DadosEndereco paraEnderecoDto(Endereco endereco) {
+    public static DadosEndereco paraEnderecoDto(Endereco endereco) {
         if (endereco == null) {
             return null;
         }
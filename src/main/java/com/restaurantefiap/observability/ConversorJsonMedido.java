@@ -0,0 +1,35 @@
+package com.restaurantefiap.observability;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.restaurantefiap.enums.EtapaRequisicao;
+
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+/**
+ * Conversor JSON do Spring MVC que soma o tempo de escrita do corpo à etapa
+ * {@link EtapaRequisicao#SERIALIZACAO} da requisição.
+ *
+ * @author Danilo de Paula
+ */
+public class ConversorJsonMedido extends MappingJackson2HttpMessageConverter {
+
+    public ConversorJsonMedido(ObjectMapper objectMapper) {
+        super(objectMapper);
+    }
+
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        long inicio = System.nanoTime();
+        try {
+            super.writeInternal(object, type, outputMessage);
+        } finally {
+            CronometroRequisicao.acumular(EtapaRequisicao.SERIALIZACAO, System.nanoTime() - inicio);
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.restaurantefiap.observability;
+
+import com.restaurantefiap.enums.EtapaRequisicao;
+
+import java.util.Arrays;
+
+/**
+ * Tempo de cada etapa da requisição em andamento na thread, para o {@link PerfilLatencias}.
+ *
+ * <p>O {@link FiltroPerfilLatencias} abre e fecha o cronômetro; o último filtro da cadeia
+ * ({@link FiltroPerfilLatencias.Aplicacao}) marca a entrada e a saída do
+ * {@code DispatcherServlet}; repositórios, regras de autorização e a serialização somam o
+ * próprio tempo com {@link #acumular}. Fora de uma requisição medida
+ * (tarefas assíncronas, testes unitários, perfil desligado) {@link #acumular} não faz nada.</p>
+ *
+ * <p>{@link EtapaRequisicao#FILTRO} e {@link EtapaRequisicao#SERVICO} são calculadas no
+ * fechamento, descontando o que as outras etapas somaram fora e dentro do {@code DispatcherServlet}.</p>
+ *
+ * @author Danilo de Paula
+ */
+public final class CronometroRequisicao {
+
+    /** Valor de uma etapa que não ocorreu na requisição (ex.: sem acesso a repositório). */
+    public static final long AUSENTE = -1;
+
+    private static final ThreadLocal<CronometroRequisicao> ATUAL = new ThreadLocal<>();
+    private static final EtapaRequisicao[] ETAPAS = EtapaRequisicao.values();
+
+    private final long inicioNs;
+    private final long[] etapasNs = new long[ETAPAS.length];
+    private boolean naAplicacao;
+    private long inicioAplicacaoNs;
+    private long aplicacaoNs = AUSENTE;
+    private long aninhadoForaNs;
+    private long aninhadoDentroNs;
+
+    private CronometroRequisicao(long inicioNs) {
+        this.inicioNs = inicioNs;
+        Arrays.fill(etapasNs, AUSENTE);
+    }
+
+    // ========== Ciclo da Requisição ==========
+
+    /**
+     * Abre o cronômetro da requisição na thread atual.
+     *
+     * @param inicioNs {@link System#nanoTime()} da chegada da requisição
+     */
+    static void iniciar(long inicioNs) {
+        ATUAL.set(new CronometroRequisicao(inicioNs));
+    }
+
+    /**
+     * Fecha o cronômetro da thread atual.
+     *
+     * @param fimNs {@link System#nanoTime()} do fim da requisição
+     * @return nanossegundos por etapa (índice {@code ordinal()}), {@link #AUSENTE} nas que não
+     *         ocorreram; {@code null} se não havia cronômetro aberto
+     */
+    static long[] encerrar(long fimNs) {
+        CronometroRequisicao cronometro = ATUAL.get();
+        if (cronometro == null) {
+            return null;
+        }
+        ATUAL.remove();
+        return cronometro.etapas(fimNs);
+    }
+
+    /** Entrada no {@code DispatcherServlet}, depois de todos os filtros. */
+    static void entrarAplicacao() {
+        CronometroRequisicao cronometro = ATUAL.get();
+        if (cronometro != null && cronometro.aplicacaoNs == AUSENTE) {
+            cronometro.naAplicacao = true;
+            cronometro.inicioAplicacaoNs = System.nanoTime();
+        }
+    }
+
+    /** Saída do {@code DispatcherServlet}, com a resposta já serializada. */
+    static void sairAplicacao() {
+        CronometroRequisicao cronometro = ATUAL.get();
+        if (cronometro != null && cronometro.naAplicacao) {
+            cronometro.naAplicacao = false;
+            cronometro.aplicacaoNs = System.nanoTime() - cronometro.inicioAplicacaoNs;
+        }
+    }
+
+    // ========== Registro ==========
+
+    /**
+     * Soma a duração à etapa da requisição em andamento na thread, se houver.
+     *
+     * @param etapa     {@link EtapaRequisicao#AUTORIZACAO}, {@link EtapaRequisicao#REPOSITORIO}
+     *                  ou {@link EtapaRequisicao#SERIALIZACAO}
+     * @param duracaoNs tempo gasto
+     */
+    public static void acumular(EtapaRequisicao etapa, long duracaoNs) {
+        CronometroRequisicao cronometro = ATUAL.get();
+        if (cronometro == null) {
+            return;
+        }
+        int i = etapa.ordinal();
+        cronometro.etapasNs[i] = Math.max(0, cronometro.etapasNs[i]) + duracaoNs;
+        if (cronometro.naAplicacao) {
+            cronometro.aninhadoDentroNs += duracaoNs;
+        } else {
+            cronometro.aninhadoForaNs += duracaoNs;
+        }
+    }
+
+    // ========== Métodos Auxiliares ==========
+
+    private long[] etapas(long fimNs) {
+        if (naAplicacao) {
+            aplicacaoNs = fimNs - inicioAplicacaoNs;
+        }
+        long totalNs = fimNs - inicioNs;
+        long dentroNs = aplicacaoNs == AUSENTE ? 0 : aplicacaoNs;
+        etapasNs[EtapaRequisicao.FILTRO.ordinal()] = Math.max(0, totalNs - dentroNs - aninhadoForaNs);
+        if (aplicacaoNs != AUSENTE) {
+            etapasNs[EtapaRequisicao.SERVICO.ordinal()] = Math.max(0, aplicacaoNs - aninhadoDentroNs);
+        }
+        return etapasNs;
+    }
+}
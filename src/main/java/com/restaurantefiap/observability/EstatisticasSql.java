@@ -0,0 +1,287 @@
+package com.restaurantefiap.observability;
+
+import com.restaurantefiap.config.DataSourceMedido;
+import com.restaurantefiap.dto.response.EstatisticaSqlDTO;
+import com.restaurantefiap.enums.OperacaoSql;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Estatísticas por comando SQL normalizado, alimentadas pelo {@link DataSourceMedido}.
+ *
+ * <p>Substitui o {@code spring.jpa.show-sql}: em vez de escrever todo comando no stdout
+ * (de forma síncrona), conta execuções, erros e tempos por comando e só registra em log
+ * os que passam de {@code app.sql.lento-ms}. Os valores dos parâmetros nunca são
+ * capturados, e literais no texto do SQL viram {@code ?} na normalização — o log não
+ * expõe dados.</p>
+ *
+ * <p>A normalização (regex) roda uma vez por texto de SQL distinto; as execuções seguintes
+ * só consultam o mapa. A quantidade de comandos distintos é limitada por
+ * {@code app.sql.max-comandos}; o excedente é somado em {@value #OUTROS}. No Micrometer, o
+ * timer {@value #METRICA} tem só as tags {@code operacao} e {@code resultado}.</p>
+ *
+ * @author Danilo de Paula
+ */
+@Component
+@ConditionalOnProperty(name = "app.sql.estatisticas.habilitado", havingValue = "true", matchIfMissing = true)
+public class EstatisticasSql implements MeterBinder {
+
+    static final String METRICA = "sql.comandos";
+    static final String OUTROS = "<outros>";
+
+    private static final Logger log = LoggerFactory.getLogger(EstatisticasSql.class);
+
+    private static final Pattern TEXTO = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMERO = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern ESPACOS = Pattern.compile("\\s+");
+    private static final Pattern LISTA = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)");
+
+    private final long lentoNs;
+    private final int maxComandos;
+
+    /** Texto original → estatística (vários textos podem ter o mesmo comando normalizado). */
+    private final ConcurrentMap<String, Estatistica> porTexto = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Estatistica> porComando = new ConcurrentHashMap<>();
+    private final Estatistica outros = new Estatistica(OUTROS);
+    private final LongAdder lentos = new LongAdder();
+
+    private volatile Map<OperacaoSql, Timer> timersSucesso = Map.of();
+    private volatile Map<OperacaoSql, Timer> timersErro = Map.of();
+
+    public EstatisticasSql(@Value("${app.sql.lento-ms:200}") long lentoMs,
+                           @Value("${app.sql.max-comandos:500}") int maxComandos) {
+        this.lentoNs = TimeUnit.MILLISECONDS.toNanos(lentoMs);
+        this.maxComandos = maxComandos;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Map<OperacaoSql, Timer> sucesso = new EnumMap<>(OperacaoSql.class);
+        Map<OperacaoSql, Timer> erro = new EnumMap<>(OperacaoSql.class);
+        for (OperacaoSql operacao : OperacaoSql.values()) {
+            sucesso.put(operacao, timer(registry, operacao, "sucesso"));
+            erro.put(operacao, timer(registry, operacao, "erro"));
+        }
+        this.timersSucesso = sucesso;
+        this.timersErro = erro;
+    }
+
+    // ========== Registro ==========
+
+    /**
+     * Estatística do comando — chamada ao preparar o statement, fora da medição.
+     *
+     * @param sql texto do SQL como enviado ao driver
+     * @return estatística do comando normalizado
+     */
+    public Estatistica estatistica(String sql) {
+        Estatistica existente = porTexto.get(sql);
+        if (existente != null) {
+            return existente;
+        }
+        String comando = normalizar(sql);
+        Estatistica estatistica = porComando.size() < maxComandos
+                ? porComando.computeIfAbsent(comando, Estatistica::new)
+                : porComando.getOrDefault(comando, outros);
+        if (porTexto.size() < maxComandos * 4) {
+            porTexto.putIfAbsent(sql, estatistica);
+        }
+        return estatistica;
+    }
+
+    /**
+     * Registra uma execução.
+     *
+     * @param estatistica comando executado
+     * @param duracaoNs   tempo de execução
+     * @param erro        se a execução lançou exceção
+     */
+    public void registrar(Estatistica estatistica, long duracaoNs, boolean erro) {
+        estatistica.registrar(duracaoNs, erro);
+        Timer timer = (erro ? timersErro : timersSucesso).get(estatistica.operacao);
+        if (timer != null) {
+            timer.record(duracaoNs, TimeUnit.NANOSECONDS);
+        }
+        if (duracaoNs >= lentoNs) {
+            lentos.increment();
+            log.warn("SQL lento ({} ms{}): {}", TimeUnit.NANOSECONDS.toMillis(duracaoNs),
+                    erro ? ", com erro" : "", estatistica.comando);
+        }
+    }
+
+    // ========== Relatório ==========
+
+    /**
+     * Comandos com maior tempo total de execução.
+     *
+     * @param limite quantidade máxima de comandos
+     * @return estatísticas em ordem decrescente de tempo total
+     */
+    public List<EstatisticaSqlDTO> top(int limite) {
+        return Stream.concat(porComando.values().stream(), Stream.of(outros))
+                .filter(e -> e.execucoes.sum() > 0)
+                .sorted(Comparator.comparingLong((Estatistica e) -> e.totalNs.sum()).reversed())
+                .limit(limite)
+                .map(Estatistica::paraDto)
+                .toList();
+    }
+
+    /** Zera as estatísticas (ex.: antes de uma rodada de teste de carga). */
+    public void limpar() {
+        porTexto.clear();
+        porComando.clear();
+        outros.zerar();
+        lentos.reset();
+    }
+
+    /** Execuções acima do limite de lentidão desde a subida (ou a última limpeza). */
+    public long getLentos() {
+        return lentos.sum();
+    }
+
+    public int getComandos() {
+        return porComando.size();
+    }
+
+    // ========== Normalização ==========
+
+    /**
+     * Normaliza o SQL: literais viram {@code ?}, listas {@code (?, ?, ...)} viram
+     * {@code (?...)} e espaços são colapsados.
+     *
+     * @param sql texto original
+     * @return comando normalizado
+     */
+    public static String normalizar(String sql) {
+        String resultado = TEXTO.matcher(sql).replaceAll("?");
+        resultado = NUMERO.matcher(resultado).replaceAll("?");
+        resultado = ESPACOS.matcher(resultado).replaceAll(" ").strip();
+        return LISTA.matcher(resultado).replaceAll("(?...)");
+    }
+
+    // ========== Métodos Auxiliares ==========
+
+    private static Timer timer(MeterRegistry registry, OperacaoSql operacao, String resultado) {
+        return Timer.builder(METRICA)
+                .description("Execução de comandos SQL")
+                .tag("operacao", operacao.name().toLowerCase(Locale.ROOT))
+                .tag("resultado", resultado)
+                .register(registry);
+    }
+
+    /**
+     * Contadores de um comando. O histograma usa 8 faixas lineares por potência de 2
+     * (em microssegundos), como um HdrHistogram de baixa precisão.
+     */
+    public static final class Estatistica {
+
+        private static final int SUBFAIXAS_BITS = 3;
+        private static final int SUBFAIXAS = 1 << SUBFAIXAS_BITS;
+        private static final int FAIXAS = (64 - SUBFAIXAS_BITS) * SUBFAIXAS;
+
+        private final String comando;
+        private final OperacaoSql operacao;
+        private final LongAdder execucoes = new LongAdder();
+        private final LongAdder erros = new LongAdder();
+        private final LongAdder totalNs = new LongAdder();
+        private final AtomicLong maximoNs = new AtomicLong();
+        private final AtomicLongArray histograma = new AtomicLongArray(FAIXAS);
+
+        Estatistica(String comando) {
+            this.comando = comando;
+            this.operacao = OperacaoSql.de(comando);
+        }
+
+        public String getComando() {
+            return comando;
+        }
+
+        void registrar(long duracaoNs, boolean erro) {
+            execucoes.increment();
+            if (erro) {
+                erros.increment();
+            }
+            totalNs.add(duracaoNs);
+            maximoNs.accumulateAndGet(duracaoNs, Math::max);
+            histograma.incrementAndGet(faixa(duracaoNs / 1_000));
+        }
+
+        void zerar() {
+            execucoes.reset();
+            erros.reset();
+            totalNs.reset();
+            maximoNs.set(0);
+            for (int i = 0; i < FAIXAS; i++) {
+                histograma.set(i, 0);
+            }
+        }
+
+        /** Limite superior (µs) da faixa que contém o percentil. */
+        long percentilMicros(double p) {
+            long total = 0;
+            long[] contagens = new long[FAIXAS];
+            for (int i = 0; i < FAIXAS; i++) {
+                contagens[i] = histograma.get(i);
+                total += contagens[i];
+            }
+            long alvo = Math.max(1, (long) Math.ceil(p * total));
+            long acumulado = 0;
+            for (int i = 0; i < FAIXAS; i++) {
+                acumulado += contagens[i];
+                if (acumulado >= alvo) {
+                    return limiteSuperior(i);
+                }
+            }
+            return 0;
+        }
+
+        EstatisticaSqlDTO paraDto() {
+            long quantidade = execucoes.sum();
+            double totalMs = totalNs.sum() / 1e6;
+            return new EstatisticaSqlDTO(comando, operacao, quantidade, erros.sum(), totalMs,
+                    quantidade == 0 ? 0 : totalMs / quantidade,
+                    percentilMicros(0.50) / 1e3, percentilMicros(0.99) / 1e3, maximoNs.get() / 1e6);
+        }
+
+        static int faixa(long micros) {
+            if (micros < SUBFAIXAS) {
+                return (int) Math.max(0, micros);
+            }
+            int expoente = 63 - Long.numberOfLeadingZeros(micros);
+            int sub = (int) (micros >>> (expoente - SUBFAIXAS_BITS)) & (SUBFAIXAS - 1);
+            return (expoente - SUBFAIXAS_BITS + 1) * SUBFAIXAS + sub;
+        }
+
+        static long limiteSuperior(int faixa) {
+            if (faixa < SUBFAIXAS) {
+                return faixa;
+            }
+            int expoente = faixa / SUBFAIXAS + SUBFAIXAS_BITS - 1;
+            int sub = faixa % SUBFAIXAS;
+            long inferior = (long) (SUBFAIXAS + sub) << (expoente - SUBFAIXAS_BITS);
+            return inferior + (1L << (expoente - SUBFAIXAS_BITS)) - 1;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.restaurantefiap.observability;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+
+/**
+ * Base dos eventos JFR das etapas de autenticação e autorização.
+ *
+ * <p>Sem gravação ativa, {@code begin()}/{@code commit()} são praticamente gratuitos; com
+ * gravação, cada evento custa da ordem de centenas de nanossegundos — sem stack trace,
+ * que é a parte cara. Por isso os eventos podem ficar sempre habilitados. Os nomes dos
+ * eventos começam com {@value #PREFIXO}; {@link ResumoGravacaoJfr} resume uma gravação
+ * em percentis por etapa.</p>
+ *
+ * @author Danilo de Paula
+ */
+@Category({"Restaurante FIAP", "Autenticação"})
+@StackTrace(false)
+public abstract class EventoAutenticacao extends Event {
+
+    public static final String PREFIXO = "restaurantefiap.auth.";
+
+    @Label("Resultado")
+    String resultado;
+
+    /**
+     * Encerra a medição e grava o evento, se houver gravação ativa.
+     *
+     * @param resultado desfecho da etapa (valores fixos, ex.: {@code sucesso})
+     */
+    public void concluir(String resultado) {
+        end();
+        if (shouldCommit()) {
+            this.resultado = resultado;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.restaurantefiap.observability;
+
+import com.restaurantefiap.enums.EtapaRequisicao;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Verificação de uma regra do {@code AutorizacaoService} (usada nos {@code @PreAuthorize}).
+ *
+ * <p>O tempo da regra também vai para a etapa {@link EtapaRequisicao#AUTORIZACAO} do
+ * {@link CronometroRequisicao}, com ou sem gravação JFR ativa.</p>
+ *
+ * @author Danilo de Paula
+ */
+@Name(EventoAutenticacao.PREFIXO + "Autorizacao")
+@Label("Autorização")
+@Description("Verificação de regra de autorização")
+public final class EventoAutorizacao extends EventoAutenticacao {
+
+    @Label("Regra")
+    String regra;
+
+    /** Campos {@code transient} não entram no evento JFR. */
+    private transient long inicioNs;
+
+    public static EventoAutorizacao iniciar(String regra) {
+        EventoAutorizacao evento = new EventoAutorizacao();
+        evento.regra = regra;
+        evento.inicioNs = System.nanoTime();
+        evento.begin();
+        return evento;
+    }
+
+    /**
+     * Grava o evento com o resultado da regra e devolve a decisão.
+     *
+     * @param permitido decisão da regra
+     * @return a própria decisão
+     */
+    public boolean concluir(boolean permitido) {
+        concluir(permitido ? "permitido" : "negado");
+        CronometroRequisicao.acumular(EtapaRequisicao.AUTORIZACAO, System.nanoTime() - inicioNs);
+        return permitido;
+    }
+}
@@ -0,0 +1,23 @@
+package com.restaurantefiap.observability;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Carga do usuário pelo login no {@code JpaUserDetailsService} (single flight, circuit
+ * breaker e consulta ao banco).
+ *
+ * @author Danilo de Paula
+ */
+@Name(EventoAutenticacao.PREFIXO + "CarregarUsuario")
+@Label("Carregar Usuário")
+@Description("Busca do usuário pelo login para autenticação")
+public final class EventoCarregarUsuario extends EventoAutenticacao {
+
+    public static EventoCarregarUsuario iniciar() {
+        EventoCarregarUsuario evento = new EventoCarregarUsuario();
+        evento.begin();
+        return evento;
+    }
+}
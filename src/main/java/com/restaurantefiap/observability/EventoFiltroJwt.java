@@ -0,0 +1,23 @@
+package com.restaurantefiap.observability;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Trabalho do {@code JwtAuthenticationFilter} com um token Bearer: leitura do token,
+ * carga do usuário e validação — sem o restante da cadeia.
+ *
+ * @author Danilo de Paula
+ */
+@Name(EventoAutenticacao.PREFIXO + "FiltroJwt")
+@Label("Filtro JWT")
+@Description("Autenticação de uma requisição com token Bearer")
+public final class EventoFiltroJwt extends EventoAutenticacao {
+
+    public static EventoFiltroJwt iniciar() {
+        EventoFiltroJwt evento = new EventoFiltroJwt();
+        evento.begin();
+        return evento;
+    }
+}
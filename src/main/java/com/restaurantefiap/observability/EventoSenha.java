@@ -0,0 +1,26 @@
+package com.restaurantefiap.observability;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Geração ou verificação de hash de senha (BCrypt).
+ *
+ * @author Danilo de Paula
+ */
+@Name(EventoAutenticacao.PREFIXO + "Senha")
+@Label("Hash de Senha")
+@Description("Geração ou verificação de hash de senha")
+public final class EventoSenha extends EventoAutenticacao {
+
+    @Label("Operação")
+    String operacao;
+
+    public static EventoSenha iniciar(String operacao) {
+        EventoSenha evento = new EventoSenha();
+        evento.operacao = operacao;
+        evento.begin();
+        return evento;
+    }
+}
@@ -0,0 +1,26 @@
+package com.restaurantefiap.observability;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Assinatura ou leitura (parse e verificação da assinatura) de um token JWT.
+ *
+ * @author Danilo de Paula
+ */
+@Name(EventoAutenticacao.PREFIXO + "TokenJwt")
+@Label("Token JWT")
+@Description("Assinatura ou leitura de um token JWT")
+public final class EventoTokenJwt extends EventoAutenticacao {
+
+    @Label("Operação")
+    String operacao;
+
+    public static EventoTokenJwt iniciar(String operacao) {
+        EventoTokenJwt evento = new EventoTokenJwt();
+        evento.operacao = operacao;
+        evento.begin();
+        return evento;
+    }
+}
@@ -0,0 +1,83 @@
+package com.restaurantefiap.observability;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+
+import org.slf4j.MDC;
+import org.slf4j.Marker;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Amostragem das categorias de log de alto volume (por padrão, o SQL e os binds do Hibernate),
+ * configurada no {@code logback-spring.xml}.
+ *
+ * <p>A decisão é por requisição: o hash do id de correlação ({@link FiltroCorrelacao}) define
+ * se a requisição está na amostra, e então todos os seus comandos aparecem — uma requisição
+ * amostrada tem o rastro completo, em vez de linhas soltas de várias requisições. Fora de
+ * requisições (tarefas agendadas, subida), sorteia por evento.</p>
+ *
+ * <p>Como roda antes da verificação de nível, também responde aos {@code isDebugEnabled()}:
+ * numa requisição fora da amostra o Hibernate nem monta a mensagem. {@code WARN} e
+ * {@code ERROR} nunca são descartados.</p>
+ *
+ * @author Danilo de Paula
+ */
+public class FiltroAmostragemLog extends TurboFilter {
+
+    private static final int ESCALA = 10_000;
+
+    private String[] categorias = new String[0];
+    private String[] prefixos = new String[0];
+    private int limiar = ESCALA;
+
+    /**
+     * Fração das requisições cujos logs das categorias são mantidos (0 a 1; 1 desliga a amostragem).
+     */
+    public void setTaxa(double taxa) {
+        if (taxa < 0 || taxa > 1) {
+            throw new IllegalArgumentException("Taxa de amostragem deve estar entre 0 e 1: " + taxa);
+        }
+        this.limiar = (int) Math.round(taxa * ESCALA);
+    }
+
+    /**
+     * Loggers amostrados, separados por vírgula (incluem os loggers filhos).
+     */
+    public void setCategorias(String categorias) {
+        this.categorias = Arrays.stream(categorias.split(","))
+                .map(String::trim)
+                .filter(c -> !c.isEmpty())
+                .toArray(String[]::new);
+        this.prefixos = Arrays.stream(this.categorias).map(c -> c + ".").toArray(String[]::new);
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params,
+                              Throwable t) {
+        if (limiar >= ESCALA || level.levelInt >= Level.WARN_INT || !amostrado(logger.getName())) {
+            return FilterReply.NEUTRAL;
+        }
+        return naAmostra() ? FilterReply.NEUTRAL : FilterReply.DENY;
+    }
+
+    private boolean amostrado(String logger) {
+        for (int i = 0; i < categorias.length; i++) {
+            if (logger.startsWith(prefixos[i]) || logger.equals(categorias[i])) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean naAmostra() {
+        String id = MDC.get(FiltroCorrelacao.CHAVE_MDC);
+        int sorteio = id != null
+                ? Math.floorMod(id.hashCode(), ESCALA)
+                : ThreadLocalRandom.current().nextInt(ESCALA);
+        return sorteio < limiar;
+    }
+}
@@ -0,0 +1,69 @@
+package com.restaurantefiap.observability;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.slf4j.MDC;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Atribui um id de correlação a cada requisição e o coloca no MDC ({@value #CHAVE_MDC}), de
+ * onde sai em todas as linhas de log da requisição (inclusive no JSON) e decide a amostragem
+ * de {@link FiltroAmostragemLog}.
+ *
+ * <p>Reaproveita o {@value #CABECALHO} recebido, se válido (até 64 caracteres de
+ * {@code [A-Za-z0-9._-]}), para seguir o id de um gateway ou de outro serviço; senão gera um
+ * com {@link ThreadLocalRandom} (sem a contenção do {@code SecureRandom} de
+ * {@code UUID.randomUUID()}). O id volta no cabeçalho da resposta.</p>
+ *
+ * @author Danilo de Paula
+ */
+public class FiltroCorrelacao extends OncePerRequestFilter {
+
+    public static final String CABECALHO = "X-Correlation-Id";
+    public static final String CHAVE_MDC = "correlationId";
+
+    private static final int TAMANHO_MAXIMO = 64;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String recebido = request.getHeader(CABECALHO);
+        String id = valido(recebido) ? recebido : gerar();
+
+        MDC.put(CHAVE_MDC, id);
+        response.setHeader(CABECALHO, id);
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            MDC.remove(CHAVE_MDC);
+        }
+    }
+
+    /** 16 dígitos hexadecimais (64 bits aleatórios). */
+    static String gerar() {
+        String hex = Long.toHexString(ThreadLocalRandom.current().nextLong());
+        return hex.length() == 16 ? hex : "0".repeat(16 - hex.length()) + hex;
+    }
+
+    /** Evita injeção de quebras de linha ou texto arbitrário nos logs. */
+    static boolean valido(String id) {
+        if (id == null || id.isEmpty() || id.length() > TAMANHO_MAXIMO) {
+            return false;
+        }
+        for (int i = 0; i < id.length(); i++) {
+            char c = id.charAt(i);
+            boolean permitido = (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+                    || c == '.' || c == '_' || c == '-';
+            if (!permitido) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
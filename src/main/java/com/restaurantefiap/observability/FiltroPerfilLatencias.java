@@ -0,0 +1,73 @@
+package com.restaurantefiap.observability;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Mede cada requisição para o {@link PerfilLatencias}: abre o {@link CronometroRequisicao}
+ * na chegada e, no fim, registra o tempo total na rota e o tempo de cada etapa.
+ *
+ * <p>Fica no começo da cadeia; {@link Aplicacao}, no fim dela, separa o tempo dos filtros
+ * do tempo do {@code DispatcherServlet}.</p>
+ *
+ * <p>A rota é o método mais o template do Spring MVC ({@code GET /v1/usuarios/{id}}), de
+ * baixa cardinalidade. Requisições que não chegam a um controller (recusadas pelo limite de
+ * concorrência ou pelo Spring Security, ou sem rota) ficam em {@value #SEM_ROTA}.</p>
+ *
+ * @author Danilo de Paula
+ */
+public class FiltroPerfilLatencias extends OncePerRequestFilter {
+
+    static final String SEM_ROTA = "<sem rota>";
+
+    private final PerfilLatencias perfil;
+
+    public FiltroPerfilLatencias(PerfilLatencias perfil) {
+        this.perfil = perfil;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        long inicio = System.nanoTime();
+        CronometroRequisicao.iniciar(inicio);
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            long fim = System.nanoTime();
+            long[] etapas = CronometroRequisicao.encerrar(fim);
+            if (etapas != null) {
+                perfil.registrar(rota(request), fim - inicio, etapas);
+            }
+        }
+    }
+
+    static String rota(HttpServletRequest request) {
+        Object template = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return template == null ? SEM_ROTA : request.getMethod() + " " + template;
+    }
+
+    /**
+     * Último filtro da cadeia: marca a entrada e a saída do {@code DispatcherServlet}.
+     */
+    public static class Aplicacao extends OncePerRequestFilter {
+
+        @Override
+        protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+                throws ServletException, IOException {
+            CronometroRequisicao.entrarAplicacao();
+            try {
+                chain.doFilter(request, response);
+            } finally {
+                CronometroRequisicao.sairAplicacao();
+            }
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package com.restaurantefiap.observability;
+
+import com.restaurantefiap.concurrency.FiltroLimiteConcorrencia;
+import com.restaurantefiap.concurrency.LimiteAdaptativo;
+import com.restaurantefiap.concurrency.SingleFlight;
+import com.restaurantefiap.config.DataSourceLimitado;
+import com.restaurantefiap.enums.EstadoCircuito;
+import com.restaurantefiap.enums.ParticaoConcorrencia;
+import com.restaurantefiap.idempotency.IdempotenciaService;
+import com.restaurantefiap.resilience.CircuitBreaker;
+import com.restaurantefiap.service.CacheJsonUsuarios;
+import com.restaurantefiap.service.CoalescedorLeiturasUsuario;
+import com.restaurantefiap.service.ResilienciaLeiturasUsuario;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.util.Locale;
+
+/**
+ * Publica no Micrometer os contadores que os componentes já mantêm em memória.
+ *
+ * <p>Os valores são lidos no momento da coleta (gauges e {@link FunctionCounter}s): nada
+ * muda no caminho das requisições. Todas as tags têm poucos valores possíveis — nome do
+ * componente, partição, estado ou resultado, nunca IDs ou logins.</p>
+ *
+ * @author Danilo de Paula
+ */
+@Component
+public class MetricasComponentes implements MeterBinder {
+
+    private final CoalescedorLeiturasUsuario coalescedor;
+    private final CacheJsonUsuarios cacheJson;
+    private final ResilienciaLeiturasUsuario resiliencia;
+    private final IdempotenciaService idempotencia;
+    private final ObjectProvider<FiltroLimiteConcorrencia> filtroLimite;
+    private final ObjectProvider<DataSource> dataSource;
+
+    public MetricasComponentes(CoalescedorLeiturasUsuario coalescedor,
+                               CacheJsonUsuarios cacheJson,
+                               ResilienciaLeiturasUsuario resiliencia,
+                               IdempotenciaService idempotencia,
+                               ObjectProvider<FiltroLimiteConcorrencia> filtroLimite,
+                               ObjectProvider<DataSource> dataSource) {
+        this.coalescedor = coalescedor;
+        this.cacheJson = cacheJson;
+        this.resiliencia = resiliencia;
+        this.idempotencia = idempotencia;
+        this.filtroLimite = filtroLimite;
+        this.dataSource = dataSource;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        singleFlight(registry, coalescedor.getPorId());
+        singleFlight(registry, coalescedor.getPorLogin());
+        cacheJson(registry);
+        resiliencia(registry);
+        idempotencia(registry);
+
+        FiltroLimiteConcorrencia filtro = filtroLimite.getIfAvailable();
+        if (filtro != null) {
+            filtro.getLimites().forEach((particao, limite) -> limiteConcorrencia(registry, particao, limite));
+        }
+        if (dataSource.getIfAvailable() instanceof DataSourceLimitado limitado) {
+            dataSourceLimitado(registry, limitado);
+        }
+    }
+
+    // ========== Leituras de Usuários ==========
+
+    private static void singleFlight(MeterRegistry registry, SingleFlight<?, ?> singleFlight) {
+        String nome = singleFlight.getNome();
+        FunctionCounter.builder("usuarios.coalescencia.chamadas", singleFlight, SingleFlight::getExecutadas)
+                .description("Leituras por single flight: executadas no banco ou coalescidas em outra")
+                .tag("nome", nome).tag("resultado", "executada")
+                .register(registry);
+        FunctionCounter.builder("usuarios.coalescencia.chamadas", singleFlight, SingleFlight::getCoalescidas)
+                .tag("nome", nome).tag("resultado", "coalescida")
+                .register(registry);
+        FunctionCounter.builder("usuarios.coalescencia.chamadas", singleFlight, SingleFlight::getTimeouts)
+                .tag("nome", nome).tag("resultado", "timeout")
+                .register(registry);
+        Gauge.builder("usuarios.coalescencia.em.voo", singleFlight, SingleFlight::getEmVoo)
+                .description("Consultas em andamento no single flight")
+                .tag("nome", nome)
+                .register(registry);
+    }
+
+    private void cacheJson(MeterRegistry registry) {
+        FunctionCounter.builder("usuarios.cache.json.consultas", cacheJson, CacheJsonUsuarios::getAcertos)
+                .description("Consultas ao cache de JSON de usuários")
+                .tag("resultado", "acerto")
+                .register(registry);
+        FunctionCounter.builder("usuarios.cache.json.consultas", cacheJson, CacheJsonUsuarios::getFaltas)
+                .tag("resultado", "falta")
+                .register(registry);
+        FunctionCounter.builder("usuarios.cache.json.remocoes", cacheJson, CacheJsonUsuarios::getRemocoes)
+                .register(registry);
+        Gauge.builder("usuarios.cache.json.tamanho", cacheJson, CacheJsonUsuarios::getTamanho)
+                .description("Usuários com JSON em cache")
+                .register(registry);
+    }
+
+    private void resiliencia(MeterRegistry registry) {
+        CircuitBreaker circuito = resiliencia.getCircuito();
+        String nome = circuito.getNome();
+        for (EstadoCircuito estado : EstadoCircuito.values()) {
+            Gauge.builder("circuito.estado", circuito, c -> c.getEstado() == estado ? 1 : 0)
+                    .description("1 no estado atual do circuit breaker, 0 nos demais")
+                    .tag("nome", nome).tag("estado", estado.name().toLowerCase(Locale.ROOT))
+                    .register(registry);
+        }
+        FunctionCounter.builder("circuito.aberturas", circuito, CircuitBreaker::getAberturas)
+                .tag("nome", nome)
+                .register(registry);
+        FunctionCounter.builder("circuito.rejeicoes", circuito, CircuitBreaker::getRejeicoes)
+                .tag("nome", nome)
+                .register(registry);
+        FunctionCounter.builder("usuarios.resiliencia.desatualizadas", resiliencia,
+                        ResilienciaLeiturasUsuario::getServidasDesatualizadas)
+                .description("Respostas servidas do último valor conhecido (X-Stale)")
+                .register(registry);
+        Gauge.builder("usuarios.resiliencia.tamanho", resiliencia, ResilienciaLeiturasUsuario::getTamanho)
+                .register(registry);
+    }
+
+    // ========== Requisições ==========
+
+    private void idempotencia(MeterRegistry registry) {
+        FunctionCounter.builder("idempotencia.requisicoes", idempotencia, IdempotenciaService::getExecucoes)
+                .description("Requisições com Idempotency-Key por resultado")
+                .tag("resultado", "executada")
+                .register(registry);
+        FunctionCounter.builder("idempotencia.requisicoes", idempotencia, IdempotenciaService::getRepeticoes)
+                .tag("resultado", "repetida")
+                .register(registry);
+        FunctionCounter.builder("idempotencia.requisicoes", idempotencia, IdempotenciaService::getConflitos)
+                .tag("resultado", "conflito")
+                .register(registry);
+    }
+
+    private static void limiteConcorrencia(MeterRegistry registry, ParticaoConcorrencia particao,
+                                           LimiteAdaptativo limite) {
+        String tag = particao.name().toLowerCase(Locale.ROOT);
+        Gauge.builder("limite.concorrencia.limite", limite, LimiteAdaptativo::getLimite)
+                .description("Limite adaptativo atual da partição")
+                .tag("particao", tag)
+                .register(registry);
+        Gauge.builder("limite.concorrencia.em.uso", limite, LimiteAdaptativo::getEmUso)
+                .tag("particao", tag)
+                .register(registry);
+        FunctionCounter.builder("limite.concorrencia.requisicoes", limite, LimiteAdaptativo::getAceitas)
+                .tag("particao", tag).tag("resultado", "aceita")
+                .register(registry);
+        FunctionCounter.builder("limite.concorrencia.requisicoes", limite, LimiteAdaptativo::getRejeicoes)
+                .tag("particao", tag).tag("resultado", "rejeitada")
+                .register(registry);
+    }
+
+    // ========== Banco ==========
+
+    private static void dataSourceLimitado(MeterRegistry registry, DataSourceLimitado limitado) {
+        Gauge.builder("banco.conexoes.limite.em.uso", limitado, DataSourceLimitado::getEmUso)
+                .description("Conexões emprestadas pelo semáforo à frente do pool")
+                .register(registry);
+        Gauge.builder("banco.conexoes.limite.aguardando", limitado, DataSourceLimitado::getAguardando)
+                .register(registry);
+        Gauge.builder("banco.conexoes.limite.maximo", limitado, DataSourceLimitado::getMaximo)
+                .register(registry);
+        FunctionCounter.builder("banco.conexoes.limite.rejeicoes", limitado, DataSourceLimitado::getRejeicoes)
+                .register(registry);
+    }
+}
@@ -0,0 +1,174 @@
+package com.restaurantefiap.observability;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Detecta, via JFR, virtual threads presas à carrier thread ({@code jdk.VirtualThreadPinned}).
+ *
+ * <p>Uma virtual thread fica "pinned" quando bloqueia dentro de um bloco {@code synchronized}
+ * ou de código nativo: a carrier thread fica ocupada e o ganho de escala some. O alvo
+ * principal é o caminho do driver MySQL/Hikari. Cada ocorrência acima de
+ * {@code app.jfr.pinning.limite-ms} é agregada pelo frame de origem — o primeiro frame
+ * do driver/pool ou, na falta dele, o primeiro frame da aplicação — e fica disponível
+ * em {@link #relatorio()} (exposto em {@code /internal/pinning}).</p>
+ *
+ * <p>Ativo com {@code app.jfr.pinning.habilitado=true} (perfil {@code virtual}).</p>
+ *
+ * @author Danilo de Paula
+ */
+@Component
+@ConditionalOnProperty(name = "app.jfr.pinning.habilitado", havingValue = "true")
+public class MonitorPinningVirtualThreads implements SmartLifecycle {
+
+    static final String EVENTO = "jdk.VirtualThreadPinned";
+
+    private static final Logger log = LoggerFactory.getLogger(MonitorPinningVirtualThreads.class);
+
+    private static final List<String> PACOTES_DRIVER = List.of("com.mysql.", "com.zaxxer.hikari.", "org.hibernate.");
+    private static final String PACOTE_APLICACAO = "com.restaurantefiap.";
+    private static final String ORIGEM_DESCONHECIDA = "desconhecida";
+
+    private final Duration limite;
+    private final ConcurrentMap<String, Agregado> porOrigem = new ConcurrentHashMap<>();
+    private final LongAdder total = new LongAdder();
+
+    private volatile RecordingStream stream;
+
+    public MonitorPinningVirtualThreads(@Value("${app.jfr.pinning.limite-ms:20}") long limiteMs) {
+        this.limite = Duration.ofMillis(limiteMs);
+    }
+
+    // ========== Ciclo de vida ==========
+
+    @Override
+    public void start() {
+        RecordingStream novo = new RecordingStream();
+        novo.enable(EVENTO).withThreshold(limite).withStackTrace();
+        novo.onEvent(EVENTO, this::processar);
+        novo.startAsync();
+        stream = novo;
+        log.info("Monitor de pinning de virtual threads ativo (limite {} ms).", limite.toMillis());
+    }
+
+    @Override
+    public void stop() {
+        RecordingStream atual = stream;
+        stream = null;
+        if (atual != null) {
+            atual.close();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return stream != null;
+    }
+
+    // ========== Relatório ==========
+
+    /**
+     * Retorna as origens de pinning ordenadas pela duração total (maior primeiro).
+     *
+     * @return ocorrências agregadas por frame de origem
+     */
+    public List<OcorrenciaPinning> relatorio() {
+        return porOrigem.entrySet().stream()
+                .map(e -> e.getValue().paraOcorrencia(e.getKey()))
+                .sorted(Comparator.comparingLong(OcorrenciaPinning::duracaoTotalMs).reversed())
+                .toList();
+    }
+
+    /**
+     * Total de eventos de pinning acima do limite desde a subida.
+     *
+     * @return quantidade de eventos
+     */
+    public long getTotal() {
+        return total.sum();
+    }
+
+    // ========== Métodos Auxiliares ==========
+
+    private void processar(RecordedEvent evento) {
+        registrar(origem(evento.getStackTrace()), evento.getDuration());
+    }
+
+    /**
+     * Agrega uma ocorrência. Separado do JFR para permitir teste direto.
+     */
+    void registrar(String origem, Duration duracao) {
+        long primeira = porOrigem.computeIfAbsent(origem, chave -> new Agregado()).adicionar(duracao);
+        total.increment();
+        if (primeira == 1) {
+            log.warn("Virtual thread presa à carrier thread por {} ms em {} (primeira ocorrência desta origem).",
+                    duracao.toMillis(), origem);
+        }
+    }
+
+    static String origem(RecordedStackTrace pilha) {
+        if (pilha == null) {
+            return ORIGEM_DESCONHECIDA;
+        }
+        String primeiroDaAplicacao = null;
+        for (RecordedFrame frame : pilha.getFrames()) {
+            if (!frame.isJavaFrame() || frame.getMethod() == null) {
+                continue;
+            }
+            String classe = frame.getMethod().getType().getName();
+            String descricao = classe + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+            if (PACOTES_DRIVER.stream().anyMatch(classe::startsWith)) {
+                return descricao;
+            }
+            if (primeiroDaAplicacao == null && classe.startsWith(PACOTE_APLICACAO)) {
+                primeiroDaAplicacao = descricao;
+            }
+        }
+        return primeiroDaAplicacao != null ? primeiroDaAplicacao : ORIGEM_DESCONHECIDA;
+    }
+
+    /**
+     * Ocorrências de pinning de uma origem.
+     *
+     * @param origem          frame de origem ({@code classe.metodo:linha})
+     * @param ocorrencias     quantidade de eventos
+     * @param duracaoTotalMs  soma das durações
+     * @param duracaoMaximaMs maior duração observada
+     */
+    public record OcorrenciaPinning(String origem, long ocorrencias, long duracaoTotalMs, long duracaoMaximaMs) {
+    }
+
+    private static final class Agregado {
+        private final AtomicLong ocorrencias = new AtomicLong();
+        private final AtomicLong duracaoTotalMs = new AtomicLong();
+        private final AtomicLong duracaoMaximaMs = new AtomicLong();
+
+        long adicionar(Duration duracao) {
+            long ms = duracao.toMillis();
+            duracaoTotalMs.addAndGet(ms);
+            duracaoMaximaMs.accumulateAndGet(ms, Math::max);
+            return ocorrencias.incrementAndGet();
+        }
+
+        OcorrenciaPinning paraOcorrencia(String origem) {
+            return new OcorrenciaPinning(origem, ocorrencias.get(), duracaoTotalMs.get(), duracaoMaximaMs.get());
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.restaurantefiap.observability;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link PasswordEncoder} que mede o tempo de hash e de verificação do encoder real (BCrypt).
+ *
+ * <p>O BCrypt é propositalmente lento — costuma ser o maior custo de CPU do login e do
+ * cadastro. O timer {@value #METRICA} tem as tags {@code operacao} ({@code gerar},
+ * {@code verificar}) e {@code resultado} ({@code sucesso}, {@code senha_incorreta}); cada
+ * operação também emite o evento JFR {@link EventoSenha}. Tanto o login (via
+ * {@code DaoAuthenticationProvider}) quanto o {@code SpringPasswordHasher} passam por aqui.</p>
+ *
+ * @author Danilo de Paula
+ */
+public class PasswordEncoderMedido implements PasswordEncoder {
+
+    static final String METRICA = "senha.hash";
+
+    private final PasswordEncoder alvo;
+    private final Timer geracoes;
+    private final Timer verificacoesCorretas;
+    private final Timer verificacoesIncorretas;
+
+    public PasswordEncoderMedido(PasswordEncoder alvo, MeterRegistry meterRegistry) {
+        this.alvo = alvo;
+        this.geracoes = timer(meterRegistry, "gerar", "sucesso");
+        this.verificacoesCorretas = timer(meterRegistry, "verificar", "sucesso");
+        this.verificacoesIncorretas = timer(meterRegistry, "verificar", "senha_incorreta");
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        EventoSenha evento = EventoSenha.iniciar("gerar");
+        long inicio = System.nanoTime();
+        String hash = alvo.encode(rawPassword);
+        geracoes.record(System.nanoTime() - inicio, TimeUnit.NANOSECONDS);
+        evento.concluir("sucesso");
+        return hash;
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        EventoSenha evento = EventoSenha.iniciar("verificar");
+        long inicio = System.nanoTime();
+        boolean confere = alvo.matches(rawPassword, encodedPassword);
+        (confere ? verificacoesCorretas : verificacoesIncorretas)
+                .record(System.nanoTime() - inicio, TimeUnit.NANOSECONDS);
+        evento.concluir(confere ? "sucesso" : "senha_incorreta");
+        return confere;
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return alvo.upgradeEncoding(encodedPassword);
+    }
+
+    /** Encoder real, sem medição. */
+    public PasswordEncoder getAlvo() {
+        return alvo;
+    }
+
+    private static Timer timer(MeterRegistry meterRegistry, String operacao, String resultado) {
+        return Timer.builder(METRICA)
+                .description("Hash e verificação de senhas")
+                .tag("operacao", operacao)
+                .tag("resultado", resultado)
+                .register(meterRegistry);
+    }
+}
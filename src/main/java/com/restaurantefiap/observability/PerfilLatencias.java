@@ -0,0 +1,231 @@
+package com.restaurantefiap.observability;
+
+import com.restaurantefiap.dto.response.LatenciaDTO;
+import com.restaurantefiap.dto.response.PerfilLatenciasDTO;
+import com.restaurantefiap.enums.EtapaRequisicao;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.PackedHistogram;
+import org.HdrHistogram.Recorder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Percentis de latência por rota e por etapa da requisição em janelas deslizantes
+ * ({@code /internal/perf}), alimentados pelo {@link FiltroPerfilLatencias}.
+ *
+ * <p>Cada série (uma rota ou uma etapa) grava num {@link Recorder} do HdrHistogram: a
+ * gravação não usa lock e custa dezenas de nanossegundos. A cada fatia de
+ * {@code app.perf.fatia-segundos} o conteúdo do recorder é somado a um histograma
+ * compactado da fatia; as últimas {@code app.perf.fatias} fatias formam a janela máxima.
+ * Uma consulta soma as fatias da janela pedida — só a consulta e a rotação disputam o
+ * monitor da série, nunca as requisições.</p>
+ *
+ * <p>Os valores são gravados em microssegundos, com 2 dígitos significativos. A quantidade
+ * de rotas é limitada por {@code app.perf.max-rotas}; o excedente é somado em
+ * {@value #OUTRAS}. Sem agendamento ({@code app.agendamento.habilitado=false}) as fatias
+ * giram nas consultas.</p>
+ *
+ * @author Danilo de Paula
+ */
+@Component
+@ConditionalOnProperty(name = "app.perf.habilitado", havingValue = "true", matchIfMissing = true)
+public class PerfilLatencias {
+
+    static final String OUTRAS = "<outras>";
+
+    private static final int DIGITOS = 2;
+    private static final EtapaRequisicao[] ETAPAS = EtapaRequisicao.values();
+
+    private final long fatiaMs;
+    private final int fatias;
+    private final int maxRotas;
+
+    private final ConcurrentMap<String, Serie> rotas = new ConcurrentHashMap<>();
+    private final Serie outras;
+    private final Map<EtapaRequisicao, Serie> etapas = new EnumMap<>(EtapaRequisicao.class);
+    private final Serie[] etapasPorOrdinal = new Serie[ETAPAS.length];
+
+    public PerfilLatencias(@Value("${app.perf.fatia-segundos:10}") int fatiaSegundos,
+                           @Value("${app.perf.fatias:30}") int fatias,
+                           @Value("${app.perf.max-rotas:200}") int maxRotas) {
+        if (fatiaSegundos <= 0 || fatias <= 0) {
+            throw new IllegalArgumentException("app.perf.fatia-segundos e app.perf.fatias devem ser positivos.");
+        }
+        this.fatiaMs = TimeUnit.SECONDS.toMillis(fatiaSegundos);
+        this.fatias = fatias;
+        this.maxRotas = maxRotas;
+        this.outras = new Serie(OUTRAS, fatias);
+        for (EtapaRequisicao etapa : ETAPAS) {
+            Serie serie = new Serie(etapa.name(), fatias);
+            etapas.put(etapa, serie);
+            etapasPorOrdinal[etapa.ordinal()] = serie;
+        }
+    }
+
+    // ========== Registro ==========
+
+    /**
+     * Registra uma requisição.
+     *
+     * @param rota    método e template da rota (ex.: {@code GET /v1/usuarios/{id}})
+     * @param totalNs tempo total da requisição
+     * @param etapaNs nanossegundos por etapa (índice {@code ordinal()}), negativo nas que não ocorreram
+     */
+    public void registrar(String rota, long totalNs, long[] etapaNs) {
+        serie(rota).gravar(totalNs);
+        for (int i = 0; i < etapaNs.length; i++) {
+            if (etapaNs[i] >= 0) {
+                etapasPorOrdinal[i].gravar(etapaNs[i]);
+            }
+        }
+    }
+
+    /** Fecha a fatia atual de todas as séries. */
+    @Scheduled(fixedRateString = "${app.perf.fatia-segundos:10}", timeUnit = TimeUnit.SECONDS)
+    public void rotacionar() {
+        rotacionar(System.currentTimeMillis());
+    }
+
+    void rotacionar(long agoraMs) {
+        long fatia = agoraMs / fatiaMs;
+        for (Serie serie : series()) {
+            serie.descarregar(fatia);
+        }
+    }
+
+    // ========== Relatório ==========
+
+    /**
+     * Percentis na janela pedida, que é arredondada para fatias inteiras e limitada à janela máxima.
+     *
+     * @param janelaSegundos duração da janela
+     * @return rotas com amostras na janela e todas as etapas
+     */
+    public PerfilLatenciasDTO retrato(int janelaSegundos) {
+        return retrato(janelaSegundos, System.currentTimeMillis());
+    }
+
+    PerfilLatenciasDTO retrato(int janelaSegundos, long agoraMs) {
+        rotacionar(agoraMs);
+        long fatia = agoraMs / fatiaMs;
+        int quantidade = Math.clamp((TimeUnit.SECONDS.toMillis(janelaSegundos) + fatiaMs - 1) / fatiaMs,
+                1, fatias);
+
+        List<LatenciaDTO> porRota = new ArrayList<>();
+        for (Serie serie : rotas.values()) {
+            LatenciaDTO latencia = serie.latencia(fatia, quantidade);
+            if (latencia.amostras() > 0) {
+                porRota.add(latencia);
+            }
+        }
+        LatenciaDTO latenciaOutras = outras.latencia(fatia, quantidade);
+        if (latenciaOutras.amostras() > 0) {
+            porRota.add(latenciaOutras);
+        }
+        porRota.sort(Comparator.comparing(LatenciaDTO::nome));
+
+        List<LatenciaDTO> porEtapa = etapas.values().stream()
+                .map(serie -> serie.latencia(fatia, quantidade))
+                .toList();
+        return new PerfilLatenciasDTO((int) (quantidade * fatiaMs / 1000), porRota, porEtapa);
+    }
+
+    /** Zera todas as séries (ex.: antes de uma rodada de teste de carga). */
+    public void limpar() {
+        rotas.clear();
+        for (Serie serie : series()) {
+            serie.zerar();
+        }
+    }
+
+    // ========== Métodos Auxiliares ==========
+
+    private Serie serie(String rota) {
+        Serie existente = rotas.get(rota);
+        if (existente != null) {
+            return existente;
+        }
+        return rotas.size() < maxRotas
+                ? rotas.computeIfAbsent(rota, nome -> new Serie(nome, fatias))
+                : outras;
+    }
+
+    private List<Serie> series() {
+        List<Serie> todas = new ArrayList<>(rotas.values());
+        todas.add(outras);
+        todas.addAll(etapas.values());
+        return todas;
+    }
+
+    /**
+     * Recorder de uma rota ou etapa e o anel com as últimas fatias fechadas.
+     */
+    static final class Serie {
+
+        private final String nome;
+        private final Recorder recorder = new Recorder(DIGITOS);
+        private final PackedHistogram[] historico;
+        private final long[] fatiaDoHistorico;
+        private Histogram intervalo;
+
+        Serie(String nome, int fatias) {
+            this.nome = nome;
+            this.historico = new PackedHistogram[fatias];
+            this.fatiaDoHistorico = new long[fatias];
+        }
+
+        void gravar(long duracaoNs) {
+            recorder.recordValue(Math.max(0, duracaoNs / 1_000));
+        }
+
+        /** Soma o que o recorder acumulou à fatia atual. */
+        synchronized void descarregar(long fatia) {
+            intervalo = recorder.getIntervalHistogram(intervalo);
+            if (intervalo.getTotalCount() == 0) {
+                return;
+            }
+            int posicao = (int) (fatia % historico.length);
+            if (historico[posicao] == null || fatiaDoHistorico[posicao] != fatia) {
+                historico[posicao] = new PackedHistogram(DIGITOS);
+                fatiaDoHistorico[posicao] = fatia;
+            }
+            historico[posicao].add(intervalo);
+        }
+
+        synchronized LatenciaDTO latencia(long fatia, int quantidade) {
+            Histogram soma = new Histogram(DIGITOS);
+            for (int i = 0; i < historico.length; i++) {
+                if (historico[i] != null && fatiaDoHistorico[i] > fatia - quantidade && fatiaDoHistorico[i] <= fatia) {
+                    soma.add(historico[i]);
+                }
+            }
+            return new LatenciaDTO(nome, soma.getTotalCount(),
+                    emMs(soma.getValueAtPercentile(50)), emMs(soma.getValueAtPercentile(90)),
+                    emMs(soma.getValueAtPercentile(99)), emMs(soma.getValueAtPercentile(99.9)),
+                    emMs(soma.getMaxValue()));
+        }
+
+        synchronized void zerar() {
+            recorder.reset();
+            intervalo = null;
+            Arrays.fill(historico, null);
+        }
+
+        private static double emMs(long micros) {
+            return micros / 1_000.0;
+        }
+    }
+}
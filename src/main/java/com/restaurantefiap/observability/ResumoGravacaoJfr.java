@@ -0,0 +1,133 @@
+package com.restaurantefiap.observability;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Ferramenta de linha de comando que resume uma gravação JFR em percentis por etapa da
+ * autenticação (eventos {@link EventoAutenticacao}).
+ *
+ * <pre>
+ * jcmd &lt;pid&gt; JFR.start name=auth duration=60s filename=auth.jfr
+ * java -cp target/classes com.restaurantefiap.observability.ResumoGravacaoJfr auth.jfr
+ * </pre>
+ *
+ * <p>A etapa é o nome do evento mais a operação ou regra, quando houver
+ * (ex.: {@code TokenJwt/ler}, {@code Autorizacao/isMaster}).</p>
+ *
+ * @author Danilo de Paula
+ */
+public final class ResumoGravacaoJfr {
+
+    /**
+     * Resumo de uma etapa.
+     *
+     * @param etapa        nome da etapa
+     * @param total        quantidade de eventos
+     * @param porResultado quantidade de eventos por resultado
+     * @param p50          mediana
+     * @param p90          percentil 90
+     * @param p99          percentil 99
+     * @param maximo       maior duração
+     */
+    public record ResumoEtapa(String etapa, int total, Map<String, Integer> porResultado,
+                              Duration p50, Duration p90, Duration p99, Duration maximo) {
+    }
+
+    private ResumoGravacaoJfr() { }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            System.err.println("Uso: ResumoGravacaoJfr <gravacao.jfr>");
+            System.exit(2);
+        }
+        System.out.printf(Locale.ROOT, "%-32s %8s %10s %10s %10s %10s  %s%n",
+                "etapa", "eventos", "p50 (us)", "p90 (us)", "p99 (us)", "max (us)", "resultados");
+        for (ResumoEtapa resumo : resumir(Path.of(args[0]))) {
+            System.out.printf(Locale.ROOT, "%-32s %8d %10d %10d %10d %10d  %s%n",
+                    resumo.etapa(), resumo.total(), micros(resumo.p50()), micros(resumo.p90()),
+                    micros(resumo.p99()), micros(resumo.maximo()), resumo.porResultado());
+        }
+    }
+
+    /**
+     * Lê a gravação e agrupa os eventos de autenticação por etapa.
+     *
+     * @param gravacao arquivo {@code .jfr}
+     * @return resumos ordenados pelo nome da etapa
+     * @throws IOException se o arquivo não puder ser lido
+     */
+    public static List<ResumoEtapa> resumir(Path gravacao) throws IOException {
+        Map<String, Acumulador> porEtapa = new TreeMap<>();
+        try (RecordingFile arquivo = new RecordingFile(gravacao)) {
+            while (arquivo.hasMoreEvents()) {
+                RecordedEvent evento = arquivo.readEvent();
+                String nome = evento.getEventType().getName();
+                if (nome.startsWith(EventoAutenticacao.PREFIXO)) {
+                    porEtapa.computeIfAbsent(etapa(nome, evento), chave -> new Acumulador())
+                            .adicionar(evento.getDuration().toNanos(), evento.getString("resultado"));
+                }
+            }
+        }
+
+        List<ResumoEtapa> resumos = new ArrayList<>(porEtapa.size());
+        porEtapa.forEach((etapa, acumulador) -> resumos.add(acumulador.resumir(etapa)));
+        return resumos;
+    }
+
+    // ========== Métodos Auxiliares ==========
+
+    private static String etapa(String nome, RecordedEvent evento) {
+        String etapa = nome.substring(EventoAutenticacao.PREFIXO.length());
+        for (String campo : new String[]{"operacao", "regra"}) {
+            if (evento.hasField(campo)) {
+                return etapa + "/" + evento.getString(campo);
+            }
+        }
+        return etapa;
+    }
+
+    private static long micros(Duration duracao) {
+        return duracao.toNanos() / 1_000;
+    }
+
+    /** Durações (ns) e contagem por resultado de uma etapa. */
+    private static final class Acumulador {
+
+        private long[] duracoes = new long[256];
+        private int total;
+        private final Map<String, Integer> porResultado = new TreeMap<>();
+
+        void adicionar(long duracaoNs, String resultado) {
+            if (total == duracoes.length) {
+                duracoes = Arrays.copyOf(duracoes, total * 2);
+            }
+            duracoes[total++] = duracaoNs;
+            porResultado.merge(resultado == null ? "?" : resultado, 1, Integer::sum);
+        }
+
+        ResumoEtapa resumir(String etapa) {
+            long[] ordenadas = Arrays.copyOf(duracoes, total);
+            Arrays.sort(ordenadas);
+            return new ResumoEtapa(etapa, total, porResultado,
+                    percentil(ordenadas, 0.50), percentil(ordenadas, 0.90), percentil(ordenadas, 0.99),
+                    Duration.ofNanos(ordenadas[total - 1]));
+        }
+
+        /** Percentil pelo método do posto mais próximo. */
+        private static Duration percentil(long[] ordenadas, double p) {
+            int posto = (int) Math.ceil(p * ordenadas.length);
+            return Duration.ofNanos(ordenadas[Math.max(0, posto - 1)]);
+        }
+    }
+}
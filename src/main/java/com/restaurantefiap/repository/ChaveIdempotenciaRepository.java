@@ -0,0 +1,77 @@
+package com.restaurantefiap.repository;
+
+import com.restaurantefiap.entities.idempotencia.ChaveIdempotencia;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Repository das chaves de idempotência ({@code chaves_idempotencia}).
+ *
+ * @author Danilo de Paula
+ */
+@Repository
+public interface ChaveIdempotenciaRepository extends JpaRepository<ChaveIdempotencia, String> {
+
+    /**
+     * Reserva a chave com INSERT direto — falha com violação de PK se ela já existir,
+     * o que serve de lock entre os nós.
+     *
+     * @return linhas inseridas (1)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO chaves_idempotencia (id, impressao, estado, no_origem, criado_em, expira_em) "
+            + "VALUES (:id, :impressao, 'EM_ANDAMENTO', :no, :criadoEm, :expiraEm)",
+            nativeQuery = true)
+    int reservar(@Param("id") String id,
+                 @Param("impressao") String impressao,
+                 @Param("no") String no,
+                 @Param("criadoEm") LocalDateTime criadoEm,
+                 @Param("expiraEm") LocalDateTime expiraEm);
+
+    /**
+     * Grava a resposta da primeira execução e marca a chave como concluída — somente se
+     * a reserva ainda for a mesma (não assumida por outra execução).
+     *
+     * @return linhas atualizadas (0 se a reserva não existir mais)
+     */
+    @Modifying
+    @Query("UPDATE ChaveIdempotencia c SET c.estado = com.restaurantefiap.enums.EstadoIdempotencia.CONCLUIDA, "
+            + "c.statusHttp = :status, c.contentType = :contentType, c.location = :location, c.etag = :etag, "
+            + "c.corpo = :corpo, c.expiraEm = :expiraEm "
+            + "WHERE c.id = :id AND c.criadoEm = :criadoEm "
+            + "AND c.estado = com.restaurantefiap.enums.EstadoIdempotencia.EM_ANDAMENTO")
+    int concluir(@Param("id") String id,
+                 @Param("criadoEm") LocalDateTime criadoEm,
+                 @Param("status") int status,
+                 @Param("contentType") String contentType,
+                 @Param("location") String location,
+                 @Param("etag") String etag,
+                 @Param("corpo") byte[] corpo,
+                 @Param("expiraEm") LocalDateTime expiraEm);
+
+    /**
+     * Remove a chave criada no instante informado (reserva liberada, abandonada ou
+     * expirada) — nunca uma reserva mais nova da mesma chave.
+     *
+     * @return linhas removidas
+     */
+    @Modifying
+    @Query("DELETE FROM ChaveIdempotencia c WHERE c.id = :id AND c.criadoEm = :criadoEm")
+    int descartar(@Param("id") String id, @Param("criadoEm") LocalDateTime criadoEm);
+
+    /**
+     * Remove as chaves expiradas.
+     *
+     * @param agora instante de referência
+     * @return linhas removidas
+     */
+    @Modifying
+    @Query("DELETE FROM ChaveIdempotencia c WHERE c.expiraEm < :agora")
+    int apagarExpiradas(@Param("agora") LocalDateTime agora);
+}
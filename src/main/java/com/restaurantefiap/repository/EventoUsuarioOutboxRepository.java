@@ -0,0 +1,76 @@
+package com.restaurantefiap.repository;
+
+import com.restaurantefiap.entities.outbox.EventoUsuarioOutbox;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Repository da outbox de eventos de usuários ({@link EventoUsuarioOutbox}).
+ *
+ * @author Danilo de Paula
+ */
+@Repository
+public interface EventoUsuarioOutboxRepository extends JpaRepository<EventoUsuarioOutbox, Long> {
+
+    /**
+     * Busca o próximo lote de eventos pendentes que este nó deve publicar, em ordem de gravação.
+     *
+     * <p>Cada nó publica os eventos que gravou; eventos de outros nós só são assumidos
+     * quando ficam pendentes além de {@code limiteOrfaos} (nó caído ou travado).</p>
+     *
+     * @param no          identificador deste nó
+     * @param limiteOrfaos eventos criados antes disso são publicados por qualquer nó
+     * @param pageable    tamanho do lote
+     * @return eventos pendentes
+     */
+    @Query("SELECT e FROM EventoUsuarioOutbox e WHERE e.publicadoEm IS NULL "
+            + "AND (e.noOrigem = :no OR e.criadoEm < :limiteOrfaos) ORDER BY e.id")
+    List<EventoUsuarioOutbox> findPendentes(@Param("no") String no,
+                                            @Param("limiteOrfaos") LocalDateTime limiteOrfaos,
+                                            Pageable pageable);
+
+    /**
+     * Marca os eventos como publicados.
+     *
+     * @param ids       IDs publicados
+     * @param agora     instante da publicação
+     * @return quantidade de eventos marcados
+     */
+    @Modifying
+    @Query("UPDATE EventoUsuarioOutbox e SET e.publicadoEm = :agora WHERE e.id IN :ids AND e.publicadoEm IS NULL")
+    int marcarPublicados(@Param("ids") List<Long> ids, @Param("agora") LocalDateTime agora);
+
+    /**
+     * Conta os eventos ainda não publicados.
+     *
+     * @return quantidade de eventos pendentes
+     */
+    @Query("SELECT COUNT(e) FROM EventoUsuarioOutbox e WHERE e.publicadoEm IS NULL")
+    long countPendentes();
+
+    /**
+     * Data de criação do evento pendente mais antigo (base do atraso da outbox).
+     *
+     * @return data do pendente mais antigo, ou {@code null} se não houver pendentes
+     */
+    @Query("SELECT MIN(e.criadoEm) FROM EventoUsuarioOutbox e WHERE e.publicadoEm IS NULL")
+    LocalDateTime findCriacaoPendenteMaisAntigo();
+
+    /**
+     * Remove eventos publicados antes do limite (retenção).
+     *
+     * @param limite data de publicação máxima (exclusiva)
+     * @return quantidade de eventos removidos
+     */
+    @Modifying
+    @Query("DELETE FROM EventoUsuarioOutbox e WHERE e.publicadoEm IS NOT NULL AND e.publicadoEm < :limite")
+    int apagarPublicadosAntesDe(@Param("limite") LocalDateTime limite);
+}
@@ -0,0 +1,59 @@
+package com.restaurantefiap.repository;
+
+import com.restaurantefiap.entities.usuario.UsuarioArquivado;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository para a tabela fria {@code usuarios_arquivados}.
+ *
+ * <p>As cópias entre tabelas são feitas com {@code INSERT ... SELECT} nativo,
+ * sem carregar as entidades na memória.</p>
+ *
+ * @author Danilo de Paula
+ */
+@Repository
+public interface UsuarioArquivadoRepository extends JpaRepository<UsuarioArquivado, Long> {
+
+    /**
+     * Copia usuários excluídos de {@code usuarios} para {@code usuarios_arquivados}.
+     * Usado para: job de arquivamento
+     *
+     * @param ids IDs a copiar
+     * @return quantidade de linhas copiadas
+     */
+    @Modifying
+    @Query(value = "INSERT INTO usuarios_arquivados (id, login, email, nome, telefone, role, password, "
+            + "logradouro, numero, complemento, bairro, cep, cidade, uf, "
+            + "criado_em, atualizado_em, deletado_em, arquivado_em, versao) "
+            + "SELECT id, login, email, nome, telefone, role, password, "
+            + "logradouro, numero, complemento, bairro, cep, cidade, uf, "
+            + "criado_em, atualizado_em, deletado_em, CURRENT_TIMESTAMP, versao "
+            + "FROM usuarios WHERE id IN (:ids) AND deletado_em IS NOT NULL", nativeQuery = true)
+    int copiarDeUsuarios(@Param("ids") List<Long> ids);
+
+    /**
+     * Copia um usuário arquivado de volta para {@code usuarios}, já reativado.
+     * Usado para: restauração
+     *
+     * <p>Volta com a versão seguinte à da exclusão: ETags emitidos antes dela não casam.</p>
+     *
+     * @param id ID do usuário arquivado
+     * @return quantidade de linhas copiadas
+     */
+    @Modifying
+    @Query(value = "INSERT INTO usuarios (id, login, email, nome, telefone, role, password, "
+            + "logradouro, numero, complemento, bairro, cep, cidade, uf, "
+            + "criado_em, atualizado_em, deletado_em, versao) "
+            + "SELECT id, login, email, nome, telefone, role, password, "
+            + "logradouro, numero, complemento, bairro, cep, cidade, uf, "
+            + "criado_em, CURRENT_TIMESTAMP, NULL, versao + 1 "
+            + "FROM usuarios_arquivados WHERE id = :id", nativeQuery = true)
+    int copiarParaUsuarios(@Param("id") Long id);
+}
@@ -0,0 +1,40 @@
+package com.restaurantefiap.repository;
+
+import com.restaurantefiap.dto.response.UsuarioParcialDTO;
+import com.restaurantefiap.enums.CampoUsuario;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Consultas projetadas de usuários ativos: o {@code SELECT} traz apenas as colunas
+ * dos campos pedidos em {@code fields=} (mais ID e versão).
+ *
+ * <p>Fragmento de {@link UsuarioRepository}, implementado com Criteria API em
+ * {@link UsuarioProjecaoRepositoryImpl}.</p>
+ *
+ * @author Danilo de Paula
+ */
+public interface UsuarioProjecaoRepository {
+
+    /**
+     * Página de usuários ativos com apenas os campos informados.
+     *
+     * @param campos   campos pedidos
+     * @param pageable configuração de paginação (a ordenação pode usar qualquer atributo)
+     * @return página de usuários parciais
+     */
+    Page<UsuarioParcialDTO> findAtivosProjetados(Set<CampoUsuario> campos, Pageable pageable);
+
+    /**
+     * Busca um usuário ativo com apenas os campos informados.
+     *
+     * @param id     identificador do usuário
+     * @param campos campos pedidos
+     * @return usuário parcial ou empty se não houver usuário ativo com o ID
+     */
+    Optional<UsuarioParcialDTO> findAtivoProjetadoById(Long id, Set<CampoUsuario> campos);
+}
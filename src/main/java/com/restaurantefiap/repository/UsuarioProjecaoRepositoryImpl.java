@@ -0,0 +1,121 @@
+package com.restaurantefiap.repository;
+
+import com.restaurantefiap.dto.response.UsuarioParcialDTO;
+import com.restaurantefiap.entities.endereco.Endereco;
+import com.restaurantefiap.entities.usuario.Usuario;
+import com.restaurantefiap.enums.CampoUsuario;
+import com.restaurantefiap.mapper.UsuarioMapper;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Implementação de {@link UsuarioProjecaoRepository} com Criteria API (multiselect de tuplas).
+ *
+ * @author Danilo de Paula
+ */
+class UsuarioProjecaoRepositoryImpl implements UsuarioProjecaoRepository {
+
+    /** O ID é sempre selecionado (ETag); quando pedido em {@code fields}, é lido deste alias. */
+    private static final String ALIAS_ID = "_id";
+    private static final String ALIAS_VERSAO = "_versao";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<UsuarioParcialDTO> findAtivosProjetados(Set<CampoUsuario> campos, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Usuario> usuario = query.from(Usuario.class);
+
+        query.multiselect(selecionar(usuario, campos)).where(ativo(cb, usuario));
+        if (pageable.getSort().isSorted()) {
+            query.orderBy(QueryUtils.toOrders(pageable.getSort(), usuario, cb));
+        }
+
+        TypedQuery<Tuple> consulta = entityManager.createQuery(query);
+        if (pageable.isPaged()) {
+            consulta.setFirstResult((int) pageable.getOffset());
+            consulta.setMaxResults(pageable.getPageSize());
+        }
+
+        List<UsuarioParcialDTO> conteudo = consulta.getResultList().stream()
+                .map(tupla -> paraParcial(tupla, campos))
+                .toList();
+
+        return PageableExecutionUtils.getPage(conteudo, pageable, this::contarAtivos);
+    }
+
+    @Override
+    public Optional<UsuarioParcialDTO> findAtivoProjetadoById(Long id, Set<CampoUsuario> campos) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Usuario> usuario = query.from(Usuario.class);
+
+        query.multiselect(selecionar(usuario, campos))
+                .where(ativo(cb, usuario), cb.equal(usuario.get("id"), id));
+
+        return entityManager.createQuery(query).getResultStream()
+                .findFirst()
+                .map(tupla -> paraParcial(tupla, campos));
+    }
+
+    // ========== Métodos Auxiliares ==========
+
+    private List<Selection<?>> selecionar(Root<Usuario> usuario, Set<CampoUsuario> campos) {
+        List<Selection<?>> selecao = new ArrayList<>(campos.size() + 2);
+        selecao.add(usuario.get("id").alias(ALIAS_ID));
+        selecao.add(usuario.get("versao").alias(ALIAS_VERSAO));
+        for (CampoUsuario campo : campos) {
+            if (campo != CampoUsuario.ID) {
+                selecao.add(usuario.get(campo.getNome()).alias(campo.getNome()));
+            }
+        }
+        return selecao;
+    }
+
+    private Predicate ativo(CriteriaBuilder cb, Root<Usuario> usuario) {
+        return cb.isNull(usuario.get("deletadoEm"));
+    }
+
+    private long contarAtivos() {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Usuario> usuario = query.from(Usuario.class);
+        query.select(cb.count(usuario)).where(ativo(cb, usuario));
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private UsuarioParcialDTO paraParcial(Tuple tupla, Set<CampoUsuario> campos) {
+        Map<String, Object> valores = new LinkedHashMap<>();
+        for (CampoUsuario campo : campos) {
+            Object valor = tupla.get(campo == CampoUsuario.ID ? ALIAS_ID : campo.getNome());
+            valores.put(campo.getNome(), valor instanceof Endereco endereco
+                    ? UsuarioMapper.paraEnderecoDto(endereco)
+                    : valor);
+        }
+        return new UsuarioParcialDTO(
+                tupla.get(ALIAS_ID, Long.class),
+                tupla.get(ALIAS_VERSAO, Long.class),
+                valores);
+    }
+}
@@ -1,16 +1,21 @@
 package com.restaurantefiap.repository;
 
+import com.restaurantefiap.dto.response.VersaoUsuarioDTO;
 import com.restaurantefiap.entities.usuario.Usuario;
 
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -22,7 +27,7 @@ import java.util.Optional;
  * @author Danilo Fernando
  */
 @Repository
-public interface UsuarioRepository extends JpaRepository<Usuario, Long> {
+public interface UsuarioRepository extends JpaRepository<Usuario, Long>, UsuarioProjecaoRepository {
 
     // ========== Busca por Login (Autenticação) ==========
 
@@ -102,6 +107,28 @@ public interface UsuarioRepository extends JpaRepository<Usuario, Long> {
     @Query("SELECT u FROM Usuario u WHERE u.deletadoEm IS NULL")
     Page<Usuario> findAllAtivos(Pageable pageable);
 
+    /**
+     * Busca usuários ativos em fatias (sem total).
+     *
+     * <p>Diferente de {@link #findAllAtivos(Pageable)}, não dispara o
+     * {@code SELECT COUNT(*)} — busca {@code size + 1} linhas apenas para
+     * saber se existe próxima fatia.</p>
+     *
+     * @param pageable configuração de paginação
+     * @return fatia de usuários ativos
+     */
+    @Query("SELECT u FROM Usuario u WHERE u.deletadoEm IS NULL")
+    Slice<Usuario> findSliceAtivos(Pageable pageable);
+
+    /**
+     * Conta os usuários ativos (não deletados).
+     * Usado para: reconciliação do contador em memória
+     *
+     * @return quantidade de usuários ativos
+     */
+    @Query("SELECT COUNT(u) FROM Usuario u WHERE u.deletadoEm IS NULL")
+    long countAtivos();
+
     /**
      * Busca usuário ativo por ID.
      *
@@ -110,4 +137,98 @@ public interface UsuarioRepository extends JpaRepository<Usuario, Long> {
      */
     @Query("SELECT u FROM Usuario u WHERE u.id = :id AND u.deletadoEm IS NULL")
     Optional<Usuario> findAtivoById(@Param("id") Long id);
-}
\ No newline at end of file
+
+    // ========== Versões (validação de cache) ==========
+
+    /**
+     * Busca apenas a versão de um usuário ativo — sem carregar a entidade.
+     *
+     * @param id identificador do usuário
+     * @return versão ou empty se não houver usuário ativo com o ID
+     */
+    @Query("SELECT u.versao FROM Usuario u WHERE u.id = :id AND u.deletadoEm IS NULL")
+    Optional<Long> findVersaoAtivoById(@Param("id") Long id);
+
+    /**
+     * Busca apenas ID e versão de um usuário ativo pelo login (case insensitive).
+     *
+     * @param login login do usuário
+     * @return ID e versão ou empty se não houver usuário ativo com o login
+     */
+    @Query("SELECT new com.restaurantefiap.dto.response.VersaoUsuarioDTO(u.id, u.versao) "
+            + "FROM Usuario u WHERE LOWER(u.login) = LOWER(:login) AND u.deletadoEm IS NULL")
+    Optional<VersaoUsuarioDTO> findVersaoAtivoByLogin(@Param("login") String login);
+
+    /**
+     * Página de usuários ativos com apenas ID e versão, na mesma ordenação de
+     * {@link #findAllAtivos(Pageable)}.
+     *
+     * @param pageable configuração de paginação
+     * @return página de versões
+     */
+    @Query(value = "SELECT new com.restaurantefiap.dto.response.VersaoUsuarioDTO(u.id, u.versao) "
+            + "FROM Usuario u WHERE u.deletadoEm IS NULL",
+            countQuery = "SELECT COUNT(u) FROM Usuario u WHERE u.deletadoEm IS NULL")
+    Page<VersaoUsuarioDTO> findVersoesAtivas(Pageable pageable);
+
+    /**
+     * Busca usuários ativos cujos IDs estão na coleção informada (uma única consulta {@code IN}).
+     *
+     * <p>A ordem do resultado não é garantida. O chamador deve limitar o tamanho da coleção
+     * (ver {@code BuscaLoteUsuariosService}).</p>
+     *
+     * @param ids identificadores dos usuários
+     * @return usuários ativos encontrados
+     */
+    @Query("SELECT u FROM Usuario u WHERE u.id IN :ids AND u.deletadoEm IS NULL")
+    List<Usuario> findAtivosByIdIn(@Param("ids") Collection<Long> ids);
+
+    // ========== Arquivamento (soft delete antigo) ==========
+
+    /**
+     * Busca o próximo lote de IDs excluídos antes do limite.
+     * Usado para: job de arquivamento
+     *
+     * <p>A ordem {@code (deletado_em, id)} é a do índice {@code idx_usuarios_deletado_em_id}:
+     * a consulta lê o começo da faixa e para no {@code LIMIT}, sem ordenar. Não há cursor —
+     * cada lote é removido de {@code usuarios} antes da próxima busca.</p>
+     *
+     * <p>{@code FOR UPDATE SKIP LOCKED} reivindica o lote até o fim da transação: com o job
+     * rodando em vários nós ao mesmo tempo, cada um pula as linhas já travadas por outro e
+     * pega as seguintes, em vez de copiar o mesmo lote e falhar na chave primária.</p>
+     *
+     * <p>Consulta nativa: ignora o {@code @SQLRestriction} da entidade, que esconderia
+     * justamente os registros excluídos.</p>
+     *
+     * @param limite  data de exclusão máxima (exclusiva)
+     * @param tamanho quantidade máxima de IDs
+     * @return IDs na ordem de exclusão
+     */
+    @Query(value = "SELECT id FROM usuarios WHERE deletado_em IS NOT NULL AND deletado_em < :limite "
+            + "ORDER BY deletado_em, id LIMIT :tamanho FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<Long> findIdsExcluidosAntesDe(@Param("limite") LocalDateTime limite,
+                                       @Param("tamanho") int tamanho);
+
+    /**
+     * Remove fisicamente usuários já excluídos logicamente.
+     * Usado para: job de arquivamento, após copiar para {@code usuarios_arquivados}
+     *
+     * @param ids IDs a remover
+     * @return quantidade de linhas removidas
+     */
+    @Modifying
+    @Query(value = "DELETE FROM usuarios WHERE id IN (:ids) AND deletado_em IS NOT NULL", nativeQuery = true)
+    int removerExcluidos(@Param("ids") List<Long> ids);
+
+    /**
+     * Conta registros (ativos ou excluídos) que usam o login ou o email informados.
+     * Usado para: restauração de arquivados (as constraints UNIQUE valem para todas as linhas)
+     *
+     * @param login login a verificar
+     * @param email email a verificar
+     * @return quantidade de registros conflitantes
+     */
+    @Query(value = "SELECT COUNT(*) FROM usuarios WHERE LOWER(login) = LOWER(:login) "
+            + "OR LOWER(email) = LOWER(:email)", nativeQuery = true)
+    long countLoginOuEmailEmQualquerEstado(@Param("login") String login, @Param("email") String email);
+}
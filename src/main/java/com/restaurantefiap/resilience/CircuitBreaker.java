@@ -0,0 +1,215 @@
+package com.restaurantefiap.resilience;
+
+import com.restaurantefiap.enums.EstadoCircuito;
+import com.restaurantefiap.exception.ServiceUnavailableException;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Circuit breaker por falhas consecutivas, com chamadas lentas contadas como falha.
+ *
+ * <p><b>Regras:</b></p>
+ * <ul>
+ *   <li>{@link EstadoCircuito#FECHADO}: {@code limiarFalhas} falhas seguidas abrem o circuito.
+ *       Uma chamada que termina acima de {@code limiteLento} conta como falha mesmo com sucesso —
+ *       o banco "travado" costuma responder, só que tarde demais.</li>
+ *   <li>{@link EstadoCircuito#ABERTO}: chamadas recusadas na hora com
+ *       {@link ServiceUnavailableException}, sem ocupar conexão nem thread, por {@code tempoAberto}.</li>
+ *   <li>{@link EstadoCircuito#MEIO_ABERTO}: uma única chamada de teste por vez; sucesso fecha,
+ *       falha reabre. As demais continuam recusadas.</li>
+ * </ul>
+ * <p>Somente exceções aceitas por {@code contaComoFalha} contam: erros de negócio (404, 409...)
+ * provam que a dependência respondeu.</p>
+ *
+ * <p>Com o circuito fechado e sem falhas pendentes, admissão e registro de sucesso não tomam
+ * o lock: ele só protege as transições de estado.</p>
+ *
+ * @author Danilo de Paula
+ */
+public final class CircuitBreaker {
+
+    private final String nome;
+    private final int limiarFalhas;
+    private final long limiteLentoNs;
+    private final long tempoAbertoNs;
+    private final Predicate<Throwable> contaComoFalha;
+    private final LongSupplier relogioNs;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private volatile EstadoCircuito estado = EstadoCircuito.FECHADO;
+    private final AtomicInteger falhasConsecutivas = new AtomicInteger();
+    private long abertoEmNs;
+    private boolean testeEmAndamento;
+
+    // ---- Métricas ----
+    private final AtomicLong aberturas = new AtomicLong();
+    private final AtomicLong rejeicoes = new AtomicLong();
+    private final AtomicLong falhas = new AtomicLong();
+
+    public CircuitBreaker(String nome, int limiarFalhas, Duration limiteLento, Duration tempoAberto,
+                          Predicate<Throwable> contaComoFalha) {
+        this(nome, limiarFalhas, limiteLento, tempoAberto, contaComoFalha, System::nanoTime);
+    }
+
+    CircuitBreaker(String nome, int limiarFalhas, Duration limiteLento, Duration tempoAberto,
+                   Predicate<Throwable> contaComoFalha, LongSupplier relogioNs) {
+        if (limiarFalhas <= 0) {
+            throw new IllegalArgumentException("Limiar de falhas do circuito deve ser positivo.");
+        }
+        this.nome = nome;
+        this.limiarFalhas = limiarFalhas;
+        this.limiteLentoNs = limiteLento.toNanos();
+        this.tempoAbertoNs = tempoAberto.toNanos();
+        this.contaComoFalha = contaComoFalha;
+        this.relogioNs = relogioNs;
+    }
+
+    /** Como a chamada foi admitida. */
+    private enum Passagem { RECUSADA, NORMAL, TESTE }
+
+    // ========== Execução ==========
+
+    /**
+     * Executa a chamada se o circuito permitir.
+     *
+     * @param chamada chamada à dependência
+     * @return resultado da chamada
+     * @throws ServiceUnavailableException se o circuito estiver aberto (ou já houver teste em andamento)
+     */
+    public <T> T executar(Supplier<T> chamada) {
+        Passagem passagem = admitir();
+        if (passagem == Passagem.RECUSADA) {
+            rejeicoes.incrementAndGet();
+            throw new ServiceUnavailableException(
+                    "Dependência '" + nome + "' indisponível no momento.", getRetryAfterSegundos());
+        }
+
+        long inicio = relogioNs.getAsLong();
+        T resultado;
+        try {
+            resultado = chamada.get();
+        } catch (RuntimeException e) {
+            registrar(passagem, contaComoFalha.test(e) || lenta(inicio));
+            throw e;
+        }
+        registrar(passagem, lenta(inicio));
+        return resultado;
+    }
+
+    /**
+     * Passa de aberto para meio-aberto se o tempo aberto já terminou.
+     * Usado para provocar a revalidação em segundo plano sem esperar uma requisição.
+     *
+     * @return {@code true} se o circuito está meio-aberto após a chamada
+     */
+    public boolean tentarMeioAbrir() {
+        lock.lock();
+        try {
+            if (estado == EstadoCircuito.ABERTO && relogioNs.getAsLong() - abertoEmNs >= tempoAbertoNs) {
+                estado = EstadoCircuito.MEIO_ABERTO;
+                testeEmAndamento = false;
+            }
+            return estado == EstadoCircuito.MEIO_ABERTO;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // ========== Métricas ==========
+
+    public String getNome() {
+        return nome;
+    }
+
+    public EstadoCircuito getEstado() {
+        return estado;
+    }
+
+    public long getAberturas() {
+        return aberturas.get();
+    }
+
+    public long getRejeicoes() {
+        return rejeicoes.get();
+    }
+
+    public long getFalhas() {
+        return falhas.get();
+    }
+
+    /** Segundos até a próxima tentativa (mínimo 1), para o {@code Retry-After}. */
+    public long getRetryAfterSegundos() {
+        long restanteNs = estado == EstadoCircuito.ABERTO
+                ? tempoAbertoNs - (relogioNs.getAsLong() - abertoEmNs)
+                : 0;
+        return Math.max(1, (restanteNs + 999_999_999L) / 1_000_000_000L);
+    }
+
+    // ========== Métodos Auxiliares ==========
+
+    private Passagem admitir() {
+        if (estado == EstadoCircuito.FECHADO) {
+            return Passagem.NORMAL;
+        }
+        lock.lock();
+        try {
+            if (estado == EstadoCircuito.FECHADO) {
+                return Passagem.NORMAL;
+            }
+            if (!tentarMeioAbrir() || testeEmAndamento) {
+                return Passagem.RECUSADA;
+            }
+            testeEmAndamento = true;
+            return Passagem.TESTE;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean lenta(long inicioNs) {
+        return relogioNs.getAsLong() - inicioNs > limiteLentoNs;
+    }
+
+    private void registrar(Passagem passagem, boolean falhou) {
+        if (falhou) {
+            falhas.incrementAndGet();
+        } else if (passagem == Passagem.NORMAL && falhasConsecutivas.get() == 0) {
+            // Caminho quente: sucesso com o circuito fechado e nada a zerar — sem lock.
+            return;
+        }
+        lock.lock();
+        try {
+            if (passagem == Passagem.TESTE) {
+                testeEmAndamento = false;
+                if (falhou) {
+                    abrir();
+                } else {
+                    estado = EstadoCircuito.FECHADO;
+                    falhasConsecutivas.set(0);
+                }
+            } else if (estado == EstadoCircuito.FECHADO) {
+                // Resultados de chamadas admitidas antes da abertura são ignorados nos outros estados.
+                if (!falhou) {
+                    falhasConsecutivas.set(0);
+                } else if (falhasConsecutivas.incrementAndGet() >= limiarFalhas) {
+                    abrir();
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void abrir() {
+        estado = EstadoCircuito.ABERTO;
+        abertoEmNs = relogioNs.getAsLong();
+        falhasConsecutivas.set(0);
+        aberturas.incrementAndGet();
+    }
+}
@@ -0,0 +1,87 @@
+package com.restaurantefiap.resilience;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Último valor bom conhecido por chave ("last known good"), para responder com dado
+ * desatualizado enquanto a fonte está indisponível.
+ *
+ * <p>Limitado a {@code maxEntradas} (despejo aproximado, como em
+ * {@code CacheJsonUsuarios}) e a {@code idadeMaxima}: valores mais velhos não são servidos.</p>
+ *
+ * @param <K> tipo da chave
+ * @param <V> tipo do valor (imutável — é compartilhado entre threads)
+ * @author Danilo de Paula
+ */
+public final class UltimoConhecido<K, V> {
+
+    /**
+     * Valor guardado e o instante em que foi obtido da fonte.
+     */
+    public record Valor<V>(V valor, Instant obtidoEm) {
+
+        /** Idade em segundos, para o cabeçalho {@code Age}. */
+        public long idadeSegundos() {
+            return Math.max(0, Duration.between(obtidoEm, Instant.now()).toSeconds());
+        }
+    }
+
+    private final Map<K, Valor<V>> valores = new ConcurrentHashMap<>();
+    private final int maxEntradas;
+    private final Duration idadeMaxima;
+
+    public UltimoConhecido(int maxEntradas, Duration idadeMaxima) {
+        this.maxEntradas = Math.max(1, maxEntradas);
+        this.idadeMaxima = idadeMaxima;
+    }
+
+    public void guardar(K chave, V valor) {
+        if (!valores.containsKey(chave)) {
+            liberarEspaco();
+        }
+        valores.put(chave, new Valor<>(valor, Instant.now()));
+    }
+
+    /**
+     * @return valor guardado, ou vazio se ausente ou mais velho que a idade máxima
+     */
+    public Optional<Valor<V>> obter(K chave) {
+        Valor<V> valor = valores.get(chave);
+        if (valor == null || valor.obtidoEm().plus(idadeMaxima).isBefore(Instant.now())) {
+            return Optional.empty();
+        }
+        return Optional.of(valor);
+    }
+
+    public void remover(K chave) {
+        valores.remove(chave);
+    }
+
+    /**
+     * @param maximo quantidade máxima de chaves
+     * @return até {@code maximo} chaves guardadas, em ordem arbitrária
+     */
+    public List<K> chaves(int maximo) {
+        return valores.keySet().stream().limit(maximo).toList();
+    }
+
+    public int getTamanho() {
+        return valores.size();
+    }
+
+    // ========== Métodos Auxiliares ==========
+
+    private void liberarEspaco() {
+        Iterator<K> chaves = valores.keySet().iterator();
+        while (valores.size() >= maxEntradas && chaves.hasNext()) {
+            chaves.next();
+            chaves.remove();
+        }
+    }
+}
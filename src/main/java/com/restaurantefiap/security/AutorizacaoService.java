@@ -2,6 +2,7 @@ package com.restaurantefiap.security;
 
 import com.restaurantefiap.entities.usuario.UserPrincipal;
 import com.restaurantefiap.enums.Role;
+import com.restaurantefiap.observability.EventoAutorizacao;
 
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -15,6 +16,8 @@ import org.springframework.stereotype.Service;
  *
  * <p><b>Padrão aplicado:</b> Authorization Service Pattern</p>
  *
+ * <p>Cada verificação emite o evento JFR {@link EventoAutorizacao} com a regra e a decisão.</p>
+ *
  * @author Danilo de Paula
  */
 @Service("autorizacaoService")
@@ -30,8 +33,7 @@ public class AutorizacaoService {
      * @return true se o usuário autenticado é o dono do recurso
      */
     public boolean isProprioUsuario(Long idRecurso) {
-        Long idUsuarioLogado = obterIdUsuarioLogado();
-        return idUsuarioLogado != null && idUsuarioLogado.equals(idRecurso);
+        return EventoAutorizacao.iniciar("isProprioUsuario").concluir(proprioUsuario(idRecurso));
     }
 
     /**
@@ -43,7 +45,7 @@ public class AutorizacaoService {
      * @return true se é admin ou próprio usuário
      */
     public boolean isAdminOuProprio(Long idRecurso) {
-        return isAdmin() || isProprioUsuario(idRecurso);
+        return EventoAutorizacao.iniciar("isAdminOuProprio").concluir(admin() || proprioUsuario(idRecurso));
     }
 
     /**
@@ -54,8 +56,7 @@ public class AutorizacaoService {
      * @return true se é MASTER ou DONO_RESTAURANTE
      */
     public boolean isAdmin() {
-        Role role = obterRoleUsuarioLogado();
-        return role == Role.MASTER || role == Role.DONO_RESTAURANTE;
+        return EventoAutorizacao.iniciar("isAdmin").concluir(admin());
     }
 
     /**
@@ -66,7 +67,7 @@ public class AutorizacaoService {
      * @return true se é MASTER
      */
     public boolean isMaster() {
-        return obterRoleUsuarioLogado() == Role.MASTER;
+        return EventoAutorizacao.iniciar("isMaster").concluir(master());
     }
 
     // ========== Métodos Auxiliares ==========
@@ -78,7 +79,7 @@ public class AutorizacaoService {
      */
     private Long obterIdUsuarioLogado() {
         UserPrincipal principal = obterPrincipal();
-        return principal != null ? principal.getUsuario().getId() : null;
+        return principal != null ? principal.getUsuario().id() : null;
     }
 
     /**
@@ -91,7 +92,25 @@ public class AutorizacaoService {
      * @return true se é MASTER ou próprio usuário
      */
     public boolean isMasterOuProprio(Long idRecurso) {
-        return isMaster() || isProprioUsuario(idRecurso);
+        return EventoAutorizacao.iniciar("isMasterOuProprio").concluir(master() || proprioUsuario(idRecurso));
+    }
+
+    // ========== Regras ==========
+
+    // As regras públicas combinam estas, para emitir um único evento JFR por verificação.
+
+    private boolean proprioUsuario(Long idRecurso) {
+        Long idUsuarioLogado = obterIdUsuarioLogado();
+        return idUsuarioLogado != null && idUsuarioLogado.equals(idRecurso);
+    }
+
+    private boolean admin() {
+        Role role = obterRoleUsuarioLogado();
+        return role == Role.MASTER || role == Role.DONO_RESTAURANTE;
+    }
+
+    private boolean master() {
+        return obterRoleUsuarioLogado() == Role.MASTER;
     }
 
 
@@ -102,7 +121,7 @@ public class AutorizacaoService {
      */
     private Role obterRoleUsuarioLogado() {
         UserPrincipal principal = obterPrincipal();
-        return principal != null ? principal.getUsuario().getRole() : null;
+        return principal != null ? principal.getUsuario().role() : null;
     }
 
     /**
@@ -0,0 +1,221 @@
+package com.restaurantefiap.security;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Filtro de Bloom em arquivo mapeado em memória, usado para a lista de senhas vazadas.
+ *
+ * <p>O arquivo é gerado offline ({@link GeradorFiltroSenhasVazadas}) e mapeado somente
+ * leitura na subida: os bits ficam no page cache do sistema operacional, não no heap. Uma
+ * consulta calcula dois hashes de 64 bits sobre os {@code char}s da senha (sem codificar
+ * para bytes) e testa {@code k} bits por hashing duplo — sem alocação e sem rede.</p>
+ *
+ * <p>Formato (big-endian): cabeçalho de {@value #TAMANHO_CABECALHO} bytes — magic
+ * {@code RFBF}, versão, número de bits, número de hashes, reservado e quantidade de
+ * senhas inseridas — seguido do vetor de bits. Arquivos maiores que 1 GiB são mapeados
+ * em segmentos.</p>
+ *
+ * <p>Falsos positivos são possíveis (na taxa escolhida na geração); falsos negativos, não.</p>
+ *
+ * @author Danilo de Paula
+ */
+public final class FiltroBloom {
+
+    static final int MAGIC = 0x52464246; // "RFBF"
+    static final int VERSAO = 1;
+    static final int TAMANHO_CABECALHO = 32;
+
+    private static final int BITS_SEGMENTO = 30;
+    private static final long TAMANHO_SEGMENTO = 1L << BITS_SEGMENTO;
+
+    private static final long SEMENTE_1 = 0x9E3779B97F4A7C15L;
+    private static final long SEMENTE_2 = 0xC2B2AE3D27D4EB4FL;
+
+    private final MappedByteBuffer[] segmentos;
+    private final long numBits;
+    private final int numHashes;
+    private long inseridas;
+
+    private FiltroBloom(MappedByteBuffer[] segmentos, long numBits, int numHashes, long inseridas) {
+        this.segmentos = segmentos;
+        this.numBits = numBits;
+        this.numHashes = numHashes;
+        this.inseridas = inseridas;
+    }
+
+    // ========== Criação e Abertura ==========
+
+    /**
+     * Cria um filtro vazio no arquivo, dimensionado para a quantidade e a taxa de falsos positivos.
+     *
+     * @param arquivo        destino (sobrescrito)
+     * @param capacidade     quantidade esperada de senhas
+     * @param falsoPositivo  taxa de falsos positivos desejada (ex.: {@code 0.001})
+     * @return filtro gravável; chame {@link #gravar()} ao terminar
+     * @throws IOException se o arquivo não puder ser criado
+     */
+    public static FiltroBloom criar(Path arquivo, long capacidade, double falsoPositivo) throws IOException {
+        if (capacidade <= 0 || falsoPositivo <= 0 || falsoPositivo >= 1) {
+            throw new IllegalArgumentException("Capacidade deve ser positiva e a taxa de falsos positivos entre 0 e 1.");
+        }
+        double ln2 = Math.log(2);
+        long numBits = Math.max(64, (long) Math.ceil(-capacidade * Math.log(falsoPositivo) / (ln2 * ln2)));
+        numBits = (numBits + 7) & ~7L;
+        int numHashes = Math.max(1, (int) Math.round((double) numBits / capacidade * ln2));
+
+        long tamanho = TAMANHO_CABECALHO + numBits / 8;
+        try (FileChannel canal = FileChannel.open(arquivo, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            FiltroBloom filtro = new FiltroBloom(mapear(canal, FileChannel.MapMode.READ_WRITE, tamanho),
+                    numBits, numHashes, 0);
+            filtro.escreverCabecalho();
+            return filtro;
+        }
+    }
+
+    /**
+     * Abre um filtro gerado, somente leitura.
+     *
+     * @param arquivo arquivo do filtro
+     * @return filtro mapeado
+     * @throws IOException              se o arquivo não puder ser lido
+     * @throws IllegalArgumentException se o arquivo não for um filtro válido
+     */
+    public static FiltroBloom abrir(Path arquivo) throws IOException {
+        try (FileChannel canal = FileChannel.open(arquivo, StandardOpenOption.READ)) {
+            if (canal.size() < TAMANHO_CABECALHO) {
+                throw new IllegalArgumentException("Arquivo de filtro inválido: " + arquivo);
+            }
+            ByteBuffer cabecalho = ByteBuffer.allocate(TAMANHO_CABECALHO);
+            canal.read(cabecalho, 0);
+            cabecalho.flip();
+
+            int magic = cabecalho.getInt();
+            int versao = cabecalho.getInt();
+            long numBits = cabecalho.getLong();
+            int numHashes = cabecalho.getInt();
+            cabecalho.getInt();
+            long inseridas = cabecalho.getLong();
+
+            if (magic != MAGIC || versao != VERSAO || numBits <= 0 || numHashes <= 0
+                    || canal.size() != TAMANHO_CABECALHO + numBits / 8) {
+                throw new IllegalArgumentException("Arquivo de filtro inválido ou de outra versão: " + arquivo);
+            }
+            return new FiltroBloom(mapear(canal, FileChannel.MapMode.READ_ONLY, canal.size()),
+                    numBits, numHashes, inseridas);
+        }
+    }
+
+    // ========== Operações ==========
+
+    /**
+     * Verifica se a senha pode estar no filtro.
+     *
+     * @param senha senha candidata
+     * @return {@code false} se com certeza não está; {@code true} se está (ou é falso positivo)
+     */
+    public boolean contem(CharSequence senha) {
+        long h1 = hash(senha, SEMENTE_1);
+        long h2 = hash(senha, SEMENTE_2) | 1;
+        for (int i = 0; i < numHashes; i++) {
+            long bit = Math.unsignedMultiplyHigh(h1 + i * h2, numBits);
+            long posicao = TAMANHO_CABECALHO + (bit >>> 3);
+            byte valor = segmentos[(int) (posicao >>> BITS_SEGMENTO)].get((int) (posicao & (TAMANHO_SEGMENTO - 1)));
+            if ((valor & (1 << (bit & 7))) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Insere a senha (somente em filtros criados com {@link #criar}).
+     *
+     * @param senha senha a inserir
+     */
+    public void adicionar(CharSequence senha) {
+        long h1 = hash(senha, SEMENTE_1);
+        long h2 = hash(senha, SEMENTE_2) | 1;
+        for (int i = 0; i < numHashes; i++) {
+            long bit = Math.unsignedMultiplyHigh(h1 + i * h2, numBits);
+            long posicao = TAMANHO_CABECALHO + (bit >>> 3);
+            MappedByteBuffer segmento = segmentos[(int) (posicao >>> BITS_SEGMENTO)];
+            int indice = (int) (posicao & (TAMANHO_SEGMENTO - 1));
+            segmento.put(indice, (byte) (segmento.get(indice) | (1 << (bit & 7))));
+        }
+        inseridas++;
+    }
+
+    /**
+     * Atualiza o cabeçalho e força a gravação em disco.
+     */
+    public void gravar() {
+        escreverCabecalho();
+        for (MappedByteBuffer segmento : segmentos) {
+            segmento.force();
+        }
+    }
+
+    // ========== Métricas ==========
+
+    public long getNumBits() {
+        return numBits;
+    }
+
+    public int getNumHashes() {
+        return numHashes;
+    }
+
+    public long getInseridas() {
+        return inseridas;
+    }
+
+    /** Tamanho do vetor de bits, em bytes (fora do heap). */
+    public long getTamanhoBytes() {
+        return numBits / 8;
+    }
+
+    // ========== Métodos Auxiliares ==========
+
+    private void escreverCabecalho() {
+        MappedByteBuffer primeiro = segmentos[0];
+        primeiro.putInt(0, MAGIC);
+        primeiro.putInt(4, VERSAO);
+        primeiro.putLong(8, numBits);
+        primeiro.putInt(16, numHashes);
+        primeiro.putInt(20, 0);
+        primeiro.putLong(24, inseridas);
+    }
+
+    private static MappedByteBuffer[] mapear(FileChannel canal, FileChannel.MapMode modo, long tamanho)
+            throws IOException {
+        int quantidade = (int) ((tamanho + TAMANHO_SEGMENTO - 1) / TAMANHO_SEGMENTO);
+        MappedByteBuffer[] segmentos = new MappedByteBuffer[quantidade];
+        for (int i = 0; i < quantidade; i++) {
+            long inicio = i * TAMANHO_SEGMENTO;
+            segmentos[i] = canal.map(modo, inicio, Math.min(TAMANHO_SEGMENTO, tamanho - inicio));
+        }
+        return segmentos;
+    }
+
+    /**
+     * FNV-1a de 64 bits sobre as unidades UTF-16, com o finalizador do MurmurHash3.
+     */
+    private static long hash(CharSequence valor, long semente) {
+        long h = semente ^ 0xCBF29CE484222325L;
+        for (int i = 0; i < valor.length(); i++) {
+            h = (h ^ valor.charAt(i)) * 0x100000001B3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,90 @@
+package com.restaurantefiap.security;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+
+/**
+ * Ferramenta de linha de comando que gera o {@link FiltroBloom} de senhas vazadas a partir
+ * de uma lista em texto (UTF-8, uma senha por linha).
+ *
+ * <p>Só usa o JDK, então roda direto das classes compiladas:</p>
+ * <pre>
+ * java -cp target/classes com.restaurantefiap.security.GeradorFiltroSenhasVazadas \
+ *     senhas.txt senhas-vazadas.bloom [taxa-falso-positivo]
+ * </pre>
+ *
+ * <p>A lista é lida duas vezes: a primeira conta as senhas para dimensionar o filtro.
+ * Linhas vazias são ignoradas e bytes fora do UTF-8 viram {@code U+FFFD}; as senhas não são normalizadas (a comparação é exata).</p>
+ *
+ * @author Danilo de Paula
+ */
+public final class GeradorFiltroSenhasVazadas {
+
+    static final double FALSO_POSITIVO_PADRAO = 0.001;
+
+    private GeradorFiltroSenhasVazadas() { }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2 || args.length > 3) {
+            System.err.println("Uso: GeradorFiltroSenhasVazadas <lista.txt> <saida.bloom> [taxa-falso-positivo]");
+            System.exit(2);
+        }
+        double falsoPositivo = args.length == 3 ? Double.parseDouble(args[2]) : FALSO_POSITIVO_PADRAO;
+
+        long inicio = System.nanoTime();
+        FiltroBloom filtro = gerar(Path.of(args[0]), Path.of(args[1]), falsoPositivo);
+        long duracaoMs = (System.nanoTime() - inicio) / 1_000_000;
+
+        System.out.printf(Locale.ROOT, "%d senha(s), %d bits (%.1f MiB), %d hash(es), taxa alvo %.4f, %d ms%n",
+                filtro.getInseridas(), filtro.getNumBits(), filtro.getTamanhoBytes() / (1024.0 * 1024.0),
+                filtro.getNumHashes(), falsoPositivo, duracaoMs);
+    }
+
+    /**
+     * Gera o filtro a partir da lista.
+     *
+     * @param lista         arquivo texto com uma senha por linha
+     * @param saida         arquivo do filtro (sobrescrito)
+     * @param falsoPositivo taxa de falsos positivos desejada
+     * @return filtro gerado (já gravado em disco)
+     * @throws IOException se a lista não puder ser lida ou a saída gravada
+     */
+    public static FiltroBloom gerar(Path lista, Path saida, double falsoPositivo) throws IOException {
+        long quantidade = 0;
+        try (BufferedReader leitor = abrirLista(lista)) {
+            String linha;
+            while ((linha = leitor.readLine()) != null) {
+                if (!linha.isEmpty()) {
+                    quantidade++;
+                }
+            }
+        }
+        if (quantidade == 0) {
+            throw new IllegalArgumentException("Lista de senhas vazia: " + lista);
+        }
+
+        FiltroBloom filtro = FiltroBloom.criar(saida, quantidade, falsoPositivo);
+        try (BufferedReader leitor = abrirLista(lista)) {
+            String linha;
+            while ((linha = leitor.readLine()) != null) {
+                if (!linha.isEmpty()) {
+                    filtro.adicionar(linha);
+                }
+            }
+        }
+        filtro.gravar();
+        return filtro;
+    }
+
+    /**
+     * Listas públicas costumam ter bytes fora do UTF-8: são substituídos em vez de abortar a leitura.
+     */
+    private static BufferedReader abrirLista(Path lista) throws IOException {
+        return new BufferedReader(new InputStreamReader(Files.newInputStream(lista), StandardCharsets.UTF_8));
+    }
+}
@@ -4,11 +4,14 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import com.restaurantefiap.entities.usuario.UserPrincipal;
+import com.restaurantefiap.exception.LoginNaoEncontradoException;
+import com.restaurantefiap.observability.EventoCarregarUsuario;
 import lombok.RequiredArgsConstructor;
 import com.restaurantefiap.repository.UsuarioRepository;
+import com.restaurantefiap.service.CoalescedorLeiturasUsuario;
+import com.restaurantefiap.service.ResilienciaLeiturasUsuario;
 
 /**
  * Implementação de {@link UserDetailsService} usando JPA.
@@ -25,22 +28,39 @@ import com.restaurantefiap.repository.UsuarioRepository;
 public class JpaUserDetailsService implements UserDetailsService {
 
     private final UsuarioRepository usuarioRepository;
+    private final CoalescedorLeiturasUsuario coalescedor;
+    private final ResilienciaLeiturasUsuario resiliencia;
 
     /**
      * Carrega o usuário pelo login para autenticação.
      *
+     * <p>Requisições concorrentes do mesmo login compartilham uma única consulta. Com o banco
+     * indisponível (circuito aberto), devolve a última credencial conhecida do login.
+     * A carga é registrada no evento JFR {@link EventoCarregarUsuario}.</p>
+     *
      * @param login identificador de login do usuário
      * @return {@link UserDetails} com os dados de autenticação
      * @throws UsernameNotFoundException se o login não for encontrado
      */
     @Override
-    @Transactional(readOnly = true)
     public UserDetails loadUserByUsername(String login) throws UsernameNotFoundException {
         String loginNormalizado = normalizar(login);
+        EventoCarregarUsuario evento = EventoCarregarUsuario.iniciar();
+        String resultado = "erro";
 
-        return usuarioRepository.findByLoginIgnoreCase(loginNormalizado)
-                .map(UserPrincipal::new)
-                .orElseThrow(() -> new UsernameNotFoundException("Login não encontrado: " + loginNormalizado));
+        try {
+            UserDetails usuario = resiliencia.carregarCredencial(loginNormalizado, () ->
+                    coalescedor.porLogin(loginNormalizado, () -> usuarioRepository.findByLoginIgnoreCase(loginNormalizado))
+                            .map(UserPrincipal::new)
+                            .orElseThrow(() -> new LoginNaoEncontradoException(loginNormalizado)));
+            resultado = "encontrado";
+            return usuario;
+        } catch (UsernameNotFoundException e) {
+            resultado = "nao_encontrado";
+            throw e;
+        } finally {
+            evento.concluir(resultado);
+        }
     }
 
     /**
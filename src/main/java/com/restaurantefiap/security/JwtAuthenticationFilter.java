@@ -15,12 +15,14 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import com.restaurantefiap.observability.EventoFiltroJwt;
 import com.restaurantefiap.service.JwtService;
 
 /**
  * Filtro de interceptação para autenticação via JWT.
  * * <p>Este filtro é executado uma vez por requisição ({@link OncePerRequestFilter}) e
  * verifica a presença do cabeçalho 'Authorization' com o prefixo 'Bearer '.</p>
+ * <p>Com token, o trabalho do filtro é registrado no evento JFR {@link EventoFiltroJwt}.</p>
  * @author Thiago de Jesus
  * @author Danilo Fernando
  */
@@ -58,31 +60,50 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             return;
         }
 
-        final String token = auth.substring(7);
+        final EventoFiltroJwt evento = EventoFiltroJwt.iniciar();
+        String resultado = "erro";
+        try {
+            resultado = autenticar(request, auth.substring(7));
+        } finally {
+            evento.concluir(resultado);
+        }
+
+        // 5. Continua a execução para o próximo filtro na corrente
+        chain.doFilter(request, response);
+    }
+
+    /**
+     * Autentica a requisição a partir do token (passos 2 a 4).
+     *
+     * @return desfecho para o evento JFR {@link EventoFiltroJwt}
+     */
+    private String autenticar(HttpServletRequest request, String token) {
         final String username = jwtService.extractUsername(token);
 
         // 2. Verifica se o usuário foi extraído e se ainda não está autenticado no contexto
-        if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = userDetailsSvc.loadUserByUsername(username);
-
-            // 3. Valida se o token é íntegro e pertence ao usuário
-            if (jwtService.isTokenValid(token, userDetails)) {
-                UsernamePasswordAuthenticationToken authToken =
-                        new UsernamePasswordAuthenticationToken(
-                                userDetails,
-                                null,
-                                userDetails.getAuthorities()
-                        );
-
-                // Adiciona detalhes da requisição (IP, SessionID) ao token de autenticação
-                authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-
-                // 4. Define o usuário como autenticado no contexto do Spring Security
-                SecurityContextHolder.getContext().setAuthentication(authToken);
-            }
+        if (username == null || SecurityContextHolder.getContext().getAuthentication() != null) {
+            return "ignorado";
         }
 
-        // 5. Continua a execução para o próximo filtro na corrente
-        chain.doFilter(request, response);
+        UserDetails userDetails = userDetailsSvc.loadUserByUsername(username);
+
+        // 3. Valida se o token é íntegro e pertence ao usuário
+        if (!jwtService.isTokenValid(token, userDetails)) {
+            return "rejeitado";
+        }
+
+        UsernamePasswordAuthenticationToken authToken =
+                new UsernamePasswordAuthenticationToken(
+                        userDetails,
+                        null,
+                        userDetails.getAuthorities()
+                );
+
+        // Adiciona detalhes da requisição (IP, SessionID) ao token de autenticação
+        authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+
+        // 4. Define o usuário como autenticado no contexto do Spring Security
+        SecurityContextHolder.getContext().setAuthentication(authToken);
+        return "autenticado";
     }
 }
\ No newline at end of file
@@ -13,8 +13,11 @@ import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.intercept.AuthorizationFilter;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
+import com.restaurantefiap.idempotency.FiltroIdempotencia;
+
 import lombok.RequiredArgsConstructor;
 
 /**
@@ -38,16 +41,19 @@ public class SecurityConfig {
      * * <ul>
      * <li>Desabilita CSRF, pois a API utiliza tokens JWT.</li>
      * <li>Configura a sessão como STATELESS (sem estado no servidor).</li>
-     * <li>Define rotas públicas (Swagger, Documentação e Auth).</li>
+     * <li>Define rotas públicas (Swagger, Documentação, Auth, health e coleta do Prometheus).</li>
+     * <li>Restringe os demais endpoints do Actuator ao perfil MASTER.</li>
      * <li>Exige autenticação para todos os outros endpoints.</li>
      * <li>Insere o filtro JWT antes do filtro de autenticação padrão por senha.</li>
+     * <li>Insere o filtro de {@code Idempotency-Key} depois da autorização.</li>
      * </ul>
      * * @param http Configurador de segurança HTTP.
+     * @param filtroIdempotencia Filtro de requisições idempotentes.
      * @return A corrente de filtros configurada.
      * @throws Exception Caso ocorra erro na configuração.
      */
     @Bean
-    public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain filterChain(HttpSecurity http, FiltroIdempotencia filtroIdempotencia) throws Exception {
         return http
                 .csrf(csrf -> csrf.disable())
                 .sessionManagement(sm -> sm.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
@@ -59,10 +65,14 @@ public class SecurityConfig {
                                 "/swagger-ui/index.html")
                         .permitAll()
                         .requestMatchers("/v1/auth/**").permitAll()
+                        .requestMatchers("/actuator/health", "/actuator/health/**")
+                        .permitAll()
+                        .requestMatchers("/actuator/**").hasRole("MASTER")
                         .anyRequest().authenticated()
                 )
                 .authenticationProvider(authProvider())
                 .addFilterBefore(jwtFilter, UsernamePasswordAuthenticationFilter.class)
+                .addFilterAfter(filtroIdempotencia, AuthorizationFilter.class)
                 .build();
     }
 
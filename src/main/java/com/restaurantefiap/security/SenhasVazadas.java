@@ -0,0 +1,23 @@
+package com.restaurantefiap.security;
+
+/**
+ * Consulta a uma lista de senhas vazadas conhecidas.
+ *
+ * @author Danilo de Paula
+ */
+@FunctionalInterface
+public interface SenhasVazadas {
+
+    /**
+     * @param senha senha em texto plano
+     * @return {@code true} se a senha consta (ou pode constar) na lista
+     */
+    boolean contem(CharSequence senha);
+
+    /**
+     * Lista vazia — usada quando nenhum arquivo de filtro foi configurado.
+     */
+    static SenhasVazadas nenhuma() {
+        return senha -> false;
+    }
+}
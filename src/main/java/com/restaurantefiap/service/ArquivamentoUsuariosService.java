@@ -0,0 +1,245 @@
+package com.restaurantefiap.service;
+
+import com.restaurantefiap.dto.response.ArquivamentoStatusDTO;
+import com.restaurantefiap.dto.response.UsuarioResponseDTO;
+import com.restaurantefiap.entities.usuario.UsuarioArquivado;
+import com.restaurantefiap.enums.TipoEventoUsuario;
+import com.restaurantefiap.exception.DuplicateResourceException;
+import com.restaurantefiap.exception.ResourceNotFoundException;
+import com.restaurantefiap.mapper.UsuarioMapper;
+import com.restaurantefiap.repository.UsuarioArquivadoRepository;
+import com.restaurantefiap.repository.UsuarioRepository;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Service que move usuários excluídos há mais de N dias para {@code usuarios_arquivados}.
+ *
+ * <p>O soft delete mantém as linhas em {@code usuarios}; com o tempo todas as consultas
+ * pagam por elas no filtro {@code deletado_em IS NULL}. O job percorre os excluídos na ordem
+ * do índice {@code (deletado_em, id)} em lotes pequenos, cada um em sua própria transação
+ * curta (copia e remove), para nunca segurar locks por muito tempo.</p>
+ *
+ * <p>O cron dispara em todos os nós. Cada lote é reivindicado com {@code FOR UPDATE SKIP LOCKED}
+ * ({@link UsuarioRepository#findIdsExcluidosAntesDe}): nós simultâneos dividem os lotes em vez
+ * de disputá-los.</p>
+ *
+ * <p>Configuração ({@code usuarios.arquivamento.*}): {@code habilitado}, {@code dias-retencao},
+ * {@code tamanho-lote}, {@code pausa-entre-lotes-ms} e {@code cron}.</p>
+ *
+ * @author Danilo de Paula
+ */
+@Service
+public class ArquivamentoUsuariosService {
+
+    private static final Logger log = LoggerFactory.getLogger(ArquivamentoUsuariosService.class);
+
+    private final UsuarioRepository usuarioRepository;
+    private final UsuarioArquivadoRepository arquivadoRepository;
+    private final ContadorUsuariosAtivos contadorAtivos;
+    private final OutboxUsuariosService outbox;
+    private final TransactionTemplate transacaoLote;
+
+    private final boolean habilitado;
+    private final int diasRetencao;
+    private final int tamanhoLote;
+    private final long pausaEntreLotesMs;
+
+    // ---- Progresso (métricas) ----
+    private final AtomicBoolean emExecucao = new AtomicBoolean(false);
+    private final AtomicLong totalArquivados = new AtomicLong();
+    private final AtomicLong totalRestaurados = new AtomicLong();
+    private final AtomicLong arquivadosExecucaoAtual = new AtomicLong();
+    private final AtomicLong lotesExecucaoAtual = new AtomicLong();
+    private final AtomicLong ultimoIdProcessado = new AtomicLong();
+    private final AtomicReference<LocalDateTime> inicioUltimaExecucao = new AtomicReference<>();
+    private final AtomicReference<LocalDateTime> fimUltimaExecucao = new AtomicReference<>();
+
+    public ArquivamentoUsuariosService(
+            UsuarioRepository usuarioRepository,
+            UsuarioArquivadoRepository arquivadoRepository,
+            ContadorUsuariosAtivos contadorAtivos,
+            OutboxUsuariosService outbox,
+            PlatformTransactionManager transactionManager,
+            @Value("${usuarios.arquivamento.habilitado:true}") boolean habilitado,
+            @Value("${usuarios.arquivamento.dias-retencao:90}") int diasRetencao,
+            @Value("${usuarios.arquivamento.tamanho-lote:200}") int tamanhoLote,
+            @Value("${usuarios.arquivamento.pausa-entre-lotes-ms:50}") long pausaEntreLotesMs
+    ) {
+        this.usuarioRepository = usuarioRepository;
+        this.arquivadoRepository = arquivadoRepository;
+        this.contadorAtivos = contadorAtivos;
+        this.outbox = outbox;
+        this.transacaoLote = new TransactionTemplate(transactionManager);
+        this.habilitado = habilitado;
+        this.diasRetencao = diasRetencao;
+        this.tamanhoLote = tamanhoLote;
+        this.pausaEntreLotesMs = pausaEntreLotesMs;
+    }
+
+    // ========== Arquivamento ==========
+
+    /**
+     * Execução agendada do arquivamento (padrão: diariamente às 03:30).
+     */
+    @Scheduled(cron = "${usuarios.arquivamento.cron:0 30 3 * * *}")
+    public void executarAgendado() {
+        if (!habilitado) {
+            return;
+        }
+        arquivarExcluidosAntesDe(LocalDateTime.now().minusDays(diasRetencao));
+    }
+
+    /**
+     * Arquiva todos os usuários excluídos antes do limite informado.
+     *
+     * <p>Cada lote roda em transação própria: uma falha interrompe a execução,
+     * mas os lotes anteriores permanecem arquivados. Execuções concorrentes no
+     * mesmo nó são ignoradas; em outros nós, pulam os lotes já reivindicados.</p>
+     *
+     * @param limite data de exclusão máxima (exclusiva)
+     * @return quantidade de usuários arquivados nesta execução
+     */
+    public long arquivarExcluidosAntesDe(LocalDateTime limite) {
+        if (!emExecucao.compareAndSet(false, true)) {
+            log.info("Arquivamento de usuários já em execução — ignorando nova chamada.");
+            return 0;
+        }
+
+        iniciarProgresso();
+        try {
+            int arquivadosLote;
+            do {
+                List<Long> ids = transacaoLote.execute(status -> arquivarLote(limite));
+
+                arquivadosLote = ids == null ? 0 : ids.size();
+                if (arquivadosLote > 0) {
+                    registrarLote(arquivadosLote, ids.get(arquivadosLote - 1));
+                    pausarEntreLotes();
+                }
+            } while (arquivadosLote == tamanhoLote && !Thread.currentThread().isInterrupted());
+
+            log.info("Arquivamento concluído: {} usuário(s) em {} lote(s).",
+                    arquivadosExecucaoAtual.get(), lotesExecucaoAtual.get());
+            return arquivadosExecucaoAtual.get();
+        } finally {
+            fimUltimaExecucao.set(LocalDateTime.now());
+            emExecucao.set(false);
+        }
+    }
+
+    // ========== Restauração ==========
+
+    /**
+     * Restaura um usuário arquivado para a tabela principal, já reativado.
+     *
+     * @param id ID do usuário arquivado
+     * @return DTO do usuário restaurado
+     * @throws ResourceNotFoundException  se não houver usuário arquivado com o ID
+     * @throws DuplicateResourceException se o login ou o email já estiverem em uso
+     */
+    @Transactional
+    public UsuarioResponseDTO restaurar(Long id) {
+        UsuarioArquivado arquivado = arquivadoRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Usuário arquivado", id));
+
+        if (usuarioRepository.countLoginOuEmailEmQualquerEstado(arquivado.getLogin(), arquivado.getEmail()) > 0) {
+            throw new DuplicateResourceException(
+                    "Login ou e-mail do usuário arquivado já está em uso: " + arquivado.getLogin());
+        }
+
+        arquivadoRepository.copiarParaUsuarios(id);
+        arquivadoRepository.deleteById(id);
+        arquivadoRepository.flush();
+
+        contadorAtivos.registrarCriacao();
+        outbox.registrar(id, TipoEventoUsuario.RESTAURADO);
+        totalRestaurados.incrementAndGet();
+
+        return usuarioRepository.findAtivoById(id)
+                .map(UsuarioMapper::paraDto)
+                .orElseThrow(() -> new ResourceNotFoundException("Usuário", id));
+    }
+
+    // ========== Progresso ==========
+
+    /**
+     * Retorna o progresso do job de arquivamento.
+     *
+     * @return snapshot das métricas de progresso
+     */
+    public ArquivamentoStatusDTO status() {
+        return new ArquivamentoStatusDTO(
+                emExecucao.get(),
+                totalArquivados.get(),
+                totalRestaurados.get(),
+                arquivadosExecucaoAtual.get(),
+                lotesExecucaoAtual.get(),
+                ultimoIdProcessado.get(),
+                inicioUltimaExecucao.get(),
+                fimUltimaExecucao.get()
+        );
+    }
+
+    // ========== Métodos Auxiliares ==========
+
+    /**
+     * Copia e remove um lote. Executado dentro de uma transação curta.
+     */
+    private List<Long> arquivarLote(LocalDateTime limite) {
+        List<Long> ids = usuarioRepository.findIdsExcluidosAntesDe(limite, tamanhoLote);
+        if (ids.isEmpty()) {
+            return ids;
+        }
+
+        int copiados = arquivadoRepository.copiarDeUsuarios(ids);
+        int removidos = usuarioRepository.removerExcluidos(ids);
+
+        if (copiados != removidos) {
+            throw new IllegalStateException(String.format(
+                    "Arquivamento inconsistente: %d copiado(s) e %d removido(s).", copiados, removidos));
+        }
+        return ids;
+    }
+
+    private void iniciarProgresso() {
+        arquivadosExecucaoAtual.set(0);
+        lotesExecucaoAtual.set(0);
+        ultimoIdProcessado.set(0);
+        inicioUltimaExecucao.set(LocalDateTime.now());
+    }
+
+    private void registrarLote(int quantidade, long ultimoId) {
+        totalArquivados.addAndGet(quantidade);
+        arquivadosExecucaoAtual.addAndGet(quantidade);
+        lotesExecucaoAtual.incrementAndGet();
+        ultimoIdProcessado.set(ultimoId);
+    }
+
+    /**
+     * Pequena pausa entre lotes para não competir com o tráfego da aplicação.
+     */
+    private void pausarEntreLotes() {
+        if (pausaEntreLotesMs <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(pausaEntreLotesMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
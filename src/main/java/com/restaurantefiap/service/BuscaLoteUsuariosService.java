@@ -0,0 +1,143 @@
+package com.restaurantefiap.service;
+
+import com.restaurantefiap.dto.response.UsuarioLoteItemDTO;
+import com.restaurantefiap.entities.usuario.Usuario;
+import com.restaurantefiap.mapper.UsuarioMapper;
+import com.restaurantefiap.repository.UsuarioRepository;
+import com.restaurantefiap.security.AutorizacaoService;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Service de busca de usuários em lote por ID.
+ *
+ * <p>Substitui N chamadas a {@code GET /v1/usuarios/{id}} por uma requisição: os IDs
+ * distintos e autorizados são buscados com consultas {@code IN} em blocos de
+ * {@code usuarios.lote.tamanho-bloco}, e a resposta volta na ordem da requisição,
+ * com um marcador explícito para IDs não encontrados ou sem permissão.</p>
+ *
+ * <p>A autorização é a mesma de {@code GET /{id}} ({@link AutorizacaoService#isAdminOuProprio})
+ * e é aplicada antes da consulta: IDs negados não chegam ao banco, e a resposta não revela
+ * se eles existem.</p>
+ *
+ * @author Danilo de Paula
+ */
+@Service
+public class BuscaLoteUsuariosService {
+
+    private final UsuarioRepository repository;
+    private final AutorizacaoService autorizacaoService;
+    private final int maxIds;
+    private final int tamanhoBloco;
+
+    public BuscaLoteUsuariosService(
+            UsuarioRepository repository,
+            AutorizacaoService autorizacaoService,
+            @Value("${usuarios.lote.max-ids:200}") int maxIds,
+            @Value("${usuarios.lote.tamanho-bloco:100}") int tamanhoBloco
+    ) {
+        if (maxIds <= 0 || tamanhoBloco <= 0) {
+            throw new IllegalArgumentException("usuarios.lote.max-ids e usuarios.lote.tamanho-bloco devem ser positivos.");
+        }
+        this.repository = repository;
+        this.autorizacaoService = autorizacaoService;
+        this.maxIds = maxIds;
+        this.tamanhoBloco = tamanhoBloco;
+    }
+
+    /**
+     * Busca usuários ativos pelos IDs informados.
+     *
+     * @param ids IDs na ordem desejada (duplicados são respondidos em cada posição)
+     * @return um item por ID solicitado, na mesma ordem
+     * @throws IllegalArgumentException se a lista for vazia, contiver nulos ou exceder o limite
+     */
+    @Transactional(readOnly = true)
+    public List<UsuarioLoteItemDTO> buscarPorIds(List<Long> ids) {
+        List<UsuarioLoteItemDTO> resultado = new ArrayList<>(ids == null ? 0 : ids.size());
+        buscarPorIdsEmFluxo(ids, resultado::add);
+        return resultado;
+    }
+
+    /**
+     * Busca usuários ativos pelos IDs informados, entregando cada item assim que o bloco
+     * que o contém é consultado.
+     *
+     * <p>Os blocos seguem a ordem da primeira ocorrência de cada ID autorizado, então os itens
+     * saem na ordem da requisição sem esperar pelo lote inteiro. Usado pelo RPC em fluxo do
+     * diretório gRPC.</p>
+     *
+     * @param ids        IDs na ordem desejada (duplicados são respondidos em cada posição)
+     * @param consumidor recebe um item por ID solicitado, na mesma ordem
+     * @throws IllegalArgumentException se a lista for vazia, contiver nulos ou exceder o limite
+     */
+    @Transactional(readOnly = true)
+    public void buscarPorIdsEmFluxo(List<Long> ids, Consumer<UsuarioLoteItemDTO> consumidor) {
+        validarIds(ids);
+
+        Set<Long> autorizados = new LinkedHashSet<>();
+        for (Long id : ids) {
+            if (autorizacaoService.isAdminOuProprio(id)) {
+                autorizados.add(id);
+            }
+        }
+
+        List<Long> pendentes = new ArrayList<>(autorizados);
+        Set<Long> consultados = new HashSet<>(pendentes.size() * 2);
+        Map<Long, UsuarioLoteItemDTO> encontrados = new HashMap<>(pendentes.size() * 2);
+
+        for (Long id : ids) {
+            if (!autorizados.contains(id)) {
+                consumidor.accept(UsuarioLoteItemDTO.acessoNegado(id));
+                continue;
+            }
+            if (!consultados.contains(id)) {
+                consultarProximoBloco(pendentes, consultados, encontrados);
+            }
+            UsuarioLoteItemDTO item = encontrados.get(id);
+            consumidor.accept(item != null ? item : UsuarioLoteItemDTO.naoEncontrado(id));
+        }
+    }
+
+    // ========== Métodos Auxiliares ==========
+
+    private void validarIds(List<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            throw new IllegalArgumentException("Informe ao menos um ID.");
+        }
+        if (ids.size() > maxIds) {
+            throw new IllegalArgumentException(String.format(
+                    "Máximo de %d IDs por requisição (recebidos: %d).", maxIds, ids.size()));
+        }
+        for (Long id : ids) {
+            if (id == null) {
+                throw new IllegalArgumentException("ID não pode ser nulo.");
+            }
+        }
+    }
+
+    /**
+     * Executa a consulta {@code IN} do próximo bloco de IDs distintos — mantém o número de
+     * parâmetros limitado e estável para o cache de planos do banco.
+     */
+    private void consultarProximoBloco(List<Long> pendentes, Set<Long> consultados,
+                                       Map<Long, UsuarioLoteItemDTO> encontrados) {
+        int inicio = consultados.size();
+        List<Long> bloco = pendentes.subList(inicio, Math.min(inicio + tamanhoBloco, pendentes.size()));
+        for (Usuario usuario : repository.findAtivosByIdIn(bloco)) {
+            encontrados.put(usuario.getId(), UsuarioLoteItemDTO.encontrado(UsuarioMapper.paraDto(usuario)));
+        }
+        consultados.addAll(bloco);
+    }
+}
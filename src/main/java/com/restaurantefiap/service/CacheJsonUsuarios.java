@@ -0,0 +1,230 @@
+package com.restaurantefiap.service;
+
+import com.restaurantefiap.enums.CampoUsuario;
+import com.restaurantefiap.enums.EtapaRequisicao;
+import com.restaurantefiap.events.UsuarioAlteradoEvento;
+import com.restaurantefiap.observability.CronometroRequisicao;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Cache do JSON já serializado (bytes UTF-8) das representações de usuário.
+ *
+ * <p>A chave é (ID, versão, conjunto de campos). Como a versão faz parte da chave, uma
+ * entrada antiga nunca é servida: o chamador consulta a versão atual (consulta barata)
+ * e só usa os bytes se ela bater. A remoção por {@link UsuarioAlteradoEvento} serve para
+ * liberar memória — inclusive nos outros nós, que recebem o evento pela outbox.</p>
+ *
+ * <p>O limite é por quantidade de usuários; ao atingi-lo, uma entrada qualquer é
+ * descartada (remoção aproximada, sem custo de LRU no caminho de leitura).</p>
+ *
+ * <p>Configuração ({@code usuarios.cache-json.*}): {@code habilitado} e {@code max-usuarios}.</p>
+ *
+ * @author Danilo de Paula
+ */
+@Component
+public class CacheJsonUsuarios {
+
+    /** Chave de campos da representação completa ({@code UsuarioResponseDTO}). */
+    public static final String COMPLETO = "*";
+
+    private final ObjectMapper objectMapper;
+    private final boolean habilitado;
+    private final int maxUsuarios;
+
+    private final Map<Long, Entrada> entradas = new ConcurrentHashMap<>();
+
+    // ---- Métricas ----
+    private final AtomicLong acertos = new AtomicLong();
+    private final AtomicLong faltas = new AtomicLong();
+    private final AtomicLong remocoes = new AtomicLong();
+
+    public CacheJsonUsuarios(
+            ObjectMapper objectMapper,
+            @Value("${usuarios.cache-json.habilitado:true}") boolean habilitado,
+            @Value("${usuarios.cache-json.max-usuarios:10000}") int maxUsuarios
+    ) {
+        this.objectMapper = objectMapper;
+        this.habilitado = habilitado;
+        this.maxUsuarios = maxUsuarios;
+    }
+
+    // ========== Leitura e Escrita ==========
+
+    /**
+     * Busca o JSON de um usuário na versão informada.
+     *
+     * @param id     identificador do usuário
+     * @param versao versão atual do usuário (nula: usuário inexistente)
+     * @param campos chave de campos ({@link #COMPLETO} ou {@link #chave(Set)})
+     * @return bytes em cache, ou {@code null} se ausentes ou de outra versão
+     */
+    public byte[] obter(Long id, Long versao, String campos) {
+        if (!habilitado || versao == null) {
+            return null;
+        }
+
+        Entrada entrada = entradas.get(id);
+        byte[] json = entrada != null && entrada.versao == versao ? entrada.porCampos.get(campos) : null;
+        (json != null ? acertos : faltas).incrementAndGet();
+        return json;
+    }
+
+    /**
+     * Serializa a representação com o {@link ObjectMapper} da aplicação e guarda os bytes.
+     *
+     * <p>Uma entrada de versão mais nova nunca é substituída por uma mais antiga.</p>
+     *
+     * @param id             identificador do usuário
+     * @param versao         versão da representação
+     * @param campos         chave de campos
+     * @param representacao  DTO a serializar
+     * @return bytes serializados (guardados ou não)
+     */
+    public byte[] serializarEGuardar(Long id, Long versao, String campos, Object representacao) {
+        byte[] json = serializar(representacao);
+        if (!habilitado || versao == null) {
+            return json;
+        }
+
+        if (!entradas.containsKey(id)) {
+            liberarEspaco();
+        }
+        Entrada entrada = entradas.compute(id, (chave, atual) ->
+                atual == null || atual.versao < versao ? new Entrada(versao) : atual);
+        if (entrada.versao == versao) {
+            entrada.porCampos.put(campos, json);
+        }
+        return json;
+    }
+
+    /**
+     * Monta a chave de um conjunto de campos (ordem de declaração, independente do pedido).
+     *
+     * @param campos campos pedidos em {@code fields=}
+     * @return chave canônica, ex.: {@code id,nome,role}
+     */
+    public static String chave(Set<CampoUsuario> campos) {
+        return campos.stream().map(CampoUsuario::getNome).collect(Collectors.joining(","));
+    }
+
+    /**
+     * Recorta um JSON completo para os campos pedidos, no mesmo formato de {@code UsuarioParcialDTO}.
+     * Usado para: {@code fields=} servido a partir da última representação completa conhecida
+     *
+     * @param jsonCompleto JSON de {@code UsuarioResponseDTO}
+     * @param campos       campos pedidos em {@code fields=}
+     * @return JSON só com os campos pedidos, em ordem de declaração
+     */
+    public byte[] projetar(byte[] jsonCompleto, Set<CampoUsuario> campos) {
+        try {
+            JsonNode completo = objectMapper.readTree(jsonCompleto);
+            ObjectNode parcial = objectMapper.createObjectNode();
+            for (CampoUsuario campo : CampoUsuario.values()) {
+                if (campos.contains(campo) && completo.has(campo.getNome())) {
+                    parcial.set(campo.getNome(), completo.get(campo.getNome()));
+                }
+            }
+            return objectMapper.writeValueAsBytes(parcial);
+        } catch (IOException e) {
+            throw new IllegalStateException("Falha ao recortar representação de usuário", e);
+        }
+    }
+
+    // ========== Invalidação ==========
+
+    /**
+     * Remove todas as representações do usuário alterado, excluído ou restaurado.
+     *
+     * @param evento evento de alteração (local ou vindo de outro nó)
+     */
+    @EventListener
+    public void aoAlterarUsuario(UsuarioAlteradoEvento evento) {
+        remover(evento.usuarioId());
+    }
+
+    /**
+     * Remove todas as representações de um usuário.
+     *
+     * @param id identificador do usuário
+     */
+    public void remover(Long id) {
+        if (entradas.remove(id) != null) {
+            remocoes.incrementAndGet();
+        }
+    }
+
+    /**
+     * Esvazia o cache.
+     */
+    public void limpar() {
+        entradas.clear();
+    }
+
+    // ========== Métricas ==========
+
+    public long getAcertos() {
+        return acertos.get();
+    }
+
+    public long getFaltas() {
+        return faltas.get();
+    }
+
+    public long getRemocoes() {
+        return remocoes.get();
+    }
+
+    public int getTamanho() {
+        return entradas.size();
+    }
+
+    // ========== Métodos Auxiliares ==========
+
+    private byte[] serializar(Object representacao) {
+        long inicio = System.nanoTime();
+        try {
+            return objectMapper.writeValueAsBytes(representacao);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Falha ao serializar representação de usuário", e);
+        } finally {
+            CronometroRequisicao.acumular(EtapaRequisicao.SERIALIZACAO, System.nanoTime() - inicio);
+        }
+    }
+
+    private void liberarEspaco() {
+        Iterator<Long> ids = entradas.keySet().iterator();
+        while (entradas.size() >= maxUsuarios && ids.hasNext()) {
+            ids.next();
+            ids.remove();
+            remocoes.incrementAndGet();
+        }
+    }
+
+    /**
+     * Representações de um usuário em uma versão, por chave de campos.
+     */
+    private static final class Entrada {
+
+        private final long versao;
+        private final Map<String, byte[]> porCampos = new ConcurrentHashMap<>();
+
+        private Entrada(long versao) {
+            this.versao = versao;
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.restaurantefiap.service;
+
+import com.restaurantefiap.concurrency.SingleFlight;
+import com.restaurantefiap.entities.usuario.RetratoUsuario;
+import com.restaurantefiap.entities.usuario.Usuario;
+import com.restaurantefiap.mapper.UsuarioMapper;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Camada de single flight na frente das leituras de {@code UsuarioRepository}.
+ *
+ * <p>Leituras concorrentes do mesmo usuário (ex.: atualização de dashboard, rajada de
+ * requisições autenticadas do mesmo login) compartilham uma única consulta em andamento.
+ * O resultado compartilhado é um {@link RetratoUsuario} montado pela thread que consultou,
+ * dentro da transação dela: a entidade JPA nunca sai do contexto de persistência que a carregou.</p>
+ *
+ * <p>A transação (somente leitura) é aberta aqui, por quem executa a consulta. Uma transação
+ * JPA pega a conexão do pool já no início; aberta antes da coalescência, cada seguidora
+ * seguraria uma conexão parada enquanto espera o líder — justamente o que a coalescência evita.
+ * Quem chama não deve, portanto, estar em {@code @Transactional}.</p>
+ *
+ * <p>Configuração ({@code usuarios.leitura.coalescencia.*}): {@code habilitada} e
+ * {@code timeout-ms} (espera máxima por uma consulta em andamento).</p>
+ *
+ * @author Danilo de Paula
+ * @see SingleFlight
+ */
+@Component
+public class CoalescedorLeiturasUsuario {
+
+    private final boolean habilitada;
+    private final TransactionTemplate transacao;
+    private final SingleFlight<Long, Optional<RetratoUsuario>> porId;
+    private final SingleFlight<String, Optional<RetratoUsuario>> porLogin;
+    private final LongAdder semCoalescencia = new LongAdder();
+
+    public CoalescedorLeiturasUsuario(
+            @Value("${usuarios.leitura.coalescencia.habilitada:true}") boolean habilitada,
+            @Value("${usuarios.leitura.coalescencia.timeout-ms:2000}") long timeoutMs,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.habilitada = habilitada;
+        this.transacao = new TransactionTemplate(transactionManager);
+        this.transacao.setReadOnly(true);
+        this.porId = new SingleFlight<>("usuario-por-id", Duration.ofMillis(timeoutMs));
+        this.porLogin = new SingleFlight<>("usuario-por-login", Duration.ofMillis(timeoutMs));
+    }
+
+    /**
+     * Busca usuário ativo por ID, compartilhando consultas concorrentes para o mesmo ID.
+     *
+     * @param id       identificador do usuário
+     * @param consulta consulta ao repositório
+     * @return retrato do usuário encontrado ou empty
+     */
+    public Optional<RetratoUsuario> porId(Long id, Supplier<Optional<Usuario>> consulta) {
+        Supplier<Optional<RetratoUsuario>> retrato = emTransacao(consulta);
+        return habilitada ? porId.executar(id, retrato) : direto(retrato);
+    }
+
+    /**
+     * Busca usuário ativo por login já normalizado, compartilhando consultas concorrentes.
+     *
+     * @param loginNormalizado login em minúsculas e sem espaços
+     * @param consulta         consulta ao repositório
+     * @return retrato do usuário encontrado ou empty
+     */
+    public Optional<RetratoUsuario> porLogin(String loginNormalizado, Supplier<Optional<Usuario>> consulta) {
+        Supplier<Optional<RetratoUsuario>> retrato = emTransacao(consulta);
+        return habilitada ? porLogin.executar(loginNormalizado, retrato) : direto(retrato);
+    }
+
+    // ========== Métodos Auxiliares ==========
+
+    /** Consulta e montagem do retrato numa transação só do líder. */
+    private Supplier<Optional<RetratoUsuario>> emTransacao(Supplier<Optional<Usuario>> consulta) {
+        return () -> transacao.execute(status -> consulta.get().map(UsuarioMapper::paraRetrato));
+    }
+
+    private Optional<RetratoUsuario> direto(Supplier<Optional<RetratoUsuario>> consulta) {
+        semCoalescencia.increment();
+        return consulta.get();
+    }
+
+    // ========== Métricas ==========
+
+    public SingleFlight<Long, Optional<RetratoUsuario>> getPorId() {
+        return porId;
+    }
+
+    public SingleFlight<String, Optional<RetratoUsuario>> getPorLogin() {
+        return porLogin;
+    }
+
+    /** Leituras feitas direto no repositório, com a coalescência desligada. */
+    public long getSemCoalescencia() {
+        return semCoalescencia.sum();
+    }
+}
@@ -0,0 +1,118 @@
+package com.restaurantefiap.service;
+
+import com.restaurantefiap.repository.UsuarioRepository;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Contador em memória de usuários ativos.
+ *
+ * <p>Evita o {@code SELECT COUNT(*)} a cada listagem: o valor é incrementado na criação,
+ * decrementado na exclusão (somente após o commit) e reconciliado periodicamente com a tabela,
+ * o que corrige alterações feitas por outros nós ou diretamente no banco.</p>
+ *
+ * <p>Entre duas reconciliações o total é uma aproximação — adequado para exibição,
+ * não para regras de negócio.</p>
+ *
+ * @author Danilo de Paula
+ */
+@Component
+public class ContadorUsuariosAtivos {
+
+    private static final Logger log = LoggerFactory.getLogger(ContadorUsuariosAtivos.class);
+
+    private static final long NAO_CARREGADO = -1L;
+
+    private final UsuarioRepository repository;
+    private final AtomicLong total = new AtomicLong(NAO_CARREGADO);
+
+    public ContadorUsuariosAtivos(UsuarioRepository repository) {
+        this.repository = repository;
+    }
+
+    /**
+     * Retorna o total de usuários ativos em O(1).
+     *
+     * <p>Na primeira chamada (antes da carga inicial) consulta a tabela.</p>
+     *
+     * @return total de usuários ativos
+     */
+    public long total() {
+        long valor = total.get();
+        return valor == NAO_CARREGADO ? carregar() : valor;
+    }
+
+    /**
+     * Registra a criação de um usuário (aplicado após o commit).
+     */
+    public void registrarCriacao() {
+        aposCommit(() -> total.updateAndGet(valor -> valor == NAO_CARREGADO ? valor : valor + 1));
+    }
+
+    /**
+     * Registra a exclusão de um usuário (aplicado após o commit).
+     */
+    public void registrarExclusao() {
+        aposCommit(() -> total.updateAndGet(valor -> valor > 0 ? valor - 1 : valor));
+    }
+
+    /**
+     * Recarrega o contador a partir da tabela.
+     *
+     * <p>Executado na subida da aplicação e periodicamente conforme
+     * {@code usuarios.contador.reconciliacao-ms}.</p>
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(
+            fixedDelayString = "${usuarios.contador.reconciliacao-ms:300000}",
+            initialDelayString = "${usuarios.contador.reconciliacao-ms:300000}"
+    )
+    public void reconciliar() {
+        carregar();
+    }
+
+    // ========== Métodos Auxiliares ==========
+
+    /**
+     * Consulta a tabela e substitui o valor do contador.
+     *
+     * @return total de usuários ativos
+     */
+    private long carregar() {
+        long real = repository.countAtivos();
+        long anterior = total.getAndSet(real);
+
+        if (anterior != NAO_CARREGADO && anterior != real) {
+            log.debug("Contador de usuários ativos reconciliado: {} -> {}", anterior, real);
+        }
+        return real;
+    }
+
+    /**
+     * Executa a ação após o commit da transação corrente, ou imediatamente se não houver transação.
+     *
+     * <p>Evita contar criações/exclusões que sofreram rollback.</p>
+     */
+    private void aposCommit(Runnable acao) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            acao.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                acao.run();
+            }
+        });
+    }
+}
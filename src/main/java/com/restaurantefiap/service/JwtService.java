@@ -3,6 +3,7 @@ package com.restaurantefiap.service;
 import java.security.Key;
 import java.util.Date;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 import org.springframework.beans.factory.annotation.Value;
@@ -12,23 +13,49 @@ import org.springframework.stereotype.Service;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import com.restaurantefiap.observability.EventoTokenJwt;
 
 /**
  * Serviço responsável pelo gerenciamento do ciclo de vida de JSON Web Tokens (JWT).
  * * <p>Esta classe lida com a geração, extração de dados e validação de tokens
  * utilizados no processo de autenticação e autorização stateless.</p>
+ * <p>Assinatura e leitura são medidas no timer {@value #METRICA}, com as tags
+ * {@code operacao} ({@code assinar}, {@code ler}) e {@code resultado}
+ * ({@code sucesso}, {@code expirado}, {@code invalido}), e emitem o evento JFR
+ * {@link EventoTokenJwt} com os mesmos valores.</p>
  * @author Thiago de Jesus
  * @author Danilo Fernando
  */
 @Service
 public class JwtService {
 
+    static final String METRICA = "jwt.operacoes";
+
+    private final Timer assinaturas;
+    private final Timer leiturasValidas;
+    private final Timer leiturasExpiradas;
+    private final Timer leiturasInvalidas;
+
     @Value("${security.jwt.secret}")
     private String secretBase64;
 
     @Value("${security.jwt.expiration-ms:86400000}")
     private long expirationMs;
 
+    /** Derivados do segredo na primeira operação e reaproveitados (o parser é imutável e thread-safe). */
+    private volatile Key chave;
+    private volatile JwtParser parser;
+
+    public JwtService(MeterRegistry meterRegistry) {
+        this.assinaturas = timer(meterRegistry, "assinar", "sucesso");
+        this.leiturasValidas = timer(meterRegistry, "ler", "sucesso");
+        this.leiturasExpiradas = timer(meterRegistry, "ler", "expirado");
+        this.leiturasInvalidas = timer(meterRegistry, "ler", "invalido");
+    }
+
     /**
      * Extrai o identificador do usuário (Subject) de um token JWT.
      *
@@ -80,16 +107,21 @@ public class JwtService {
      * Constrói o token JWT configurando claims customizadas, subject, data de emissão e expiração.
      */
     private String buildToken(Map<String, Object> extraClaims, String subject) {
+        final EventoTokenJwt evento = EventoTokenJwt.iniciar("assinar");
+        final long inicio = System.nanoTime();
         final Date now = new Date();
         final Date exp = new Date(now.getTime() + expirationMs);
 
-        return Jwts.builder()
+        String token = Jwts.builder()
                 .setClaims(extraClaims)
                 .setSubject(subject)
                 .setIssuedAt(now)
                 .setExpiration(exp)
                 .signWith(getKey(), SignatureAlgorithm.HS256)
                 .compact();
+        assinaturas.record(System.nanoTime() - inicio, TimeUnit.NANOSECONDS);
+        evento.concluir("sucesso");
+        return token;
     }
 
     /**
@@ -104,18 +136,58 @@ public class JwtService {
      * * @throws JwtException Caso o token esteja corrompido ou a assinatura seja inválida.
      */
     private Claims parseAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        final EventoTokenJwt evento = EventoTokenJwt.iniciar("ler");
+        final long inicio = System.nanoTime();
+        Timer resultado = leiturasInvalidas;
+        try {
+            Claims claims = getParser()
+                    .parseClaimsJws(token)
+                    .getBody();
+            resultado = leiturasValidas;
+            return claims;
+        } catch (ExpiredJwtException e) {
+            resultado = leiturasExpiradas;
+            throw e;
+        } finally {
+            resultado.record(System.nanoTime() - inicio, TimeUnit.NANOSECONDS);
+            evento.concluir(resultado == leiturasValidas ? "sucesso"
+                    : resultado == leiturasExpiradas ? "expirado" : "invalido");
+        }
     }
 
     /**
      * Decodifica a chave secreta de Base64 para gerar a assinatura HMAC-SHA.
      */
     private Key getKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(secretBase64);
-        return Keys.hmacShaKeyFor(keyBytes);
+        Key atual = chave;
+        if (atual == null) {
+            byte[] keyBytes = Decoders.BASE64.decode(secretBase64);
+            atual = Keys.hmacShaKeyFor(keyBytes);
+            chave = atual;
+        }
+        return atual;
+    }
+
+    /**
+     * Parser com a chave de assinatura. Montá-lo a cada leitura refaz a busca do
+     * desserializador JSON via {@code ServiceLoader}, que domina o custo da leitura.
+     */
+    private JwtParser getParser() {
+        JwtParser atual = parser;
+        if (atual == null) {
+            atual = Jwts.parserBuilder()
+                    .setSigningKey(getKey())
+                    .build();
+            parser = atual;
+        }
+        return atual;
+    }
+
+    private static Timer timer(MeterRegistry meterRegistry, String operacao, String resultado) {
+        return Timer.builder(METRICA)
+                .description("Assinatura e leitura de tokens JWT")
+                .tag("operacao", operacao)
+                .tag("resultado", resultado)
+                .register(meterRegistry);
     }
 }
\ No newline at end of file
@@ -0,0 +1,215 @@
+package com.restaurantefiap.service;
+
+import com.restaurantefiap.config.NoAplicacao;
+import com.restaurantefiap.dto.response.OutboxStatusDTO;
+import com.restaurantefiap.entities.outbox.EventoUsuarioOutbox;
+import com.restaurantefiap.enums.TipoEventoUsuario;
+import com.restaurantefiap.events.PublicadorEventosBroker;
+import com.restaurantefiap.events.PublicadorEventosUsuario;
+import com.restaurantefiap.events.UsuarioAlteradoEvento;
+import com.restaurantefiap.repository.EventoUsuarioOutboxRepository;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Outbox transacional dos eventos de alteração de usuários.
+ *
+ * <p>{@link #registrar} grava o evento na transação de quem alterou o usuário. O poller
+ * ({@link #publicarPendentes}) lê os pendentes em lotes, entrega cada lote a todos os
+ * {@link PublicadorEventosUsuario} registrados (barramento local e broker) e marca os
+ * eventos como publicados — tudo na mesma transação curta. Uma falha desfaz a marcação
+ * e o lote é reenviado no ciclo seguinte (entrega "ao menos uma vez").</p>
+ *
+ * <p>O atraso máximo até todos os nós invalidarem seus caches é aproximadamente
+ * {@code intervalo-ms} mais a latência do broker.</p>
+ *
+ * <p>Configuração ({@code usuarios.outbox.*}): {@code intervalo-ms}, {@code tamanho-lote},
+ * {@code assumir-orfaos-apos-ms}, {@code retencao-horas} e {@code cron-limpeza}.</p>
+ *
+ * @author Danilo de Paula
+ */
+@Service
+public class OutboxUsuariosService {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxUsuariosService.class);
+
+    private final EventoUsuarioOutboxRepository repository;
+    private final List<PublicadorEventosUsuario> publicadores;
+    private final PublicadorEventosBroker publicadorBroker;
+    private final NoAplicacao no;
+    private final TransactionTemplate transacaoLote;
+
+    private final int tamanhoLote;
+    private final long assumirOrfaosAposMs;
+    private final long retencaoHoras;
+
+    // ---- Métricas ----
+    private final AtomicBoolean emExecucao = new AtomicBoolean(false);
+    private final AtomicLong totalPublicados = new AtomicLong();
+    private final AtomicLong totalFalhas = new AtomicLong();
+    private final AtomicLong atrasoMaximoUltimoLoteMs = new AtomicLong();
+    private final AtomicReference<LocalDateTime> ultimaPublicacao = new AtomicReference<>();
+
+    public OutboxUsuariosService(
+            EventoUsuarioOutboxRepository repository,
+            List<PublicadorEventosUsuario> publicadores,
+            PublicadorEventosBroker publicadorBroker,
+            NoAplicacao no,
+            PlatformTransactionManager transactionManager,
+            @Value("${usuarios.outbox.tamanho-lote:100}") int tamanhoLote,
+            @Value("${usuarios.outbox.assumir-orfaos-apos-ms:60000}") long assumirOrfaosAposMs,
+            @Value("${usuarios.outbox.retencao-horas:24}") long retencaoHoras
+    ) {
+        this.repository = repository;
+        this.publicadores = publicadores;
+        this.publicadorBroker = publicadorBroker;
+        this.no = no;
+        this.transacaoLote = new TransactionTemplate(transactionManager);
+        this.tamanhoLote = tamanhoLote;
+        this.assumirOrfaosAposMs = assumirOrfaosAposMs;
+        this.retencaoHoras = retencaoHoras;
+    }
+
+    // ========== Gravação ==========
+
+    /**
+     * Registra um evento de alteração na outbox.
+     *
+     * <p>Exige transação ativa: o evento só existe se a alteração for confirmada.</p>
+     *
+     * @param usuarioId ID do usuário alterado
+     * @param tipo      tipo da alteração
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void registrar(Long usuarioId, TipoEventoUsuario tipo) {
+        repository.save(new EventoUsuarioOutbox(usuarioId, tipo, no.getId(), LocalDateTime.now()));
+    }
+
+    // ========== Publicação ==========
+
+    /**
+     * Execução agendada do poller (padrão: a cada 1 segundo após o término da anterior).
+     */
+    @Scheduled(fixedDelayString = "${usuarios.outbox.intervalo-ms:1000}")
+    public void executarAgendado() {
+        publicarPendentes();
+    }
+
+    /**
+     * Publica os eventos pendentes em lotes até esvaziar a fila deste nó.
+     *
+     * <p>Execuções concorrentes no mesmo nó são ignoradas.</p>
+     *
+     * @return quantidade de eventos publicados nesta execução
+     */
+    public int publicarPendentes() {
+        if (!emExecucao.compareAndSet(false, true)) {
+            return 0;
+        }
+
+        int publicados = 0;
+        try {
+            int publicadosLote;
+            do {
+                Integer resultado = transacaoLote.execute(status -> publicarLote());
+                publicadosLote = resultado == null ? 0 : resultado;
+                publicados += publicadosLote;
+            } while (publicadosLote == tamanhoLote && !Thread.currentThread().isInterrupted());
+        } catch (RuntimeException e) {
+            totalFalhas.incrementAndGet();
+            log.warn("Falha ao publicar eventos da outbox de usuários; lote será reenviado.", e);
+        } finally {
+            emExecucao.set(false);
+        }
+        return publicados;
+    }
+
+    /**
+     * Remove eventos já publicados há mais de {@code retencao-horas}.
+     */
+    @Scheduled(cron = "${usuarios.outbox.cron-limpeza:0 15 * * * *}")
+    @Transactional
+    public void limparPublicados() {
+        int removidos = repository.apagarPublicadosAntesDe(LocalDateTime.now().minusHours(retencaoHoras));
+        if (removidos > 0) {
+            log.info("Outbox de usuários: {} evento(s) publicado(s) removido(s).", removidos);
+        }
+    }
+
+    // ========== Métricas ==========
+
+    /**
+     * Retorna as métricas de atraso e volume da outbox.
+     *
+     * @return snapshot das métricas
+     */
+    @Transactional(readOnly = true)
+    public OutboxStatusDTO status() {
+        LocalDateTime maisAntigo = repository.findCriacaoPendenteMaisAntigo();
+        long atrasoPendente = maisAntigo == null ? 0 : atrasoAteAgoraMs(maisAntigo);
+
+        return new OutboxStatusDTO(
+                no.getId(),
+                repository.countPendentes(),
+                atrasoPendente,
+                totalPublicados.get(),
+                totalFalhas.get(),
+                atrasoMaximoUltimoLoteMs.get(),
+                ultimaPublicacao.get(),
+                publicadorBroker.getRecebidosRemotos(),
+                publicadorBroker.getAtrasoUltimaEntregaMs(),
+                publicadorBroker.getAtrasoMaximoEntregaMs()
+        );
+    }
+
+    // ========== Métodos Auxiliares ==========
+
+    /**
+     * Publica e marca um lote. Executado dentro de uma transação curta.
+     */
+    private int publicarLote() {
+        LocalDateTime agora = LocalDateTime.now();
+        List<EventoUsuarioOutbox> pendentes = repository.findPendentes(
+                no.getId(), agora.minus(Duration.ofMillis(assumirOrfaosAposMs)), PageRequest.of(0, tamanhoLote));
+        if (pendentes.isEmpty()) {
+            return 0;
+        }
+
+        List<UsuarioAlteradoEvento> lote = pendentes.stream()
+                .map(e -> new UsuarioAlteradoEvento(e.getId(), e.getUsuarioId(), e.getTipo(), e.getNoOrigem(), e.getCriadoEm()))
+                .toList();
+        for (PublicadorEventosUsuario publicador : publicadores) {
+            publicador.publicar(lote);
+        }
+
+        repository.marcarPublicados(pendentes.stream().map(EventoUsuarioOutbox::getId).toList(), agora);
+        registrarLote(lote.size(), pendentes.get(0).getCriadoEm(), agora);
+        return lote.size();
+    }
+
+    private void registrarLote(int quantidade, LocalDateTime maisAntigo, LocalDateTime agora) {
+        totalPublicados.addAndGet(quantidade);
+        atrasoMaximoUltimoLoteMs.set(Math.max(0, Duration.between(maisAntigo, agora).toMillis()));
+        ultimaPublicacao.set(agora);
+    }
+
+    private static long atrasoAteAgoraMs(LocalDateTime desde) {
+        return Math.max(0, Duration.between(desde, LocalDateTime.now()).toMillis());
+    }
+}
@@ -0,0 +1,243 @@
+package com.restaurantefiap.service;
+
+import com.restaurantefiap.entities.usuario.UserPrincipal;
+import com.restaurantefiap.events.UsuarioAlteradoEvento;
+import com.restaurantefiap.exception.ServiceUnavailableException;
+import com.restaurantefiap.resilience.CircuitBreaker;
+import com.restaurantefiap.resilience.UltimoConhecido;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Camada de resiliência das leituras de usuários contra o MySQL lento ou fora do ar.
+ *
+ * <p>As leituras passam por um {@link CircuitBreaker}: com o banco travado, depois de algumas
+ * falhas (ou chamadas lentas) o circuito abre e as leituras seguintes falham na hora, sem
+ * esperar o pool de conexões. Enquanto isso, {@code GET /{id}}, {@code /me} e a autenticação
+ * JWT respondem com o último valor bom conhecido ({@link UltimoConhecido}), marcado como
+ * desatualizado. As demais leituras recebem 503 com {@code Retry-After}.</p>
+ *
+ * <p>O circuito envolve a chamada transacional inteira: a espera por conexão acontece no
+ * início da transação, antes de qualquer consulta.</p>
+ *
+ * <p>Configuração ({@code usuarios.resiliencia.*}): {@code habilitada}, {@code limiar-falhas},
+ * {@code limite-lento-ms}, {@code tempo-aberto-ms}, {@code max-usuarios} e
+ * {@code idade-maxima-minutos} (valores mais velhos não são servidos).</p>
+ *
+ * @author Danilo de Paula
+ * @see RevalidadorLeiturasUsuario
+ */
+@Component
+public class ResilienciaLeiturasUsuario {
+
+    private static final Logger log = LoggerFactory.getLogger(ResilienciaLeiturasUsuario.class);
+
+    /**
+     * JSON completo de um usuário servido sem consultar o banco.
+     *
+     * @param id            ID do usuário
+     * @param json          representação guardada
+     * @param versao        versão da representação (ETag)
+     * @param idadeSegundos tempo desde a última leitura bem-sucedida
+     */
+    public record JsonDesatualizado(Long id, byte[] json, Long versao, long idadeSegundos) {
+    }
+
+    private record JsonVersionado(byte[] json, Long versao) {
+    }
+
+    private final boolean habilitada;
+    private final CircuitBreaker circuito;
+    private final UltimoConhecido<Long, JsonVersionado> jsonPorId;
+    private final UltimoConhecido<Long, UserDetails> credenciaisPorId;
+    private final UltimoConhecido<String, Long> idPorLogin;
+
+    private final AtomicLong servidasDesatualizadas = new AtomicLong();
+
+    public ResilienciaLeiturasUsuario(
+            @Value("${usuarios.resiliencia.habilitada:true}") boolean habilitada,
+            @Value("${usuarios.resiliencia.limiar-falhas:5}") int limiarFalhas,
+            @Value("${usuarios.resiliencia.limite-lento-ms:2000}") long limiteLentoMs,
+            @Value("${usuarios.resiliencia.tempo-aberto-ms:5000}") long tempoAbertoMs,
+            @Value("${usuarios.resiliencia.max-usuarios:10000}") int maxUsuarios,
+            @Value("${usuarios.resiliencia.idade-maxima-minutos:30}") long idadeMaximaMinutos
+    ) {
+        this.habilitada = habilitada;
+        this.circuito = new CircuitBreaker("mysql-usuarios", limiarFalhas,
+                Duration.ofMillis(limiteLentoMs), Duration.ofMillis(tempoAbertoMs),
+                ResilienciaLeiturasUsuario::falhaDeInfraestrutura);
+        Duration idadeMaxima = Duration.ofMinutes(idadeMaximaMinutos);
+        this.jsonPorId = new UltimoConhecido<>(maxUsuarios, idadeMaxima);
+        this.credenciaisPorId = new UltimoConhecido<>(maxUsuarios, idadeMaxima);
+        this.idPorLogin = new UltimoConhecido<>(maxUsuarios, idadeMaxima);
+    }
+
+    // ========== Execução ==========
+
+    /**
+     * Executa uma leitura pelo circuit breaker.
+     *
+     * @param leitura chamada ao service (transacional) ou repositório
+     * @return resultado da leitura
+     * @throws ServiceUnavailableException se o circuito estiver aberto
+     */
+    public <T> T executar(Supplier<T> leitura) {
+        return habilitada ? circuito.executar(leitura) : leitura.get();
+    }
+
+    /**
+     * Indica se a exceção é de indisponibilidade do banco (e não de negócio).
+     *
+     * @param e exceção lançada pela leitura
+     * @return {@code true} para circuito aberto, timeout, falha de conexão ou de início de transação
+     */
+    public static boolean falhaDeInfraestrutura(Throwable e) {
+        return e instanceof ServiceUnavailableException
+                || e instanceof CannotCreateTransactionException
+                || e instanceof DataAccessResourceFailureException
+                || e instanceof RecoverableDataAccessException
+                || (e instanceof TransientDataAccessException && !(e instanceof ConcurrencyFailureException));
+    }
+
+    // ========== Último Valor Conhecido ==========
+
+    /**
+     * Guarda o JSON completo de uma leitura bem-sucedida.
+     *
+     * @param id     ID do usuário
+     * @param login  login do usuário (nulo se desconhecido nesta leitura)
+     * @param versao versão da representação
+     * @param json   representação serializada
+     */
+    public void guardarJson(Long id, String login, Long versao, byte[] json) {
+        if (!habilitada || id == null || versao == null) {
+            return;
+        }
+        jsonPorId.guardar(id, new JsonVersionado(json, versao));
+        if (login != null) {
+            idPorLogin.guardar(login, id);
+        }
+    }
+
+    /**
+     * JSON desatualizado do usuário, se a falha for de infraestrutura e houver valor guardado.
+     *
+     * @param id    ID do usuário
+     * @param falha exceção da leitura
+     * @return último JSON conhecido, ou vazio (a falha deve ser propagada)
+     */
+    public Optional<JsonDesatualizado> jsonDesatualizadoPorId(Long id, RuntimeException falha) {
+        if (!habilitada || !falhaDeInfraestrutura(falha)) {
+            return Optional.empty();
+        }
+        return jsonPorId.obter(id).map(v -> {
+            servidasDesatualizadas.incrementAndGet();
+            return new JsonDesatualizado(id, v.valor().json(), v.valor().versao(), v.idadeSegundos());
+        });
+    }
+
+    /**
+     * Variante de {@link #jsonDesatualizadoPorId} pelo login.
+     */
+    public Optional<JsonDesatualizado> jsonDesatualizadoPorLogin(String login, RuntimeException falha) {
+        return idPorLogin.obter(normalizar(login))
+                .flatMap(id -> jsonDesatualizadoPorId(id.valor(), falha));
+    }
+
+    /**
+     * Carrega a credencial pelo circuito; com o banco indisponível, devolve a última conhecida.
+     *
+     * <p>O token JWT já foi validado pela assinatura — a credencial só fornece o principal e as
+     * roles. Alterações do usuário removem a credencial guardada ({@link #aoAlterarUsuario}).</p>
+     *
+     * @param login login normalizado
+     * @param carga leitura da credencial no banco
+     * @return credencial atual ou, na indisponibilidade, a última conhecida
+     */
+    public UserDetails carregarCredencial(String login, Supplier<UserDetails> carga) {
+        try {
+            UserDetails credencial = executar(carga);
+            if (habilitada && credencial instanceof UserPrincipal principal && principal.getUsuario().id() != null) {
+                credenciaisPorId.guardar(principal.getUsuario().id(), credencial);
+                idPorLogin.guardar(login, principal.getUsuario().id());
+            }
+            return credencial;
+        } catch (RuntimeException e) {
+            if (!habilitada || !falhaDeInfraestrutura(e)) {
+                throw e;
+            }
+            Optional<UserDetails> conhecida = idPorLogin.obter(login)
+                    .flatMap(id -> credenciaisPorId.obter(id.valor()))
+                    .map(UltimoConhecido.Valor::valor);
+            if (conhecida.isEmpty()) {
+                throw e;
+            }
+            servidasDesatualizadas.incrementAndGet();
+            log.warn("Banco indisponível — usando a última credencial conhecida de {}.", login);
+            return conhecida.get() instanceof UserPrincipal principal ? principal.comoDesatualizado() : conhecida.get();
+        }
+    }
+
+    /**
+     * IDs com JSON guardado, para a revalidação quando o circuito meio-abre.
+     *
+     * @param maximo quantidade máxima
+     * @return IDs guardados
+     */
+    public List<Long> idsGuardados(int maximo) {
+        return jsonPorId.chaves(maximo);
+    }
+
+    // ========== Invalidação ==========
+
+    /**
+     * Remove os valores guardados do usuário alterado, excluído ou restaurado.
+     *
+     * @param evento evento de alteração (local ou vindo de outro nó)
+     */
+    @EventListener
+    public void aoAlterarUsuario(UsuarioAlteradoEvento evento) {
+        remover(evento.usuarioId());
+    }
+
+    public void remover(Long id) {
+        jsonPorId.remover(id);
+        credenciaisPorId.remover(id);
+    }
+
+    // ========== Métricas ==========
+
+    public CircuitBreaker getCircuito() {
+        return circuito;
+    }
+
+    public long getServidasDesatualizadas() {
+        return servidasDesatualizadas.get();
+    }
+
+    public int getTamanho() {
+        return jsonPorId.getTamanho();
+    }
+
+    // ========== Métodos Auxiliares ==========
+
+    private static String normalizar(String valor) {
+        return valor == null ? "" : valor.trim().toLowerCase();
+    }
+}
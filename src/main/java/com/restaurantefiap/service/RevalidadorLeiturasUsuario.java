@@ -0,0 +1,91 @@
+package com.restaurantefiap.service;
+
+import com.restaurantefiap.dto.response.UsuarioResponseDTO;
+import com.restaurantefiap.enums.EstadoCircuito;
+import com.restaurantefiap.exception.ResourceNotFoundException;
+import com.restaurantefiap.resilience.CircuitBreaker;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Revalida em segundo plano os usuários guardados por {@link ResilienciaLeiturasUsuario}
+ * quando o circuito do banco meio-abre.
+ *
+ * <p>Sem isso, a primeira requisição após o tempo aberto seria a chamada de teste — e
+ * pagaria a latência de um banco possivelmente ainda lento. Aqui o agendamento faz o teste:
+ * a primeira leitura fecha (ou reabre) o circuito e as seguintes atualizam o último valor
+ * conhecido e o {@link CacheJsonUsuarios}.</p>
+ *
+ * <p>Configuração ({@code usuarios.resiliencia.*}): {@code intervalo-revalidacao-ms} e
+ * {@code max-revalidacao} (usuários por ciclo).</p>
+ *
+ * @author Danilo de Paula
+ */
+@Component
+public class RevalidadorLeiturasUsuario {
+
+    private static final Logger log = LoggerFactory.getLogger(RevalidadorLeiturasUsuario.class);
+
+    private final ResilienciaLeiturasUsuario resiliencia;
+    private final UsuarioService usuarioService;
+    private final CacheJsonUsuarios cacheJson;
+    private final int maxRevalidacao;
+
+    public RevalidadorLeiturasUsuario(
+            ResilienciaLeiturasUsuario resiliencia,
+            UsuarioService usuarioService,
+            CacheJsonUsuarios cacheJson,
+            @Value("${usuarios.resiliencia.max-revalidacao:100}") int maxRevalidacao
+    ) {
+        this.resiliencia = resiliencia;
+        this.usuarioService = usuarioService;
+        this.cacheJson = cacheJson;
+        this.maxRevalidacao = maxRevalidacao;
+    }
+
+    /**
+     * Verificação agendada do circuito (padrão: a cada segundo).
+     */
+    @Scheduled(fixedDelayString = "${usuarios.resiliencia.intervalo-revalidacao-ms:1000}")
+    public void executarAgendado() {
+        revalidar();
+    }
+
+    /**
+     * Se o circuito estiver aberto e o tempo aberto já passou, meio-abre e relê os usuários
+     * guardados. Para na primeira falha de infraestrutura (o circuito reabriu).
+     *
+     * @return quantidade de usuários revalidados
+     */
+    public int revalidar() {
+        CircuitBreaker circuito = resiliencia.getCircuito();
+        if (circuito.getEstado() == EstadoCircuito.FECHADO || !circuito.tentarMeioAbrir()) {
+            return 0;
+        }
+
+        int revalidados = 0;
+        for (Long id : resiliencia.idsGuardados(maxRevalidacao)) {
+            try {
+                UsuarioResponseDTO dto = resiliencia.executar(() -> usuarioService.buscarPorId(id));
+                byte[] json = cacheJson.serializarEGuardar(dto.id(), dto.versao(), CacheJsonUsuarios.COMPLETO, dto);
+                resiliencia.guardarJson(dto.id(), dto.login(), dto.versao(), json);
+                revalidados++;
+            } catch (ResourceNotFoundException e) {
+                resiliencia.remover(id);
+            } catch (RuntimeException e) {
+                if (!ResilienciaLeiturasUsuario.falhaDeInfraestrutura(e)) {
+                    throw e;
+                }
+                break;
+            }
+        }
+
+        log.info("Revalidação de usuários após indisponibilidade: {} atualizado(s), circuito {}.",
+                revalidados, circuito.getEstado());
+        return revalidados;
+    }
+}
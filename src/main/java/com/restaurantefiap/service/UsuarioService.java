@@ -3,11 +3,17 @@ package com.restaurantefiap.service;
 import com.restaurantefiap.dto.request.AlterarSenhaRequestDTO;
 import com.restaurantefiap.dto.request.UsuarioRequestDTO;
 import com.restaurantefiap.dto.request.UsuarioUpdateDTO;
+import com.restaurantefiap.dto.response.UsuarioParcialDTO;
 import com.restaurantefiap.dto.response.UsuarioResponseDTO;
+import com.restaurantefiap.dto.response.VersaoUsuarioDTO;
 import com.restaurantefiap.entities.endereco.Endereco;
+import com.restaurantefiap.entities.usuario.RetratoUsuario;
 import com.restaurantefiap.entities.usuario.Usuario;
+import com.restaurantefiap.enums.CampoUsuario;
+import com.restaurantefiap.enums.TipoEventoUsuario;
 import com.restaurantefiap.exception.DuplicateResourceException;
 import com.restaurantefiap.exception.InvalidPasswordException;
+import com.restaurantefiap.exception.PreconditionFailedException;
 import com.restaurantefiap.exception.ResourceNotFoundException;
 import com.restaurantefiap.mapper.UsuarioMapper;
 import com.restaurantefiap.repository.UsuarioRepository;
@@ -16,17 +22,24 @@ import com.restaurantefiap.security.PasswordPolicy;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 /**
  * Service para operações de negócio relacionadas a {@link Usuario}.
  *
  * <p>Gerencia criação, atualização, busca e exclusão (soft delete) de usuários.</p>
  *
+ * <p>Atualização, troca de senha e exclusão gravam um evento na outbox
+ * ({@link OutboxUsuariosService}) na mesma transação, para que os caches de
+ * todos os nós sejam invalidados.</p>
+ *
  * @author Thiago de Jesus
  * @author Danilo de Paula
  */
@@ -36,15 +49,24 @@ public class UsuarioService {
     private final UsuarioRepository repository;
     private final PasswordPolicy passwordPolicy;
     private final PasswordHasher passwordHasher;
+    private final ContadorUsuariosAtivos contadorAtivos;
+    private final CoalescedorLeiturasUsuario coalescedor;
+    private final OutboxUsuariosService outbox;
 
     public UsuarioService(
             UsuarioRepository repository,
             PasswordPolicy passwordPolicy,
-            PasswordHasher passwordHasher
+            PasswordHasher passwordHasher,
+            ContadorUsuariosAtivos contadorAtivos,
+            CoalescedorLeiturasUsuario coalescedor,
+            OutboxUsuariosService outbox
     ) {
         this.repository = repository;
         this.passwordPolicy = passwordPolicy;
         this.passwordHasher = passwordHasher;
+        this.contadorAtivos = contadorAtivos;
+        this.coalescedor = coalescedor;
+        this.outbox = outbox;
     }
 
     // ========== CREATE ==========
@@ -75,6 +97,7 @@ public class UsuarioService {
         usuario.alterarSenha(dto.password(), passwordPolicy, passwordHasher);
 
         Usuario salvo = repository.save(usuario);
+        contadorAtivos.registrarCriacao();
 
         return UsuarioMapper.paraDto(salvo);
     }
@@ -84,29 +107,36 @@ public class UsuarioService {
     /**
      * Busca usuário ativo por ID.
      *
+     * <p>Buscas concorrentes pelo mesmo ID compartilham uma única consulta
+     * ({@link CoalescedorLeiturasUsuario}). Sem {@code @Transactional}: só quem consulta
+     * abre transação; as demais esperam sem ocupar conexão.</p>
+     *
      * @param id identificador do usuário
      * @return DTO do usuário
      * @throws ResourceNotFoundException se não encontrado
      */
-    @Transactional(readOnly = true)
     public UsuarioResponseDTO buscarPorId(Long id) {
-        Usuario usuario = buscarUsuarioAtivoPorId(id);
-        return UsuarioMapper.paraDto(usuario);
+        return coalescedor.porId(id, () -> repository.findAtivoById(id))
+                .map(RetratoUsuario::dados)
+                .orElseThrow(() -> new ResourceNotFoundException("Usuário", id));
     }
 
     /**
      * Busca usuário ativo por login.
      *
+     * <p>Buscas concorrentes pelo mesmo login compartilham uma única consulta
+     * ({@link CoalescedorLeiturasUsuario}). Sem {@code @Transactional}: só quem consulta
+     * abre transação; as demais esperam sem ocupar conexão.</p>
+     *
      * @param login identificador de login
      * @return DTO do usuário
      * @throws ResourceNotFoundException se não encontrado
      */
-    @Transactional(readOnly = true)
     public UsuarioResponseDTO buscarPorLogin(String login) {
-        Usuario usuario = repository.findByLoginIgnoreCase(normalizar(login))
+        String loginNormalizado = normalizar(login);
+        return coalescedor.porLogin(loginNormalizado, () -> repository.findByLoginIgnoreCase(loginNormalizado))
+                .map(RetratoUsuario::dados)
                 .orElseThrow(() -> new ResourceNotFoundException("Usuário", "login", login));
-
-        return UsuarioMapper.paraDto(usuario);
     }
 
     /**
@@ -136,6 +166,92 @@ public class UsuarioService {
                 .map(UsuarioMapper::paraDto);
     }
 
+    /**
+     * Lista usuários ativos em fatias, sem consulta de contagem.
+     *
+     * <p>Indicado para listagens grandes: informa apenas se existe próxima fatia.
+     * O total, quando necessário, vem de {@link #contarAtivos()}.</p>
+     *
+     * @param pageable configuração de paginação
+     * @return fatia de usuários
+     */
+    @Transactional(readOnly = true)
+    public Slice<UsuarioResponseDTO> listarFatia(Pageable pageable) {
+        return repository.findSliceAtivos(pageable)
+                .map(UsuarioMapper::paraDto);
+    }
+
+    /**
+     * Retorna o total de usuários ativos a partir do contador em memória (O(1)).
+     *
+     * @return total aproximado de usuários ativos
+     * @see ContadorUsuariosAtivos
+     */
+    public long contarAtivos() {
+        return contadorAtivos.total();
+    }
+
+    /**
+     * Lista usuários ativos com apenas os campos pedidos (sparse fieldset).
+     *
+     * <p>A consulta seleciona só as colunas desses campos — sem carregar a entidade.</p>
+     *
+     * @param campos   campos pedidos em {@code fields=}
+     * @param pageable configuração de paginação
+     * @return página de usuários parciais
+     */
+    @Transactional(readOnly = true)
+    public Page<UsuarioParcialDTO> listarParcial(Set<CampoUsuario> campos, Pageable pageable) {
+        return repository.findAtivosProjetados(campos, pageable);
+    }
+
+    /**
+     * Busca um usuário ativo com apenas os campos pedidos (sparse fieldset).
+     *
+     * @param id     identificador do usuário
+     * @param campos campos pedidos em {@code fields=}
+     * @return usuário parcial
+     * @throws ResourceNotFoundException se não encontrado
+     */
+    @Transactional(readOnly = true)
+    public UsuarioParcialDTO buscarParcialPorId(Long id, Set<CampoUsuario> campos) {
+        return repository.findAtivoProjetadoById(id, campos)
+                .orElseThrow(() -> new ResourceNotFoundException("Usuário", id));
+    }
+
+    /**
+     * Busca apenas a versão de um usuário ativo (validação de ETag sem carregar a entidade).
+     *
+     * @param id identificador do usuário
+     * @return versão ou empty se não encontrado
+     */
+    @Transactional(readOnly = true)
+    public Optional<Long> buscarVersaoPorId(Long id) {
+        return repository.findVersaoAtivoById(id);
+    }
+
+    /**
+     * Busca apenas ID e versão de um usuário ativo pelo login.
+     *
+     * @param login identificador de login
+     * @return ID e versão ou empty se não encontrado
+     */
+    @Transactional(readOnly = true)
+    public Optional<VersaoUsuarioDTO> buscarVersaoPorLogin(String login) {
+        return repository.findVersaoAtivoByLogin(normalizar(login));
+    }
+
+    /**
+     * Lista apenas ID e versão dos usuários ativos, na mesma paginação de {@link #listar(Pageable)}.
+     *
+     * @param pageable configuração de paginação
+     * @return página de versões
+     */
+    @Transactional(readOnly = true)
+    public Page<VersaoUsuarioDTO> listarVersoes(Pageable pageable) {
+        return repository.findVersoesAtivas(pageable);
+    }
+
     /**
      * Busca usuários ativos pelo nome (busca parcial).
      *
@@ -169,12 +285,34 @@ public class UsuarioService {
      */
     @Transactional
     public UsuarioResponseDTO atualizar(Long id, UsuarioUpdateDTO dto) {
+        return atualizar(id, dto, null);
+    }
+
+    /**
+     * Atualiza dados do perfil do usuário, condicionado à versão esperada.
+     *
+     * <p>Sem lock pessimista: a versão é conferida aqui (412 imediato) e novamente pelo
+     * {@code UPDATE ... WHERE versao = ?} do Hibernate, que cobre a janela entre a leitura
+     * e o commit. O {@code flush} garante que o DTO retornado já traga a nova versão.</p>
+     *
+     * @param id             identificador do usuário
+     * @param dto            dados a atualizar
+     * @param versaoEsperada versão lida pelo cliente ({@code If-Match}); {@code null} ignora a checagem
+     * @return DTO do usuário atualizado
+     * @throws ResourceNotFoundException    se não encontrado
+     * @throws PreconditionFailedException  se a versão atual for diferente da esperada
+     */
+    @Transactional
+    public UsuarioResponseDTO atualizar(Long id, UsuarioUpdateDTO dto, Long versaoEsperada) {
         Usuario usuario = buscarUsuarioAtivoPorId(id);
+        validarVersao(usuario, versaoEsperada);
 
         atualizarCamposBasicos(usuario, dto);
         atualizarEndereco(usuario, dto);
 
         Usuario salvo = repository.save(usuario);
+        repository.flush();
+        outbox.registrar(id, TipoEventoUsuario.ATUALIZADO);
 
         return UsuarioMapper.paraDto(salvo);
     }
@@ -199,6 +337,7 @@ public class UsuarioService {
 
         usuario.alterarSenha(dto.novaSenha(), passwordPolicy, passwordHasher);
         repository.save(usuario);
+        outbox.registrar(id, TipoEventoUsuario.SENHA_ALTERADA);
     }
 
     /**
@@ -228,6 +367,8 @@ public class UsuarioService {
     public void excluir(Long id) {
         Usuario usuario = buscarUsuarioAtivoPorId(id);
         repository.delete(usuario);
+        contadorAtivos.registrarExclusao();
+        outbox.registrar(id, TipoEventoUsuario.EXCLUIDO);
     }
 
 
@@ -250,6 +391,15 @@ public class UsuarioService {
                 .orElseThrow(() -> new ResourceNotFoundException("Usuário", id));
     }
 
+    /**
+     * Confere a versão esperada pelo cliente com a versão atual do usuário.
+     */
+    private void validarVersao(Usuario usuario, Long versaoEsperada) {
+        if (versaoEsperada != null && !versaoEsperada.equals(usuario.getVersao())) {
+            throw new PreconditionFailedException("Usuário", usuario.getId(), usuario.getVersao());
+        }
+    }
+
     /**
      * Valida campos obrigatórios do DTO de criação.
      */
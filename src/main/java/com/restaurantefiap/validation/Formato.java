@@ -0,0 +1,36 @@
+package com.restaurantefiap.validation;
+
+import com.restaurantefiap.enums.FormatoValidacao;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Valida o formato de um texto com os validadores de {@link Formatos}, no lugar de
+ * {@code @Pattern(regexp = ValidationPatterns.X)}.
+ *
+ * <p>Como o {@code @Pattern}, {@code null} é considerado válido (use {@code @NotBlank}).</p>
+ *
+ * @author Danilo de Paula
+ */
+@Documented
+@Constraint(validatedBy = FormatoValidator.class)
+@Target({ElementType.METHOD, ElementType.FIELD, ElementType.ANNOTATION_TYPE, ElementType.CONSTRUCTOR,
+        ElementType.PARAMETER, ElementType.TYPE_USE})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Formato {
+
+    FormatoValidacao value();
+
+    String message() default "Formato inválido";
+
+    Class<?>[] groups() default {};
+
+    Class<? extends Payload>[] payload() default {};
+}
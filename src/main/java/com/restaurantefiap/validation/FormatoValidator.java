@@ -0,0 +1,26 @@
+package com.restaurantefiap.validation;
+
+import com.restaurantefiap.enums.FormatoValidacao;
+
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+
+/**
+ * Validador de {@link Formato}.
+ *
+ * @author Danilo de Paula
+ */
+public class FormatoValidator implements ConstraintValidator<Formato, CharSequence> {
+
+    private FormatoValidacao formato;
+
+    @Override
+    public void initialize(Formato anotacao) {
+        this.formato = anotacao.value();
+    }
+
+    @Override
+    public boolean isValid(CharSequence valor, ConstraintValidatorContext context) {
+        return valor == null || formato.aceita(valor);
+    }
+}
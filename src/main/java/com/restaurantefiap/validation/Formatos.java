@@ -0,0 +1,221 @@
+package com.restaurantefiap.validation;
+
+/**
+ * Validadores de formato escritos à mão, equivalentes às regex de {@link ValidationPatterns}.
+ *
+ * <p>Cada método percorre a entrada uma única vez, sem alocar e sem backtracking — a regex
+ * de senha, com quatro lookaheads {@code .*}, chega a reler a senha inteira várias vezes.
+ * A equivalência com as regex é verificada por teste diferencial: qualquer mudança aqui
+ * deve continuar aceitando exatamente o que a regex correspondente aceita.</p>
+ *
+ * <p>Como na regex, {@code \d} é só {@code 0-9} e {@code \s} é só
+ * {@code [ \t\n\x0B\f\r]}.</p>
+ *
+ * @author Danilo de Paula
+ * @see ValidationPatterns
+ */
+public final class Formatos {
+
+    private static final String UFS = "AC AL AP AM BA CE DF ES GO MA MT MS MG PA PB PR PE PI RJ RN RS RO RR SC SP SE TO";
+
+    /** Tabela de endereçamento direto das siglas: índice {@code (c0 - 'A') * 26 + (c1 - 'A')}. */
+    private static final boolean[] UF_VALIDA = new boolean[26 * 26];
+
+    static {
+        for (int i = 0; i < UFS.length(); i += 3) {
+            UF_VALIDA[(UFS.charAt(i) - 'A') * 26 + (UFS.charAt(i + 1) - 'A')] = true;
+        }
+    }
+
+    private Formatos() { }
+
+    // ========== Telefone ==========
+
+    /**
+     * {@link ValidationPatterns#TELEFONE_BR}: {@code [+55[ ]][[(]DD[)][ ]][9]NNNN[-]NNNN}.
+     */
+    public static boolean telefone(CharSequence valor) {
+        int i = 0;
+        int n = valor.length();
+
+        if (n > 0 && valor.charAt(0) == '+') {
+            if (n < 3 || valor.charAt(1) != '5' || valor.charAt(2) != '5') {
+                return false;
+            }
+            i = 3;
+            if (i < n && espaco(valor.charAt(i))) {
+                i++;
+            }
+        }
+
+        // O DDD é opcional e começa com dígito, como o número: tenta sem DDD e depois com DDD.
+        return numeroTelefone(valor, i) || dddEhNumero(valor, i);
+    }
+
+    private static boolean dddEhNumero(CharSequence valor, int inicio) {
+        int i = inicio;
+        int n = valor.length();
+        if (i < n && valor.charAt(i) == '(') {
+            i++;
+        }
+        if (i + 2 > n || !digito(valor.charAt(i)) || !digito(valor.charAt(i + 1))) {
+            return false;
+        }
+        i += 2;
+        if (i < n && valor.charAt(i) == ')') {
+            i++;
+        }
+        if (i < n && espaco(valor.charAt(i))) {
+            i++;
+        }
+        return numeroTelefone(valor, i);
+    }
+
+    /** {@code [9]NNNN[-]NNNN} de {@code inicio} até o fim. */
+    private static boolean numeroTelefone(CharSequence valor, int inicio) {
+        int restante = valor.length() - inicio;
+        return switch (restante) {
+            case 8 -> digitos(valor, inicio, 8);
+            case 9 -> (valor.charAt(inicio) == '9' && digitos(valor, inicio, 9))
+                    || (digitos(valor, inicio, 4) && valor.charAt(inicio + 4) == '-' && digitos(valor, inicio + 5, 4));
+            case 10 -> valor.charAt(inicio) == '9' && digitos(valor, inicio + 1, 4)
+                    && valor.charAt(inicio + 5) == '-' && digitos(valor, inicio + 6, 4);
+            default -> false;
+        };
+    }
+
+    // ========== Endereço ==========
+
+    /**
+     * {@link ValidationPatterns#CEP}: {@code NNNNN[-]NNN}.
+     */
+    public static boolean cep(CharSequence valor) {
+        return switch (valor.length()) {
+            case 8 -> digitos(valor, 0, 8);
+            case 9 -> digitos(valor, 0, 5) && valor.charAt(5) == '-' && digitos(valor, 6, 3);
+            default -> false;
+        };
+    }
+
+    /**
+     * {@link ValidationPatterns#UF_BR}: sigla de estado (ou DF) em maiúsculas.
+     */
+    public static boolean uf(CharSequence valor) {
+        if (valor.length() != 2) {
+            return false;
+        }
+        int c0 = valor.charAt(0) - 'A';
+        int c1 = valor.charAt(1) - 'A';
+        return c0 >= 0 && c0 < 26 && c1 >= 0 && c1 < 26 && UF_VALIDA[c0 * 26 + c1];
+    }
+
+    // ========== Usuário ==========
+
+    /**
+     * {@link ValidationPatterns#NOME_PROPRIO}: letras (ASCII e Latin-1), espaços e apóstrofo.
+     */
+    public static boolean nomeProprio(CharSequence valor) {
+        int n = valor.length();
+        if (n == 0) {
+            return false;
+        }
+        for (int i = 0; i < n; i++) {
+            char c = valor.charAt(i);
+            boolean valido = (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z')
+                    || (c >= '\u00C0' && c <= '\u00FF' && c != '\u00D7' && c != '\u00F7')
+                    || espaco(c) || c == '\'';
+            if (!valido) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * {@link ValidationPatterns#LOGIN_USUARIO}: minúscula seguida de 2 a 19 de {@code [a-z0-9_.-]}.
+     */
+    public static boolean login(CharSequence valor) {
+        int n = valor.length();
+        if (n < 3 || n > 20 || !minuscula(valor.charAt(0))) {
+            return false;
+        }
+        for (int i = 1; i < n; i++) {
+            char c = valor.charAt(i);
+            if (!minuscula(c) && !digito(c) && c != '_' && c != '.' && c != '-') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * {@link ValidationPatterns#SENHA_FORTE}: ao menos 8 caracteres sem espaço, com dígito,
+     * minúscula, maiúscula e um de {@code @#$%^&+=!}.
+     *
+     * <p>Como o {@code .} da regex, o tamanho conta code points (um par substituto vale um).</p>
+     */
+    public static boolean senhaForte(CharSequence valor) {
+        int n = valor.length();
+        int codePoints = 0;
+        boolean digito = false;
+        boolean minuscula = false;
+        boolean maiuscula = false;
+        boolean especial = false;
+
+        for (int i = 0; i < n; i++) {
+            char c = valor.charAt(i);
+            if (espaco(c) || terminadorDeLinha(c)) {
+                return false;
+            }
+            if (Character.isHighSurrogate(c) && i + 1 < n && Character.isLowSurrogate(valor.charAt(i + 1))) {
+                i++;
+            } else if (c >= '0' && c <= '9') {
+                digito = true;
+            } else if (c >= 'a' && c <= 'z') {
+                minuscula = true;
+            } else if (c >= 'A' && c <= 'Z') {
+                maiuscula = true;
+            } else if (especialSenha(c)) {
+                especial = true;
+            }
+            codePoints++;
+        }
+        return codePoints >= 8 && digito && minuscula && maiuscula && especial;
+    }
+
+    // ========== Métodos Auxiliares ==========
+
+    private static boolean digitos(CharSequence valor, int inicio, int quantidade) {
+        for (int i = inicio; i < inicio + quantidade; i++) {
+            if (!digito(valor.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean digito(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean minuscula(char c) {
+        return c >= 'a' && c <= 'z';
+    }
+
+    /** {@code \s} da regex (sem {@code UNICODE_CHARACTER_CLASS}). */
+    private static boolean espaco(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    /** Caracteres que o {@code .} da regex não aceita. */
+    private static boolean terminadorDeLinha(char c) {
+        return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+    }
+
+    private static boolean especialSenha(char c) {
+        return switch (c) {
+            case '@', '#', '$', '%', '^', '&', '+', '=', '!' -> true;
+            default -> false;
+        };
+    }
+}
@@ -3,7 +3,9 @@ package com.restaurantefiap.validation;
 /**
  * Padrões reutilizáveis de validação (regex).
  *
- * <p>Centraliza regex comuns para serem utilizados em anotações Bean Validation (@Pattern).</p>
+ * <p>Centraliza regex comuns de validação. Os campos das requisições usam {@link Formato},
+ * com validadores equivalentes escritos à mão ({@link Formatos}); estas regex continuam
+ * sendo a especificação de cada formato e são comparadas com eles no teste diferencial.</p>
  * * @author Danilo Fernando
  * @since 04/01/2026
  */
@@ -0,0 +1,36 @@
+-- V3__create_table_usuarios_arquivados.sql
+-- Tabela fria para usuários excluídos (soft delete) há mais de N dias.
+-- Mantém a tabela "usuarios" enxuta: menos linhas filtradas por deletado_em
+-- e índices menores. Os registros são movidos em lotes pelo job de arquivamento.
+
+CREATE TABLE IF NOT EXISTS usuarios_arquivados (
+
+    id              BIGINT          NOT NULL PRIMARY KEY,
+    login           VARCHAR(100)    NOT NULL,
+    email           VARCHAR(255)    NOT NULL,
+    nome            VARCHAR(255)    NOT NULL,
+    telefone        VARCHAR(20)     NOT NULL,
+    role            VARCHAR(30)     NOT NULL,
+    password        VARCHAR(255)    NOT NULL,
+
+    -- Endereço (Embedded)
+    logradouro      VARCHAR(255),
+    numero          VARCHAR(20),
+    complemento     VARCHAR(100),
+    bairro          VARCHAR(100),
+    cep             VARCHAR(8),
+    cidade          VARCHAR(100),
+    uf              VARCHAR(2),
+
+    -- Auditoria
+    criado_em       DATETIME        NULL,
+    atualizado_em   DATETIME        NULL,
+    deletado_em     DATETIME        NOT NULL,
+    arquivado_em    DATETIME        NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    -- Versão na exclusão: a restauração volta com a seguinte, acima de qualquer ETag já emitido
+    versao          BIGINT          NOT NULL
+);
+
+-- Índice composto na ordem dos lotes do job (WHERE deletado_em < ? ORDER BY deletado_em, id LIMIT ?)
+CREATE INDEX idx_usuarios_deletado_em_id ON usuarios(deletado_em, id);
@@ -0,0 +1,6 @@
+-- V4__add_versao_usuarios.sql
+-- Coluna de versão para locking otimista (@Version).
+-- Toda escrita passa a usar "WHERE id = ? AND versao = ?": atualizações concorrentes
+-- falham em vez de sobrescrever umas às outras silenciosamente.
+
+ALTER TABLE usuarios ADD COLUMN versao BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,17 @@
+-- V5__create_table_usuarios_outbox.sql
+-- Outbox transacional de eventos de alteração de usuários.
+-- Gravada na mesma transação da alteração; um poller publica os eventos em lotes
+-- para os listeners (barramento local e broker) e marca publicado_em.
+
+CREATE TABLE IF NOT EXISTS usuarios_outbox (
+
+    id              BIGINT          NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    usuario_id      BIGINT          NOT NULL,
+    tipo            VARCHAR(30)     NOT NULL,
+    no_origem       VARCHAR(100)    NOT NULL,
+    criado_em       DATETIME(3)     NOT NULL,
+    publicado_em    DATETIME(3)     NULL
+);
+
+-- Poller: WHERE publicado_em IS NULL ORDER BY id
+CREATE INDEX idx_usuarios_outbox_pendentes ON usuarios_outbox(publicado_em, id);
@@ -0,0 +1,22 @@
+-- V6__create_table_chaves_idempotencia.sql
+-- Chaves de idempotência (cabeçalho Idempotency-Key) compartilhadas entre os nós.
+-- A PK é o SHA-256 de (usuário, método, URI, chave): o INSERT da reserva é o lock.
+-- Linhas expiradas (expira_em) são removidas por um job de limpeza.
+
+CREATE TABLE IF NOT EXISTS chaves_idempotencia (
+
+    id              CHAR(64)        NOT NULL PRIMARY KEY,
+    impressao       CHAR(64)        NOT NULL,
+    estado          VARCHAR(20)     NOT NULL,
+    status_http     INT             NULL,
+    content_type    VARCHAR(100)    NULL,
+    location        VARCHAR(500)    NULL,
+    etag            VARCHAR(100)    NULL,
+    corpo           MEDIUMBLOB      NULL,
+    no_origem       VARCHAR(100)    NOT NULL,
+    criado_em       DATETIME(3)     NOT NULL,
+    expira_em       DATETIME(3)     NOT NULL
+);
+
+-- Limpeza: WHERE expira_em < ?
+CREATE INDEX idx_chaves_idempotencia_expira_em ON chaves_idempotencia(expira_em);
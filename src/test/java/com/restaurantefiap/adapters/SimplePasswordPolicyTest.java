@@ -1,5 +1,7 @@
 package com.restaurantefiap.adapters;
 
+import com.restaurantefiap.security.SenhasVazadas;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -10,7 +12,7 @@ import static org.junit.jupiter.api.Assertions.*;
 /**
  * Testes unitários para {@link SimplePasswordPolicy}.
  * <p>Valida os critérios de complexidade de senha: tamanho mínimo,
- * presença de dígito e presença de letra maiúscula.</p>
+ * presença de dígito, presença de letra maiúscula e ausência na lista de senhas vazadas.</p>
  *
  * @author Danilo Fernando
  * @since 04/01/2026
@@ -21,7 +23,7 @@ class SimplePasswordPolicyTest {
 
     @BeforeEach
     void setUp() {
-        policy = new SimplePasswordPolicy();
+        policy = new SimplePasswordPolicy(SenhasVazadas.nenhuma());
     }
 
     @Nested
@@ -189,4 +191,44 @@ class SimplePasswordPolicyTest {
             assertEquals("A senha deve conter pelo menos um dígito numérico.", ex.getMessage());
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("Senhas vazadas")
+    class SenhasVazadasTests {
+
+        /**
+         * Verifica que senha presente na lista de vazadas é rejeitada mesmo atendendo à complexidade.
+         */
+        @Test
+        @DisplayName("Deve lançar exceção quando senha consta na lista de vazadas")
+        void validateOrThrow_quandoSenhaVazada_deveLancarExcecao() {
+            // Arrange
+            SimplePasswordPolicy policyComLista = new SimplePasswordPolicy("Password123"::contentEquals);
+
+            // Act & Assert
+            IllegalArgumentException ex = assertThrows(
+                    IllegalArgumentException.class,
+                    () -> policyComLista.validateOrThrow("Password123")
+            );
+            assertEquals("A senha aparece em vazamentos conhecidos. Escolha outra senha.", ex.getMessage());
+            assertDoesNotThrow(() -> policyComLista.validateOrThrow("Password124"));
+        }
+
+        /**
+         * Verifica que a lista só é consultada depois das regras de complexidade.
+         */
+        @Test
+        @DisplayName("Deve aplicar regras de complexidade antes da lista de vazadas")
+        void validateOrThrow_quandoSenhaFracaEVazada_deveReportarComplexidade() {
+            // Arrange
+            SimplePasswordPolicy policyComLista = new SimplePasswordPolicy(senha -> true);
+
+            // Act & Assert
+            IllegalArgumentException ex = assertThrows(
+                    IllegalArgumentException.class,
+                    () -> policyComLista.validateOrThrow("password")
+            );
+            assertEquals("A senha deve conter pelo menos um dígito numérico.", ex.getMessage());
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.restaurantefiap.carga;
+
+import com.restaurantefiap.RestauranteFiapApplication;
+import com.restaurantefiap.entities.usuario.Usuario;
+import com.restaurantefiap.enums.Role;
+import com.restaurantefiap.repository.UsuarioRepository;
+import com.restaurantefiap.security.PasswordHasher;
+import com.restaurantefiap.service.CoalescedorLeiturasUsuario;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Aplicação iniciada no mesmo processo do gerador de carga, com o perfil {@code test}
+ * (H2 em memória, porta aleatória, gRPC desligado) e o MASTER da coleção cadastrado.
+ *
+ * <p>Gerador e aplicação disputam a mesma CPU: serve para comparar versões, não para
+ * medir capacidade absoluta. Para isso, aponte {@code --url} para uma instância separada
+ * (ex.: {@code docker compose up}, que já traz o MASTER da migration).</p>
+ *
+ * @author Danilo de Paula
+ */
+final class AppEmbutida implements AutoCloseable {
+
+    private final ConfigurableApplicationContext contexto;
+
+    private AppEmbutida(ConfigurableApplicationContext contexto) {
+        this.contexto = contexto;
+    }
+
+    /**
+     * Leituras de usuário feitas pelo single flight desde o início da aplicação.
+     *
+     * @param executadas leituras que chegaram ao banco
+     * @param coalescidas leituras que aproveitaram uma consulta em andamento
+     */
+    record LeiturasUsuario(long executadas, long coalescidas) { }
+
+    /**
+     * Sobe a aplicação e cadastra o MASTER usado no login, se ainda não existir.
+     *
+     * @param login       login do MASTER ({@code admin_login} do ambiente Postman)
+     * @param senha       senha do MASTER ({@code admin_password})
+     * @param propriedades argumentos adicionais ({@code --chave=valor})
+     */
+    static AppEmbutida iniciar(String login, String senha, List<String> propriedades) {
+        // O restart do DevTools relançaria o main do gerador em outro classloader
+        System.setProperty("spring.devtools.restart.enabled", "false");
+        // Como argumento, para prevalecer sobre o spring.profiles.active=dev do application.properties
+        List<String> argumentos = new ArrayList<>(List.of("--spring.profiles.active=test", "--server.port=0",
+                "--app.grpc.habilitado=false", "--logging.level.root=WARN"));
+        argumentos.addAll(propriedades);
+        ConfigurableApplicationContext contexto = new SpringApplicationBuilder(RestauranteFiapApplication.class)
+                .run(argumentos.toArray(String[]::new));
+
+        UsuarioRepository repository = contexto.getBean(UsuarioRepository.class);
+        if (!repository.existsByLoginIgnoreCase(login)) {
+            repository.save(Usuario.builder()
+                    .login(login)
+                    .email(login + "@example.com")
+                    .nome("Master Carga")
+                    .telefone("11999999999")
+                    .role(Role.MASTER)
+                    .password(contexto.getBean(PasswordHasher.class).hash(senha))
+                    .build());
+        }
+        return new AppEmbutida(contexto);
+    }
+
+    /** URL base ({@code base_url}) da instância. */
+    String getUrl() {
+        return "http://localhost:" + contexto.getEnvironment().getProperty("local.server.port");
+    }
+
+    /** {@code true} se as requisições rodam em virtual threads ({@code spring.threads.virtual.enabled}). */
+    boolean isThreadsVirtuais() {
+        return contexto.getEnvironment().getProperty("spring.threads.virtual.enabled", Boolean.class, false);
+    }
+
+    /** {@code true} se o limite de concorrência adaptativo está ligado ({@code app.limite-concorrencia.habilitado}). */
+    boolean isLimiteConcorrencia() {
+        return contexto.getEnvironment().getProperty("app.limite-concorrencia.habilitado", Boolean.class, true);
+    }
+
+    /** Leituras por ID e por login (inclui as do filtro JWT), coalescidas ou não. */
+    LeiturasUsuario leiturasUsuario() {
+        CoalescedorLeiturasUsuario coalescedor = contexto.getBean(CoalescedorLeiturasUsuario.class);
+        return new LeiturasUsuario(
+                coalescedor.getPorId().getExecutadas() + coalescedor.getPorLogin().getExecutadas()
+                        + coalescedor.getSemCoalescencia(),
+                coalescedor.getPorId().getCoalescidas() + coalescedor.getPorLogin().getCoalescidas());
+    }
+
+    @Override
+    public void close() {
+        contexto.close();
+    }
+}
@@ -0,0 +1,146 @@
+package com.restaurantefiap.carga;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+
+/**
+ * Fluxo de usuário replicado pelo gerador de carga: os passos da pasta "02 - Usuários CRUD"
+ * da coleção Postman, precedidos do login do MASTER.
+ *
+ * <p>Os scripts de pré-requisição da coleção (geração de login, e-mail, telefone, CEP...) e
+ * as capturas dos scripts de teste ({@code token}, {@code created_user_id}) estão
+ * reproduzidos aqui em Java, com os mesmos formatos.</p>
+ *
+ * @author Danilo de Paula
+ */
+public final class Cenario {
+
+    /**
+     * Passo do fluxo.
+     *
+     * @param id         identificador curto (usado em {@code --passos}, nos relatórios e nos limites)
+     * @param requisicao nome do item na coleção
+     * @param preparar   geração das variáveis de pré-requisição (pode ser {@code null})
+     * @param campo      campo da resposta JSON a capturar (pode ser {@code null})
+     * @param variavel   variável da sessão que recebe o campo capturado
+     */
+    public record Passo(String id, String requisicao, Consumer<Map<String, String>> preparar,
+                        String campo, String variavel) { }
+
+    private static final String[] NOMES = {"Maria", "Jose", "Ana", "Joao", "Paulo", "Thiago", "Fernanda",
+            "Gilmar", "Juliana", "Luiz", "Marilene", "Vitor", "Otavio", "Aparecida"};
+    private static final String[] SOBRENOMES = {"Silva", "Santos", "Oliveira", "Souza", "Lima", "DalOlio",
+            "Borges", "DePaula", "Rodrigues", "Almeida", "Castro", "Elba"};
+    private static final String[] DDDS = {"11", "21", "31", "41", "51", "62", "64", "66"};
+    private static final String[] UFS = {"SP", "RJ", "MG", "RS", "PR", "SC", "BA", "PE", "ES", "GO"};
+
+    private static final String[] NOMES_ATUALIZACAO = {"Roberto", "Patricia", "Marcos", "Claudia", "Ricardo"};
+    private static final String[] SOBRENOMES_ATUALIZACAO = {"Nascimento", "Carvalho", "Mendes", "Barbosa", "Cardoso"};
+    private static final String[] DDDS_ATUALIZACAO = {"11", "21", "31", "61", "62"};
+
+    static final String SENHA_GERADA = "SenhaParaTeste@2025";
+
+    /** Todos os passos, na ordem da coleção. */
+    public static final List<Passo> FLUXO_USUARIO = List.of(
+            new Passo("login", "POST Login - Admin (MASTER)", null, "token", "token"),
+            new Passo("criar", "POST Criar Usuário", Cenario::gerarUsuario, "id", "created_user_id"),
+            new Passo("listar", "GET Listar Usuários (Paginado)", null, null, null),
+            new Passo("buscar", "GET Buscar Usuário por ID", null, null, null),
+            new Passo("buscar-nome", "GET Buscar por Nome", null, null, null),
+            new Passo("atualizar", "PUT Atualizar Usuário", Cenario::gerarAtualizacao, null, null),
+            new Passo("senha", "PUT Alterar Senha - MASTER pode alterar senha de outro (204)", null, null, null),
+            new Passo("me", "GET Meus Dados (/me)", null, null, null),
+            new Passo("excluir", "DELETE Excluir Usuário", null, null, null));
+
+    private Cenario() { }
+
+    /**
+     * Seleciona os passos pelos ids (na ordem do fluxo) e confere, contra a coleção, que toda
+     * variável usada é fornecida pela coleção, pelo ambiente ou por um passo anterior.
+     *
+     * @param colecao coleção carregada
+     * @param ids     ids dos passos; vazio seleciona todos
+     * @return passos selecionados
+     * @throws IllegalArgumentException se um id não existir ou faltar um passo de que outro depende
+     */
+    public static List<Passo> selecionar(ColecaoPostman colecao, List<String> ids) {
+        Map<String, Passo> porId = new LinkedHashMap<>();
+        FLUXO_USUARIO.forEach(p -> porId.put(p.id(), p));
+        for (String id : ids) {
+            if (!porId.containsKey(id)) {
+                throw new IllegalArgumentException("Passo desconhecido: " + id + " (disponíveis: " + porId.keySet() + ")");
+            }
+        }
+
+        List<Passo> selecionados = new ArrayList<>();
+        Map<String, String> variaveis = new HashMap<>(colecao.getVariaveis());
+        variaveis.remove("token");
+        variaveis.remove("created_user_id");
+        for (Passo passo : FLUXO_USUARIO) {
+            if (!ids.isEmpty() && !ids.contains(passo.id())) {
+                continue;
+            }
+            ColecaoPostman.Requisicao requisicao = colecao.requisicao(passo.requisicao());
+            if (passo.preparar() != null) {
+                passo.preparar().accept(variaveis);
+            }
+            try {
+                ColecaoPostman.resolver(requisicao.url(), variaveis);
+                ColecaoPostman.resolver(requisicao.corpo(), variaveis);
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Passo '" + passo.id() + "': " + e.getMessage()
+                        + " — inclua o passo que a produz.", e);
+            }
+            if (requisicao.autenticada() && !variaveis.containsKey("token") && !passo.id().equals("login")) {
+                throw new IllegalArgumentException("Passo '" + passo.id() + "' exige token — inclua o passo 'login'.");
+            }
+            if (passo.variavel() != null) {
+                variaveis.put(passo.variavel(), "0");
+            }
+            selecionados.add(passo);
+        }
+        return selecionados;
+    }
+
+    // ========== Scripts de Pré-requisição ==========
+
+    /** Equivalente ao pré-requisição de "POST Criar Usuário". */
+    static void gerarUsuario(Map<String, String> variaveis) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String nome = sortear(NOMES, random);
+        String sobrenome = sortear(SOBRENOMES, random);
+        String sufixo = Long.toString(random.nextLong(36L * 36 * 36 * 36 * 36 * 36), 36);
+        String base = (nome + "." + sobrenome).toLowerCase(Locale.ROOT) + sufixo;
+        String login = base.substring(0, Math.min(20, base.length()));
+
+        variaveis.put("generated_login", login);
+        variaveis.put("generated_email", login + "@example.com");
+        variaveis.put("generated_nome", nome + " " + sobrenome);
+        variaveis.put("generated_senha", SENHA_GERADA);
+        variaveis.put("generated_telefone", telefone(DDDS, random));
+        variaveis.put("generated_uf", sortear(UFS, random));
+        variaveis.put("generated_cep", String.valueOf(random.nextInt(10_000, 100_000)) + random.nextInt(100, 1000));
+    }
+
+    /** Equivalente ao pré-requisição de "PUT Atualizar Usuário". */
+    static void gerarAtualizacao(Map<String, String> variaveis) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        variaveis.put("updated_nome", sortear(NOMES_ATUALIZACAO, random) + " "
+                + sortear(SOBRENOMES_ATUALIZACAO, random) + " Atualizado");
+        variaveis.put("updated_telefone", telefone(DDDS_ATUALIZACAO, random));
+    }
+
+    private static String telefone(String[] ddds, ThreadLocalRandom random) {
+        return sortear(ddds, random) + "9" + random.nextInt(1000, 10_000) + random.nextInt(1000, 10_000);
+    }
+
+    private static String sortear(String[] opcoes, ThreadLocalRandom random) {
+        return opcoes[random.nextInt(opcoes.length)];
+    }
+}
@@ -0,0 +1,80 @@
+package com.restaurantefiap.carga;
+
+import com.restaurantefiap.validation.Formatos;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Testes unitários para {@link Cenario}.
+ *
+ * @author Danilo de Paula
+ */
+class CenarioTest {
+
+    private static ColecaoPostman colecao;
+
+    @BeforeAll
+    static void carregar() throws IOException {
+        colecao = ColecaoPostman.ler(Path.of(".postman/API_Restaurante_FIAP.postman_collection.json"),
+                Path.of(".postman/API_Restaurante_FIAP.postman_environment.json"));
+    }
+
+    @Test
+    @DisplayName("Todos os passos devem existir na coleção e resolver suas variáveis")
+    void selecionar_quandoTodos_deveManterOrdemDoFluxo() {
+        List<Cenario.Passo> passos = Cenario.selecionar(colecao, List.of());
+
+        assertEquals(Cenario.FLUXO_USUARIO, passos);
+    }
+
+    @Test
+    @DisplayName("Deve manter a ordem do fluxo, não a da opção")
+    void selecionar_quandoSubconjunto_deveOrdenarPeloFluxo() {
+        List<Cenario.Passo> passos = Cenario.selecionar(colecao, List.of("me", "login"));
+
+        assertEquals(List.of("login", "me"), passos.stream().map(Cenario.Passo::id).toList());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar passo que depende de outro não selecionado")
+    void selecionar_quandoFaltaDependencia_deveLancarExcecao() {
+        assertThrows(IllegalArgumentException.class, () -> Cenario.selecionar(colecao, List.of("login", "buscar")));
+        assertThrows(IllegalArgumentException.class, () -> Cenario.selecionar(colecao, List.of("me")));
+        assertThrows(IllegalArgumentException.class, () -> Cenario.selecionar(colecao, List.of("login", "xpto")));
+    }
+
+    @Test
+    @DisplayName("Dados gerados devem passar nas validações da API, como os do script da coleção")
+    void gerarUsuario_deveGerarDadosValidos() {
+        for (int i = 0; i < 1_000; i++) {
+            // Arrange
+            Map<String, String> variaveis = new HashMap<>();
+
+            // Act
+            Cenario.gerarUsuario(variaveis);
+            Cenario.gerarAtualizacao(variaveis);
+
+            // Assert
+            assertTrue(Formatos.login(variaveis.get("generated_login")), variaveis.get("generated_login"));
+            assertTrue(Formatos.nomeProprio(variaveis.get("generated_nome")));
+            assertTrue(Formatos.telefone(variaveis.get("generated_telefone")));
+            assertTrue(Formatos.uf(variaveis.get("generated_uf")));
+            assertTrue(Formatos.cep(variaveis.get("generated_cep")));
+            assertTrue(Formatos.senhaForte(variaveis.get("generated_senha")));
+            assertTrue(Formatos.nomeProprio(variaveis.get("updated_nome")));
+            assertTrue(Formatos.telefone(variaveis.get("updated_telefone")));
+        }
+    }
+}
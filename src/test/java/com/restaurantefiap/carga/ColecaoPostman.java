@@ -0,0 +1,158 @@
+package com.restaurantefiap.carga;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Requisições da coleção Postman ({@code .postman/API_Restaurante_FIAP.postman_collection.json}),
+ * indexadas pelo nome do item, e as variáveis do ambiente exportado.
+ *
+ * <p>Os scripts JavaScript da coleção não são executados: o status esperado é lido do
+ * {@code pm.response.to.have.status(...)} do script de teste, e a geração de dados e a captura
+ * de variáveis ficam em {@link Cenario}.</p>
+ *
+ * @author Danilo de Paula
+ */
+public final class ColecaoPostman {
+
+    private static final Pattern VARIAVEL = Pattern.compile("\\{\\{([^}]+)}}");
+    private static final Pattern STATUS = Pattern.compile("have\\.status\\((\\d{3})\\)");
+
+    /**
+     * Requisição da coleção, com as variáveis ainda por resolver.
+     *
+     * @param nome           nome do item na coleção
+     * @param metodo         método HTTP
+     * @param url            URL com {@code {{variaveis}}}
+     * @param corpo          corpo com {@code {{variaveis}}} ou {@code null}
+     * @param autenticada    se usa o token (Bearer) da coleção
+     * @param statusEsperado status validado pelo script de teste (200 se não houver)
+     */
+    public record Requisicao(String nome, String metodo, String url, String corpo,
+                             boolean autenticada, int statusEsperado) { }
+
+    private final Map<String, Requisicao> requisicoes;
+    private final Map<String, String> variaveis;
+
+    private ColecaoPostman(Map<String, Requisicao> requisicoes, Map<String, String> variaveis) {
+        this.requisicoes = requisicoes;
+        this.variaveis = variaveis;
+    }
+
+    /**
+     * Lê a coleção e, se informado, o ambiente (cujos valores prevalecem sobre os da coleção).
+     *
+     * @param colecao arquivo da coleção (v2.1)
+     * @param ambiente arquivo de ambiente ou {@code null}
+     * @return coleção carregada
+     * @throws IOException se algum arquivo não puder ser lido
+     */
+    public static ColecaoPostman ler(Path colecao, Path ambiente) throws IOException {
+        ObjectMapper mapper = new ObjectMapper();
+        JsonNode raiz = mapper.readTree(colecao.toFile());
+
+        Map<String, String> variaveis = new LinkedHashMap<>();
+        raiz.path("variable").forEach(v -> variaveis.put(v.path("key").asText(), v.path("value").asText()));
+        if (ambiente != null) {
+            mapper.readTree(ambiente.toFile()).path("values").forEach(v -> {
+                if (v.path("enabled").asBoolean(true)) {
+                    variaveis.put(v.path("key").asText(), v.path("value").asText());
+                }
+            });
+        }
+
+        boolean autenticadaPorPadrao = "bearer".equals(raiz.path("auth").path("type").asText());
+        Map<String, Requisicao> requisicoes = new LinkedHashMap<>();
+        coletar(raiz.path("item"), autenticadaPorPadrao, requisicoes);
+        return new ColecaoPostman(requisicoes, variaveis);
+    }
+
+    private static void coletar(JsonNode itens, boolean autenticadaPorPadrao, Map<String, Requisicao> destino) {
+        for (JsonNode item : itens) {
+            if (item.has("item")) {
+                coletar(item.path("item"), autenticadaPorPadrao, destino);
+                continue;
+            }
+            JsonNode request = item.path("request");
+            JsonNode url = request.path("url");
+            String tipoAuth = request.path("auth").path("type").asText(null);
+            boolean autenticada = tipoAuth == null ? autenticadaPorPadrao : tipoAuth.equals("bearer");
+            String corpo = request.path("body").path("raw").asText(null);
+
+            String nome = item.path("name").asText();
+            destino.put(nome, new Requisicao(nome, request.path("method").asText("GET"),
+                    url.isTextual() ? url.asText() : url.path("raw").asText(),
+                    corpo == null || corpo.isBlank() ? null : corpo,
+                    autenticada, statusEsperado(item)));
+        }
+    }
+
+    private static int statusEsperado(JsonNode item) {
+        for (JsonNode evento : item.path("event")) {
+            if (!"test".equals(evento.path("listen").asText())) {
+                continue;
+            }
+            for (JsonNode linha : evento.path("script").path("exec")) {
+                Matcher m = STATUS.matcher(linha.asText());
+                if (m.find()) {
+                    return Integer.parseInt(m.group(1));
+                }
+            }
+        }
+        return 200;
+    }
+
+    /**
+     * Substitui as {@code {{variaveis}}} do texto.
+     *
+     * @param texto     URL ou corpo
+     * @param variaveis valores (os da sessão sobre os da coleção)
+     * @return texto resolvido
+     * @throws IllegalArgumentException se alguma variável não tiver valor
+     */
+    public static String resolver(String texto, Map<String, String> variaveis) {
+        if (texto == null) {
+            return null;
+        }
+        Matcher m = VARIAVEL.matcher(texto);
+        StringBuilder sb = new StringBuilder(texto.length());
+        while (m.find()) {
+            String valor = variaveis.get(m.group(1));
+            if (valor == null) {
+                throw new IllegalArgumentException("Variável sem valor: {{" + m.group(1) + "}}");
+            }
+            m.appendReplacement(sb, Matcher.quoteReplacement(valor));
+        }
+        m.appendTail(sb);
+        return sb.toString();
+    }
+
+    /**
+     * Requisição pelo nome do item.
+     *
+     * @throws IllegalArgumentException se não existir na coleção
+     */
+    public Requisicao requisicao(String nome) {
+        Requisicao requisicao = requisicoes.get(nome);
+        if (requisicao == null) {
+            throw new IllegalArgumentException("Requisição inexistente na coleção: " + nome);
+        }
+        return requisicao;
+    }
+
+    public Map<String, Requisicao> getRequisicoes() {
+        return requisicoes;
+    }
+
+    /** Variáveis da coleção e do ambiente (somente leitura). */
+    public Map<String, String> getVariaveis() {
+        return Map.copyOf(variaveis);
+    }
+}
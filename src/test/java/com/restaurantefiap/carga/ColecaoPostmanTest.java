@@ -0,0 +1,106 @@
+package com.restaurantefiap.carga;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Testes unitários para {@link ColecaoPostman}, sobre a coleção e o ambiente versionados em {@code .postman}.
+ *
+ * @author Danilo de Paula
+ */
+class ColecaoPostmanTest {
+
+    private static ColecaoPostman colecao;
+
+    @BeforeAll
+    static void carregar() throws IOException {
+        colecao = ColecaoPostman.ler(Path.of(".postman/API_Restaurante_FIAP.postman_collection.json"),
+                Path.of(".postman/API_Restaurante_FIAP.postman_environment.json"));
+    }
+
+    // ========================================================================
+    // LEITURA
+    // ========================================================================
+
+    @Nested
+    @DisplayName("Leitura da coleção")
+    class LeituraTests {
+
+        @Test
+        @DisplayName("Deve ler método, URL, corpo e status esperado do script de teste")
+        void ler_quandoCriarUsuario_deveExtrairRequisicao() {
+            ColecaoPostman.Requisicao criar = colecao.requisicao("POST Criar Usuário");
+
+            assertEquals("POST", criar.metodo());
+            assertEquals("{{base_url}}/{{api_version}}/usuarios", criar.url());
+            assertTrue(criar.corpo().contains("{{generated_login}}"));
+            assertTrue(criar.autenticada());
+            assertEquals(201, criar.statusEsperado());
+        }
+
+        @Test
+        @DisplayName("Deve respeitar noauth do item e status sem corpo")
+        void ler_quandoItensEspeciais_deveRespeitarAuthEStatus() {
+            assertFalse(colecao.requisicao("GET Sem Autenticação (403)").autenticada());
+
+            ColecaoPostman.Requisicao senha = colecao.requisicao(
+                    "PUT Alterar Senha - MASTER pode alterar senha de outro (204)");
+            assertEquals(204, senha.statusEsperado());
+            assertNull(colecao.requisicao("GET Meus Dados (/me)").corpo());
+        }
+
+        @Test
+        @DisplayName("Valores do ambiente devem prevalecer sobre os da coleção")
+        void ler_quandoAmbiente_deveSobreporVariaveis() {
+            Map<String, String> variaveis = colecao.getVariaveis();
+
+            assertEquals("http://localhost:8080", variaveis.get("base_url"));
+            assertEquals("master.admin", variaveis.get("admin_login"));
+        }
+
+        @Test
+        @DisplayName("Deve rejeitar requisição inexistente")
+        void requisicao_quandoNomeInexistente_deveLancarExcecao() {
+            assertThrows(IllegalArgumentException.class, () -> colecao.requisicao("GET Inexistente"));
+        }
+    }
+
+    // ========================================================================
+    // VARIÁVEIS
+    // ========================================================================
+
+    @Nested
+    @DisplayName("Resolução de variáveis")
+    class ResolucaoTests {
+
+        @Test
+        @DisplayName("Deve substituir todas as variáveis, inclusive com caracteres especiais no valor")
+        void resolver_quandoVariaveisDefinidas_deveSubstituir() {
+            String resolvido = ColecaoPostman.resolver("{{base_url}}/{{api_version}}/usuarios/{{id}}",
+                    Map.of("base_url", "http://h:1", "api_version", "v1", "id", "$7\\"));
+
+            assertEquals("http://h:1/v1/usuarios/$7\\", resolvido);
+        }
+
+        @Test
+        @DisplayName("Deve falhar com o nome da variável sem valor")
+        void resolver_quandoVariavelAusente_deveLancarExcecao() {
+            IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                    () -> ColecaoPostman.resolver("{{base_url}}/x", Map.of()));
+
+            assertTrue(e.getMessage().contains("{{base_url}}"));
+        }
+    }
+}
@@ -0,0 +1,587 @@
+package com.restaurantefiap.carga;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramLogWriter;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Gerador de carga que replica o fluxo de usuário da coleção Postman ({@link Cenario}).
+ *
+ * <p>Modelo aberto: sessões chegam a uma taxa constante ({@code --taxa} por segundo),
+ * independentemente de as anteriores terem terminado, cada uma em uma virtual thread que
+ * executa os passos em sequência. A latência é medida a partir do início <i>pretendido</i>
+ * — o agendamento da sessão no primeiro passo e o fim do passo anterior nos demais —, o que
+ * corrige a omissão coordenada (ver {@link LatenciasPasso}). {@code --max-sessoes} limita as
+ * sessões simultâneas; as excedentes esperam e a espera conta na latência corrigida.</p>
+ *
+ * <p>Com {@code --repeticoes n}, cada sessão faz o login uma vez e repete os demais passos n
+ * vezes — com {@code --passos login,me}, todas as requisições leem o mesmo usuário (chave
+ * quente). Com {@code --embutido}, o relatório inclui as leituras de usuário que chegaram ao
+ * banco e as coalescidas, e {@code --coalescencia off} desliga a coalescência para comparar.</p>
+ *
+ * <p>Com {@code --clientes n}, o modelo é fechado: n clientes executam sessões em sequência,
+ * sem pausa, durante toda a medição — cada requisição começa quando a anterior termina, e a
+ * latência é o tempo de serviço. É o cenário de muitos clientes simultâneos, para comparar
+ * o modelo de threads da aplicação embutida ({@code --threads plataforma|virtual}).</p>
+ *
+ * <p>O relatório final traz o goodput — respostas corretas por segundo, só as que chegaram dentro
+ * de {@code --slo} ms (latência corrigida) — e quantas requisições foram recusadas com {@code 503}.
+ * Com uma taxa acima da capacidade, rode com {@code --limite on} e {@code off} para comparar o
+ * goodput com e sem o limite de concorrência da aplicação embutida.</p>
+ *
+ * <p>Um passo que falha (exceção ou status diferente do validado pela coleção) conta como
+ * erro e encerra a sessão, já que os seguintes dependem dele. A exceção é a recusa por carga
+ * ({@code 503}) de um passo que não extrai variável: conta como erro, mas a sessão segue, como
+ * um cliente que desiste daquela requisição — senão uma recusa descartaria as repetições seguintes
+ * e o goodput com o limite ligado sairia subestimado.</p>
+ *
+ * <pre>
+ * mvn -Pcarga -DskipTests test-compile exec:exec@carga
+ * mvn -Pcarga -DskipTests test-compile exec:exec@carga \
+ *     -Dcarga.args="--url http://localhost:8080 --taxa 20 --duracao 120 --limites carga-limites.properties"
+ * </pre>
+ *
+ * <p>Saída: um resumo por intervalo, as tabelas finais (latência corrigida e tempo de
+ * serviço, por passo) e, com {@code --hlog}, os histogramas de cada intervalo no formato de
+ * log do HdrHistogram (valores em µs). Código de saída 1 se algum limite for violado e 2 em
+ * erro de uso.</p>
+ *
+ * @author Danilo de Paula
+ */
+public final class GeradorCarga {
+
+    private static final String USO = """
+            Uso: GeradorCarga [opções]
+              --url <base_url>          aplicação já iniciada (padrão: base_url do ambiente Postman)
+              --embutido                sobe a aplicação neste processo (perfil test, H2)
+              --colecao <arquivo>       padrão: .postman/API_Restaurante_FIAP.postman_collection.json
+              --ambiente <arquivo>      padrão: .postman/API_Restaurante_FIAP.postman_environment.json
+              --passos <id,id,...>      padrão: todos (%s)
+              --taxa <sessões/s>        padrão: 2
+              --duracao <s>             medição, padrão: 60
+              --aquecimento <s>         sessões descartadas antes da medição, padrão: 10
+              --max-sessoes <n>         sessões simultâneas, padrão: 200
+              --clientes <n>            modelo fechado: n clientes em laço (ignora --taxa e --max-sessoes)
+              --repeticoes <n>          passos após o login repetidos por sessão, padrão: 1
+              --coalescencia <on|off>   com --embutido: leituras coalescidas, padrão: on
+              --threads <modelo>        com --embutido: plataforma (pool do Tomcat) ou virtual (perfil virtual)
+              --limite <on|off>         com --embutido: limite de concorrência adaptativo, padrão: on
+              --slo <ms>                latência máxima de uma resposta útil no goodput, padrão: --timeout
+              --timeout <s>             por requisição, padrão: 30
+              --intervalo <s>           resumo periódico, padrão: 5
+              --limites <arquivo>       limites de aprovação (ver Limites)
+              --hlog <arquivo>          histogramas por intervalo (HdrHistogram log)
+            """;
+
+    private static final int ERROS_DETALHADOS = 10;
+
+
+    private final Map<String, String> opcoes;
+    private final PrintStream saida;
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    private ColecaoPostman colecao;
+    private List<Cenario.Passo> passos;
+    private Map<String, String> variaveisBase;
+    private final Map<String, LatenciasPasso> latencias = new LinkedHashMap<>();
+    private HttpClient cliente;
+    private double taxa;
+    private Duration timeout;
+    private Semaphore sessoes;
+    private int repeticoes;
+    private int clientes;
+    private HistogramLogWriter hlog;
+    private long inicioHlogMs;
+    private long inicioNs;
+    private long fimAquecimentoNs;
+    private long fimNs;
+
+    private final LongAdder sessoesConcluidas = new LongAdder();
+    private final LongAdder recusadas = new LongAdder();
+    private final LongAdder dentroSlo = new LongAdder();
+    private long sloNs;
+    private final AtomicInteger errosDetalhados = new AtomicInteger();
+
+    GeradorCarga(Map<String, String> opcoes, PrintStream saida) {
+        this.opcoes = opcoes;
+        this.saida = saida;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> opcoes;
+        try {
+            opcoes = lerOpcoes(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.printf(USO, String.join(",", Cenario.FLUXO_USUARIO.stream().map(Cenario.Passo::id).toList()));
+            System.exit(2);
+            return;
+        }
+        System.exit(new GeradorCarga(opcoes, System.out).executar());
+    }
+
+    static Map<String, String> lerOpcoes(String[] args) {
+        Map<String, String> opcoes = new HashMap<>();
+        for (int i = 0; i < args.length; i++) {
+            if (!args[i].startsWith("--")) {
+                throw new IllegalArgumentException("Argumento inesperado: " + args[i]);
+            }
+            String chave = args[i].substring(2);
+            if (chave.equals("embutido")) {
+                opcoes.put(chave, "true");
+            } else if (i + 1 < args.length) {
+                opcoes.put(chave, args[++i]);
+            } else {
+                throw new IllegalArgumentException("Falta o valor de " + args[i]);
+            }
+        }
+        return opcoes;
+    }
+
+    // ========== Execução ==========
+
+    /**
+     * Executa a carga e imprime o relatório.
+     *
+     * @return 0 se aprovado, 1 se algum limite foi violado, 2 se a configuração é inválida
+     */
+    int executar() throws Exception {
+        Limites limites;
+        try {
+            colecao = ColecaoPostman.ler(
+                    Path.of(opcoes.getOrDefault("colecao", ".postman/API_Restaurante_FIAP.postman_collection.json")),
+                    ambiente());
+            passos = Cenario.selecionar(colecao, opcoes.containsKey("passos")
+                    ? Arrays.asList(opcoes.get("passos").split(",")) : List.of());
+            limites = opcoes.containsKey("limites") ? Limites.ler(Path.of(opcoes.get("limites"))) : null;
+            taxa = Double.parseDouble(opcoes.getOrDefault("taxa", "2"));
+            if (taxa <= 0) {
+                throw new IllegalArgumentException("--taxa deve ser positiva");
+            }
+            timeout = Duration.ofSeconds(inteiro("timeout", 30));
+            sloNs = opcoes.containsKey("slo")
+                    ? TimeUnit.MILLISECONDS.toNanos(inteiro("slo", 0)) : timeout.toNanos();
+            if (sloNs <= 0) {
+                throw new IllegalArgumentException("--slo deve ser positivo");
+            }
+            clientes = inteiro("clientes", 0);
+            if (clientes < 0) {
+                throw new IllegalArgumentException("--clientes deve ser positivo");
+            }
+            sessoes = new Semaphore(clientes > 0 ? clientes : inteiro("max-sessoes", 200));
+            repeticoes = inteiro("repeticoes", 1);
+            if (repeticoes <= 0) {
+                throw new IllegalArgumentException("--repeticoes deve ser positivo");
+            }
+            argumentosEmbutido();
+        } catch (IllegalArgumentException | IOException e) {
+            saida.println("Configuração inválida: " + e.getMessage());
+            return 2;
+        }
+
+        variaveisBase = new HashMap<>(colecao.getVariaveis());
+        variaveisBase.remove("token");
+        variaveisBase.remove("created_user_id");
+        if (opcoes.containsKey("url")) {
+            variaveisBase.put("base_url", opcoes.get("url"));
+        }
+
+        AppEmbutida app = null;
+        if (opcoes.containsKey("embutido")) {
+            saida.println("Iniciando a aplicação embutida (perfil test)...");
+            app = AppEmbutida.iniciar(variaveisBase.get("admin_login"), variaveisBase.get("admin_password"),
+                    argumentosEmbutido());
+            variaveisBase.put("base_url", app.getUrl());
+            saida.println("Aplicação embutida em " + (app.isThreadsVirtuais() ? "virtual threads" : "threads de plataforma")
+                    + ", limite de concorrência " + (app.isLimiteConcorrencia() ? "ligado" : "desligado"));
+        }
+        try {
+            AppEmbutida.LeiturasUsuario antes = app != null ? app.leiturasUsuario() : null;
+            long inicioExecucaoNs = System.nanoTime();
+            gerar();
+            if (app != null) {
+                relatorioLeituras(antes, app.leiturasUsuario(), System.nanoTime() - inicioExecucaoNs);
+            }
+        } finally {
+            if (hlog != null) {
+                hlog.close();
+            }
+            if (app != null) {
+                app.close();
+            }
+        }
+
+        relatorioFinal();
+        if (limites == null || limites.isVazio()) {
+            return 0;
+        }
+        List<String> violacoes = limites.verificar(List.copyOf(latencias.values()));
+        if (violacoes.isEmpty()) {
+            saida.println("\nAPROVADO: todos os limites respeitados.");
+            return 0;
+        }
+        saida.println("\nREPROVADO:");
+        violacoes.forEach(v -> saida.println("  " + v));
+        return 1;
+    }
+
+    private void gerar() throws InterruptedException, FileNotFoundException {
+        long intervaloNs = (long) (TimeUnit.SECONDS.toNanos(1) / taxa);
+        long aquecimentoNs = TimeUnit.SECONDS.toNanos(inteiro("aquecimento", 10));
+        long duracaoNs = TimeUnit.SECONDS.toNanos(inteiro("duracao", 60));
+
+        cliente = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        abrirHlog();
+        // Criadas aqui para que o primeiro intervalo comece junto com a carga (e com o hlog)
+        passos.forEach(p -> latencias.put(p.id(), new LatenciasPasso(p.id())));
+
+        saida.printf(Locale.ROOT, "%s: %s, passos %s, %ds de aquecimento + %ds de medição%n",
+                variaveisBase.get("base_url"),
+                clientes > 0 ? clientes + " cliente(s) em laço" : String.format(Locale.ROOT, "%.1f sessão(ões)/s", taxa),
+                latencias.keySet(), TimeUnit.NANOSECONDS.toSeconds(aquecimentoNs),
+                TimeUnit.NANOSECONDS.toSeconds(duracaoNs));
+
+        ScheduledExecutorService relatorio = Executors.newSingleThreadScheduledExecutor();
+        // Clientes do modelo fechado em threads de plataforma: em virtual threads, disputariam os
+        // carriers com a aplicação embutida quando ela também usa virtual threads
+        ExecutorService executor = clientes > 0
+                ? Executors.newThreadPerTaskExecutor(Thread.ofPlatform().name("cliente-", 0).factory())
+                : Executors.newVirtualThreadPerTaskExecutor();
+        inicioNs = System.nanoTime();
+        fimAquecimentoNs = inicioNs + aquecimentoNs;
+        fimNs = fimAquecimentoNs + duracaoNs;
+        int intervalo = inteiro("intervalo", 5);
+        relatorio.scheduleAtFixedRate(this::relatorioIntervalo, intervalo, intervalo, TimeUnit.SECONDS);
+
+        try {
+            if (clientes > 0) {
+                for (int c = 0; c < clientes; c++) {
+                    executor.execute(this::executarCliente);
+                }
+            } else {
+                for (long i = 0; ; i++) {
+                    long pretendidoNs = inicioNs + i * intervaloNs;
+                    if (pretendidoNs - fimNs >= 0) {
+                        break;
+                    }
+                    esperarAte(pretendidoNs);
+                    boolean medir = pretendidoNs - fimAquecimentoNs >= 0;
+                    executor.execute(() -> executarSessao(pretendidoNs, medir));
+                }
+            }
+            executor.shutdown();
+            long esperaMaxima = (clientes > 0 ? TimeUnit.NANOSECONDS.toSeconds(fimNs - System.nanoTime()) : 0)
+                    + timeout.toSeconds() * passos.size() * repeticoes + 5;
+            if (!executor.awaitTermination(esperaMaxima, TimeUnit.SECONDS)) {
+                saida.println("Sessões ainda em andamento após " + esperaMaxima + "s foram interrompidas.");
+                executor.shutdownNow();
+            }
+        } finally {
+            relatorio.shutdown();
+            relatorio.awaitTermination(10, TimeUnit.SECONDS);
+        }
+        relatorioIntervalo();
+    }
+
+    /**
+     * Modelo fechado: uma sessão atrás da outra até o fim da medição. Cada requisição é medida
+     * se começar depois do aquecimento, e a sessão é interrompida ao fim da medição.
+     */
+    private void executarCliente() {
+        while (System.nanoTime() - fimNs < 0 && !Thread.currentThread().isInterrupted()) {
+            executarSessao(System.nanoTime(), false);
+        }
+    }
+
+    private void executarSessao(long pretendidoNs, boolean medir) {
+        try {
+            sessoes.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        try {
+            Map<String, String> variaveis = new HashMap<>(variaveisBase);
+            long pretendidoPassoNs = pretendidoNs;
+            for (int repeticao = 0; repeticao < repeticoes; repeticao++) {
+                for (Cenario.Passo passo : passos) {
+                    if (repeticao > 0 && passo.id().equals("login")) {
+                        continue;
+                    }
+                    ColecaoPostman.Requisicao requisicao = colecao.requisicao(passo.requisicao());
+                    if (passo.preparar() != null) {
+                        passo.preparar().accept(variaveis);
+                    }
+
+                    long inicioPassoNs = System.nanoTime();
+                    if (clientes > 0) {
+                        if (inicioPassoNs - fimNs >= 0) {
+                            return;
+                        }
+                        medir = inicioPassoNs - fimAquecimentoNs >= 0;
+                    }
+                    String falha;
+                    boolean recusada = false;
+                    try {
+                        HttpResponse<String> resposta = cliente.send(montar(requisicao, variaveis),
+                                HttpResponse.BodyHandlers.ofString());
+                        falha = validar(passo, requisicao, resposta, variaveis);
+                        recusada = resposta.statusCode() == 503;
+                    } catch (IOException e) {
+                        falha = e.toString();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                    long fimPassoNs = System.nanoTime();
+
+                    if (medir) {
+                        latencias.get(passo.id()).registrar(pretendidoPassoNs, inicioPassoNs, fimPassoNs, falha != null);
+                        if (recusada) {
+                            recusadas.increment();
+                        } else if (falha == null && fimPassoNs - pretendidoPassoNs <= sloNs) {
+                            dentroSlo.increment();
+                        }
+                    }
+                    if (falha != null && !(recusada && passo.campo() == null)) {
+                        if (errosDetalhados.getAndIncrement() < ERROS_DETALHADOS) {
+                            saida.println("Erro em '" + passo.id() + "': " + falha);
+                        }
+                        return;
+                    }
+                    pretendidoPassoNs = fimPassoNs;
+                }
+            }
+            if (medir) {
+                sessoesConcluidas.increment();
+            }
+        } finally {
+            sessoes.release();
+        }
+    }
+
+    private HttpRequest montar(ColecaoPostman.Requisicao requisicao, Map<String, String> variaveis) {
+        String corpo = ColecaoPostman.resolver(requisicao.corpo(), variaveis);
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(ColecaoPostman.resolver(requisicao.url(), variaveis)))
+                .timeout(timeout)
+                .method(requisicao.metodo(), corpo == null
+                        ? HttpRequest.BodyPublishers.noBody()
+                        : HttpRequest.BodyPublishers.ofString(corpo));
+        if (corpo != null) {
+            builder.header("Content-Type", "application/json");
+        }
+        String token = variaveis.get("token");
+        if (requisicao.autenticada() && token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder.build();
+    }
+
+    /** @return descrição da falha ou {@code null} se a resposta é a esperada pela coleção */
+    private String validar(Cenario.Passo passo, ColecaoPostman.Requisicao requisicao,
+                           HttpResponse<String> resposta, Map<String, String> variaveis) throws IOException {
+        if (resposta.statusCode() != requisicao.statusEsperado()) {
+            String corpo = resposta.body();
+            return "status " + resposta.statusCode() + " (esperado " + requisicao.statusEsperado() + "): "
+                    + (corpo.length() > 200 ? corpo.substring(0, 200) + "..." : corpo);
+        }
+        if (passo.campo() != null) {
+            JsonNode valor = mapper.readTree(resposta.body()).path(passo.campo());
+            if (valor.isMissingNode() || valor.isNull()) {
+                return "resposta sem o campo '" + passo.campo() + "'";
+            }
+            variaveis.put(passo.variavel(), valor.asText());
+        }
+        return null;
+    }
+
+    // ========== Relatórios ==========
+
+    private void abrirHlog() throws FileNotFoundException {
+        if (!opcoes.containsKey("hlog")) {
+            return;
+        }
+        hlog = new HistogramLogWriter(opcoes.get("hlog"));
+        inicioHlogMs = System.currentTimeMillis();
+        hlog.outputComment("Gerador de carga restaurante-fiap: valores em microssegundos; "
+                + "tag <passo> = latência corrigida, <passo>.servico = tempo de serviço");
+        hlog.outputLogFormatVersion();
+        hlog.outputStartTime(inicioHlogMs);
+        hlog.outputBaseTime(inicioHlogMs);
+        hlog.outputLegend();
+    }
+
+    /** Executado pela thread de relatório e, ao fim, pela principal (após o encerramento daquela). */
+    private synchronized void relatorioIntervalo() {
+        StringBuilder linha = new StringBuilder(String.format(Locale.ROOT, "[%5ds]",
+                TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - inicioNs)));
+        for (LatenciasPasso passo : latencias.values()) {
+            Histogram[] intervalo = passo.coletarIntervalo();
+            long erros = passo.errosNoIntervalo();
+            if (hlog != null) {
+                for (Histogram histograma : intervalo) {
+                    hlog.outputIntervalHistogram((histograma.getStartTimeStamp() - inicioHlogMs) / 1000.0,
+                            (histograma.getEndTimeStamp() - inicioHlogMs) / 1000.0, histograma, 1000.0);
+                }
+            }
+            linha.append(String.format(Locale.ROOT, " %s %d%s p99 %.1f |", passo.getId(),
+                    intervalo[0].getTotalCount(), erros > 0 ? " (" + erros + " erro(s))" : "",
+                    Limites.medir(intervalo[0], "p99")));
+        }
+        saida.println(linha);
+    }
+
+    private void relatorioFinal() {
+        Histogram todosCorrigida = new Histogram(3);
+        Histogram todosServico = new Histogram(3);
+        long requisicoes = 0;
+        long erros = 0;
+        for (LatenciasPasso passo : latencias.values()) {
+            todosCorrigida.add(passo.getTotalCorrigida());
+            todosServico.add(passo.getTotalServico());
+            requisicoes += passo.getTotalCorrigida().getTotalCount();
+            erros += passo.getErros();
+        }
+        long segundos = Math.max(1, inteiro("duracao", 60));
+
+        saida.printf(Locale.ROOT, "%nSessões completas: %d | requisições: %d (%.1f/s)%n",
+                sessoesConcluidas.sum(), requisicoes, (double) requisicoes / segundos);
+        saida.printf(Locale.ROOT, "Goodput: %d respostas corretas em até %d ms (%.1f/s) de %d corretas | "
+                        + "erros: %d, dos quais %d recusas 503%n",
+                dentroSlo.sum(), TimeUnit.NANOSECONDS.toMillis(sloNs), (double) dentroSlo.sum() / segundos,
+                requisicoes - erros, erros, recusadas.sum());
+        saida.println("\nLatência corrigida (ms, desde o início pretendido)");
+        tabela(true, todosCorrigida);
+        saida.println("\nTempo de serviço (ms, sem correção)");
+        tabela(false, todosServico);
+    }
+
+    /** Leituras de usuário por ID e por login (filtro JWT incluído) na aplicação embutida. */
+    private void relatorioLeituras(AppEmbutida.LeiturasUsuario antes, AppEmbutida.LeiturasUsuario depois,
+                                   long duracaoNs) {
+        long noBanco = depois.executadas() - antes.executadas();
+        long coalescidas = depois.coalescidas() - antes.coalescidas();
+        double segundos = duracaoNs / 1e9;
+        saida.printf(Locale.ROOT, "%nLeituras de usuário (aquecimento incluído, coalescência %s): "
+                        + "%d no banco (%.1f/s), %d coalescidas (%.1f%%)%n",
+                opcoes.getOrDefault("coalescencia", "on"), noBanco, noBanco / segundos, coalescidas,
+                noBanco + coalescidas == 0 ? 0.0 : 100.0 * coalescidas / (noBanco + coalescidas));
+    }
+
+    private void tabela(boolean corrigida, Histogram todos) {
+        saida.printf(Locale.ROOT, "%-12s %8s %6s %9s %9s %9s %9s %9s%n",
+                "passo", "reqs", "erros", "p50", "p90", "p99", "p99.9", "max");
+        List<Map.Entry<String, Histogram>> linhas = new ArrayList<>();
+        long erros = 0;
+        for (LatenciasPasso passo : latencias.values()) {
+            linhas.add(Map.entry(passo.getId(), corrigida ? passo.getTotalCorrigida() : passo.getTotalServico()));
+        }
+        linhas.add(Map.entry("todos", todos));
+        for (Map.Entry<String, Histogram> linha : linhas) {
+            long errosLinha;
+            if (latencias.containsKey(linha.getKey())) {
+                errosLinha = latencias.get(linha.getKey()).getErros();
+                erros += errosLinha;
+            } else {
+                errosLinha = erros;
+            }
+            Histogram h = linha.getValue();
+            saida.printf(Locale.ROOT, "%-12s %8d %6d %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                    linha.getKey(), h.getTotalCount(), errosLinha, Limites.medir(h, "p50"), Limites.medir(h, "p90"),
+                    Limites.medir(h, "p99"), Limites.medir(h, "p999"), Limites.medir(h, "max"));
+        }
+    }
+
+    // ========== Métodos Auxiliares ==========
+
+    private Path ambiente() {
+        if (opcoes.containsKey("ambiente")) {
+            return Path.of(opcoes.get("ambiente"));
+        }
+        Path padrao = Path.of(".postman/API_Restaurante_FIAP.postman_environment.json");
+        return Files.exists(padrao) ? padrao : null;
+    }
+
+    /** Argumentos da aplicação embutida a partir das opções que só valem com {@code --embutido}. */
+    private List<String> argumentosEmbutido() {
+        List<String> argumentos = new ArrayList<>();
+        ligarDesligar("coalescencia", "usuarios.leitura.coalescencia.habilitada", argumentos);
+        ligarDesligar("limite", "app.limite-concorrencia.habilitado", argumentos);
+        String threads = valorEmbutido("threads");
+        if (threads != null) {
+            switch (threads) {
+                // Perfil completo: virtual threads, limite de conexões na frente do Hikari e JFR de pinning
+                case "virtual" -> argumentos.add("--spring.profiles.include=virtual");
+                case "plataforma" -> argumentos.add("--spring.threads.virtual.enabled=false");
+                default -> throw new IllegalArgumentException("--threads deve ser plataforma ou virtual");
+            }
+        }
+        return argumentos;
+    }
+
+    private void ligarDesligar(String opcao, String propriedade, List<String> argumentos) {
+        String valor = valorEmbutido(opcao);
+        if (valor == null) {
+            return;
+        }
+        if (!valor.equals("on") && !valor.equals("off")) {
+            throw new IllegalArgumentException("--" + opcao + " deve ser on ou off");
+        }
+        argumentos.add("--" + propriedade + "=" + valor.equals("on"));
+    }
+
+    private String valorEmbutido(String opcao) {
+        String valor = opcoes.get(opcao);
+        if (valor != null && !opcoes.containsKey("embutido")) {
+            throw new IllegalArgumentException("--" + opcao + " exige --embutido");
+        }
+        return valor;
+    }
+
+    private int inteiro(String opcao, int padrao) {
+        return opcoes.containsKey(opcao) ? Integer.parseInt(opcoes.get(opcao)) : padrao;
+    }
+
+    /** Dorme até o instante; o último trecho em espera ativa curta para não perder a precisão do agendamento. */
+    private static void esperarAte(long instanteNs) {
+        long restante;
+        while ((restante = instanteNs - System.nanoTime()) > 0) {
+            if (restante > 200_000) {
+                LockSupport.parkNanos(restante - 100_000);
+            } else {
+                Thread.onSpinWait();
+            }
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.restaurantefiap.carga;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latências de um passo do cenário, em microssegundos.
+ *
+ * <p>Cada requisição é gravada duas vezes, sem lock ({@link Recorder}):</p>
+ * <ul>
+ *   <li><b>corrigida</b> — do instante em que a requisição <i>deveria</i> ter começado até a
+ *       resposta. Corrige a omissão coordenada: se o servidor trava, as sessões agendadas
+ *       nesse intervalo atrasam e o atraso entra na latência, em vez de sumir da amostra;</li>
+ *   <li><b>serviço</b> — do envio efetivo até a resposta (o que um cliente fechado mediria).</li>
+ * </ul>
+ *
+ * <p>Somente a thread de relatório chama {@link #coletarIntervalo()}, que move os intervalos
+ * dos gravadores para os acumulados.</p>
+ *
+ * @author Danilo de Paula
+ */
+public final class LatenciasPasso {
+
+    private static final int DIGITOS_SIGNIFICATIVOS = 3;
+
+    private final String id;
+    private final Recorder corrigida = new Recorder(DIGITOS_SIGNIFICATIVOS);
+    private final Recorder servico = new Recorder(DIGITOS_SIGNIFICATIVOS);
+    private final LongAdder erros = new LongAdder();
+
+    private final Histogram totalCorrigida = new Histogram(DIGITOS_SIGNIFICATIVOS);
+    private final Histogram totalServico = new Histogram(DIGITOS_SIGNIFICATIVOS);
+    private Histogram intervaloCorrigida;
+    private Histogram intervaloServico;
+    private long errosColetados;
+
+    public LatenciasPasso(String id) {
+        this.id = id;
+    }
+
+    /**
+     * Grava uma requisição.
+     *
+     * @param pretendidoNs início pretendido ({@link System#nanoTime()})
+     * @param inicioNs     início efetivo
+     * @param fimNs        fim (resposta recebida ou falha)
+     * @param erro         se a requisição falhou ou teve status inesperado
+     */
+    public void registrar(long pretendidoNs, long inicioNs, long fimNs, boolean erro) {
+        corrigida.recordValue(TimeUnit.NANOSECONDS.toMicros(fimNs - pretendidoNs));
+        servico.recordValue(TimeUnit.NANOSECONDS.toMicros(fimNs - inicioNs));
+        if (erro) {
+            erros.increment();
+        }
+    }
+
+    /**
+     * Move o intervalo corrente para os acumulados.
+     *
+     * @return intervalo corrigido (com tag {@code <id>}) e de serviço (tag {@code <id>.servico}),
+     *         válidos até a próxima chamada
+     */
+    public Histogram[] coletarIntervalo() {
+        intervaloCorrigida = corrigida.getIntervalHistogram(intervaloCorrigida);
+        intervaloServico = servico.getIntervalHistogram(intervaloServico);
+        intervaloCorrigida.setTag(id);
+        intervaloServico.setTag(id + ".servico");
+        totalCorrigida.add(intervaloCorrigida);
+        totalServico.add(intervaloServico);
+        return new Histogram[] {intervaloCorrigida, intervaloServico};
+    }
+
+    /** Erros registrados desde a última chamada. */
+    long errosNoIntervalo() {
+        long total = erros.sum();
+        long intervalo = total - errosColetados;
+        errosColetados = total;
+        return intervalo;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public Histogram getTotalCorrigida() {
+        return totalCorrigida;
+    }
+
+    public Histogram getTotalServico() {
+        return totalServico;
+    }
+
+    public long getErros() {
+        return erros.sum();
+    }
+}
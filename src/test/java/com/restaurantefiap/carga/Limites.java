@@ -0,0 +1,148 @@
+package com.restaurantefiap.carga;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+
+/**
+ * Limites de aprovação de uma execução, lidos de um arquivo {@code .properties}.
+ *
+ * <p>Chaves no formato {@code <passo>.<métrica>=<valor>}, em que o passo é um id de
+ * {@link Cenario} ou {@code todos} (todas as requisições juntas) e a métrica é
+ * {@code p50}, {@code p90}, {@code p99}, {@code p999} ou {@code max} (em ms, sobre a latência
+ * corrigida) ou {@code erros} (em % das requisições). Ex.:</p>
+ * <pre>
+ * todos.erros=0.5
+ * login.p99=400
+ * me.p999=50
+ * </pre>
+ *
+ * @author Danilo de Paula
+ */
+public final class Limites {
+
+    private static final String TODOS = "todos";
+
+    private final Map<String, Double> valores;
+
+    private Limites(Map<String, Double> valores) {
+        this.valores = valores;
+    }
+
+    /**
+     * Lê e valida o arquivo.
+     *
+     * @throws IOException              se o arquivo não puder ser lido
+     * @throws IllegalArgumentException se alguma chave ou valor for inválido
+     */
+    public static Limites ler(Path arquivo) throws IOException {
+        Properties propriedades = new Properties();
+        try (Reader leitor = Files.newBufferedReader(arquivo, StandardCharsets.UTF_8)) {
+            propriedades.load(leitor);
+        }
+        Map<String, Double> valores = new TreeMap<>();
+        propriedades.stringPropertyNames().forEach(chave -> valores.put(chave, valor(chave, propriedades.getProperty(chave))));
+        return new Limites(valores);
+    }
+
+    /** Limites a partir de um mapa (testes e chamadas programáticas). */
+    public static Limites de(Map<String, String> limites) {
+        Map<String, Double> valores = new TreeMap<>();
+        limites.forEach((chave, valor) -> valores.put(chave, valor(chave, valor)));
+        return new Limites(valores);
+    }
+
+    private static Double valor(String chave, String valor) {
+        int ponto = chave.lastIndexOf('.');
+        if (ponto <= 0 || !ehMetrica(chave.substring(ponto + 1))) {
+            throw new IllegalArgumentException("Limite inválido: " + chave
+                    + " (use <passo|todos>.<p50|p90|p99|p999|max|erros>)");
+        }
+        try {
+            return Double.valueOf(valor.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Valor inválido para " + chave + ": " + valor, e);
+        }
+    }
+
+    private static boolean ehMetrica(String metrica) {
+        return switch (metrica) {
+            case "p50", "p90", "p99", "p999", "max", "erros" -> true;
+            default -> false;
+        };
+    }
+
+    /**
+     * Confere os resultados.
+     *
+     * @param passos latências acumuladas por passo
+     * @return violações, uma por linha (vazia se aprovado)
+     */
+    public List<String> verificar(List<LatenciasPasso> passos) {
+        Histogram todos = new Histogram(3);
+        long errosTodos = 0;
+        Map<String, LatenciasPasso> porId = new TreeMap<>();
+        for (LatenciasPasso passo : passos) {
+            todos.add(passo.getTotalCorrigida());
+            errosTodos += passo.getErros();
+            porId.put(passo.getId(), passo);
+        }
+
+        List<String> violacoes = new ArrayList<>();
+        for (Map.Entry<String, Double> limite : valores.entrySet()) {
+            String chave = limite.getKey();
+            int ponto = chave.lastIndexOf('.');
+            String id = chave.substring(0, ponto);
+            String metrica = chave.substring(ponto + 1);
+
+            Histogram histograma;
+            long erros;
+            if (id.equals(TODOS)) {
+                histograma = todos;
+                erros = errosTodos;
+            } else if (porId.containsKey(id)) {
+                histograma = porId.get(id).getTotalCorrigida();
+                erros = porId.get(id).getErros();
+            } else {
+                violacoes.add(chave + ": passo não executado");
+                continue;
+            }
+
+            double medido = metrica.equals("erros")
+                    ? (histograma.getTotalCount() == 0 ? 0 : 100.0 * erros / histograma.getTotalCount())
+                    : medir(histograma, metrica);
+            if (medido > limite.getValue()) {
+                violacoes.add(String.format(Locale.ROOT, "%s: %.2f %s > limite %.2f",
+                        chave, medido, metrica.equals("erros") ? "%" : "ms", limite.getValue()));
+            }
+        }
+        return violacoes;
+    }
+
+    /** Percentil ou máximo, em ms. */
+    static double medir(Histogram histograma, String metrica) {
+        long micros = switch (metrica) {
+            case "p50" -> histograma.getValueAtPercentile(50);
+            case "p90" -> histograma.getValueAtPercentile(90);
+            case "p99" -> histograma.getValueAtPercentile(99);
+            case "p999" -> histograma.getValueAtPercentile(99.9);
+            case "max" -> histograma.getMaxValue();
+            default -> throw new IllegalArgumentException("Métrica inválida: " + metrica);
+        };
+        return micros / 1000.0;
+    }
+
+    public boolean isVazio() {
+        return valores.isEmpty();
+    }
+}
@@ -0,0 +1,112 @@
+package com.restaurantefiap.carga;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Testes unitários para {@link Limites} e {@link LatenciasPasso}.
+ *
+ * @author Danilo de Paula
+ */
+class LimitesTest {
+
+    private static final long MS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    /** 99 requisições de 10 ms e uma de 1 s, todas pontuais. */
+    private static LatenciasPasso passoComCauda(String id, int erros) {
+        LatenciasPasso passo = new LatenciasPasso(id);
+        for (int i = 0; i < 100; i++) {
+            long duracao = i == 0 ? 1000 * MS : 10 * MS;
+            passo.registrar(0, 0, duracao, i < erros);
+        }
+        passo.coletarIntervalo();
+        return passo;
+    }
+
+    // ========================================================================
+    // LATÊNCIAS
+    // ========================================================================
+
+    @Nested
+    @DisplayName("Correção da omissão coordenada")
+    class CorrecaoTests {
+
+        @Test
+        @DisplayName("Latência corrigida deve contar desde o início pretendido; a de serviço, desde o envio")
+        void registrar_quandoInicioAtrasado_deveSepararCorrigidaEServico() {
+            // Arrange
+            LatenciasPasso passo = new LatenciasPasso("me");
+
+            // Act: agendada em 0, enviada em 500 ms (fila atrás de uma sessão travada), respondida em 510 ms
+            passo.registrar(0, 500 * MS, 510 * MS, false);
+            passo.coletarIntervalo();
+
+            // Assert
+            assertEquals(510, Limites.medir(passo.getTotalCorrigida(), "max"), 1);
+            assertEquals(10, Limites.medir(passo.getTotalServico(), "max"), 0.1);
+        }
+
+        @Test
+        @DisplayName("Intervalos coletados devem acumular no total")
+        void coletarIntervalo_deveAcumular() {
+            LatenciasPasso passo = new LatenciasPasso("me");
+            passo.registrar(0, 0, MS, false);
+            assertEquals(1, passo.coletarIntervalo()[0].getTotalCount());
+
+            passo.registrar(0, 0, MS, true);
+            passo.registrar(0, 0, MS, false);
+            assertEquals(2, passo.coletarIntervalo()[0].getTotalCount());
+
+            assertEquals(3, passo.getTotalCorrigida().getTotalCount());
+            assertEquals(1, passo.getErros());
+        }
+    }
+
+    // ========================================================================
+    // LIMITES
+    // ========================================================================
+
+    @Nested
+    @DisplayName("Verificação dos limites")
+    class VerificacaoTests {
+
+        @Test
+        @DisplayName("Deve aprovar quando todos os limites são respeitados")
+        void verificar_quandoDentroDosLimites_deveAprovar() {
+            Limites limites = Limites.de(Map.of("me.p90", "11", "todos.max", "1100", "todos.erros", "0"));
+
+            assertTrue(limites.verificar(List.of(passoComCauda("me", 0))).isEmpty());
+        }
+
+        @Test
+        @DisplayName("Deve reprovar percentil, erros e passo não executado")
+        void verificar_quandoForaDosLimites_deveListarViolacoes() {
+            Limites limites = Limites.de(Map.of(
+                    "me.p99", "11", "me.p999", "500", "todos.erros", "1", "login.p50", "10"));
+
+            List<String> violacoes = limites.verificar(List.of(passoComCauda("me", 2)));
+
+            assertEquals(3, violacoes.size(), violacoes.toString());
+            assertTrue(violacoes.stream().anyMatch(v -> v.startsWith("me.p999")));
+            assertTrue(violacoes.stream().anyMatch(v -> v.startsWith("todos.erros: 2.00 %")));
+            assertTrue(violacoes.stream().anyMatch(v -> v.equals("login.p50: passo não executado")));
+        }
+
+        @Test
+        @DisplayName("Deve rejeitar métrica ou valor inválido")
+        void de_quandoChaveInvalida_deveLancarExcecao() {
+            assertThrows(IllegalArgumentException.class, () -> Limites.de(Map.of("me.p95", "10")));
+            assertThrows(IllegalArgumentException.class, () -> Limites.de(Map.of("p99", "10")));
+            assertThrows(IllegalArgumentException.class, () -> Limites.de(Map.of("me.p99", "dez")));
+        }
+    }
+}
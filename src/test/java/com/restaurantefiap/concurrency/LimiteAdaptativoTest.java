@@ -0,0 +1,260 @@
+package com.restaurantefiap.concurrency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.restaurantefiap.enums.ParticaoConcorrencia;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Testes unitários para {@link LimiteAdaptativo} e {@link FiltroLimiteConcorrencia}.
+ * <p>Valida a recusa acima do limite, o ajuste AIMD pela latência, a convergência sob
+ * sobrecarga simulada (goodput preservado) e o 503 com {@code Retry-After} do filtro.</p>
+ *
+ * @author Danilo de Paula
+ */
+class LimiteAdaptativoTest {
+
+    private static final long BASE_NS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private static LimiteAdaptativo limite(int inicial, int minimo, int maximo) {
+        return new LimiteAdaptativo(inicial, minimo, maximo, 2.0, 0.9, 100, 0, 60_000);
+    }
+
+    // ========================================================================
+    // LIMITE
+    // ========================================================================
+
+    @Nested
+    @DisplayName("Ajuste do limite")
+    class AjusteTests {
+
+        @Test
+        @DisplayName("Deve recusar acima do limite e aceitar após liberar")
+        void tentarAdquirir_quandoNoLimite_deveRecusar() {
+            LimiteAdaptativo limite = limite(2, 1, 10);
+
+            LimiteAdaptativo.Permissao primeira = limite.tentarAdquirir();
+            assertNotNull(limite.tentarAdquirir());
+            assertNull(limite.tentarAdquirir());
+
+            primeira.liberar(BASE_NS, false);
+            primeira.liberar(BASE_NS, false);
+
+            assertEquals(1, limite.getEmUso());
+            assertNotNull(limite.tentarAdquirir());
+            assertEquals(1, limite.getRejeicoes());
+        }
+
+        @Test
+        @DisplayName("Deve reduzir quando a latência passa da tolerância")
+        void liberar_quandoLatenciaAlta_deveReduzir() {
+            LimiteAdaptativo limite = limite(20, 1, 100);
+            limite.tentarAdquirir().liberar(BASE_NS, false);
+
+            limite.tentarAdquirir().liberar(BASE_NS * 5, false);
+
+            assertEquals(18, limite.getLimite());
+            assertEquals(1, limite.getReducoes());
+        }
+
+        @Test
+        @DisplayName("Deve reduzir uma única vez por volta de requisições lentas")
+        void liberar_quandoVariasLentasDaMesmaVolta_deveReduzirUmaVez() {
+            LimiteAdaptativo limite = limite(20, 1, 100);
+            limite.tentarAdquirir().liberar(BASE_NS, false);
+            List<LimiteAdaptativo.Permissao> volta = new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                volta.add(limite.tentarAdquirir());
+            }
+
+            volta.forEach(p -> p.liberar(BASE_NS * 5, false));
+
+            assertEquals(18, limite.getLimite());
+            assertEquals(1, limite.getReducoes());
+        }
+
+        @Test
+        @DisplayName("Deve reduzir quando a resposta sinaliza sobrecarga, sem passar do mínimo")
+        void liberar_quandoSobrecarga_deveRespeitarMinimo() {
+            LimiteAdaptativo limite = limite(10, 8, 100);
+
+            for (int i = 0; i < 10; i++) {
+                limite.tentarAdquirir().liberar(BASE_NS, true);
+            }
+
+            assertEquals(8, limite.getLimite());
+        }
+
+        @Test
+        @DisplayName("Deve crescer com latência estável e uso alto")
+        void liberar_quandoLatenciaEstavel_deveCrescer() {
+            LimiteAdaptativo limite = limite(10, 1, 100);
+            Deque<LimiteAdaptativo.Permissao> emAndamento = new ArrayDeque<>();
+            for (LimiteAdaptativo.Permissao p; (p = limite.tentarAdquirir()) != null; ) {
+                emAndamento.add(p);
+            }
+
+            for (int i = 0; i < 100; i++) {
+                emAndamento.poll().liberar(BASE_NS, false);
+                for (LimiteAdaptativo.Permissao p; (p = limite.tentarAdquirir()) != null; ) {
+                    emAndamento.add(p);
+                }
+            }
+
+            assertTrue(limite.getLimite() >= 15, "limite: " + limite.getLimite());
+        }
+    }
+
+    // ========================================================================
+    // SOBRECARGA SIMULADA
+    // ========================================================================
+
+    @Nested
+    @DisplayName("Sobrecarga simulada")
+    class SobrecargaTests {
+
+        private static final int CAPACIDADE = 20;
+        private static final int CLIENTES = 200;
+        private static final long SLO_NS = BASE_NS * 3;
+
+        /**
+         * Servidor com capacidade 20: acima disso a latência cresce com a fila
+         * ({@code base × ⌈admitidas / capacidade⌉}). 200 clientes sempre prontos
+         * (demanda 10× a capacidade); "goodput" é a resposta dentro de 3× a latência base.
+         * Sem limite, todas as 200 seriam admitidas com latência 10× — nenhuma dentro do SLO.
+         * O teto de latência é o próprio SLO: com clientes sempre prontos não há amostra
+         * "sem fila" e só o teto segura a deriva da referência.
+         *
+         * @return fração das respostas dentro do SLO após o aquecimento
+         */
+        private double simular(LimiteAdaptativo limite) {
+            long dentroDoSlo = 0;
+            long atendidas = 0;
+            for (int rodada = 0; rodada < 500; rodada++) {
+                List<LimiteAdaptativo.Permissao> admitidas = new ArrayList<>();
+                for (int i = 0; i < CLIENTES; i++) {
+                    LimiteAdaptativo.Permissao p = limite.tentarAdquirir();
+                    if (p != null) {
+                        admitidas.add(p);
+                    }
+                }
+                long latencia = BASE_NS * Math.max(1, (admitidas.size() + CAPACIDADE - 1) / CAPACIDADE);
+                admitidas.forEach(p -> p.liberar(latencia, false));
+                if (rodada >= 100) {
+                    atendidas += admitidas.size();
+                    dentroDoSlo += latencia <= SLO_NS ? admitidas.size() : 0;
+                }
+            }
+            return (double) dentroDoSlo / atendidas;
+        }
+
+        @Test
+        @DisplayName("Deve convergir perto da capacidade partindo de um limite baixo")
+        void simular_quandoPartindoAbaixoDaCapacidade_deveConvergir() {
+            LimiteAdaptativo limite = new LimiteAdaptativo(10, 5, 1000, 2.0, 0.9, 100, 0,
+                    TimeUnit.NANOSECONDS.toMillis(SLO_NS));
+
+            double goodput = simular(limite);
+
+            assertTrue(limite.getLimite() >= CAPACIDADE && limite.getLimite() <= CAPACIDADE * 3 + 1,
+                    "limite: " + limite.getLimite());
+            assertTrue(goodput >= 0.9, "goodput: " + goodput);
+            assertTrue(limite.getRejeicoes() > 0);
+        }
+
+        @Test
+        @DisplayName("Deve respeitar o teto de latência partindo já sobrecarregado")
+        void simular_quandoPartindoSobrecarregado_deveRespeitarTeto() {
+            LimiteAdaptativo limite = new LimiteAdaptativo(150, 5, 1000, 2.0, 0.9, 100, 0,
+                    TimeUnit.NANOSECONDS.toMillis(SLO_NS));
+
+            double goodput = simular(limite);
+
+            assertTrue(limite.getLimite() >= CAPACIDADE && limite.getLimite() <= CAPACIDADE * 3 + 1,
+                    "limite: " + limite.getLimite());
+            assertTrue(goodput >= 0.9, "goodput: " + goodput);
+        }
+    }
+
+    // ========================================================================
+    // FILTRO
+    // ========================================================================
+
+    @Nested
+    @DisplayName("Filtro de limite de concorrência")
+    class FiltroTests {
+
+        private FiltroLimiteConcorrencia filtro(LimiteAdaptativo leitura, LimiteAdaptativo auth) {
+            return new FiltroLimiteConcorrencia(Map.of(
+                    ParticaoConcorrencia.AUTH, auth,
+                    ParticaoConcorrencia.LEITURA, leitura,
+                    ParticaoConcorrencia.ESCRITA, limite(10, 1, 10)),
+                    new ObjectMapper().findAndRegisterModules(), 2);
+        }
+
+        @Test
+        @DisplayName("Deve responder 503 com Retry-After quando a partição está cheia")
+        void doFilter_quandoParticaoCheia_deveRetornar503() throws Exception {
+            // Arrange
+            LimiteAdaptativo leitura = limite(1, 1, 1);
+            assertNotNull(leitura.tentarAdquirir());
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            MockFilterChain chain = new MockFilterChain();
+
+            // Act
+            filtro(leitura, limite(1, 1, 1)).doFilter(new MockHttpServletRequest("GET", "/v1/usuarios/1"), response, chain);
+
+            // Assert
+            assertEquals(503, response.getStatus());
+            assertEquals("2", response.getHeader("Retry-After"));
+            assertTrue(response.getContentAsString().contains("service-unavailable"));
+            assertNull(chain.getRequest());
+        }
+
+        @Test
+        @DisplayName("Deve isolar as partições: leitura cheia não bloqueia login")
+        void doFilter_quandoOutraParticaoCheia_deveSeguir() throws Exception {
+            LimiteAdaptativo leitura = limite(1, 1, 1);
+            assertNotNull(leitura.tentarAdquirir());
+            LimiteAdaptativo auth = limite(1, 1, 1);
+            MockFilterChain chain = new MockFilterChain();
+
+            filtro(leitura, auth).doFilter(new MockHttpServletRequest("POST", "/v1/auth/login"),
+                    new MockHttpServletResponse(), chain);
+
+            assertNotNull(chain.getRequest());
+            assertEquals(1, auth.getAceitas());
+            assertEquals(0, auth.getEmUso());
+        }
+
+        @Test
+        @DisplayName("Não deve limitar a documentação")
+        void doFilter_quandoSwagger_naoDeveLimitar() throws Exception {
+            LimiteAdaptativo leitura = limite(1, 1, 1);
+            assertNotNull(leitura.tentarAdquirir());
+            MockFilterChain chain = new MockFilterChain();
+
+            filtro(leitura, limite(1, 1, 1)).doFilter(new MockHttpServletRequest("GET", "/swagger-ui/index.html"),
+                    new MockHttpServletResponse(), chain);
+
+            assertNotNull(chain.getRequest());
+        }
+    }
+}
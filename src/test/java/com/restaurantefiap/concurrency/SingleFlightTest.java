@@ -0,0 +1,226 @@
+package com.restaurantefiap.concurrency;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para {@link SingleFlight}.
+ * <p>Valida coalescência de chamadas concorrentes, propagação de falhas,
+ * timeout de espera e liberação da chave ao final da chamada.</p>
+ *
+ * @author Danilo de Paula
+ */
+class SingleFlightTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(16);
+
+    @AfterEach
+    void encerrar() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Dispara {@code quantidade} chamadas para a mesma chave enquanto o líder está bloqueado.
+     * Retorna após todas as seguidoras estarem aguardando.
+     */
+    private List<Future<String>> dispararConcorrentes(SingleFlight<Long, String> flight, int quantidade,
+                                                       CountDownLatch liberarLider, AtomicInteger execucoes,
+                                                       RuntimeException falha) throws Exception {
+        CountDownLatch liderIniciou = new CountDownLatch(1);
+        List<Future<String>> chamadas = new ArrayList<>();
+
+        chamadas.add(executor.submit(() -> flight.executar(1L, () -> {
+            execucoes.incrementAndGet();
+            liderIniciou.countDown();
+            aguardar(liberarLider);
+            if (falha != null) {
+                throw falha;
+            }
+            return "usuario-1";
+        })));
+        assertTrue(liderIniciou.await(5, TimeUnit.SECONDS));
+
+        for (int i = 1; i < quantidade; i++) {
+            chamadas.add(executor.submit(() -> flight.executar(1L, () -> {
+                execucoes.incrementAndGet();
+                return "nao-deveria-executar";
+            })));
+        }
+        long limite = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (flight.getCoalescidas() < quantidade - 1 && System.nanoTime() < limite) {
+            Thread.onSpinWait();
+        }
+        return chamadas;
+    }
+
+    private static void aguardar(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Nested
+    @DisplayName("Coalescência")
+    class CoalescenciaTests {
+
+        @Test
+        @DisplayName("Deve executar uma única consulta para chamadas concorrentes da mesma chave")
+        void executar_quandoConcorrente_deveCompartilharResultado() throws Exception {
+            // Arrange
+            SingleFlight<Long, String> flight = new SingleFlight<>("teste", Duration.ofSeconds(5));
+            AtomicInteger execucoes = new AtomicInteger();
+            CountDownLatch liberar = new CountDownLatch(1);
+
+            // Act
+            List<Future<String>> chamadas = dispararConcorrentes(flight, 10, liberar, execucoes, null);
+            liberar.countDown();
+
+            // Assert
+            for (Future<String> chamada : chamadas) {
+                assertEquals("usuario-1", chamada.get(5, TimeUnit.SECONDS));
+            }
+            assertEquals(1, execucoes.get());
+            assertEquals(1, flight.getExecutadas());
+            assertEquals(9, flight.getCoalescidas());
+            assertEquals(0, flight.getEmVoo());
+        }
+
+        @Test
+        @DisplayName("Deve executar novamente após a chamada anterior terminar (sem cache)")
+        void executar_quandoSequencial_naoDeveReaproveitarResultado() {
+            SingleFlight<Long, String> flight = new SingleFlight<>("teste", Duration.ofSeconds(1));
+            AtomicInteger execucoes = new AtomicInteger();
+
+            flight.executar(1L, () -> "v" + execucoes.incrementAndGet());
+            String segundo = flight.executar(1L, () -> "v" + execucoes.incrementAndGet());
+
+            assertEquals("v2", segundo);
+            assertEquals(0, flight.getCoalescidas());
+        }
+
+        @Test
+        @DisplayName("Não deve coalescer chaves diferentes")
+        void executar_quandoChavesDiferentes_deveExecutarCadaUma() {
+            SingleFlight<Long, String> flight = new SingleFlight<>("teste", Duration.ofSeconds(1));
+
+            assertEquals("1", flight.executar(1L, () -> "1"));
+            assertEquals("2", flight.executar(2L, () -> "2"));
+            assertEquals(2, flight.getExecutadas());
+        }
+
+        @Test
+        @DisplayName("Deve reduzir as consultas sob rajada de leituras do mesmo usuário")
+        void executar_quandoRajada_deveReduzirConsultas() throws Exception {
+            // Arrange — consulta de 20 ms, 16 threads x 25 leituras do mesmo ID
+            SingleFlight<Long, String> flight = new SingleFlight<>("teste", Duration.ofSeconds(5));
+            AtomicInteger consultas = new AtomicInteger();
+            int threads = 16;
+            int leiturasPorThread = 25;
+            CountDownLatch largada = new CountDownLatch(1);
+            List<Future<?>> tarefas = new ArrayList<>();
+
+            // Act
+            for (int t = 0; t < threads; t++) {
+                tarefas.add(executor.submit(() -> {
+                    aguardar(largada);
+                    for (int i = 0; i < leiturasPorThread; i++) {
+                        flight.executar(1L, () -> {
+                            consultas.incrementAndGet();
+                            try {
+                                Thread.sleep(20);
+                            } catch (InterruptedException e) {
+                                Thread.currentThread().interrupt();
+                            }
+                            return "usuario-1";
+                        });
+                    }
+                }));
+            }
+            largada.countDown();
+            for (Future<?> tarefa : tarefas) {
+                tarefa.get(30, TimeUnit.SECONDS);
+            }
+
+            // Assert
+            int leituras = threads * leiturasPorThread;
+            assertEquals(leituras, flight.getExecutadas() + flight.getCoalescidas());
+            assertEquals(consultas.get(), flight.getExecutadas());
+            assertTrue(consultas.get() < leituras / 2,
+                    "Esperava no máximo metade das consultas; executadas: " + consultas.get());
+        }
+    }
+
+    @Nested
+    @DisplayName("Falhas e timeout")
+    class FalhasTests {
+
+        @Test
+        @DisplayName("Deve propagar a falha do líder para todos que aguardavam")
+        void executar_quandoLiderFalha_devePropagarParaTodos() throws Exception {
+            // Arrange
+            SingleFlight<Long, String> flight = new SingleFlight<>("teste", Duration.ofSeconds(5));
+            AtomicInteger execucoes = new AtomicInteger();
+            CountDownLatch liberar = new CountDownLatch(1);
+            IllegalStateException falha = new IllegalStateException("banco indisponível");
+
+            // Act
+            List<Future<String>> chamadas = dispararConcorrentes(flight, 5, liberar, execucoes, falha);
+            liberar.countDown();
+
+            // Assert
+            for (Future<String> chamada : chamadas) {
+                var erro = assertThrows(java.util.concurrent.ExecutionException.class,
+                        () -> chamada.get(5, TimeUnit.SECONDS));
+                assertSame(falha, erro.getCause());
+            }
+            assertEquals(1, execucoes.get());
+            assertEquals(1, flight.getFalhas());
+            assertEquals(0, flight.getEmVoo());
+        }
+
+        @Test
+        @DisplayName("Deve lançar QueryTimeoutException para quem aguarda além do timeout")
+        void executar_quandoEsperaExcedeTimeout_deveLancarTimeout() throws Exception {
+            // Arrange
+            SingleFlight<Long, String> flight = new SingleFlight<>("teste", Duration.ofMillis(50));
+            AtomicInteger execucoes = new AtomicInteger();
+            CountDownLatch liberar = new CountDownLatch(1);
+
+            // Act
+            List<Future<String>> chamadas = dispararConcorrentes(flight, 3, liberar, execucoes, null);
+            for (Future<String> seguidora : chamadas.subList(1, chamadas.size())) {
+                var erro = assertThrows(java.util.concurrent.ExecutionException.class,
+                        () -> seguidora.get(5, TimeUnit.SECONDS));
+                assertInstanceOf(QueryTimeoutException.class, erro.getCause());
+            }
+            liberar.countDown();
+
+            // Assert — o líder não é afetado pelo timeout das seguidoras
+            assertEquals("usuario-1", chamadas.get(0).get(5, TimeUnit.SECONDS));
+            assertEquals(2, flight.getTimeouts());
+        }
+
+        @Test
+        @DisplayName("Deve rejeitar timeout não positivo")
+        void construtor_quandoTimeoutInvalido_deveLancarExcecao() {
+            assertThrows(IllegalArgumentException.class, () -> new SingleFlight<>("teste", Duration.ZERO));
+        }
+    }
+}
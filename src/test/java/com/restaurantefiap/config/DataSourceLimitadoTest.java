@@ -0,0 +1,105 @@
+package com.restaurantefiap.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para {@link DataSourceLimitado}.
+ * <p>Valida o limite de conexões emprestadas, a devolução da permissão no
+ * {@code close()} e a falha rápida quando a espera excede o limite.</p>
+ *
+ * @author Danilo de Paula
+ */
+@ExtendWith(MockitoExtension.class)
+class DataSourceLimitadoTest {
+
+    @Mock
+    private DataSource alvo;
+
+    @Mock
+    private Connection conexao;
+
+    private DataSourceLimitado dataSource;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new DataSourceLimitado(alvo, 2, 50);
+    }
+
+    @Nested
+    @DisplayName("Limite de conexões")
+    class LimiteTests {
+
+        @Test
+        @DisplayName("Deve rejeitar quando todas as permissões estão em uso")
+        void getConnection_quandoLimiteAtingido_deveFalharRapido() throws SQLException {
+            // Arrange
+            when(alvo.getConnection()).thenReturn(conexao);
+            dataSource.getConnection();
+            dataSource.getConnection();
+
+            // Act & Assert
+            assertThrows(SQLTransientConnectionException.class, () -> dataSource.getConnection());
+            assertEquals(2, dataSource.getEmUso());
+            assertEquals(1, dataSource.getRejeicoes());
+            verify(alvo, times(2)).getConnection();
+        }
+
+        @Test
+        @DisplayName("Deve devolver a permissão uma única vez no close")
+        void close_quandoChamadoDuasVezes_deveLiberarUmaVez() throws SQLException {
+            // Arrange
+            when(alvo.getConnection()).thenReturn(conexao);
+            Connection primeira = dataSource.getConnection();
+            dataSource.getConnection();
+
+            // Act
+            primeira.close();
+            primeira.close();
+
+            // Assert
+            assertEquals(1, dataSource.getEmUso());
+            verify(conexao, times(2)).close();
+            assertNotNull(dataSource.getConnection());
+            assertThrows(SQLTransientConnectionException.class, () -> dataSource.getConnection());
+        }
+
+        @Test
+        @DisplayName("Deve devolver a permissão quando o pool falha")
+        void getConnection_quandoPoolFalha_deveLiberarPermissao() throws SQLException {
+            // Arrange
+            when(alvo.getConnection()).thenThrow(new SQLException("pool indisponível"));
+
+            // Act & Assert
+            assertThrows(SQLException.class, () -> dataSource.getConnection());
+            assertEquals(0, dataSource.getEmUso());
+        }
+
+        @Test
+        @DisplayName("Deve repassar as chamadas para a conexão real")
+        void conexao_quandoUsada_deveDelegar() throws SQLException {
+            // Arrange
+            when(alvo.getConnection()).thenReturn(conexao);
+            when(conexao.getAutoCommit()).thenReturn(true);
+
+            // Act
+            Connection emprestada = dataSource.getConnection();
+
+            // Assert
+            assertTrue(emprestada.getAutoCommit());
+        }
+    }
+}
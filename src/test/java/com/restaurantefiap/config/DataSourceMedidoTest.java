@@ -0,0 +1,99 @@
+package com.restaurantefiap.config;
+
+import com.restaurantefiap.dto.response.EstatisticaSqlDTO;
+import com.restaurantefiap.observability.EstatisticasSql;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para {@link DataSourceMedido}.
+ * <p>Valida que as execuções são medidas por comando, que erros são contados e que as
+ * demais chamadas chegam ao driver sem alteração.</p>
+ *
+ * @author Danilo de Paula
+ */
+@ExtendWith(MockitoExtension.class)
+class DataSourceMedidoTest {
+
+    @Mock
+    private DataSource alvo;
+
+    @Mock
+    private Connection conexao;
+
+    @Mock
+    private PreparedStatement preparedStatement;
+
+    @Mock
+    private Statement statement;
+
+    private EstatisticasSql estatisticas;
+    private DataSourceMedido dataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        estatisticas = new EstatisticasSql(1_000, 100);
+        dataSource = new DataSourceMedido(alvo, estatisticas);
+        when(alvo.getConnection()).thenReturn(conexao);
+    }
+
+    @Test
+    @DisplayName("Deve medir execuções do PreparedStatement pelo SQL preparado")
+    void prepareStatement_quandoExecutado_deveRegistrarNoComando() throws SQLException {
+        // Arrange
+        String sql = "select * from usuarios where id = ?";
+        when(conexao.prepareStatement(sql)).thenReturn(preparedStatement);
+        when(preparedStatement.executeQuery()).thenReturn(null);
+
+        // Act
+        try (Connection c = dataSource.getConnection()) {
+            PreparedStatement ps = c.prepareStatement(sql);
+            ps.setLong(1, 10L);
+            ps.executeQuery();
+            ps.executeQuery();
+        }
+
+        // Assert
+        List<EstatisticaSqlDTO> top = estatisticas.top(5);
+        assertEquals(1, top.size());
+        assertEquals(sql, top.get(0).comando());
+        assertEquals(2, top.get(0).execucoes());
+        verify(preparedStatement).setLong(1, 10L);
+        verify(conexao).close();
+    }
+
+    @Test
+    @DisplayName("Deve contar erro e repassar a exceção original do driver")
+    void execute_quandoDriverFalha_deveContarErroERelancar() throws SQLException {
+        // Arrange
+        when(conexao.createStatement()).thenReturn(statement);
+        SQLException falha = new SQLException("tabela inexistente");
+        when(statement.execute("delete from inexistente where id = 1")).thenThrow(falha);
+
+        // Act
+        Connection c = dataSource.getConnection();
+        Statement s = c.createStatement();
+        SQLException lancada = assertThrows(SQLException.class, () -> s.execute("delete from inexistente where id = 1"));
+
+        // Assert
+        assertSame(falha, lancada);
+        EstatisticaSqlDTO estatistica = estatisticas.top(1).get(0);
+        assertEquals("delete from inexistente where id = ?", estatistica.comando());
+        assertEquals(1, estatistica.erros());
+    }
+}
@@ -0,0 +1,140 @@
+package com.restaurantefiap.controller;
+
+import com.restaurantefiap.enums.CampoUsuario;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Testes unitários para {@link Etags}.
+ * <p>Valida a leitura de {@code If-Match}, a comparação fraca de {@code If-None-Match}
+ * e o ETag de páginas.</p>
+ *
+ * @author Danilo de Paula
+ */
+class EtagsTest {
+
+    private record Item(Long id, Long versao) {
+    }
+
+    private static String etagPagina(List<Item> itens, long total) {
+        return Etags.dePagina(new PageImpl<>(itens, PageRequest.of(0, 2), total), Item::id, Item::versao);
+    }
+
+    @Nested
+    @DisplayName("If-Match")
+    class IfMatchTests {
+
+        @Test
+        @DisplayName("Deve montar o ETag com ID e versão")
+        void deVersao_deveIncluirId() {
+            assertEquals("\"42-3\"", Etags.deVersao(42L, 3L));
+            assertNull(Etags.deVersao(42L, null));
+        }
+
+        @Test
+        @DisplayName("Deve montar ETag próprio por conjunto de campos, independente da ordem")
+        void deVersao_quandoCampos_deveDiferirDaCompleta() {
+            String nomeEmail = Etags.deVersao(42L, 3L, EnumSet.of(CampoUsuario.NOME, CampoUsuario.EMAIL));
+
+            assertEquals(nomeEmail, Etags.deVersao(42L, 3L, EnumSet.of(CampoUsuario.EMAIL, CampoUsuario.NOME)));
+            assertNotEquals(Etags.deVersao(42L, 3L), nomeEmail);
+            assertNotEquals(Etags.deVersao(42L, 3L, EnumSet.of(CampoUsuario.NOME)), nomeEmail);
+            assertEquals(Etags.VERSAO_INVALIDA, Etags.versaoEsperada(42L, nomeEmail));
+        }
+
+        @Test
+        @DisplayName("Deve extrair a versão de ETag forte e rejeitar ETag fraco")
+        void versaoEsperada_deveTratarFormatos() {
+            assertEquals(3L, Etags.versaoEsperada(42L, "\"42-3\""));
+            assertNull(Etags.versaoEsperada(42L, "*"));
+            assertNull(Etags.versaoEsperada(42L, null));
+            assertEquals(Etags.VERSAO_INVALIDA, Etags.versaoEsperada(42L, "W/\"42-3\""));
+            assertEquals(Etags.VERSAO_INVALIDA, Etags.versaoEsperada(42L, "\"42-abc\""));
+            assertEquals(Etags.VERSAO_INVALIDA, Etags.versaoEsperada(42L, "\"3\""));
+        }
+
+        @Test
+        @DisplayName("Deve rejeitar ETag de outro registro")
+        void versaoEsperada_quandoOutroId_deveSerInvalida() {
+            assertEquals(Etags.VERSAO_INVALIDA, Etags.versaoEsperada(42L, "\"7-3\""));
+            assertEquals(Etags.VERSAO_INVALIDA, Etags.versaoEsperada(2L, "\"42-3\""));
+        }
+    }
+
+    @Nested
+    @DisplayName("If-None-Match")
+    class IfNoneMatchTests {
+
+        @Test
+        @DisplayName("Deve casar ETag forte, fraco, lista e curinga")
+        void corresponde_quandoCasa_deveRetornarTrue() {
+            assertTrue(Etags.corresponde("\"3\"", "\"3\""));
+            assertTrue(Etags.corresponde("W/\"3\"", "\"3\""));
+            assertTrue(Etags.corresponde("\"1\", \"3\"", "\"3\""));
+            assertTrue(Etags.corresponde("*", "\"3\""));
+        }
+
+        @Test
+        @DisplayName("Não deve casar versão diferente ou recurso inexistente")
+        void corresponde_quandoNaoCasa_deveRetornarFalse() {
+            assertFalse(Etags.corresponde("\"2\"", "\"3\""));
+            assertFalse(Etags.corresponde("\"3\"", null));
+            assertFalse(Etags.corresponde(null, "\"3\""));
+            assertFalse(Etags.corresponde("3", "\"3\""));
+        }
+
+        @Test
+        @DisplayName("Não deve casar outro registro na mesma versão")
+        void corresponde_quandoOutroIdMesmaVersao_deveRetornarFalse() {
+            assertFalse(Etags.corresponde(Etags.deVersao(7L, 0L), Etags.deVersao(8L, 0L)));
+        }
+    }
+
+    @Nested
+    @DisplayName("ETag de página")
+    class PaginaTests {
+
+        @Test
+        @DisplayName("Deve ser estável para o mesmo conteúdo")
+        void dePagina_quandoMesmoConteudo_deveSerIgual() {
+            List<Item> itens = List.of(new Item(1L, 0L), new Item(2L, 4L));
+
+            assertEquals(etagPagina(itens, 2), etagPagina(List.copyOf(itens), 2));
+        }
+
+        @Test
+        @DisplayName("Deve mudar com versão, total ou ordem diferentes")
+        void dePagina_quandoConteudoMuda_deveMudar() {
+            String original = etagPagina(List.of(new Item(1L, 0L), new Item(2L, 4L)), 2);
+
+            assertNotEquals(original, etagPagina(List.of(new Item(1L, 0L), new Item(2L, 5L)), 2));
+            assertNotEquals(original, etagPagina(List.of(new Item(1L, 0L), new Item(2L, 4L)), 3));
+            assertNotEquals(original, etagPagina(List.of(new Item(2L, 4L), new Item(1L, 0L)), 2));
+        }
+
+        @Test
+        @DisplayName("Deve mudar com o conjunto de campos da página parcial")
+        void dePagina_quandoCampos_deveMudar() {
+            var pagina = new PageImpl<>(List.of(new Item(1L, 0L)), PageRequest.of(0, 2), 1);
+
+            String completa = Etags.dePagina(pagina, Item::id, Item::versao);
+            String parcial = Etags.dePagina(pagina, Item::id, Item::versao, EnumSet.of(CampoUsuario.NOME));
+
+            assertNotEquals(completa, parcial);
+            assertNotEquals(parcial, Etags.dePagina(pagina, Item::id, Item::versao, EnumSet.of(CampoUsuario.ID)));
+        }
+    }
+}
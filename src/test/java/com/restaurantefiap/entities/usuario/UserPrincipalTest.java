@@ -67,16 +67,38 @@ class UserPrincipalTest {
         }
 
         /**
-         * Verifica que getUsuario retorna a entidade encapsulada.
+         * Verifica que getUsuario retorna o retrato com os dados da entidade.
          */
         @Test
-        @DisplayName("Deve retornar entidade Usuario encapsulada")
-        void getUsuario_quandoChamado_deveRetornarEntidadeEncapsulada() {
+        @DisplayName("Deve retornar retrato com os dados do Usuario")
+        void getUsuario_quandoChamado_deveRetornarRetratoDaEntidade() {
             // Act
-            Usuario usuarioRetornado = userPrincipal.getUsuario();
+            RetratoUsuario retrato = userPrincipal.getUsuario();
 
             // Assert
-            assertSame(usuario, usuarioRetornado);
+            assertEquals(usuario.getId(), retrato.id());
+            assertEquals(usuario.getLogin(), retrato.login());
+            assertEquals(usuario.getEmail(), retrato.dados().email());
+            assertEquals(usuario.getRole(), retrato.role());
+        }
+
+        /**
+         * Verifica que alterações na entidade depois da leitura não chegam ao principal.
+         */
+        @Test
+        @DisplayName("Não deve refletir alterações posteriores da entidade")
+        void getUsuario_quandoEntidadeAlterada_deveManterRetrato() {
+            // Act
+            usuario.setRole(Role.MASTER);
+            usuario.setNome("Outro Nome");
+            usuario.setPassword("outroHash");
+
+            // Assert
+            assertEquals(Role.CLIENTE, userPrincipal.getUsuario().role());
+            assertEquals("João Silva", userPrincipal.getUsuario().dados().nome());
+            assertEquals("hashedPassword", userPrincipal.getPassword());
+            assertTrue(userPrincipal.getAuthorities().stream()
+                    .anyMatch(a -> a.getAuthority().equals("ROLE_CLIENTE")));
         }
     }
 
@@ -0,0 +1,73 @@
+package com.restaurantefiap.enums;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.restaurantefiap.dto.response.UsuarioResponseDTO;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Testes unitários para {@link CampoUsuario}.
+ * <p>Valida que a lista branca de {@code fields=} acompanha {@link UsuarioResponseDTO}
+ * e a leitura do parâmetro.</p>
+ *
+ * @author Danilo de Paula
+ */
+class CampoUsuarioTest {
+
+    @Nested
+    @DisplayName("Lista branca")
+    class ListaBrancaTests {
+
+        @Test
+        @DisplayName("Deve ter exatamente os campos visíveis de UsuarioResponseDTO, na mesma ordem")
+        void values_deveCorresponderAoDto() {
+            List<String> visiveis = Arrays.stream(UsuarioResponseDTO.class.getRecordComponents())
+                    .filter(componente -> !componente.getAccessor().isAnnotationPresent(JsonIgnore.class))
+                    .map(componente -> componente.getName())
+                    .toList();
+
+            List<String> campos = Arrays.stream(CampoUsuario.values()).map(CampoUsuario::getNome).toList();
+
+            assertEquals(visiveis, campos);
+        }
+    }
+
+    @Nested
+    @DisplayName("Leitura do parâmetro fields")
+    class DeParametroTests {
+
+        @Test
+        @DisplayName("Deve aceitar lista com espaços, maiúsculas e repetições")
+        void deParametro_quandoValido_deveRetornarCampos() {
+            Set<CampoUsuario> campos = CampoUsuario.deParametro(" nome ,ID,role,nome,");
+
+            assertEquals(Set.of(CampoUsuario.ID, CampoUsuario.NOME, CampoUsuario.ROLE), campos);
+        }
+
+        @Test
+        @DisplayName("Deve rejeitar campo fora da lista branca")
+        void deParametro_quandoCampoInvalido_deveLancarExcecao() {
+            IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+                    () -> CampoUsuario.deParametro("id,password"));
+
+            assertTrue(ex.getMessage().contains("password"));
+        }
+
+        @Test
+        @DisplayName("Deve rejeitar parâmetro vazio")
+        void deParametro_quandoVazio_deveLancarExcecao() {
+            assertThrows(IllegalArgumentException.class, () -> CampoUsuario.deParametro(" , "));
+            assertThrows(IllegalArgumentException.class, () -> CampoUsuario.deParametro(""));
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.restaurantefiap.enums;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Testes unitários para {@link ParticaoConcorrencia}.
+ * <p>Valida a classificação das requisições pelas partições do limite de concorrência.</p>
+ *
+ * @author Danilo de Paula
+ */
+class ParticaoConcorrenciaTest {
+
+    private static ParticaoConcorrencia de(String metodo, String uri) {
+        return ParticaoConcorrencia.de(new MockHttpServletRequest(metodo, uri));
+    }
+
+    @Test
+    @DisplayName("Login deve ir para AUTH, qualquer que seja o método")
+    void de_quandoAuth_deveRetornarAuth() {
+        assertEquals(ParticaoConcorrencia.AUTH, de("POST", "/v1/auth/login"));
+    }
+
+    @Test
+    @DisplayName("GET deve ir para LEITURA e POST, PUT e DELETE para ESCRITA")
+    void de_quandoMetodo_deveClassificarPorMetodo() {
+        assertEquals(ParticaoConcorrencia.LEITURA, de("GET", "/v1/usuarios/1"));
+        assertEquals(ParticaoConcorrencia.ESCRITA, de("POST", "/v1/usuarios"));
+        assertEquals(ParticaoConcorrencia.ESCRITA, de("PUT", "/v1/usuarios/1"));
+        assertEquals(ParticaoConcorrencia.ESCRITA, de("DELETE", "/v1/usuarios/1"));
+    }
+
+    @Test
+    @DisplayName("Busca em lote via POST deve ir para LEITURA")
+    void de_quandoBuscaLote_deveRetornarLeitura() {
+        assertEquals(ParticaoConcorrencia.LEITURA, de("POST", "/v1/usuarios/lote"));
+        assertEquals(ParticaoConcorrencia.ESCRITA, de("POST", "/v1/usuarios/lote/outro"));
+    }
+}
@@ -1,8 +1,12 @@
 package com.restaurantefiap.exception;
 
+import com.restaurantefiap.enums.TipoProblema;
+import com.restaurantefiap.observability.FiltroCorrelacao;
+
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.MalformedJwtException;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -10,6 +14,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.slf4j.MDC;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ProblemDetail;
@@ -433,6 +438,25 @@ class GlobalExceptionHandlerTest {
             assertFalse(response.getBody().getDetail().contains("NullPointerException"));
             assertFalse(response.getBody().getDetail().contains("sensíveis"));
         }
+
+        @Test
+        @DisplayName("Deve informar o id de correlação da requisição")
+        void handleGenericException_quandoHaIdDeCorrelacao_deveIncluirNaResposta() {
+            // Arrange
+            when(webRequest.getDescription(false)).thenReturn("uri=/usuarios");
+            MDC.put(FiltroCorrelacao.CHAVE_MDC, "abc123");
+
+            // Act
+            ResponseEntity<ProblemDetail> response;
+            try {
+                response = exceptionHandler.handleGenericException(new RuntimeException("x"), webRequest);
+            } finally {
+                MDC.remove(FiltroCorrelacao.CHAVE_MDC);
+            }
+
+            // Assert
+            assertEquals("abc123", response.getBody().getProperties().get("correlationId"));
+        }
     }
 
     // ========================================================================
@@ -476,5 +500,74 @@ class GlobalExceptionHandlerTest {
             assertNotNull(response.getBody().getType());
             assertTrue(response.getBody().getType().toString().startsWith("https://api.restaurante.com/errors/"));
         }
+
+        /**
+         * Verifica que respostas do mesmo tipo compartilham a URI, mas não o ProblemDetail.
+         */
+        @Test
+        @DisplayName("Deve reutilizar a URI do tipo e criar um ProblemDetail por resposta")
+        void problemDetail_quandoMesmoTipo_deveCompartilharSomenteUri() {
+            // Arrange
+            ResourceNotFoundException ex = new ResourceNotFoundException("Teste", 1L);
+
+            // Act
+            ProblemDetail primeiro = exceptionHandler.handleResourceNotFound(ex, webRequest).getBody();
+            ProblemDetail segundo = exceptionHandler.handleResourceNotFound(ex, webRequest).getBody();
+
+            // Assert
+            assertNotSame(primeiro, segundo);
+            assertSame(primeiro.getType(), segundo.getType());
+            assertSame(TipoProblema.RESOURCE_NOT_FOUND.getTipo(), primeiro.getType());
+        }
+    }
+
+    // ========================================================================
+    // STACK TRACE DAS EXCEÇÕES ESPERADAS
+    // ========================================================================
+
+    @Nested
+    @DisplayName("Stack trace das exceções esperadas")
+    class RastroTests {
+
+        @AfterEach
+        void restaurarInterruptor() {
+            ExcecaoEsperada.setRastroCompleto(false);
+        }
+
+        /**
+         * Verifica que as exceções de fluxo normal não capturam a pilha por padrão.
+         */
+        @Test
+        @DisplayName("Não deve capturar stack trace por padrão")
+        void excecaoEsperada_quandoPadrao_naoDeveCapturarStackTrace() {
+            // Act
+            ResourceNotFoundException naoEncontrado = new ResourceNotFoundException("Usuário", 1L);
+            DuplicateResourceException duplicado = new DuplicateResourceException("Email", "a@a.com");
+            LoginNaoEncontradoException login = new LoginNaoEncontradoException("fantasma");
+
+            // Assert
+            assertEquals(0, naoEncontrado.getStackTrace().length);
+            assertEquals(0, duplicado.getStackTrace().length);
+            assertEquals(0, login.getStackTrace().length);
+            assertTrue(login.getMessage().contains("fantasma"));
+        }
+
+        /**
+         * Verifica que o interruptor de depuração religa a captura.
+         */
+        @Test
+        @DisplayName("Deve capturar stack trace com o interruptor ligado")
+        void excecaoEsperada_quandoRastroCompleto_deveCapturarStackTrace() {
+            // Arrange
+            ExcecaoEsperada.setRastroCompleto(true);
+
+            // Act
+            InvalidPasswordException senha = new InvalidPasswordException("Senha incorreta");
+            LoginNaoEncontradoException login = new LoginNaoEncontradoException("fantasma");
+
+            // Assert
+            assertTrue(senha.getStackTrace().length > 0);
+            assertTrue(login.getStackTrace().length > 0);
+        }
     }
 }
\ No newline at end of file
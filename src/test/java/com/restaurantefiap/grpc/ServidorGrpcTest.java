@@ -0,0 +1,64 @@
+package com.restaurantefiap.grpc;
+
+import com.restaurantefiap.grpc.proto.BuscarPorIdRequest;
+import com.restaurantefiap.grpc.proto.DiretorioUsuariosGrpc;
+
+import io.grpc.Grpc;
+import io.grpc.InsecureChannelCredentials;
+import io.grpc.ManagedChannel;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Testes unitários para {@link ServidorGrpc}.
+ * <p>Sobe o servidor Netty real em porta livre e valida o ciclo de vida e que o
+ * interceptor de autenticação está na frente do serviço.</p>
+ *
+ * @author Danilo de Paula
+ */
+class ServidorGrpcTest {
+
+    @Nested
+    @DisplayName("Ciclo de vida")
+    class CicloDeVidaTests {
+
+        @Test
+        @DisplayName("Deve subir em porta livre, exigir token e parar")
+        void start_quandoPortaZero_deveAtenderComAutenticacao() {
+            // Arrange
+            ServidorGrpc servidor = new ServidorGrpc(
+                    new DiretorioUsuariosGrpcService(null, null, null, null),
+                    new AutenticacaoGrpcInterceptor(null, null),
+                    0,
+                    true);
+
+            // Act
+            servidor.start();
+            ManagedChannel canal = Grpc.newChannelBuilderForAddress(
+                    "localhost", servidor.getPorta(), InsecureChannelCredentials.create()).build();
+            try {
+                StatusRuntimeException erro = assertThrows(StatusRuntimeException.class,
+                        () -> DiretorioUsuariosGrpc.newBlockingStub(canal)
+                                .buscarPorId(BuscarPorIdRequest.newBuilder().setId(1L).build()));
+
+                // Assert
+                assertTrue(servidor.isRunning());
+                assertEquals(Status.Code.UNAUTHENTICATED, erro.getStatus().getCode());
+            } finally {
+                canal.shutdownNow();
+                servidor.stop();
+            }
+
+            assertFalse(servidor.isRunning());
+            assertEquals(-1, servidor.getPorta());
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package com.restaurantefiap.idempotency;
+
+import com.restaurantefiap.enums.EstadoIdempotencia;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Testes unitários para {@link IdempotenciaService} com {@link ArmazemIdempotenciaMemoria}.
+ * <p>Valida reserva, repetição, corpo diferente, espera de duplicatas, reservas abandonadas
+ * e o limite do armazém em memória.</p>
+ *
+ * @author Danilo de Paula
+ */
+class IdempotenciaServiceTest {
+
+    private static final RespostaIdempotente CRIADO =
+            new RespostaIdempotente(201, "application/json", null, null, "{\"id\":1}".getBytes());
+
+    private ArmazemIdempotenciaMemoria armazem;
+    private IdempotenciaService service;
+
+    @BeforeEach
+    void setUp() {
+        armazem = new ArmazemIdempotenciaMemoria(3);
+        service = new IdempotenciaService(armazem, 24, 60_000, 2_000, 10);
+    }
+
+    // ========================================================================
+    // DECISÃO
+    // ========================================================================
+
+    @Nested
+    @DisplayName("Decisão")
+    class DecisaoTests {
+
+        @Test
+        @DisplayName("Deve executar na primeira vez e repetir a resposta gravada depois")
+        void decidir_quandoConcluida_deveRepetir() {
+            // Arrange
+            IdempotenciaService.Decisao primeira = service.decidir("k1", "corpo-a");
+            service.concluir("k1", primeira.criadoEm(), CRIADO);
+
+            // Act
+            IdempotenciaService.Decisao segunda = service.decidir("k1", "corpo-a");
+
+            // Assert
+            assertEquals(IdempotenciaService.Decisao.Tipo.EXECUTAR, primeira.tipo());
+            assertEquals(IdempotenciaService.Decisao.Tipo.REPETIR, segunda.tipo());
+            assertArrayEquals(CRIADO.corpo(), segunda.resposta().corpo());
+            assertEquals(1, service.getExecucoes());
+            assertEquals(1, service.getRepeticoes());
+        }
+
+        @Test
+        @DisplayName("Deve recusar a chave reutilizada com outro corpo")
+        void decidir_quandoCorpoDiferente_deveRecusar() {
+            IdempotenciaService.Decisao primeira = service.decidir("k1", "corpo-a");
+            service.concluir("k1", primeira.criadoEm(), CRIADO);
+
+            IdempotenciaService.Decisao outra = service.decidir("k1", "corpo-b");
+
+            assertEquals(IdempotenciaService.Decisao.Tipo.CORPO_DIFERENTE, outra.tipo());
+            assertEquals(1, service.getConflitos());
+        }
+
+        @Test
+        @DisplayName("Deve executar de novo após a liberação por falha")
+        void decidir_quandoLiberada_deveExecutarNovamente() {
+            IdempotenciaService.Decisao primeira = service.decidir("k1", "corpo-a");
+            service.liberar("k1", primeira.criadoEm());
+
+            assertEquals(IdempotenciaService.Decisao.Tipo.EXECUTAR, service.decidir("k1", "corpo-a").tipo());
+        }
+
+        @Test
+        @DisplayName("Deve assumir uma reserva abandonada")
+        void decidir_quandoReservaAbandonada_deveAssumir() {
+            LocalDateTime antiga = LocalDateTime.now().minusMinutes(5);
+            armazem.reservar("k1", "corpo-a", antiga, antiga.plusHours(24));
+
+            IdempotenciaService.Decisao decisao = service.decidir("k1", "corpo-a");
+
+            assertEquals(IdempotenciaService.Decisao.Tipo.EXECUTAR, decisao.tipo());
+        }
+    }
+
+    // ========================================================================
+    // CONCORRÊNCIA
+    // ========================================================================
+
+    @Nested
+    @DisplayName("Duplicatas concorrentes")
+    class ConcorrenciaTests {
+
+        @Test
+        @DisplayName("Deve esperar a primeira execução e repetir a resposta dela")
+        void decidir_quandoEmAndamento_deveEsperarConclusao() throws Exception {
+            // Arrange
+            IdempotenciaService.Decisao primeira = service.decidir("k1", "corpo-a");
+
+            // Act
+            CompletableFuture<IdempotenciaService.Decisao> duplicata =
+                    CompletableFuture.supplyAsync(() -> service.decidir("k1", "corpo-a"));
+            Thread.sleep(50);
+            assertFalse(duplicata.isDone());
+            service.concluir("k1", primeira.criadoEm(), CRIADO);
+
+            // Assert
+            IdempotenciaService.Decisao decisao = duplicata.get(2, TimeUnit.SECONDS);
+            assertEquals(IdempotenciaService.Decisao.Tipo.REPETIR, decisao.tipo());
+            assertEquals(201, decisao.resposta().status());
+        }
+
+        @Test
+        @DisplayName("Deve desistir após o prazo de espera")
+        void decidir_quandoPrazoEsgotado_deveRetornarEmAndamento() {
+            IdempotenciaService curto = new IdempotenciaService(armazem, 24, 60_000, 30, 10);
+            curto.decidir("k1", "corpo-a");
+
+            assertEquals(IdempotenciaService.Decisao.Tipo.EM_ANDAMENTO, curto.decidir("k1", "corpo-a").tipo());
+        }
+    }
+
+    // ========================================================================
+    // ARMAZÉM EM MEMÓRIA
+    // ========================================================================
+
+    @Nested
+    @DisplayName("Armazém em memória")
+    class ArmazemMemoriaTests {
+
+        @Test
+        @DisplayName("Deve remover as chaves expiradas")
+        void limparExpiradas_quandoExpiradas_deveRemover() {
+            LocalDateTime agora = LocalDateTime.now();
+            armazem.reservar("velha", "c", agora.minusHours(30), agora.minusHours(6));
+            service.decidir("nova", "c");
+
+            assertEquals(1, service.limparExpiradas());
+            assertEquals(1, armazem.getTamanho());
+        }
+
+        @Test
+        @DisplayName("Deve despejar chaves concluídas e nunca reservas em andamento quando cheio")
+        void reservar_quandoCheio_deveDespejarConcluidas() {
+            LocalDateTime agora = LocalDateTime.now();
+            armazem.reservar("a", "c", agora, agora.plusHours(1));
+            armazem.concluir("a", agora, CRIADO, agora.plusHours(1));
+            armazem.reservar("b", "c", agora, agora.plusHours(1));
+            armazem.reservar("c", "c", agora, agora.plusHours(1));
+
+            assertTrue(armazem.reservar("d", "c", agora, agora.plusHours(1)));
+
+            assertEquals(3, armazem.getTamanho());
+            assertTrue(armazem.buscar("a").isEmpty());
+            assertEquals(EstadoIdempotencia.EM_ANDAMENTO, armazem.buscar("b").orElseThrow().estado());
+        }
+
+        @Test
+        @DisplayName("Não deve concluir uma reserva assumida por outra execução")
+        void concluir_quandoReservaDiferente_naoDeveGravar() {
+            LocalDateTime agora = LocalDateTime.now();
+            armazem.reservar("a", "c", agora, agora.plusHours(1));
+
+            assertFalse(armazem.concluir("a", agora.minusSeconds(1), CRIADO, agora.plusHours(1)));
+            assertEquals(EstadoIdempotencia.EM_ANDAMENTO, armazem.buscar("a").orElseThrow().estado());
+        }
+    }
+}
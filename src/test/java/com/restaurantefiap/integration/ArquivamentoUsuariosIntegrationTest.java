@@ -0,0 +1,229 @@
+package com.restaurantefiap.integration;
+
+import com.restaurantefiap.dto.request.AuthRequest;
+import com.restaurantefiap.entities.usuario.Usuario;
+import com.restaurantefiap.enums.Role;
+import com.restaurantefiap.service.ArquivamentoUsuariosService;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Testes de integração para {@link ArquivamentoUsuariosService}.
+ * <p>Valida o arquivamento em lotes (ordem de exclusão) de usuários excluídos há mais de N dias
+ * e a restauração para a tabela principal.</p>
+ *
+ * @author Danilo de Paula
+ */
+class ArquivamentoUsuariosIntegrationTest extends IntegrationTestBase {
+
+    private static final String USUARIOS_URL = "/v1/usuarios";
+
+    @Autowired
+    private ArquivamentoUsuariosService arquivamentoService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private String tokenMaster;
+
+    @BeforeEach
+    void setUpToken() throws Exception {
+        MvcResult result = mockMvc.perform(post("/v1/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(toJson(new AuthRequest(usuarioMaster.getLogin(), SENHA_PADRAO))))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        tokenMaster = objectMapper.readTree(result.getResponse().getContentAsString()).get("token").asText();
+    }
+
+    private Usuario criarExcluido(String login, LocalDateTime deletadoEm) {
+        Usuario usuario = criarUsuarioTeste(login, login + "@teste.com", "Usuario Excluido", Role.CLIENTE);
+        jdbcTemplate.update("UPDATE usuarios SET deletado_em = ? WHERE id = ?", deletadoEm, usuario.getId());
+        return usuario;
+    }
+
+    private int contar(String tabela, Long id) {
+        Integer total = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM " + tabela + " WHERE id = ?", Integer.class, id);
+        return total == null ? 0 : total;
+    }
+
+    // ========================================================================
+    // ARQUIVAMENTO
+    // ========================================================================
+
+    @Nested
+    @DisplayName("Arquivamento em lotes")
+    class ArquivamentoTests {
+
+        @Test
+        @DisplayName("Deve mover somente excluídos antes do limite, em vários lotes")
+        void arquivar_quandoExcluidosAntigos_deveMoverEmLotes() {
+            LocalDateTime antigo = LocalDateTime.now().minusDays(120);
+            Usuario a = criarExcluido("arq.a", antigo);
+            Usuario b = criarExcluido("arq.b", antigo);
+            Usuario c = criarExcluido("arq.c", antigo);
+            Usuario recente = criarExcluido("arq.recente", LocalDateTime.now().minusDays(1));
+
+            long arquivados = arquivamentoService.arquivarExcluidosAntesDe(LocalDateTime.now().minusDays(90));
+
+            assertEquals(3, arquivados);
+            for (Usuario u : new Usuario[]{a, b, c}) {
+                assertEquals(0, contar("usuarios", u.getId()));
+                assertEquals(1, contar("usuarios_arquivados", u.getId()));
+            }
+            assertEquals(1, contar("usuarios", recente.getId()));
+            assertEquals(1, contar("usuarios", usuarioCliente.getId()));
+
+            var status = arquivamentoService.status();
+            assertEquals(2, status.lotesExecucaoAtual());
+            assertEquals(c.getId(), status.ultimoIdProcessado());
+            assertFalse(status.emExecucao());
+        }
+
+        @Test
+        @DisplayName("Deve pular linhas já reivindicadas por outro nó")
+        void arquivar_quandoOutroNoTravaLote_devePularLinhasTravadas() throws Exception {
+            LocalDateTime antigo = LocalDateTime.now().minusDays(120);
+            Usuario travado = criarExcluido("arq.travado", antigo.minusDays(1));
+            Usuario b = criarExcluido("arq.b", antigo);
+            Usuario c = criarExcluido("arq.c", antigo);
+
+            // Outro nó: trava o primeiro da fila e segura a transação aberta
+            CountDownLatch travou = new CountDownLatch(1);
+            CountDownLatch liberar = new CountDownLatch(1);
+            CompletableFuture<Void> outroNo = CompletableFuture.runAsync(() ->
+                    new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                        jdbcTemplate.queryForList("SELECT id FROM usuarios WHERE id = ? FOR UPDATE",
+                                Long.class, travado.getId());
+                        travou.countDown();
+                        try {
+                            liberar.await(10, TimeUnit.SECONDS);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                    }));
+            assertTrue(travou.await(10, TimeUnit.SECONDS));
+
+            try {
+                long arquivados = arquivamentoService.arquivarExcluidosAntesDe(LocalDateTime.now().minusDays(90));
+
+                assertEquals(2, arquivados);
+                assertEquals(1, contar("usuarios_arquivados", b.getId()));
+                assertEquals(1, contar("usuarios_arquivados", c.getId()));
+            } finally {
+                liberar.countDown();
+                outroNo.get(10, TimeUnit.SECONDS);
+            }
+            assertEquals(1, contar("usuarios", travado.getId()));
+            assertEquals(0, contar("usuarios_arquivados", travado.getId()));
+        }
+
+        @Test
+        @DisplayName("Não deve arquivar usuários ativos")
+        void arquivar_quandoSemExcluidos_naoDeveMoverNada() {
+            long arquivados = arquivamentoService.arquivarExcluidosAntesDe(LocalDateTime.now());
+
+            assertEquals(0, arquivados);
+            assertEquals(1, contar("usuarios", usuarioMaster.getId()));
+        }
+    }
+
+    // ========================================================================
+    // RESTAURAÇÃO
+    // ========================================================================
+
+    @Nested
+    @DisplayName("POST /usuarios/arquivados/{id}/restaurar")
+    class RestauracaoTests {
+
+        @Test
+        @DisplayName("Deve restaurar usuário arquivado já reativado")
+        void restaurar_quandoArquivado_deveVoltarAtivo() throws Exception {
+            Usuario excluido = criarExcluido("arq.restaurar", LocalDateTime.now().minusDays(200));
+            arquivamentoService.arquivarExcluidosAntesDe(LocalDateTime.now().minusDays(90));
+
+            mockMvc.perform(post(USUARIOS_URL + "/arquivados/" + excluido.getId() + "/restaurar")
+                            .header("Authorization", "Bearer " + tokenMaster))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.id").value(excluido.getId()))
+                    .andExpect(jsonPath("$.login").value("arq.restaurar"));
+
+            assertEquals(0, contar("usuarios_arquivados", excluido.getId()));
+            mockMvc.perform(get(USUARIOS_URL + "/" + excluido.getId())
+                            .header("Authorization", "Bearer " + tokenMaster))
+                    .andExpect(status().isOk());
+        }
+
+        @Test
+        @DisplayName("Deve restaurar com versão acima da última emitida")
+        void restaurar_quandoArquivado_deveAvancarVersao() throws Exception {
+            Usuario excluido = criarExcluido("arq.versao", LocalDateTime.now().minusDays(200));
+            jdbcTemplate.update("UPDATE usuarios SET versao = 4 WHERE id = ?", excluido.getId());
+            arquivamentoService.arquivarExcluidosAntesDe(LocalDateTime.now().minusDays(90));
+
+            mockMvc.perform(post(USUARIOS_URL + "/arquivados/" + excluido.getId() + "/restaurar")
+                            .header("Authorization", "Bearer " + tokenMaster))
+                    .andExpect(status().isOk());
+
+            mockMvc.perform(get(USUARIOS_URL + "/" + excluido.getId())
+                            .header("Authorization", "Bearer " + tokenMaster)
+                            .header(HttpHeaders.IF_NONE_MATCH, "\"" + excluido.getId() + "-4\""))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.ETAG, "\"" + excluido.getId() + "-5\""));
+        }
+
+        @Test
+        @DisplayName("Deve retornar 404 quando não há usuário arquivado")
+        void restaurar_quandoNaoArquivado_deveRetornar404() throws Exception {
+            mockMvc.perform(post(USUARIOS_URL + "/arquivados/99999/restaurar")
+                            .header("Authorization", "Bearer " + tokenMaster))
+                    .andExpect(status().isNotFound());
+        }
+
+        @Test
+        @DisplayName("Deve retornar 409 quando login já foi reutilizado")
+        void restaurar_quandoLoginEmUso_deveRetornar409() throws Exception {
+            Usuario excluido = criarExcluido("arq.conflito", LocalDateTime.now().minusDays(200));
+            arquivamentoService.arquivarExcluidosAntesDe(LocalDateTime.now().minusDays(90));
+            criarUsuarioTeste("arq.conflito", "outro@teste.com", "Novo Dono", Role.CLIENTE);
+
+            mockMvc.perform(post(USUARIOS_URL + "/arquivados/" + excluido.getId() + "/restaurar")
+                            .header("Authorization", "Bearer " + tokenMaster))
+                    .andExpect(status().isConflict());
+        }
+
+        @Test
+        @DisplayName("Deve expor o progresso do arquivamento para MASTER")
+        void status_quandoMaster_deveRetornarProgresso() throws Exception {
+            mockMvc.perform(get(USUARIOS_URL + "/arquivados/status")
+                            .header("Authorization", "Bearer " + tokenMaster))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.emExecucao").value(false));
+        }
+    }
+}
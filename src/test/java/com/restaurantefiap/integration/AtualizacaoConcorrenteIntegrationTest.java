@@ -0,0 +1,206 @@
+package com.restaurantefiap.integration;
+
+import com.restaurantefiap.dto.request.AuthRequest;
+import com.restaurantefiap.dto.request.UsuarioUpdateDTO;
+import com.restaurantefiap.entities.usuario.Usuario;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Testes de integração do locking otimista em {@code PUT /v1/usuarios/{id}}.
+ * <p>Valida o ETag da versão, a escrita condicional via {@code If-Match} e que
+ * atualizações concorrentes não se sobrescrevem (lost update).</p>
+ *
+ * @author Danilo de Paula
+ */
+class AtualizacaoConcorrenteIntegrationTest extends IntegrationTestBase {
+
+    private static final String USUARIOS_URL = "/v1/usuarios";
+
+    private String tokenMaster;
+
+    @BeforeEach
+    void setUpToken() throws Exception {
+        MvcResult result = mockMvc.perform(post("/v1/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(toJson(new AuthRequest(usuarioMaster.getLogin(), SENHA_PADRAO))))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        tokenMaster = objectMapper.readTree(result.getResponse().getContentAsString()).get("token").asText();
+    }
+
+    private MvcResult atualizarNome(Long id, String nome, String ifMatch) throws Exception {
+        var requisicao = put(USUARIOS_URL + "/" + id)
+                .header("Authorization", "Bearer " + tokenMaster)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(toJson(new UsuarioUpdateDTO(nome, null, null)));
+        if (ifMatch != null) {
+            requisicao.header(HttpHeaders.IF_MATCH, ifMatch);
+        }
+        return mockMvc.perform(requisicao).andReturn();
+    }
+
+    private Long versaoNoBanco(Long id) {
+        return jdbcTemplate.queryForObject("SELECT versao FROM usuarios WHERE id = ?", Long.class, id);
+    }
+
+    // ========================================================================
+    // ESCRITA CONDICIONAL (If-Match)
+    // ========================================================================
+
+    @Nested
+    @DisplayName("PUT /usuarios/{id} com If-Match")
+    class IfMatchTests {
+
+        @Test
+        @DisplayName("Deve atualizar e devolver o ETag da nova versão")
+        void atualizar_quandoIfMatchAtual_deveRetornarNovoEtag() throws Exception {
+            Long id = usuarioCliente.getId();
+
+            mockMvc.perform(put(USUARIOS_URL + "/" + id)
+                            .header("Authorization", "Bearer " + tokenMaster)
+                            .header(HttpHeaders.IF_MATCH, etag(id, 0))
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(toJson(new UsuarioUpdateDTO("Nome Novo", null, null))))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.ETAG, etag(id, 1)))
+                    .andExpect(jsonPath("$.nome").value("Nome Novo"))
+                    .andExpect(jsonPath("$.versao").doesNotExist());
+
+            assertEquals(1L, versaoNoBanco(id));
+        }
+
+        @Test
+        @DisplayName("Deve retornar 412 quando If-Match está desatualizado")
+        void atualizar_quandoIfMatchDesatualizado_deveRetornar412() throws Exception {
+            Long id = usuarioCliente.getId();
+            atualizarNome(id, "Primeira Escrita", etag(id, 0));
+
+            MvcResult result = atualizarNome(id, "Escrita Atrasada", etag(id, 0));
+
+            assertEquals(412, result.getResponse().getStatus());
+            assertEquals("Primeira Escrita", usuarioRepository.findAtivoById(id).orElseThrow().getNome());
+        }
+
+        @Test
+        @DisplayName("Deve retornar 412 quando If-Match é fraco ou malformado")
+        void atualizar_quandoIfMatchFracoOuMalformado_deveRetornar412() throws Exception {
+            Long id = usuarioCliente.getId();
+
+            assertEquals(412, atualizarNome(id, "Nome Novo", "W/" + etag(id, 0)).getResponse().getStatus());
+            assertEquals(412, atualizarNome(id, "Nome Novo", "abc").getResponse().getStatus());
+            assertEquals(0L, versaoNoBanco(id));
+        }
+
+        @Test
+        @DisplayName("Deve retornar 412 quando If-Match é o ETag de outro usuário na mesma versão")
+        void atualizar_quandoIfMatchDeOutroUsuario_deveRetornar412() throws Exception {
+            Long id = usuarioCliente.getId();
+
+            MvcResult result = atualizarNome(id, "Nome Novo", etag(usuarioMaster.getId(), 0));
+
+            assertEquals(412, result.getResponse().getStatus());
+            assertEquals(0L, versaoNoBanco(id));
+        }
+
+        @Test
+        @DisplayName("Deve atualizar sem condição quando If-Match é ausente ou *")
+        void atualizar_quandoSemIfMatch_deveAtualizar() throws Exception {
+            Long id = usuarioCliente.getId();
+
+            assertEquals(200, atualizarNome(id, "Sem Condicao", null).getResponse().getStatus());
+            assertEquals(200, atualizarNome(id, "Qualquer Versao", "*").getResponse().getStatus());
+            assertEquals(2L, versaoNoBanco(id));
+        }
+    }
+
+    // ========================================================================
+    // LOST UPDATE
+    // ========================================================================
+
+    @Nested
+    @DisplayName("Prevenção de lost update")
+    class LostUpdateTests {
+
+        @Test
+        @DisplayName("Deve rejeitar a segunda escrita sobre a mesma versão lida")
+        void salvar_quandoCopiaDesatualizada_deveLancarConflito() {
+            Long id = usuarioCliente.getId();
+            Usuario copiaA = usuarioRepository.findAtivoById(id).orElseThrow();
+            Usuario copiaB = usuarioRepository.findAtivoById(id).orElseThrow();
+
+            copiaA.setNome("Escrita A");
+            usuarioRepository.save(copiaA);
+
+            copiaB.setTelefone("11911112222");
+            assertThrows(ObjectOptimisticLockingFailureException.class, () -> usuarioRepository.save(copiaB));
+
+            Usuario atual = usuarioRepository.findAtivoById(id).orElseThrow();
+            assertEquals("Escrita A", atual.getNome());
+            assertEquals("11999999999", atual.getTelefone());
+            assertEquals(1L, atual.getVersao());
+        }
+
+        @Test
+        @DisplayName("Requisições concorrentes com o mesmo If-Match: apenas uma vence")
+        void atualizar_quandoConcorrente_apenasUmaDeveVencer() throws Exception {
+            Long id = usuarioCliente.getId();
+            int concorrentes = 4;
+            CountDownLatch largada = new CountDownLatch(1);
+            ExecutorService executor = Executors.newFixedThreadPool(concorrentes);
+
+            try {
+                List<Future<Integer>> respostas = new ArrayList<>();
+                for (int i = 0; i < concorrentes; i++) {
+                    String nome = "Concorrente " + i;
+                    Callable<Integer> tarefa = () -> {
+                        largada.await();
+                        return atualizarNome(id, nome, etag(id, 0)).getResponse().getStatus();
+                    };
+                    respostas.add(executor.submit(tarefa));
+                }
+                largada.countDown();
+
+                int sucessos = 0;
+                for (Future<Integer> resposta : respostas) {
+                    int status = resposta.get();
+                    if (status == 200) {
+                        sucessos++;
+                    } else {
+                        assertTrue(status == 409 || status == 412, "Status inesperado: " + status);
+                    }
+                }
+
+                assertEquals(1, sucessos);
+                assertEquals(1L, versaoNoBanco(id));
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.restaurantefiap.integration;
 
 import com.restaurantefiap.dto.request.AuthRequest;
+import com.restaurantefiap.enums.OperacaoSql;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -35,14 +36,17 @@ class AuthControllerIntegrationTest extends IntegrationTestBase {
         void login_quandoCredenciaisValidas_deveRetornarToken() throws Exception {
             AuthRequest request = new AuthRequest(usuarioMaster.getLogin(), SENHA_PADRAO);
 
-            mockMvc.perform(post(AUTH_LOGIN_URL)
+            contarSql(() -> mockMvc.perform(post(AUTH_LOGIN_URL)
                             .contentType(MediaType.APPLICATION_JSON)
                             .content(toJson(request)))
                     .andExpect(status().isOk())
                     .andExpect(jsonPath("$.token").exists())
                     .andExpect(jsonPath("$.token").isNotEmpty())
                     .andExpect(jsonPath("$.token",
-                            matchesPattern("^[A-Za-z0-9-_]+\\.[A-Za-z0-9-_]+\\.[A-Za-z0-9-_]+$")));
+                            matchesPattern("^[A-Za-z0-9-_]+\\.[A-Za-z0-9-_]+\\.[A-Za-z0-9-_]+$"))))
+                    // O usuário é lido uma única vez, pela autenticação
+                    .noMaximo(OperacaoSql.SELECT, 1)
+                    .totalNoMaximo(1);
         }
 
         @Test
@@ -71,12 +75,13 @@ class AuthControllerIntegrationTest extends IntegrationTestBase {
         void login_quandoSenhaIncorreta_deveRetornar401() throws Exception {
             AuthRequest request = new AuthRequest(usuarioMaster.getLogin(), "SenhaErrada@123");
 
-            mockMvc.perform(post(AUTH_LOGIN_URL)
+            contarSql(() -> mockMvc.perform(post(AUTH_LOGIN_URL)
                             .contentType(MediaType.APPLICATION_JSON)
                             .content(toJson(request)))
                     .andExpect(status().isUnauthorized())
                     .andExpect(jsonPath("$.title").value("Authentication Failed"))
-                    .andExpect(jsonPath("$.detail").value("Login ou senha inválidos."));
+                    .andExpect(jsonPath("$.detail").value("Login ou senha inválidos.")))
+                    .totalNoMaximo(1);
         }
 
         @Test
@@ -84,10 +89,11 @@ class AuthControllerIntegrationTest extends IntegrationTestBase {
         void login_quandoLoginInexistente_deveRetornar401() throws Exception {
             AuthRequest request = new AuthRequest("usuario.inexistente", SENHA_PADRAO);
 
-            mockMvc.perform(post(AUTH_LOGIN_URL)
+            contarSql(() -> mockMvc.perform(post(AUTH_LOGIN_URL)
                             .contentType(MediaType.APPLICATION_JSON)
                             .content(toJson(request)))
-                    .andExpect(status().isUnauthorized());
+                    .andExpect(status().isUnauthorized()))
+                    .totalNoMaximo(1);
         }
     }
 
@@ -0,0 +1,230 @@
+package com.restaurantefiap.integration;
+
+import com.restaurantefiap.dto.request.AuthRequest;
+import com.restaurantefiap.dto.request.UsuarioUpdateDTO;
+import com.restaurantefiap.enums.Role;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Testes de integração do GET condicional ({@code ETag} / {@code If-None-Match})
+ * em {@code /v1/usuarios/{id}}, {@code /me} e {@code /page}.
+ * <p>Valida o {@code 304} quando o recurso não mudou e o {@code 200} com novo ETag
+ * depois de uma alteração.</p>
+ *
+ * @author Danilo de Paula
+ */
+class CacheCondicionalUsuariosIntegrationTest extends IntegrationTestBase {
+
+    private static final String USUARIOS_URL = "/v1/usuarios";
+
+    private String tokenMaster;
+    private String tokenCliente;
+
+    @BeforeEach
+    void setUpTokens() throws Exception {
+        tokenMaster = login(usuarioMaster.getLogin());
+        tokenCliente = login(usuarioCliente.getLogin());
+    }
+
+    private String login(String login) throws Exception {
+        MvcResult result = mockMvc.perform(post("/v1/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(toJson(new AuthRequest(login, SENHA_PADRAO))))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        return objectMapper.readTree(result.getResponse().getContentAsString()).get("token").asText();
+    }
+
+    private MvcResult getCondicional(String url, String token, String ifNoneMatch) throws Exception {
+        var requisicao = get(url).header("Authorization", "Bearer " + token);
+        if (ifNoneMatch != null) {
+            requisicao.header(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        return mockMvc.perform(requisicao).andReturn();
+    }
+
+    private void atualizarNome(Long id, String nome) throws Exception {
+        mockMvc.perform(put(USUARIOS_URL + "/" + id)
+                        .header("Authorization", "Bearer " + tokenMaster)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(toJson(new UsuarioUpdateDTO(nome, null, null))))
+                .andExpect(status().isOk());
+    }
+
+    // ========================================================================
+    // GET /usuarios/{id}
+    // ========================================================================
+
+    @Nested
+    @DisplayName("GET /usuarios/{id} com If-None-Match")
+    class BuscarPorIdTests {
+
+        @Test
+        @DisplayName("Deve retornar ETag da versão atual")
+        void buscar_semCondicao_deveRetornarEtag() throws Exception {
+            mockMvc.perform(get(USUARIOS_URL + "/" + usuarioCliente.getId())
+                            .header("Authorization", "Bearer " + tokenMaster))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.ETAG, etag(usuarioCliente.getId(), 0)));
+        }
+
+        @Test
+        @DisplayName("Deve retornar 304 sem corpo quando o usuário não mudou")
+        void buscar_quandoNaoModificado_deveRetornar304() throws Exception {
+            String url = USUARIOS_URL + "/" + usuarioCliente.getId();
+
+            mockMvc.perform(get(url)
+                            .header("Authorization", "Bearer " + tokenMaster)
+                            .header(HttpHeaders.IF_NONE_MATCH, etag(usuarioCliente.getId(), 0)))
+                    .andExpect(status().isNotModified())
+                    .andExpect(header().string(HttpHeaders.ETAG, etag(usuarioCliente.getId(), 0)))
+                    .andExpect(content().string(""));
+        }
+
+        @Test
+        @DisplayName("Deve aceitar ETag fraco e lista de ETags")
+        void buscar_quandoEtagFracoEmLista_deveRetornar304() throws Exception {
+            MvcResult result = getCondicional(
+                    USUARIOS_URL + "/" + usuarioCliente.getId(), tokenMaster,
+                    etag(usuarioCliente.getId(), 7) + ", W/" + etag(usuarioCliente.getId(), 0));
+
+            assertEquals(304, result.getResponse().getStatus());
+        }
+
+        @Test
+        @DisplayName("Deve retornar 200 com novo ETag após alteração")
+        void buscar_quandoModificado_deveRetornar200ComNovoEtag() throws Exception {
+            atualizarNome(usuarioCliente.getId(), "Cliente Renomeado");
+
+            mockMvc.perform(get(USUARIOS_URL + "/" + usuarioCliente.getId())
+                            .header("Authorization", "Bearer " + tokenMaster)
+                            .header(HttpHeaders.IF_NONE_MATCH, etag(usuarioCliente.getId(), 0)))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.ETAG, etag(usuarioCliente.getId(), 1)))
+                    .andExpect(jsonPath("$.nome").value("Cliente Renomeado"));
+        }
+
+        @Test
+        @DisplayName("Deve retornar 404 quando o usuário não existe, mesmo com If-None-Match")
+        void buscar_quandoInexistente_deveRetornar404() throws Exception {
+            MvcResult result = getCondicional(USUARIOS_URL + "/99999", tokenMaster, etag(99999L, 0));
+
+            assertEquals(404, result.getResponse().getStatus());
+        }
+    }
+
+    // ========================================================================
+    // GET /usuarios/me
+    // ========================================================================
+
+    @Nested
+    @DisplayName("GET /usuarios/me com If-None-Match")
+    class MeTests {
+
+        @Test
+        @DisplayName("Deve retornar 304 quando o próprio usuário não mudou")
+        void me_quandoNaoModificado_deveRetornar304() throws Exception {
+            MvcResult primeira = getCondicional(USUARIOS_URL + "/me", tokenCliente, null);
+            String etag = primeira.getResponse().getHeader(HttpHeaders.ETAG);
+            assertEquals(200, primeira.getResponse().getStatus());
+            assertNotNull(etag);
+
+            MvcResult segunda = getCondicional(USUARIOS_URL + "/me", tokenCliente, etag);
+
+            assertEquals(304, segunda.getResponse().getStatus());
+            assertEquals(etag, segunda.getResponse().getHeader(HttpHeaders.ETAG));
+        }
+
+        @Test
+        @DisplayName("Deve retornar 200 com novo ETag após alteração")
+        void me_quandoModificado_deveRetornar200() throws Exception {
+            String etag = getCondicional(USUARIOS_URL + "/me", tokenCliente, null)
+                    .getResponse().getHeader(HttpHeaders.ETAG);
+            atualizarNome(usuarioCliente.getId(), "Cliente Alterado");
+
+            MvcResult result = getCondicional(USUARIOS_URL + "/me", tokenCliente, etag);
+
+            assertEquals(200, result.getResponse().getStatus());
+            assertNotEquals(etag, result.getResponse().getHeader(HttpHeaders.ETAG));
+        }
+    }
+
+    // ========================================================================
+    // GET /usuarios/page
+    // ========================================================================
+
+    @Nested
+    @DisplayName("GET /usuarios/page com If-None-Match")
+    class PaginaTests {
+
+        private static final String PAGINA_URL = USUARIOS_URL + "/page?page=0&size=10&sort=id";
+
+        @Test
+        @DisplayName("Deve retornar 304 quando nenhum usuário da página mudou")
+        void pagina_quandoNaoModificada_deveRetornar304() throws Exception {
+            String etag = getCondicional(PAGINA_URL, tokenMaster, null).getResponse().getHeader(HttpHeaders.ETAG);
+            assertNotNull(etag);
+
+            MvcResult result = getCondicional(PAGINA_URL, tokenMaster, etag);
+
+            assertEquals(304, result.getResponse().getStatus());
+            assertEquals(etag, result.getResponse().getHeader(HttpHeaders.ETAG));
+            assertEquals("", result.getResponse().getContentAsString());
+        }
+
+        @Test
+        @DisplayName("Deve mudar o ETag quando um usuário da página é alterado")
+        void pagina_quandoUsuarioAlterado_deveRetornar200() throws Exception {
+            String etag = getCondicional(PAGINA_URL, tokenMaster, null).getResponse().getHeader(HttpHeaders.ETAG);
+            atualizarNome(usuarioCliente.getId(), "Cliente Novo Nome");
+
+            MvcResult result = getCondicional(PAGINA_URL, tokenMaster, etag);
+
+            assertEquals(200, result.getResponse().getStatus());
+            assertNotEquals(etag, result.getResponse().getHeader(HttpHeaders.ETAG));
+        }
+
+        @Test
+        @DisplayName("Deve mudar o ETag quando um usuário é criado")
+        void pagina_quandoUsuarioCriado_deveRetornar200() throws Exception {
+            String etag = getCondicional(PAGINA_URL, tokenMaster, null).getResponse().getHeader(HttpHeaders.ETAG);
+            criarUsuarioTeste("etag.novo", "etag.novo@teste.com", "Novo Usuario", Role.CLIENTE);
+
+            MvcResult result = getCondicional(PAGINA_URL, tokenMaster, etag);
+
+            assertEquals(200, result.getResponse().getStatus());
+            assertNotEquals(etag, result.getResponse().getHeader(HttpHeaders.ETAG));
+        }
+
+        @Test
+        @DisplayName("Deve usar ETags diferentes para páginas diferentes")
+        void pagina_quandoOutraPagina_deveTerOutroEtag() throws Exception {
+            String etagPrimeira = getCondicional(USUARIOS_URL + "/page?page=0&size=1&sort=id", tokenMaster, null)
+                    .getResponse().getHeader(HttpHeaders.ETAG);
+
+            MvcResult result = getCondicional(
+                    USUARIOS_URL + "/page?page=1&size=1&sort=id", tokenMaster, etagPrimeira);
+
+            assertEquals(200, result.getResponse().getStatus());
+        }
+    }
+}
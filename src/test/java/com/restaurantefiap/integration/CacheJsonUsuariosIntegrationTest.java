@@ -0,0 +1,143 @@
+package com.restaurantefiap.integration;
+
+import com.restaurantefiap.dto.request.AuthRequest;
+import com.restaurantefiap.dto.request.UsuarioUpdateDTO;
+import com.restaurantefiap.enums.CampoUsuario;
+import com.restaurantefiap.service.CacheJsonUsuarios;
+import com.restaurantefiap.service.UsuarioService;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Testes de integração do cache de JSON serializado ({@link CacheJsonUsuarios})
+ * em {@code /v1/usuarios/{id}} e {@code /me}.
+ * <p>Compara as respostas servidas do cache com o serializador normal e valida
+ * que uma alteração nunca devolve bytes antigos.</p>
+ *
+ * @author Danilo de Paula
+ */
+class CacheJsonUsuariosIntegrationTest extends IntegrationTestBase {
+
+    private static final String USUARIOS_URL = "/v1/usuarios";
+
+    @Autowired
+    private CacheJsonUsuarios cacheJson;
+
+    @Autowired
+    private UsuarioService usuarioService;
+
+    private String tokenMaster;
+
+    @BeforeEach
+    void setUpToken() throws Exception {
+        cacheJson.limpar();
+
+        MvcResult result = mockMvc.perform(post("/v1/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(toJson(new AuthRequest(usuarioMaster.getLogin(), SENHA_PADRAO))))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        tokenMaster = objectMapper.readTree(result.getResponse().getContentAsString()).get("token").asText();
+    }
+
+    private MvcResult buscar(String url) throws Exception {
+        return mockMvc.perform(get(url).header("Authorization", "Bearer " + tokenMaster))
+                .andExpect(status().isOk())
+                .andReturn();
+    }
+
+    // ========================================================================
+    // CORREÇÃO
+    // ========================================================================
+
+    @Nested
+    @DisplayName("Resposta servida do cache")
+    class CorrecaoTests {
+
+        @Test
+        @DisplayName("Deve servir do cache os mesmos bytes do serializador normal")
+        void buscar_quandoEmCache_deveSerIgualAoSerializador() throws Exception {
+            String url = USUARIOS_URL + "/" + usuarioCliente.getId();
+            String esperado = objectMapper.writeValueAsString(usuarioService.buscarPorId(usuarioCliente.getId()));
+
+            MvcResult primeira = buscar(url);
+            long acertosAntes = cacheJson.getAcertos();
+            MvcResult segunda = buscar(url);
+
+            assertEquals(esperado, primeira.getResponse().getContentAsString());
+            assertEquals(esperado, segunda.getResponse().getContentAsString());
+            assertEquals(acertosAntes + 1, cacheJson.getAcertos());
+            assertEquals(MediaType.APPLICATION_JSON_VALUE, segunda.getResponse().getContentType());
+            assertEquals(etag(usuarioCliente.getId(), 0), segunda.getResponse().getHeader(HttpHeaders.ETAG));
+        }
+
+        @Test
+        @DisplayName("Deve manter entradas separadas por conjunto de campos")
+        void buscar_quandoFields_deveSerIgualAoSerializador() throws Exception {
+            String url = USUARIOS_URL + "/" + usuarioCliente.getId() + "?fields=nome,id";
+            String esperado = objectMapper.writeValueAsString(usuarioService.buscarParcialPorId(
+                    usuarioCliente.getId(), CampoUsuario.deParametro("id,nome")));
+
+            buscar(USUARIOS_URL + "/" + usuarioCliente.getId());
+            buscar(url);
+            MvcResult emCache = buscar(url);
+
+            assertEquals(esperado, emCache.getResponse().getContentAsString());
+        }
+
+        @Test
+        @DisplayName("Deve compartilhar a entrada entre /me e /{id}")
+        void me_quandoEmCache_deveSerIgualAoSerializador() throws Exception {
+            String esperado = objectMapper.writeValueAsString(usuarioService.buscarPorId(usuarioMaster.getId()));
+
+            buscar(USUARIOS_URL + "/" + usuarioMaster.getId());
+            long acertosAntes = cacheJson.getAcertos();
+            MvcResult me = buscar(USUARIOS_URL + "/me");
+
+            assertEquals(esperado, me.getResponse().getContentAsString());
+            assertEquals(acertosAntes + 1, cacheJson.getAcertos());
+        }
+    }
+
+    // ========================================================================
+    // ALTERAÇÃO
+    // ========================================================================
+
+    @Nested
+    @DisplayName("Alteração do usuário")
+    class AlteracaoTests {
+
+        @Test
+        @DisplayName("Não deve servir bytes antigos depois de uma alteração")
+        void buscar_quandoAlterado_deveSerializarNovaVersao() throws Exception {
+            String url = USUARIOS_URL + "/" + usuarioCliente.getId();
+            buscar(url);
+
+            mockMvc.perform(put(url)
+                            .header("Authorization", "Bearer " + tokenMaster)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(toJson(new UsuarioUpdateDTO("Nome Em Cache Novo", null, null))))
+                    .andExpect(status().isOk());
+
+            MvcResult depois = buscar(url);
+
+            String esperado = objectMapper.writeValueAsString(usuarioService.buscarPorId(usuarioCliente.getId()));
+            assertEquals(esperado, depois.getResponse().getContentAsString());
+            assertEquals(etag(usuarioCliente.getId(), 1), depois.getResponse().getHeader(HttpHeaders.ETAG));
+        }
+    }
+}
@@ -0,0 +1,226 @@
+package com.restaurantefiap.integration;
+
+import com.restaurantefiap.dto.request.AuthRequest;
+import com.restaurantefiap.dto.request.UsuarioUpdateDTO;
+import com.restaurantefiap.entities.endereco.DadosEndereco;
+import com.restaurantefiap.entities.endereco.Endereco;
+import com.restaurantefiap.entities.usuario.Usuario;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Testes de integração do parâmetro {@code fields=} (sparse fieldsets)
+ * em {@code /v1/usuarios/page} e {@code /v1/usuarios/{id}}.
+ *
+ * @author Danilo de Paula
+ */
+class CamposParciaisUsuariosIntegrationTest extends IntegrationTestBase {
+
+    private static final String USUARIOS_URL = "/v1/usuarios";
+
+    private String tokenMaster;
+
+    @BeforeEach
+    void setUpToken() throws Exception {
+        MvcResult result = mockMvc.perform(post("/v1/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(toJson(new AuthRequest(usuarioMaster.getLogin(), SENHA_PADRAO))))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        tokenMaster = objectMapper.readTree(result.getResponse().getContentAsString()).get("token").asText();
+    }
+
+    private List<String> nomesDosCampos(JsonNode no) {
+        List<String> nomes = new ArrayList<>();
+        no.fieldNames().forEachRemaining(nomes::add);
+        return nomes;
+    }
+
+    // ========================================================================
+    // GET /usuarios/page?fields=
+    // ========================================================================
+
+    @Nested
+    @DisplayName("GET /usuarios/page?fields=")
+    class PaginaTests {
+
+        @Test
+        @DisplayName("Deve serializar apenas os campos pedidos, na ordem do DTO")
+        void pagina_quandoFields_deveRetornarSomenteCampos() throws Exception {
+            MvcResult result = mockMvc.perform(get(USUARIOS_URL + "/page?fields=role,nome,id&sort=id")
+                            .header("Authorization", "Bearer " + tokenMaster))
+                    .andExpect(status().isOk())
+                    .andExpect(header().exists(HttpHeaders.ETAG))
+                    .andExpect(jsonPath("$.totalElements").value(3))
+                    .andExpect(jsonPath("$.content[0].id").value(usuarioMaster.getId()))
+                    .andExpect(jsonPath("$.content[0].role").value("MASTER"))
+                    .andReturn();
+
+            JsonNode primeiro = objectMapper.readTree(result.getResponse().getContentAsString()).get("content").get(0);
+            assertEquals(List.of("id", "nome", "role"), nomesDosCampos(primeiro));
+        }
+
+        @Test
+        @DisplayName("Deve gerar resposta menor que a completa")
+        void pagina_quandoFields_deveReduzirBytes() throws Exception {
+            String completa = mockMvc.perform(get(USUARIOS_URL + "/page?sort=id")
+                            .header("Authorization", "Bearer " + tokenMaster))
+                    .andReturn().getResponse().getContentAsString();
+            String parcial = mockMvc.perform(get(USUARIOS_URL + "/page?fields=id,nome,role&sort=id")
+                            .header("Authorization", "Bearer " + tokenMaster))
+                    .andReturn().getResponse().getContentAsString();
+
+            assertTrue(parcial.length() < completa.length(),
+                    "parcial=" + parcial.length() + " completa=" + completa.length());
+        }
+
+        @Test
+        @DisplayName("Deve converter o endereço embutido para o mesmo formato da resposta completa")
+        void pagina_quandoFieldsEndereco_deveRetornarDadosEndereco() throws Exception {
+            Usuario usuario = usuarioRepository.findById(usuarioCliente.getId()).orElseThrow();
+            usuario.setEndereco(new Endereco(new DadosEndereco("Rua A", "Centro", "01001000", "São Paulo", "SP", "10", null)));
+            usuarioRepository.save(usuario);
+
+            mockMvc.perform(get(USUARIOS_URL + "/" + usuarioCliente.getId() + "?fields=endereco")
+                            .header("Authorization", "Bearer " + tokenMaster))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.endereco.logradouro").value("Rua A"))
+                    .andExpect(jsonPath("$.endereco.uf").value("SP"))
+                    .andExpect(jsonPath("$.id").doesNotExist());
+        }
+
+        @Test
+        @DisplayName("Deve retornar 400 para campo fora da lista branca")
+        void pagina_quandoCampoInvalido_deveRetornar400() throws Exception {
+            mockMvc.perform(get(USUARIOS_URL + "/page?fields=id,password")
+                            .header("Authorization", "Bearer " + tokenMaster))
+                    .andExpect(status().isBadRequest());
+        }
+
+        @Test
+        @DisplayName("Deve retornar 304 quando a página não mudou")
+        void pagina_quandoNaoModificada_deveRetornar304() throws Exception {
+            String url = USUARIOS_URL + "/page?fields=id,nome&sort=id";
+            String etag = mockMvc.perform(get(url).header("Authorization", "Bearer " + tokenMaster))
+                    .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+            mockMvc.perform(get(url)
+                            .header("Authorization", "Bearer " + tokenMaster)
+                            .header(HttpHeaders.IF_NONE_MATCH, etag))
+                    .andExpect(status().isNotModified());
+        }
+
+        @Test
+        @DisplayName("Não deve responder 304 com o ETag da página completa")
+        void pagina_quandoEtagDaPaginaCompleta_deveRetornar200() throws Exception {
+            String etagCompleta = mockMvc.perform(get(USUARIOS_URL + "/page?sort=id")
+                            .header("Authorization", "Bearer " + tokenMaster))
+                    .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+            mockMvc.perform(get(USUARIOS_URL + "/page?fields=id,nome&sort=id")
+                            .header("Authorization", "Bearer " + tokenMaster)
+                            .header(HttpHeaders.IF_NONE_MATCH, etagCompleta))
+                    .andExpect(status().isOk());
+        }
+    }
+
+    // ========================================================================
+    // GET /usuarios/{id}?fields=
+    // ========================================================================
+
+    @Nested
+    @DisplayName("GET /usuarios/{id}?fields=")
+    class BuscarPorIdTests {
+
+        @Test
+        @DisplayName("Deve retornar apenas os campos pedidos com ETag próprio da representação parcial")
+        void buscar_quandoFields_deveRetornarSomenteCampos() throws Exception {
+            MvcResult result = mockMvc.perform(get(USUARIOS_URL + "/" + usuarioCliente.getId() + "?fields=nome,email")
+                            .header("Authorization", "Bearer " + tokenMaster))
+                    .andExpect(status().isOk())
+                    .andReturn();
+
+            JsonNode corpo = objectMapper.readTree(result.getResponse().getContentAsString());
+            assertEquals(List.of("email", "nome"), nomesDosCampos(corpo));
+            String etag = result.getResponse().getHeader(HttpHeaders.ETAG);
+            assertTrue(etag.startsWith("\"" + usuarioCliente.getId() + "-0-"), etag);
+        }
+
+        @Test
+        @DisplayName("Não deve responder 304 com o ETag da representação completa ou de outros campos")
+        void buscar_quandoEtagDeOutraRepresentacao_deveRetornar200() throws Exception {
+            String url = USUARIOS_URL + "/" + usuarioCliente.getId();
+            String etagCompleta = mockMvc.perform(get(url).header("Authorization", "Bearer " + tokenMaster))
+                    .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+            String etagNome = mockMvc.perform(get(url + "?fields=nome").header("Authorization", "Bearer " + tokenMaster))
+                    .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+            mockMvc.perform(get(url + "?fields=nome,email")
+                            .header("Authorization", "Bearer " + tokenMaster)
+                            .header(HttpHeaders.IF_NONE_MATCH, etagCompleta + ", " + etagNome))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.email").exists());
+            mockMvc.perform(get(url)
+                            .header("Authorization", "Bearer " + tokenMaster)
+                            .header(HttpHeaders.IF_NONE_MATCH, etagNome))
+                    .andExpect(status().isOk());
+        }
+
+        @Test
+        @DisplayName("Deve retornar 304 para o mesmo conjunto de campos, em qualquer ordem")
+        void buscar_quandoMesmosCampos_deveRetornar304() throws Exception {
+            String url = USUARIOS_URL + "/" + usuarioCliente.getId();
+            String etag = mockMvc.perform(get(url + "?fields=nome,email").header("Authorization", "Bearer " + tokenMaster))
+                    .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+            mockMvc.perform(get(url + "?fields=email,nome")
+                            .header("Authorization", "Bearer " + tokenMaster)
+                            .header(HttpHeaders.IF_NONE_MATCH, etag))
+                    .andExpect(status().isNotModified())
+                    .andExpect(header().string(HttpHeaders.ETAG, etag));
+        }
+
+        @Test
+        @DisplayName("Deve retornar 412 quando o If-Match de uma escrita é o ETag parcial")
+        void atualizar_quandoIfMatchParcial_deveRetornar412() throws Exception {
+            String url = USUARIOS_URL + "/" + usuarioCliente.getId();
+            String etag = mockMvc.perform(get(url + "?fields=nome").header("Authorization", "Bearer " + tokenMaster))
+                    .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+            mockMvc.perform(put(url)
+                            .header("Authorization", "Bearer " + tokenMaster)
+                            .header(HttpHeaders.IF_MATCH, etag)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(toJson(new UsuarioUpdateDTO("Nome Novo", null, null))))
+                    .andExpect(status().isPreconditionFailed());
+        }
+
+        @Test
+        @DisplayName("Deve retornar 404 quando o usuário não existe")
+        void buscar_quandoInexistente_deveRetornar404() throws Exception {
+            mockMvc.perform(get(USUARIOS_URL + "/99999?fields=id")
+                            .header("Authorization", "Bearer " + tokenMaster))
+                    .andExpect(status().isNotFound());
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.restaurantefiap.integration;
+
+import com.restaurantefiap.observability.FiltroCorrelacao;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.Matchers.matchesPattern;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Testes de integração do id de correlação ({@link FiltroCorrelacao}).
+ *
+ * @author Danilo de Paula
+ */
+class CorrelacaoIntegrationTest extends IntegrationTestBase {
+
+    @Test
+    @DisplayName("Resposta recusada pelo Spring Security também deve levar o id gerado")
+    void requisicao_semToken_deveDevolverIdGerado() throws Exception {
+        mockMvc.perform(get("/v1/usuarios/page"))
+                .andExpect(status().isForbidden())
+                .andExpect(header().string(FiltroCorrelacao.CABECALHO, matchesPattern("[0-9a-f]{16}")));
+    }
+
+    @Test
+    @DisplayName("Deve devolver o id recebido do cliente")
+    void requisicao_comId_deveDevolverOMesmo() throws Exception {
+        mockMvc.perform(get("/actuator/health").header(FiltroCorrelacao.CABECALHO, "gateway-123"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(FiltroCorrelacao.CABECALHO, "gateway-123"));
+    }
+}
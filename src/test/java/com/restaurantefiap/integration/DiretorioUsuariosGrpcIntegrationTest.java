@@ -0,0 +1,216 @@
+package com.restaurantefiap.integration;
+
+import com.restaurantefiap.dto.request.AuthRequest;
+import com.restaurantefiap.dto.response.UsuarioResponseDTO;
+import com.restaurantefiap.grpc.AutenticacaoGrpcInterceptor;
+import com.restaurantefiap.grpc.DiretorioUsuariosGrpcService;
+import com.restaurantefiap.grpc.proto.BuscarEmLoteRequest;
+import com.restaurantefiap.grpc.proto.BuscarEmLoteResponse;
+import com.restaurantefiap.grpc.proto.BuscarPorIdRequest;
+import com.restaurantefiap.grpc.proto.DiretorioUsuariosGrpc;
+import com.restaurantefiap.grpc.proto.ItemLote;
+import com.restaurantefiap.grpc.proto.Role;
+import com.restaurantefiap.grpc.proto.StatusItemLote;
+import com.restaurantefiap.grpc.proto.Usuario;
+import com.restaurantefiap.service.UsuarioService;
+
+import io.grpc.ManagedChannel;
+import io.grpc.Metadata;
+import io.grpc.Server;
+import io.grpc.ServerInterceptors;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.MetadataUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Testes de integração do diretório gRPC de usuários ({@link DiretorioUsuariosGrpcService}).
+ * <p>Usa servidor e canal em memória com os beans reais: autenticação JWT, autorização,
+ * paridade com a API REST e busca em lote unária e em fluxo.</p>
+ *
+ * @author Danilo de Paula
+ */
+class DiretorioUsuariosGrpcIntegrationTest extends IntegrationTestBase {
+
+    @Autowired
+    private DiretorioUsuariosGrpcService diretorio;
+
+    @Autowired
+    private AutenticacaoGrpcInterceptor autenticacao;
+
+    @Autowired
+    private UsuarioService usuarioService;
+
+    private Server servidor;
+    private ManagedChannel canal;
+    private String tokenMaster;
+    private String tokenCliente;
+
+    @BeforeEach
+    void setUpServidor() throws Exception {
+        String nome = InProcessServerBuilder.generateName();
+        servidor = InProcessServerBuilder.forName(nome)
+                .directExecutor()
+                .addService(ServerInterceptors.intercept(diretorio, autenticacao))
+                .build()
+                .start();
+        canal = InProcessChannelBuilder.forName(nome).directExecutor().build();
+
+        tokenMaster = login(usuarioMaster.getLogin());
+        tokenCliente = login(usuarioCliente.getLogin());
+    }
+
+    @AfterEach
+    void tearDownServidor() {
+        canal.shutdownNow();
+        servidor.shutdownNow();
+    }
+
+    private String login(String login) throws Exception {
+        MvcResult result = mockMvc.perform(post("/v1/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(toJson(new AuthRequest(login, SENHA_PADRAO))))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        return objectMapper.readTree(result.getResponse().getContentAsString()).get("token").asText();
+    }
+
+    private DiretorioUsuariosGrpc.DiretorioUsuariosBlockingStub stub(String token) {
+        Metadata metadados = new Metadata();
+        metadados.put(Metadata.Key.of("authorization", Metadata.ASCII_STRING_MARSHALLER), "Bearer " + token);
+        return DiretorioUsuariosGrpc.newBlockingStub(canal)
+                .withInterceptors(MetadataUtils.newAttachHeadersInterceptor(metadados));
+    }
+
+    private static BuscarEmLoteRequest lote(Long... ids) {
+        return BuscarEmLoteRequest.newBuilder().addAllIds(List.of(ids)).build();
+    }
+
+    private static Status.Code codigo(Runnable chamada) {
+        return assertThrows(StatusRuntimeException.class, chamada::run).getStatus().getCode();
+    }
+
+    // ========================================================================
+    // AUTENTICAÇÃO
+    // ========================================================================
+
+    @Nested
+    @DisplayName("Autenticação JWT")
+    class AutenticacaoTests {
+
+        @Test
+        @DisplayName("Deve rejeitar chamada sem token")
+        void buscarPorId_quandoSemToken_deveRetornarUnauthenticated() {
+            var semToken = DiretorioUsuariosGrpc.newBlockingStub(canal);
+
+            assertEquals(Status.Code.UNAUTHENTICATED, codigo(() -> semToken.buscarPorId(
+                    BuscarPorIdRequest.newBuilder().setId(usuarioCliente.getId()).build())));
+        }
+
+        @Test
+        @DisplayName("Deve rejeitar token inválido")
+        void buscarPorId_quandoTokenInvalido_deveRetornarUnauthenticated() {
+            assertEquals(Status.Code.UNAUTHENTICATED, codigo(() -> stub("token.invalido.x").buscarPorId(
+                    BuscarPorIdRequest.newBuilder().setId(usuarioCliente.getId()).build())));
+        }
+    }
+
+    // ========================================================================
+    // BUSCA POR ID
+    // ========================================================================
+
+    @Nested
+    @DisplayName("BuscarPorId")
+    class BuscarPorIdTests {
+
+        @Test
+        @DisplayName("Deve espelhar o UsuarioResponseDTO da API REST")
+        void buscarPorId_quandoAdmin_deveEspelharDto() {
+            UsuarioResponseDTO esperado = usuarioService.buscarPorId(usuarioCliente.getId());
+
+            Usuario usuario = stub(tokenMaster).buscarPorId(
+                    BuscarPorIdRequest.newBuilder().setId(usuarioCliente.getId()).build());
+
+            assertEquals(esperado.id(), usuario.getId());
+            assertEquals(esperado.login(), usuario.getLogin());
+            assertEquals(esperado.email(), usuario.getEmail());
+            assertEquals(esperado.nome(), usuario.getNome());
+            assertEquals(esperado.telefone(), usuario.getTelefone());
+            assertEquals(Role.CLIENTE, usuario.getRole());
+            assertEquals(esperado.versao(), usuario.getVersao());
+        }
+
+        @Test
+        @DisplayName("Deve negar acesso a outro usuário para CLIENTE")
+        void buscarPorId_quandoClienteBuscaOutro_deveRetornarPermissionDenied() {
+            assertEquals(Status.Code.PERMISSION_DENIED, codigo(() -> stub(tokenCliente).buscarPorId(
+                    BuscarPorIdRequest.newBuilder().setId(usuarioMaster.getId()).build())));
+        }
+
+        @Test
+        @DisplayName("Deve retornar NOT_FOUND para usuário inexistente")
+        void buscarPorId_quandoInexistente_deveRetornarNotFound() {
+            assertEquals(Status.Code.NOT_FOUND, codigo(() -> stub(tokenMaster).buscarPorId(
+                    BuscarPorIdRequest.newBuilder().setId(99999L).build())));
+        }
+    }
+
+    // ========================================================================
+    // BUSCA EM LOTE
+    // ========================================================================
+
+    @Nested
+    @DisplayName("BuscarEmLote / BuscarEmLoteFluxo")
+    class BuscarEmLoteTests {
+
+        @Test
+        @DisplayName("Deve responder na ordem da requisição com o status de cada ID")
+        void buscarEmLote_quandoCliente_deveMarcarStatusPorId() {
+            BuscarEmLoteResponse resposta = stub(tokenCliente).buscarEmLote(
+                    lote(usuarioMaster.getId(), usuarioCliente.getId()));
+
+            assertEquals(2, resposta.getItensCount());
+            assertEquals(StatusItemLote.ACESSO_NEGADO, resposta.getItens(0).getStatus());
+            assertEquals(StatusItemLote.ENCONTRADO, resposta.getItens(1).getStatus());
+            assertEquals(usuarioCliente.getLogin(), resposta.getItens(1).getUsuario().getLogin());
+        }
+
+        @Test
+        @DisplayName("Deve entregar em fluxo os mesmos itens da chamada unária")
+        void buscarEmLoteFluxo_deveSerIgualAoUnario() {
+            BuscarEmLoteRequest requisicao = lote(
+                    usuarioCliente.getId(), 99999L, usuarioMaster.getId(), usuarioDonoRestaurante.getId());
+
+            List<ItemLote> fluxo = new ArrayList<>();
+            stub(tokenMaster).buscarEmLoteFluxo(requisicao).forEachRemaining(fluxo::add);
+
+            assertEquals(stub(tokenMaster).buscarEmLote(requisicao).getItensList(), fluxo);
+            assertEquals(StatusItemLote.NAO_ENCONTRADO, fluxo.get(1).getStatus());
+        }
+
+        @Test
+        @DisplayName("Deve retornar INVALID_ARGUMENT acima do limite de IDs")
+        void buscarEmLote_quandoAcimaDoLimite_deveRetornarInvalidArgument() {
+            assertEquals(Status.Code.INVALID_ARGUMENT, codigo(() -> stub(tokenMaster).buscarEmLote(
+                    lote(1L, 2L, 3L, 4L, 5L, 6L))));
+        }
+    }
+}
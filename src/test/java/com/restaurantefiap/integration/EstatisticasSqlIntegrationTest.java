@@ -0,0 +1,64 @@
+package com.restaurantefiap.integration;
+
+import com.restaurantefiap.dto.request.AuthRequest;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.startsWith;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Testes de integração das estatísticas de SQL ({@code /internal/sql}).
+ * <p>Valida que os comandos do Hibernate são medidos pelo DataSource e que o relatório
+ * é exclusivo do MASTER.</p>
+ *
+ * @author Danilo de Paula
+ */
+class EstatisticasSqlIntegrationTest extends IntegrationTestBase {
+
+    private String obterToken(String login) throws Exception {
+        MvcResult result = mockMvc.perform(post("/v1/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(toJson(new AuthRequest(login, SENHA_PADRAO))))
+                .andExpect(status().isOk())
+                .andReturn();
+        return objectMapper.readTree(result.getResponse().getContentAsString()).get("token").asText();
+    }
+
+    @Test
+    @DisplayName("Deve listar os comandos executados pelo Hibernate com contagem e tempos")
+    void sql_quandoMaster_deveRetornarComandosMedidos() throws Exception {
+        String token = obterToken(usuarioMaster.getLogin());
+        mockMvc.perform(delete("/internal/sql").header("Authorization", "Bearer " + token))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/v1/usuarios/" + usuarioCliente.getId())
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/internal/sql").param("limite", "50")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(greaterThan(0)))
+                .andExpect(jsonPath("$[*].operacao").value(hasItem("SELECT")))
+                .andExpect(jsonPath("$[0].comando").value(startsWith("select")))
+                .andExpect(jsonPath("$[0].execucoes").value(greaterThan(0)));
+    }
+
+    @Test
+    @DisplayName("Deve negar o relatório para quem não é MASTER")
+    void sql_quandoCliente_deveNegarAcesso() throws Exception {
+        mockMvc.perform(get("/internal/sql")
+                        .header("Authorization", "Bearer " + obterToken(usuarioCliente.getLogin())))
+                .andExpect(status().isForbidden());
+    }
+}
@@ -0,0 +1,234 @@
+package com.restaurantefiap.integration;
+
+import com.restaurantefiap.dto.request.AuthRequest;
+import com.restaurantefiap.dto.request.UsuarioRequestDTO;
+import com.restaurantefiap.enums.Role;
+import com.restaurantefiap.idempotency.FiltroIdempotencia;
+import com.restaurantefiap.idempotency.IdempotenciaService;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Testes de integração do cabeçalho {@code Idempotency-Key} em {@code POST /v1/usuarios}.
+ * <p>Valida a repetição sem reexecução, a chave reutilizada com outro corpo, duplicatas
+ * concorrentes e a limpeza das chaves expiradas (armazém em banco).</p>
+ *
+ * @author Danilo de Paula
+ */
+class IdempotenciaIntegrationTest extends IntegrationTestBase {
+
+    private static final String USUARIOS_URL = "/v1/usuarios";
+
+    @Autowired
+    private IdempotenciaService idempotenciaService;
+
+    private String tokenMaster;
+
+    @BeforeEach
+    void setUpToken() throws Exception {
+        MvcResult result = mockMvc.perform(post("/v1/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(toJson(new AuthRequest(usuarioMaster.getLogin(), SENHA_PADRAO))))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        tokenMaster = objectMapper.readTree(result.getResponse().getContentAsString()).get("token").asText();
+    }
+
+    private static UsuarioRequestDTO novoUsuario(String login) {
+        return new UsuarioRequestDTO(login, login + "@teste.com", "Usuario Idempotente",
+                "11988887777", Role.CLIENTE, "NovaSenha@123", null);
+    }
+
+    private MvcResult criar(String chave, UsuarioRequestDTO request) throws Exception {
+        return mockMvc.perform(post(USUARIOS_URL)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(toJson(request))
+                        .header(FiltroIdempotencia.CABECALHO_CHAVE, chave)
+                        .header("Authorization", "Bearer " + tokenMaster))
+                .andReturn();
+    }
+
+    private int contarUsuarios(String login) {
+        Integer total = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM usuarios WHERE login = ?", Integer.class, login);
+        return total == null ? 0 : total;
+    }
+
+    // ========================================================================
+    // REPETIÇÃO
+    // ========================================================================
+
+    @Nested
+    @DisplayName("POST /usuarios com Idempotency-Key")
+    class RepeticaoTests {
+
+        @Test
+        @DisplayName("Deve devolver a resposta original sem criar outro usuário")
+        void criar_quandoRepetida_deveDevolverRespostaGravada() throws Exception {
+            // Arrange
+            MvcResult primeira = criar("chave-1", novoUsuario("idem.um"));
+
+            // Act
+            MvcResult segunda = criar("chave-1", novoUsuario("idem.um"));
+
+            // Assert
+            assertEquals(201, primeira.getResponse().getStatus());
+            assertNull(primeira.getResponse().getHeader(FiltroIdempotencia.CABECALHO_REPETIDA));
+            assertEquals(201, segunda.getResponse().getStatus());
+            assertEquals("true", segunda.getResponse().getHeader(FiltroIdempotencia.CABECALHO_REPETIDA));
+            assertEquals(primeira.getResponse().getContentAsString(), segunda.getResponse().getContentAsString());
+            assertEquals(1, contarUsuarios("idem.um"));
+        }
+
+        @Test
+        @DisplayName("Deve retornar 422 quando a chave é reutilizada com outro corpo")
+        void criar_quandoCorpoDiferente_deveRetornar422() throws Exception {
+            criar("chave-2", novoUsuario("idem.dois"));
+
+            mockMvc.perform(post(USUARIOS_URL)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(toJson(novoUsuario("idem.outro")))
+                            .header(FiltroIdempotencia.CABECALHO_CHAVE, "chave-2")
+                            .header("Authorization", "Bearer " + tokenMaster))
+                    .andExpect(status().isUnprocessableEntity())
+                    .andExpect(jsonPath("$.title").value("Idempotency Key Reused"));
+
+            assertEquals(0, contarUsuarios("idem.outro"));
+        }
+
+        @Test
+        @DisplayName("Deve repetir também respostas de erro 4xx")
+        void criar_quandoPrimeiraFalhouCom4xx_deveRepetirErro() throws Exception {
+            criar("chave-3", novoUsuario("idem.tres"));
+            criarUsuarioTeste("idem.dup", "idem.dup@teste.com", "Duplicado", Role.CLIENTE);
+
+            MvcResult primeira = criar("chave-4", novoUsuario("idem.dup"));
+            MvcResult segunda = criar("chave-4", novoUsuario("idem.dup"));
+
+            assertEquals(409, primeira.getResponse().getStatus());
+            assertEquals(409, segunda.getResponse().getStatus());
+            assertEquals("true", segunda.getResponse().getHeader(FiltroIdempotencia.CABECALHO_REPETIDA));
+        }
+
+        @Test
+        @DisplayName("Deve retornar 400 para chave vazia")
+        void criar_quandoChaveVazia_deveRetornar400() throws Exception {
+            mockMvc.perform(post(USUARIOS_URL)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(toJson(novoUsuario("idem.vazia")))
+                            .header(FiltroIdempotencia.CABECALHO_CHAVE, " ")
+                            .header("Authorization", "Bearer " + tokenMaster))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.type").value("https://api.restaurante.com/errors/invalid-idempotency-key"));
+        }
+
+        @Test
+        @DisplayName("Não deve aplicar a chave sem autenticação")
+        void criar_quandoSemToken_deveRetornar401() throws Exception {
+            mockMvc.perform(post(USUARIOS_URL)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(toJson(novoUsuario("idem.anonimo")))
+                            .header(FiltroIdempotencia.CABECALHO_CHAVE, "chave-anonima"))
+                    .andExpect(status().is4xxClientError())
+                    .andExpect(header().doesNotExist(FiltroIdempotencia.CABECALHO_REPETIDA));
+
+            Integer chaves = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM chaves_idempotencia", Integer.class);
+            assertEquals(0, chaves);
+        }
+
+        @Test
+        @DisplayName("Deve retornar 413 quando o corpo excede o limite")
+        void criar_quandoCorpoExcedeLimite_deveRetornar413() throws Exception {
+            mockMvc.perform(post(USUARIOS_URL)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"nome\":\"" + "x".repeat(70_000) + "\"}")
+                            .header(FiltroIdempotencia.CABECALHO_CHAVE, "chave-grande")
+                            .header("Authorization", "Bearer " + tokenMaster))
+                    .andExpect(status().isPayloadTooLarge())
+                    .andExpect(jsonPath("$.type").value("https://api.restaurante.com/errors/idempotent-request-too-large"));
+
+            Integer chaves = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM chaves_idempotencia", Integer.class);
+            assertEquals(0, chaves);
+        }
+    }
+
+    // ========================================================================
+    // CONCORRÊNCIA E LIMPEZA
+    // ========================================================================
+
+    @Nested
+    @DisplayName("Duplicatas concorrentes e limpeza")
+    class ConcorrenciaTests {
+
+        @Test
+        @DisplayName("Deve criar um único usuário para duplicatas simultâneas")
+        void criar_quandoDuplicatasConcorrentes_deveExecutarUmaVez() throws Exception {
+            // Arrange
+            int paralelas = 4;
+            CountDownLatch largada = new CountDownLatch(1);
+            Callable<MvcResult> tentativa = () -> {
+                largada.await();
+                return criar("chave-concorrente", novoUsuario("idem.concorrente"));
+            };
+            ExecutorService executor = Executors.newFixedThreadPool(paralelas);
+
+            try {
+                // Act
+                List<Future<MvcResult>> futuros = new ArrayList<>();
+                for (int i = 0; i < paralelas; i++) {
+                    futuros.add(executor.submit(tentativa));
+                }
+                largada.countDown();
+
+                // Assert
+                int repetidas = 0;
+                for (Future<MvcResult> futuro : futuros) {
+                    MvcResult resultado = futuro.get();
+                    assertEquals(201, resultado.getResponse().getStatus());
+                    if ("true".equals(resultado.getResponse().getHeader(FiltroIdempotencia.CABECALHO_REPETIDA))) {
+                        repetidas++;
+                    }
+                }
+                assertEquals(paralelas - 1, repetidas);
+                assertEquals(1, contarUsuarios("idem.concorrente"));
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+
+        @Test
+        @DisplayName("Deve remover chaves expiradas e permitir nova execução")
+        void limparExpiradas_quandoTtlPassou_deveRemoverChave() throws Exception {
+            criar("chave-expirada", novoUsuario("idem.expirada"));
+            jdbcTemplate.update("UPDATE chaves_idempotencia SET expira_em = ?", LocalDateTime.now().minusMinutes(1));
+
+            assertEquals(1, idempotenciaService.limparExpiradas());
+
+            Integer chaves = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM chaves_idempotencia", Integer.class);
+            assertEquals(0, chaves);
+        }
+    }
+}
@@ -3,8 +3,10 @@ package com.restaurantefiap.integration;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.restaurantefiap.entities.usuario.Usuario;
 import com.restaurantefiap.enums.Role;
+import com.restaurantefiap.observability.EstatisticasSql;
 import com.restaurantefiap.repository.UsuarioRepository;
 import com.restaurantefiap.security.PasswordHasher;
+import com.restaurantefiap.util.ContadorSql;
 
 import org.junit.jupiter.api.BeforeEach;
 
@@ -44,6 +46,9 @@ public abstract class IntegrationTestBase {
     @Autowired
     protected JdbcTemplate jdbcTemplate;
 
+    @Autowired
+    protected EstatisticasSql estatisticasSql;
+
     protected Usuario usuarioMaster;
     protected Usuario usuarioDonoRestaurante;
     protected Usuario usuarioCliente;
@@ -80,6 +85,9 @@ public abstract class IntegrationTestBase {
         // H2 em memória: limpa fisicamente para evitar conflitos com soft delete
         // Ajuste a ordem se tiver FK's em outras tabelas
         jdbcTemplate.execute("DELETE FROM usuarios");
+        jdbcTemplate.execute("DELETE FROM usuarios_arquivados");
+        jdbcTemplate.execute("DELETE FROM usuarios_outbox");
+        jdbcTemplate.execute("DELETE FROM chaves_idempotencia");
     }
 
     private static String sufixoUnico() {
@@ -99,7 +107,20 @@ public abstract class IntegrationTestBase {
         return usuarioRepository.save(usuario);
     }
 
+    /**
+     * Executa a ação e conta os comandos SQL disparados, para assertar orçamentos de consultas.
+     * <p>Ex.: {@code contarSql(() -> mockMvc.perform(get("/v1/usuarios/me"))).noMaximo(OperacaoSql.SELECT, 1)}.</p>
+     */
+    protected ContadorSql contarSql(ContadorSql.Acao acao) throws Exception {
+        return ContadorSql.contar(estatisticasSql, acao);
+    }
+
     protected String toJson(Object obj) throws Exception {
         return objectMapper.writeValueAsString(obj);
     }
+
+    /** ETag forte de um usuário ({@code "<id>-<versao>"}). */
+    protected static String etag(Long id, long versao) {
+        return "\"" + id + "-" + versao + "\"";
+    }
 }
@@ -0,0 +1,71 @@
+package com.restaurantefiap.integration;
+
+import com.restaurantefiap.concurrency.FiltroLimiteConcorrencia;
+import com.restaurantefiap.dto.request.AuthRequest;
+import com.restaurantefiap.enums.ParticaoConcorrencia;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Testes de integração do limite adaptativo de concorrência.
+ * <p>Valida que as requisições passam pelo filtro (por partição), devolvem a vaga ao
+ * terminar e que o estado dos limites fica disponível para MASTER.</p>
+ *
+ * @author Danilo de Paula
+ */
+class LimiteConcorrenciaIntegrationTest extends IntegrationTestBase {
+
+    @Autowired
+    private FiltroLimiteConcorrencia filtro;
+
+    private String obterToken(String login) throws Exception {
+        MvcResult result = mockMvc.perform(post("/v1/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(toJson(new AuthRequest(login, SENHA_PADRAO))))
+                .andExpect(status().isOk())
+                .andReturn();
+        return objectMapper.readTree(result.getResponse().getContentAsString()).get("token").asText();
+    }
+
+    @Test
+    @DisplayName("Deve contar login e leitura em partições separadas e liberar as vagas")
+    void requisicoes_quandoAceitas_deveContarPorParticao() throws Exception {
+        long authAntes = filtro.getLimites().get(ParticaoConcorrencia.AUTH).getAceitas();
+        long leituraAntes = filtro.getLimites().get(ParticaoConcorrencia.LEITURA).getAceitas();
+
+        String token = obterToken(usuarioMaster.getLogin());
+        mockMvc.perform(get("/v1/usuarios/" + usuarioMaster.getId())
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+
+        assertTrue(filtro.getLimites().get(ParticaoConcorrencia.AUTH).getAceitas() > authAntes);
+        assertTrue(filtro.getLimites().get(ParticaoConcorrencia.LEITURA).getAceitas() > leituraAntes);
+        assertEquals(0, filtro.getLimites().get(ParticaoConcorrencia.AUTH).getEmUso());
+    }
+
+    @Test
+    @DisplayName("Deve expor os limites para MASTER e negar para cliente")
+    void limites_quandoMaster_deveRetornarParticoes() throws Exception {
+        mockMvc.perform(get("/internal/limites")
+                        .header("Authorization", "Bearer " + obterToken(usuarioMaster.getLogin())))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(3))
+                .andExpect(jsonPath("$[0].particao").value("AUTH"))
+                .andExpect(jsonPath("$[0].limite").isNumber());
+
+        mockMvc.perform(get("/internal/limites")
+                        .header("Authorization", "Bearer " + obterToken(usuarioCliente.getLogin())))
+                .andExpect(status().isForbidden());
+    }
+}
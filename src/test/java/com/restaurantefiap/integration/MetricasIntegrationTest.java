@@ -0,0 +1,85 @@
+package com.restaurantefiap.integration;
+
+import com.restaurantefiap.dto.request.AuthRequest;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Testes de integração das métricas (Actuator + Prometheus).
+ * <p>Valida que o caminho de login e leitura aparece em {@code /actuator/prometheus}
+ * com tags de baixa cardinalidade e que só o health é público — o Prometheus e os demais
+ * endpoints do Actuator exigem MASTER.</p>
+ *
+ * @author Danilo de Paula
+ */
+@AutoConfigureObservability(tracing = false)
+class MetricasIntegrationTest extends IntegrationTestBase {
+
+    private String obterToken(String login) throws Exception {
+        MvcResult result = mockMvc.perform(post("/v1/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(toJson(new AuthRequest(login, SENHA_PADRAO))))
+                .andExpect(status().isOk())
+                .andReturn();
+        return objectMapper.readTree(result.getResponse().getContentAsString()).get("token").asText();
+    }
+
+    @Test
+    @DisplayName("Deve expor timers de endpoint, JWT, BCrypt e repositório no formato Prometheus")
+    void prometheus_aposLoginELeitura_deveConterTimersDoCaminhoQuente() throws Exception {
+        // Arrange
+        String token = obterToken(usuarioMaster.getLogin());
+        mockMvc.perform(get("/v1/usuarios/" + usuarioCliente.getId())
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+
+        // Act
+        String corpo = mockMvc.perform(get("/actuator/prometheus")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        // Assert
+        assertTrue(corpo.contains("http_server_requests_seconds_bucket{"), "histograma por endpoint");
+        assertTrue(corpo.contains("uri=\"/v1/usuarios/{id"), "URI pelo template, não pelo ID");
+        assertFalse(corpo.contains("uri=\"/v1/usuarios/" + usuarioCliente.getId() + "\""));
+        assertTrue(corpo.contains("jwt_operacoes_seconds_count{"));
+        assertTrue(corpo.contains("operacao=\"assinar\""));
+        assertTrue(corpo.contains("senha_hash_seconds_count{"));
+        assertTrue(corpo.contains("spring_data_repository_invocations_seconds_count{"));
+        assertTrue(corpo.contains("hikaricp_connections_active{"));
+        assertTrue(corpo.contains("jvm_memory_used_bytes{"));
+        assertTrue(corpo.contains("usuarios_cache_json_consultas_total{"));
+        assertTrue(corpo.contains("circuito_estado{"));
+    }
+
+    @Test
+    @DisplayName("Health deve ser público; Prometheus e demais endpoints só para MASTER")
+    void actuator_quandoNaoMaster_deveRestringirEndpoints() throws Exception {
+        mockMvc.perform(get("/actuator/health")).andExpect(status().isOk());
+
+        mockMvc.perform(get("/actuator/prometheus")).andExpect(status().isForbidden());
+
+        mockMvc.perform(get("/actuator/prometheus")
+                        .header("Authorization", "Bearer " + obterToken(usuarioCliente.getLogin())))
+                .andExpect(status().isForbidden());
+
+        mockMvc.perform(get("/actuator/metrics")
+                        .header("Authorization", "Bearer " + obterToken(usuarioCliente.getLogin())))
+                .andExpect(status().isForbidden());
+
+        mockMvc.perform(get("/actuator/metrics")
+                        .header("Authorization", "Bearer " + obterToken(usuarioMaster.getLogin())))
+                .andExpect(status().isOk());
+    }
+}
@@ -0,0 +1,201 @@
+package com.restaurantefiap.integration;
+
+import com.restaurantefiap.dto.request.AuthRequest;
+import com.restaurantefiap.dto.request.UsuarioUpdateDTO;
+import com.restaurantefiap.enums.TipoEventoUsuario;
+import com.restaurantefiap.events.BrokerEventos;
+import com.restaurantefiap.events.UsuarioAlteradoEvento;
+import com.restaurantefiap.service.OutboxUsuariosService;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Testes de integração da outbox de eventos de usuários.
+ * <p>Valida a gravação na mesma transação da alteração, a publicação em lotes
+ * no barramento local e no broker, e o filtro de eco por nó.</p>
+ *
+ * @author Danilo de Paula
+ */
+@RecordApplicationEvents
+class OutboxUsuariosIntegrationTest extends IntegrationTestBase {
+
+    private static final String USUARIOS_URL = "/v1/usuarios";
+
+    @Autowired
+    private OutboxUsuariosService outboxService;
+
+    @Autowired
+    private BrokerEventos broker;
+
+    @Autowired
+    private ApplicationEvents eventos;
+
+    private String tokenMaster;
+
+    @BeforeEach
+    void setUpToken() throws Exception {
+        MvcResult result = mockMvc.perform(post("/v1/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(toJson(new AuthRequest(usuarioMaster.getLogin(), SENHA_PADRAO))))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        tokenMaster = objectMapper.readTree(result.getResponse().getContentAsString()).get("token").asText();
+    }
+
+    private int pendentes() {
+        Integer total = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM usuarios_outbox WHERE publicado_em IS NULL", Integer.class);
+        return total == null ? 0 : total;
+    }
+
+    private List<UsuarioAlteradoEvento> eventosLocais() {
+        return eventos.stream(UsuarioAlteradoEvento.class).toList();
+    }
+
+    // ========================================================================
+    // GRAVAÇÃO
+    // ========================================================================
+
+    @Nested
+    @DisplayName("Gravação na outbox")
+    class GravacaoTests {
+
+        @Test
+        @DisplayName("Deve gravar evento pendente na mesma transação da atualização e da exclusão")
+        void alterar_quandoConfirmado_deveGravarEventos() throws Exception {
+            Long id = usuarioCliente.getId();
+
+            mockMvc.perform(put(USUARIOS_URL + "/" + id)
+                            .header("Authorization", "Bearer " + tokenMaster)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(toJson(new UsuarioUpdateDTO("Nome Novo", null, null))))
+                    .andExpect(status().isOk());
+            mockMvc.perform(delete(USUARIOS_URL + "/" + id)
+                            .header("Authorization", "Bearer " + tokenMaster))
+                    .andExpect(status().isNoContent());
+
+            List<String> tipos = jdbcTemplate.queryForList(
+                    "SELECT tipo FROM usuarios_outbox WHERE usuario_id = ? ORDER BY id", String.class, id);
+            assertEquals(List.of("ATUALIZADO", "EXCLUIDO"), tipos);
+            assertTrue(eventosLocais().isEmpty(), "Nada deve ser publicado antes do poller");
+        }
+
+        @Test
+        @DisplayName("Não deve gravar evento quando a alteração é rejeitada")
+        void atualizar_quandoRejeitado_naoDeveGravarEvento() throws Exception {
+            mockMvc.perform(put(USUARIOS_URL + "/" + usuarioCliente.getId())
+                            .header("Authorization", "Bearer " + tokenMaster)
+                            .header(HttpHeaders.IF_MATCH, etag(usuarioCliente.getId(), 99))
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(toJson(new UsuarioUpdateDTO("Nome Novo", null, null))))
+                    .andExpect(status().isPreconditionFailed());
+
+            assertEquals(0, pendentes());
+        }
+    }
+
+    // ========================================================================
+    // PUBLICAÇÃO
+    // ========================================================================
+
+    @Nested
+    @DisplayName("Publicação pelo poller")
+    class PublicacaoTests {
+
+        @Test
+        @DisplayName("Deve publicar pendentes no barramento local e marcar como publicados")
+        void publicarPendentes_quandoHaEventos_devePublicarEMarcar() throws Exception {
+            mockMvc.perform(put(USUARIOS_URL + "/" + usuarioCliente.getId())
+                            .header("Authorization", "Bearer " + tokenMaster)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(toJson(new UsuarioUpdateDTO("Nome Novo", null, null))))
+                    .andExpect(status().isOk());
+
+            int publicados = outboxService.publicarPendentes();
+
+            assertEquals(1, publicados);
+            assertEquals(0, pendentes());
+            List<UsuarioAlteradoEvento> locais = eventosLocais();
+            assertEquals(1, locais.size());
+            assertEquals(usuarioCliente.getId(), locais.get(0).usuarioId());
+            assertEquals(TipoEventoUsuario.ATUALIZADO, locais.get(0).tipo());
+
+            assertEquals(0, outboxService.publicarPendentes(), "Eventos já publicados não devem ser reenviados");
+        }
+
+        @Test
+        @DisplayName("Deve assumir eventos órfãos de outro nó após o prazo")
+        void publicarPendentes_quandoEventoOrfao_devePublicar() {
+            jdbcTemplate.update("INSERT INTO usuarios_outbox (usuario_id, tipo, no_origem, criado_em) VALUES (?, ?, ?, ?)",
+                    usuarioCliente.getId(), "ATUALIZADO", "no-caido", LocalDateTime.now().minusMinutes(10));
+            jdbcTemplate.update("INSERT INTO usuarios_outbox (usuario_id, tipo, no_origem, criado_em) VALUES (?, ?, ?, ?)",
+                    usuarioCliente.getId(), "ATUALIZADO", "no-vivo", LocalDateTime.now());
+
+            assertEquals(1, outboxService.publicarPendentes());
+            assertEquals(1, pendentes(), "Evento recente de outro nó fica com o nó de origem");
+        }
+
+        @Test
+        @DisplayName("Deve expor métricas de atraso para MASTER")
+        void status_quandoMaster_deveRetornarMetricas() throws Exception {
+            mockMvc.perform(get(USUARIOS_URL + "/eventos/status")
+                            .header("Authorization", "Bearer " + tokenMaster))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.no").value("no-teste"))
+                    .andExpect(jsonPath("$.pendentes").value(0));
+        }
+    }
+
+    // ========================================================================
+    // BROKER ENTRE NÓS
+    // ========================================================================
+
+    @Nested
+    @DisplayName("Entrega entre nós pelo broker")
+    class BrokerTests {
+
+        @Test
+        @DisplayName("Deve republicar localmente eventos de outros nós")
+        void receber_quandoEventoRemoto_deveEntregarLocalmente() {
+            UsuarioAlteradoEvento remoto = new UsuarioAlteradoEvento(
+                    500L, usuarioCliente.getId(), TipoEventoUsuario.SENHA_ALTERADA, "outro-no", LocalDateTime.now());
+
+            broker.enviar(List.of(remoto));
+
+            assertEquals(List.of(remoto), eventosLocais());
+        }
+
+        @Test
+        @DisplayName("Deve ignorar o eco dos eventos do próprio nó")
+        void receber_quandoEventoDoProprioNo_naoDeveDuplicar() {
+            UsuarioAlteradoEvento eco = new UsuarioAlteradoEvento(
+                    501L, usuarioCliente.getId(), TipoEventoUsuario.EXCLUIDO, "no-teste", LocalDateTime.now());
+
+            broker.enviar(List.of(eco));
+
+            assertTrue(eventosLocais().isEmpty());
+        }
+    }
+}
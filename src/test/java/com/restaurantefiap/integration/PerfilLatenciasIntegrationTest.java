@@ -0,0 +1,70 @@
+package com.restaurantefiap.integration;
+
+import com.restaurantefiap.dto.request.AuthRequest;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.hasItem;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Testes de integração do perfil de latências ({@code /internal/perf}).
+ * <p>Valida que a rota é identificada pelo template, que as etapas do pipeline são
+ * medidas e que o relatório é exclusivo do MASTER.</p>
+ *
+ * @author Danilo de Paula
+ */
+class PerfilLatenciasIntegrationTest extends IntegrationTestBase {
+
+    private String obterToken(String login) throws Exception {
+        MvcResult result = mockMvc.perform(post("/v1/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(toJson(new AuthRequest(login, SENHA_PADRAO))))
+                .andExpect(status().isOk())
+                .andReturn();
+        return objectMapper.readTree(result.getResponse().getContentAsString()).get("token").asText();
+    }
+
+    @Test
+    @DisplayName("Deve retornar percentis por rota e por etapa do pipeline")
+    void perf_quandoMaster_deveRetornarRotasEEtapas() throws Exception {
+        String token = obterToken(usuarioMaster.getLogin());
+        mockMvc.perform(delete("/internal/perf").header("Authorization", "Bearer " + token))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/v1/usuarios/page").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/v1/usuarios/" + usuarioCliente.getId())
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/internal/perf").param("janela", "60")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.janelaSegundos").value(60))
+                .andExpect(jsonPath("$.rotas[*].nome").value(hasItem("GET /v1/usuarios/page")))
+                .andExpect(jsonPath("$.rotas[*].nome").value(hasItem("GET /v1/usuarios/{id:\\d+}")))
+                .andExpect(jsonPath("$.rotas[?(@.nome == 'GET /v1/usuarios/page')].p99Ms").value(hasItem(greaterThan(0.0))))
+                .andExpect(jsonPath("$.etapas[*].nome").value(contains(
+                        "FILTRO", "AUTORIZACAO", "SERVICO", "REPOSITORIO", "SERIALIZACAO")))
+                .andExpect(jsonPath("$.etapas[*].amostras").value(contains(
+                        greaterThan(1), greaterThan(1), greaterThan(1), greaterThan(1), greaterThan(1))));
+    }
+
+    @Test
+    @DisplayName("Deve negar o relatório para quem não é MASTER")
+    void perf_quandoCliente_deveNegarAcesso() throws Exception {
+        mockMvc.perform(get("/internal/perf")
+                        .header("Authorization", "Bearer " + obterToken(usuarioCliente.getLogin())))
+                .andExpect(status().isForbidden());
+    }
+}
@@ -0,0 +1,67 @@
+package com.restaurantefiap.integration;
+
+import com.restaurantefiap.config.DataSourceLimitado;
+import com.restaurantefiap.dto.request.AuthRequest;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MvcResult;
+
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Testes de integração do perfil {@code virtual}.
+ * <p>Valida que o limite de concorrência envolve o DataSource e que o relatório
+ * de pinning fica disponível para MASTER.</p>
+ *
+ * @author Danilo de Paula
+ */
+@ActiveProfiles("virtual")
+class PerfilVirtualIntegrationTest extends IntegrationTestBase {
+
+    @Autowired
+    private DataSource dataSource;
+
+    private String obterToken(String login) throws Exception {
+        MvcResult result = mockMvc.perform(post("/v1/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(toJson(new AuthRequest(login, SENHA_PADRAO))))
+                .andExpect(status().isOk())
+                .andReturn();
+        return objectMapper.readTree(result.getResponse().getContentAsString()).get("token").asText();
+    }
+
+    @Test
+    @DisplayName("Deve envolver o DataSource com o limite de concorrência e devolver as permissões")
+    void dataSource_quandoPerfilVirtual_deveSerLimitado() throws Exception {
+        DataSourceLimitado limitado = assertInstanceOf(DataSourceLimitado.class, dataSource);
+
+        obterToken(usuarioMaster.getLogin());
+
+        assertEquals(20, limitado.getMaximo());
+        assertEquals(0, limitado.getEmUso());
+    }
+
+    @Test
+    @DisplayName("Deve expor o relatório de pinning para MASTER e negar para cliente")
+    void pinning_quandoMonitorAtivo_deveRetornarRelatorio() throws Exception {
+        mockMvc.perform(get("/internal/pinning")
+                        .header("Authorization", "Bearer " + obterToken(usuarioMaster.getLogin())))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$").isArray());
+
+        mockMvc.perform(get("/internal/pinning")
+                        .header("Authorization", "Bearer " + obterToken(usuarioCliente.getLogin())))
+                .andExpect(status().isForbidden());
+    }
+}
@@ -0,0 +1,299 @@
+package com.restaurantefiap.integration;
+
+import com.restaurantefiap.dto.request.AuthRequest;
+import com.restaurantefiap.enums.EstadoCircuito;
+import com.restaurantefiap.grpc.AutenticacaoGrpcInterceptor;
+import com.restaurantefiap.grpc.DiretorioUsuariosGrpcService;
+import com.restaurantefiap.grpc.proto.BuscarEmLoteRequest;
+import com.restaurantefiap.grpc.proto.BuscarPorIdRequest;
+import com.restaurantefiap.grpc.proto.DiretorioUsuariosGrpc;
+import com.restaurantefiap.resilience.CircuitBreaker;
+import com.restaurantefiap.service.ResilienciaLeiturasUsuario;
+import com.restaurantefiap.service.RevalidadorLeiturasUsuario;
+import com.restaurantefiap.util.DataSourceComFalhas;
+
+import io.grpc.ManagedChannel;
+import io.grpc.Metadata;
+import io.grpc.Server;
+import io.grpc.ServerInterceptors;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.MetadataUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MvcResult;
+
+import javax.sql.DataSource;
+import java.util.function.Supplier;
+
+import static org.hamcrest.Matchers.endsWith;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Testes de integração do circuit breaker das leituras de usuários.
+ * <p>Um {@link DataSourceComFalhas} na frente do H2 simula o banco fora do ar e lento:
+ * valida o último valor conhecido ({@code X-Stale}), o 503 das demais leituras, a
+ * autenticação com a credencial conhecida, a revalidação ao meio-abrir e o diretório gRPC
+ * sob o mesmo circuito.</p>
+ *
+ * @author Danilo de Paula
+ */
+@Import(ResilienciaLeiturasIntegrationTest.FalhasBancoConfig.class)
+@TestPropertySource(properties = {
+        "usuarios.resiliencia.limiar-falhas=2",
+        "usuarios.resiliencia.limite-lento-ms=150",
+        "usuarios.resiliencia.tempo-aberto-ms=200"
+})
+class ResilienciaLeiturasIntegrationTest extends IntegrationTestBase {
+
+    private static final String USUARIOS_URL = "/v1/usuarios";
+    private static final long TEMPO_ABERTO_MS = 200;
+
+    @TestConfiguration
+    static class FalhasBancoConfig {
+
+        @Bean
+        static BeanPostProcessor dataSourceComFalhasPostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource && !(bean instanceof DataSourceComFalhas)
+                            ? new DataSourceComFalhas(dataSource)
+                            : bean;
+                }
+            };
+        }
+    }
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private ResilienciaLeiturasUsuario resiliencia;
+
+    @Autowired
+    private RevalidadorLeiturasUsuario revalidador;
+
+    @Autowired
+    private DiretorioUsuariosGrpcService diretorio;
+
+    @Autowired
+    private AutenticacaoGrpcInterceptor autenticacao;
+
+    private String tokenMaster;
+
+    private DataSourceComFalhas banco() {
+        return (DataSourceComFalhas) dataSource;
+    }
+
+    @BeforeEach
+    void setUpToken() throws Exception {
+        MvcResult result = mockMvc.perform(post("/v1/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(toJson(new AuthRequest(usuarioMaster.getLogin(), SENHA_PADRAO))))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        tokenMaster = objectMapper.readTree(result.getResponse().getContentAsString()).get("token").asText();
+    }
+
+    @AfterEach
+    void restaurarBanco() throws InterruptedException {
+        banco().normalizar();
+        // O circuito é do contexto (compartilhado): fecha com uma chamada de teste bem-sucedida.
+        while (resiliencia.getCircuito().getEstado() != EstadoCircuito.FECHADO) {
+            Thread.sleep(TEMPO_ABERTO_MS);
+            resiliencia.executar(() -> Boolean.TRUE);
+        }
+    }
+
+    // ========================================================================
+    // BANCO FORA DO AR
+    // ========================================================================
+
+    @Nested
+    @DisplayName("Banco fora do ar")
+    class IndisponivelTests {
+
+        @Test
+        @DisplayName("Deve servir o último valor conhecido com X-Stale e recusar as demais leituras")
+        void buscarPorId_quandoBancoFalha_deveServirUltimoConhecido() throws Exception {
+            String url = USUARIOS_URL + "/" + usuarioCliente.getId();
+            mockMvc.perform(get(url).header("Authorization", "Bearer " + tokenMaster))
+                    .andExpect(status().isOk())
+                    .andExpect(header().doesNotExist("X-Stale"));
+
+            banco().falhar(true);
+
+            // Autenticação com a credencial conhecida; leitura com o JSON conhecido
+            mockMvc.perform(get(url).header("Authorization", "Bearer " + tokenMaster))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("X-Stale", "true"))
+                    .andExpect(header().exists(HttpHeaders.AGE))
+                    .andExpect(header().exists(HttpHeaders.ETAG))
+                    .andExpect(jsonPath("$.login").value(usuarioCliente.getLogin()));
+            assertEquals(EstadoCircuito.ABERTO, resiliencia.getCircuito().getEstado());
+
+            mockMvc.perform(get(USUARIOS_URL + "/page").header("Authorization", "Bearer " + tokenMaster))
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(header().exists(HttpHeaders.RETRY_AFTER))
+                    .andExpect(jsonPath("$.type").value("https://api.restaurante.com/errors/service-unavailable"));
+
+            // Sem valor conhecido para este usuário
+            mockMvc.perform(get(USUARIOS_URL + "/" + usuarioDonoRestaurante.getId())
+                            .header("Authorization", "Bearer " + tokenMaster))
+                    .andExpect(status().isServiceUnavailable());
+        }
+
+        @Test
+        @DisplayName("fields= deve servir os campos pedidos recortados do último valor conhecido")
+        void buscarParcialPorId_quandoBancoFalha_deveRecortarUltimoConhecido() throws Exception {
+            String url = USUARIOS_URL + "/" + usuarioCliente.getId();
+            mockMvc.perform(get(url).header("Authorization", "Bearer " + tokenMaster))
+                    .andExpect(status().isOk());
+
+            banco().falhar(true);
+
+            mockMvc.perform(get(url).param("fields", "nome,id").header("Authorization", "Bearer " + tokenMaster))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("X-Stale", "true"))
+                    .andExpect(header().exists(HttpHeaders.AGE))
+                    .andExpect(header().string(HttpHeaders.ETAG, endsWith("-c9\"")))
+                    .andExpect(jsonPath("$.id").value(usuarioCliente.getId()))
+                    .andExpect(jsonPath("$.nome").value(usuarioCliente.getNome()))
+                    .andExpect(jsonPath("$.login").doesNotExist());
+
+            mockMvc.perform(get(USUARIOS_URL + "/" + usuarioDonoRestaurante.getId())
+                            .param("fields", "id,nome")
+                            .header("Authorization", "Bearer " + tokenMaster))
+                    .andExpect(status().isServiceUnavailable());
+        }
+
+        @Test
+        @DisplayName("Deve revalidar e fechar o circuito quando o banco volta")
+        void revalidar_quandoBancoVolta_deveFecharCircuito() throws Exception {
+            String url = USUARIOS_URL + "/" + usuarioCliente.getId();
+            mockMvc.perform(get(url).header("Authorization", "Bearer " + tokenMaster))
+                    .andExpect(status().isOk());
+            banco().falhar(true);
+            mockMvc.perform(get(url).header("Authorization", "Bearer " + tokenMaster))
+                    .andExpect(header().string("X-Stale", "true"));
+
+            banco().normalizar();
+            assertEquals(0, revalidador.revalidar(), "Não deve revalidar antes do tempo aberto");
+            Thread.sleep(TEMPO_ABERTO_MS);
+
+            assertTrue(revalidador.revalidar() >= 1);
+            assertEquals(EstadoCircuito.FECHADO, resiliencia.getCircuito().getEstado());
+            MvcResult fresco = mockMvc.perform(get(url).header("Authorization", "Bearer " + tokenMaster))
+                    .andExpect(status().isOk())
+                    .andReturn();
+            assertNull(fresco.getResponse().getHeader("X-Stale"));
+        }
+    }
+
+    // ========================================================================
+    // BANCO LENTO
+    // ========================================================================
+
+    @Nested
+    @DisplayName("Banco lento")
+    class LentoTests {
+
+        @Test
+        @DisplayName("Chamadas acima do limite lento devem abrir o circuito")
+        void listar_quandoBancoLento_deveAbrirCircuito() throws Exception {
+            banco().latenciaMs(200);
+
+            mockMvc.perform(get(USUARIOS_URL + "/page").header("Authorization", "Bearer " + tokenMaster))
+                    .andExpect(status().isOk());
+            assertEquals(EstadoCircuito.ABERTO, resiliencia.getCircuito().getEstado());
+
+            mockMvc.perform(get(USUARIOS_URL + "/page").header("Authorization", "Bearer " + tokenMaster))
+                    .andExpect(status().isServiceUnavailable());
+        }
+    }
+
+    // ========================================================================
+    // DIRETÓRIO gRPC
+    // ========================================================================
+
+    @Nested
+    @DisplayName("Diretório gRPC")
+    class DiretorioGrpcTests {
+
+        private Server servidor;
+        private ManagedChannel canal;
+
+        @BeforeEach
+        void setUpServidor() throws Exception {
+            String nome = InProcessServerBuilder.generateName();
+            servidor = InProcessServerBuilder.forName(nome)
+                    .directExecutor()
+                    .addService(ServerInterceptors.intercept(diretorio, autenticacao))
+                    .build()
+                    .start();
+            canal = InProcessChannelBuilder.forName(nome).directExecutor().build();
+        }
+
+        @AfterEach
+        void tearDownServidor() {
+            canal.shutdownNow();
+            servidor.shutdownNow();
+        }
+
+        @Test
+        @DisplayName("Consultas gRPC devem passar pelo circuito e responder UNAVAILABLE com o banco fora")
+        void diretorio_quandoBancoFalha_deveResponderUnavailablePeloCircuito() {
+            DiretorioUsuariosGrpc.DiretorioUsuariosBlockingStub stub = stub();
+            BuscarEmLoteRequest lote = BuscarEmLoteRequest.newBuilder()
+                    .addIds(usuarioCliente.getId())
+                    .addIds(usuarioDonoRestaurante.getId())
+                    .build();
+            banco().falhar(true);
+            CircuitBreaker circuito = resiliencia.getCircuito();
+            long antes = circuito.getFalhas() + circuito.getRejeicoes();
+
+            assertEquals(Status.Code.UNAVAILABLE, codigo(() -> stub.buscarPorId(
+                    BuscarPorIdRequest.newBuilder().setId(usuarioCliente.getId()).build())));
+            assertEquals(Status.Code.UNAVAILABLE, codigo(() -> stub.buscarEmLote(lote)));
+            assertEquals(Status.Code.UNAVAILABLE, codigo(() -> stub.buscarEmLoteFluxo(lote).hasNext()));
+
+            // Cada chamada passa duas vezes pelo circuito: a credencial (conhecida) e a leitura
+            assertEquals(antes + 6, circuito.getFalhas() + circuito.getRejeicoes());
+            assertEquals(EstadoCircuito.ABERTO, circuito.getEstado());
+        }
+
+        private DiretorioUsuariosGrpc.DiretorioUsuariosBlockingStub stub() {
+            Metadata metadados = new Metadata();
+            metadados.put(Metadata.Key.of("authorization", Metadata.ASCII_STRING_MARSHALLER), "Bearer " + tokenMaster);
+            return DiretorioUsuariosGrpc.newBlockingStub(canal)
+                    .withInterceptors(MetadataUtils.newAttachHeadersInterceptor(metadados));
+        }
+
+        private static Status.Code codigo(Supplier<?> chamada) {
+            return assertThrows(StatusRuntimeException.class, chamada::get).getStatus().getCode();
+        }
+    }
+}
@@ -5,12 +5,15 @@ import com.restaurantefiap.dto.request.AuthRequest;
 import com.restaurantefiap.dto.request.UsuarioRequestDTO;
 import com.restaurantefiap.dto.request.UsuarioUpdateDTO;
 import com.restaurantefiap.entities.usuario.Usuario;
+import com.restaurantefiap.enums.OperacaoSql;
 import com.restaurantefiap.enums.Role;
+import com.restaurantefiap.service.ContadorUsuariosAtivos;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MvcResult;
 
@@ -36,6 +39,9 @@ class UsuarioControllerIntegrationTest extends IntegrationTestBase {
     private String tokenDonoRestaurante;
     private String tokenCliente;
 
+    @Autowired
+    private ContadorUsuariosAtivos contadorAtivos;
+
     @BeforeEach
     void setUpTokens() throws Exception {
         tokenMaster = obterToken(usuarioMaster.getLogin(), SENHA_PADRAO);
@@ -67,12 +73,15 @@ class UsuarioControllerIntegrationTest extends IntegrationTestBase {
         @Test
         @DisplayName("Deve retornar dados do usuário logado")
         void me_quandoAutenticado_deveRetornarDadosDoUsuario() throws Exception {
-            mockMvc.perform(get(USUARIOS_URL + "/me")
+            contarSql(() -> mockMvc.perform(get(USUARIOS_URL + "/me")
                             .header("Authorization", "Bearer " + tokenCliente))
                     .andExpect(status().isOk())
                     .andExpect(jsonPath("$.login").value(usuarioCliente.getLogin()))
                     .andExpect(jsonPath("$.email").value(usuarioCliente.getEmail()))
-                    .andExpect(jsonPath("$.role").value("CLIENTE"));
+                    .andExpect(jsonPath("$.role").value("CLIENTE")))
+                    // Só a leitura do filtro JWT: a resposta sai do principal
+                    .noMaximo(OperacaoSql.SELECT, 1)
+                    .totalNoMaximo(1);
         }
 
         @Test
@@ -94,11 +103,14 @@ class UsuarioControllerIntegrationTest extends IntegrationTestBase {
         @Test
         @DisplayName("Deve retornar usuário quando admin busca qualquer ID")
         void buscarPorId_quandoAdmin_deveRetornarUsuario() throws Exception {
-            mockMvc.perform(get(USUARIOS_URL + "/" + usuarioCliente.getId())
+            contarSql(() -> mockMvc.perform(get(USUARIOS_URL + "/" + usuarioCliente.getId())
                             .header("Authorization", "Bearer " + tokenMaster))
                     .andExpect(status().isOk())
                     .andExpect(jsonPath("$.id").value(usuarioCliente.getId()))
-                    .andExpect(jsonPath("$.login").value(usuarioCliente.getLogin()));
+                    .andExpect(jsonPath("$.login").value(usuarioCliente.getLogin())))
+                    // Filtro JWT + versão (ETag/cache de JSON) + usuário, com o cache ainda frio
+                    .noMaximo(OperacaoSql.SELECT, 3)
+                    .totalNoMaximo(3);
         }
 
         @Test
@@ -128,6 +140,84 @@ class UsuarioControllerIntegrationTest extends IntegrationTestBase {
         }
     }
 
+    // ========================================================================
+    // GET /usuarios?ids= / POST /usuarios/lote - BUSCA EM LOTE
+    // ========================================================================
+
+    @Nested
+    @DisplayName("GET /usuarios?ids= - Buscar em Lote")
+    class BuscarEmLoteTests {
+
+        @Test
+        @DisplayName("Deve retornar itens na ordem da requisição com marcador de não encontrado")
+        void buscarPorIds_quandoAdmin_deveManterOrdemEMarcarAusentes() throws Exception {
+            String ids = usuarioCliente.getId() + ",99999," + usuarioMaster.getId() + "," + usuarioCliente.getId();
+
+            contarSql(() -> mockMvc.perform(get(USUARIOS_URL)
+                            .param("ids", ids)
+                            .header("Authorization", "Bearer " + tokenMaster))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$", hasSize(4)))
+                    .andExpect(jsonPath("$[0].status").value("ENCONTRADO"))
+                    .andExpect(jsonPath("$[0].usuario.login").value(usuarioCliente.getLogin()))
+                    .andExpect(jsonPath("$[1].id").value(99999))
+                    .andExpect(jsonPath("$[1].status").value("NAO_ENCONTRADO"))
+                    .andExpect(jsonPath("$[1].usuario").doesNotExist())
+                    .andExpect(jsonPath("$[2].usuario.id").value(usuarioMaster.getId()))
+                    .andExpect(jsonPath("$[3].status").value("ENCONTRADO")))
+                    // Filtro JWT + 2 blocos IN (3 IDs distintos, blocos de 2) — nunca uma consulta por ID
+                    .noMaximo(OperacaoSql.SELECT, 3)
+                    .totalNoMaximo(3);
+        }
+
+        @Test
+        @DisplayName("Deve negar por item os IDs de outros usuários para cliente")
+        void buscarPorIds_quandoCliente_deveNegarOutrosUsuarios() throws Exception {
+            mockMvc.perform(get(USUARIOS_URL)
+                            .param("ids", usuarioMaster.getId() + "," + usuarioCliente.getId() + ",99999")
+                            .header("Authorization", "Bearer " + tokenCliente))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$[0].status").value("ACESSO_NEGADO"))
+                    .andExpect(jsonPath("$[0].usuario").doesNotExist())
+                    .andExpect(jsonPath("$[1].status").value("ENCONTRADO"))
+                    .andExpect(jsonPath("$[2].status").value("ACESSO_NEGADO"));
+        }
+
+        @Test
+        @DisplayName("Deve aceitar os IDs no corpo via POST /lote")
+        void buscarPorIdsLote_quandoCorpoValido_deveRetornarItens() throws Exception {
+            String corpo = "{\"ids\": [" + usuarioDonoRestaurante.getId() + ", " + usuarioCliente.getId() + "]}";
+
+            mockMvc.perform(post(USUARIOS_URL + "/lote")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(corpo)
+                            .header("Authorization", "Bearer " + tokenMaster))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$", hasSize(2)))
+                    .andExpect(jsonPath("$[0].usuario.id").value(usuarioDonoRestaurante.getId()))
+                    .andExpect(jsonPath("$[1].usuario.id").value(usuarioCliente.getId()));
+        }
+
+        @Test
+        @DisplayName("Deve retornar 400 quando excede o limite de IDs")
+        void buscarPorIds_quandoAcimaDoLimite_deveRetornar400() throws Exception {
+            mockMvc.perform(get(USUARIOS_URL)
+                            .param("ids", "1,2,3,4,5,6")
+                            .header("Authorization", "Bearer " + tokenMaster))
+                    .andExpect(status().isBadRequest());
+        }
+
+        @Test
+        @DisplayName("Deve retornar 400 quando lista vazia no corpo")
+        void buscarPorIdsLote_quandoListaVazia_deveRetornar400() throws Exception {
+            mockMvc.perform(post(USUARIOS_URL + "/lote")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"ids\": []}")
+                            .header("Authorization", "Bearer " + tokenMaster))
+                    .andExpect(status().isBadRequest());
+        }
+    }
+
     // ========================================================================
     // GET /usuarios/page - LISTAR PAGINADO
     // ========================================================================
@@ -139,13 +229,16 @@ class UsuarioControllerIntegrationTest extends IntegrationTestBase {
         @Test
         @DisplayName("Deve retornar página de usuários quando admin")
         void listarPaginado_quandoAdmin_deveRetornarPagina() throws Exception {
-            mockMvc.perform(get(USUARIOS_URL + "/page")
+            contarSql(() -> mockMvc.perform(get(USUARIOS_URL + "/page")
                             .param("page", "0")
                             .param("size", "10")
                             .header("Authorization", "Bearer " + tokenMaster))
                     .andExpect(status().isOk())
                     .andExpect(jsonPath("$.content").isArray())
-                    .andExpect(jsonPath("$.content.length()", is(not(0))));
+                    .andExpect(jsonPath("$.content.length()", is(not(0)))))
+                    // Filtro JWT + página; a página não enche, então o count é dispensado
+                    .noMaximo(OperacaoSql.SELECT, 2)
+                    .totalNoMaximo(2);
         }
 
         @Test
@@ -166,6 +259,68 @@ class UsuarioControllerIntegrationTest extends IntegrationTestBase {
         }
     }
 
+    // ========================================================================
+    // GET /usuarios/slice - LISTAR EM FATIAS
+    // ========================================================================
+
+    @Nested
+    @DisplayName("GET /usuarios/slice - Listar em Fatias")
+    class ListarFatiaTests {
+
+        @Test
+        @DisplayName("Deve retornar fatia com indicador de próxima página e total no cabeçalho")
+        void listarFatia_quandoAdmin_deveRetornarFatiaETotal() throws Exception {
+            contadorAtivos.reconciliar();
+
+            contarSql(() -> mockMvc.perform(get(USUARIOS_URL + "/slice")
+                            .param("page", "0")
+                            .param("size", "2")
+                            .header("Authorization", "Bearer " + tokenMaster))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("X-Total-Count", "3"))
+                    .andExpect(jsonPath("$.content", hasSize(2)))
+                    .andExpect(jsonPath("$.last").value(false))
+                    .andExpect(jsonPath("$.totalElements").doesNotExist()))
+                    // Filtro JWT + fatia; o total vem do contador em memória, sem count(*)
+                    .noMaximo(OperacaoSql.SELECT, 2)
+                    .totalNoMaximo(2);
+        }
+
+        @Test
+        @DisplayName("Deve refletir criação no total sem recontar")
+        void listarFatia_quandoUsuarioCriado_deveIncrementarTotal() throws Exception {
+            contadorAtivos.reconciliar();
+            UsuarioRequestDTO request = new UsuarioRequestDTO(
+                    "fatia.usuario",
+                    "fatia@teste.com",
+                    "Fatia Usuario",
+                    "11988887777",
+                    Role.CLIENTE,
+                    "NovaSenha@123",
+                    null
+            );
+
+            mockMvc.perform(post(USUARIOS_URL)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(toJson(request))
+                            .header("Authorization", "Bearer " + tokenMaster))
+                    .andExpect(status().isCreated());
+
+            mockMvc.perform(get(USUARIOS_URL + "/slice")
+                            .header("Authorization", "Bearer " + tokenMaster))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("X-Total-Count", "4"));
+        }
+
+        @Test
+        @DisplayName("Deve retornar 403 quando cliente tenta listar")
+        void listarFatia_quandoCliente_deveRetornar403() throws Exception {
+            mockMvc.perform(get(USUARIOS_URL + "/slice")
+                            .header("Authorization", "Bearer " + tokenCliente))
+                    .andExpect(status().isForbidden());
+        }
+    }
+
     // ========================================================================
     // POST /usuarios - CRIAR USUÁRIO
     // ========================================================================
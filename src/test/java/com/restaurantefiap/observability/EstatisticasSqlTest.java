@@ -0,0 +1,150 @@
+package com.restaurantefiap.observability;
+
+import com.restaurantefiap.dto.response.EstatisticaSqlDTO;
+import com.restaurantefiap.enums.OperacaoSql;
+import com.restaurantefiap.observability.EstatisticasSql.Estatistica;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Testes unitários para {@link EstatisticasSql}.
+ * <p>Valida a normalização dos comandos, o histograma, o limite de comandos distintos
+ * e o relatório top-N.</p>
+ *
+ * @author Danilo de Paula
+ */
+class EstatisticasSqlTest {
+
+    private static long ms(long valor) {
+        return TimeUnit.MILLISECONDS.toNanos(valor);
+    }
+
+    // ========================================================================
+    // NORMALIZAÇÃO
+    // ========================================================================
+
+    @Nested
+    @DisplayName("Normalização")
+    class NormalizacaoTests {
+
+        @Test
+        @DisplayName("Deve trocar literais por ? sem alterar aliases do Hibernate")
+        void normalizar_quandoLiterais_deveSubstituirPorPlaceholder() {
+            String sql = "select u1_0.id from usuarios u1_0 where u1_0.login='joao' and u1_0.id = 42";
+
+            assertEquals("select u1_0.id from usuarios u1_0 where u1_0.login=? and u1_0.id = ?",
+                    EstatisticasSql.normalizar(sql));
+        }
+
+        @Test
+        @DisplayName("Deve colapsar listas IN e espaços, juntando tamanhos diferentes no mesmo comando")
+        void normalizar_quandoListasDeTamanhosDiferentes_deveGerarMesmoComando() {
+            String dois = "select *\n  from usuarios where id in (?, ?)";
+            String tres = "select * from usuarios where id in (?,?,?)";
+
+            assertEquals("select * from usuarios where id in (?...)", EstatisticasSql.normalizar(dois));
+            assertEquals(EstatisticasSql.normalizar(dois), EstatisticasSql.normalizar(tres));
+        }
+
+        @Test
+        @DisplayName("Deve remover o conteúdo de textos com aspas escapadas")
+        void normalizar_quandoTextoComAspas_naoDeveExporValor() {
+            assertEquals("update usuarios set nome=? where id=?",
+                    EstatisticasSql.normalizar("update usuarios set nome='D''Ávila 123' where id=7"));
+        }
+    }
+
+    // ========================================================================
+    // REGISTRO E RELATÓRIO
+    // ========================================================================
+
+    @Nested
+    @DisplayName("Registro e relatório")
+    class RegistroTests {
+
+        @Test
+        @DisplayName("Deve ordenar por tempo total e calcular percentis pelo histograma")
+        void top_quandoVariosComandos_deveOrdenarPorTempoTotal() {
+            // Arrange
+            EstatisticasSql estatisticas = new EstatisticasSql(1_000, 100);
+            Estatistica select = estatisticas.estatistica("select * from usuarios where id=?");
+            Estatistica update = estatisticas.estatistica("update usuarios set nome=? where id=?");
+            for (int i = 0; i < 99; i++) {
+                estatisticas.registrar(select, ms(1), false);
+            }
+            estatisticas.registrar(select, ms(50), false);
+            estatisticas.registrar(update, ms(20), true);
+
+            // Act
+            List<EstatisticaSqlDTO> top = estatisticas.top(10);
+
+            // Assert
+            assertEquals(2, top.size());
+            EstatisticaSqlDTO primeiro = top.get(0);
+            assertEquals(OperacaoSql.SELECT, primeiro.operacao());
+            assertEquals(100, primeiro.execucoes());
+            assertEquals(149.0, primeiro.totalMs(), 0.001);
+            assertEquals(1.0, primeiro.p50Ms(), 0.125, "mediana dentro do erro de 12,5%");
+            assertEquals(50.0, primeiro.maximoMs(), 0.001);
+            assertEquals(1, top.get(1).erros());
+        }
+
+        @Test
+        @DisplayName("Deve somar em <outros> os comandos além do limite")
+        void estatistica_quandoLimiteDeComandosAtingido_deveUsarOutros() {
+            // Arrange
+            EstatisticasSql estatisticas = new EstatisticasSql(1_000, 2);
+            estatisticas.estatistica("select a from t");
+            Estatistica b = estatisticas.estatistica("select b from t");
+
+            // Act
+            Estatistica c = estatisticas.estatistica("select c from t");
+
+            // Assert
+            assertEquals(EstatisticasSql.OUTROS, c.getComando());
+            assertSame(b, estatisticas.estatistica("select b from t"));
+            assertEquals(2, estatisticas.getComandos());
+        }
+
+        @Test
+        @DisplayName("Deve contar lentos e alimentar o timer com tags de baixa cardinalidade")
+        void registrar_quandoAcimaDoLimite_deveContarLentoERegistrarTimer() {
+            // Arrange
+            SimpleMeterRegistry registry = new SimpleMeterRegistry();
+            EstatisticasSql estatisticas = new EstatisticasSql(10, 100);
+            estatisticas.bindTo(registry);
+            Estatistica delete = estatisticas.estatistica("delete from usuarios where id=1");
+
+            // Act
+            estatisticas.registrar(delete, ms(5), false);
+            estatisticas.registrar(delete, ms(15), false);
+
+            // Assert
+            assertEquals(1, estatisticas.getLentos());
+            assertEquals(2, registry.get(EstatisticasSql.METRICA)
+                    .tag("operacao", "delete").tag("resultado", "sucesso").timer().count());
+        }
+
+        @Test
+        @DisplayName("Faixas do histograma devem cobrir os valores sem lacunas")
+        void faixa_quandoValoresConsecutivos_deveTerLimiteSuperiorCoerente() {
+            for (long micros = 0; micros < 100_000; micros++) {
+                int faixa = Estatistica.faixa(micros);
+                long limite = Estatistica.limiteSuperior(faixa);
+                assertTrue(limite >= micros && limite <= micros + micros / 8,
+                        "faixa " + faixa + " para " + micros + " µs: limite " + limite);
+            }
+        }
+    }
+}
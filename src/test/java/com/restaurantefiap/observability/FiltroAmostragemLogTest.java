@@ -0,0 +1,118 @@
+package com.restaurantefiap.observability;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Testes unitários para {@link FiltroAmostragemLog}, num {@link LoggerContext} isolado.
+ *
+ * @author Danilo de Paula
+ */
+class FiltroAmostragemLogTest {
+
+    private LoggerContext contexto;
+    private ListAppender<ILoggingEvent> eventos;
+    private FiltroAmostragemLog filtro;
+
+    @BeforeEach
+    void setUp() {
+        contexto = new LoggerContext();
+        filtro = new FiltroAmostragemLog();
+        filtro.setCategorias("org.hibernate.SQL, org.hibernate.orm.jdbc.bind");
+        filtro.setTaxa(0.1);
+        filtro.setContext(contexto);
+        filtro.start();
+        contexto.addTurboFilter(filtro);
+
+        eventos = new ListAppender<>();
+        eventos.setContext(contexto);
+        eventos.start();
+        Logger root = contexto.getLogger(Logger.ROOT_LOGGER_NAME);
+        root.setLevel(Level.TRACE);
+        root.addAppender(eventos);
+    }
+
+    @AfterEach
+    void tearDown() {
+        MDC.remove(FiltroCorrelacao.CHAVE_MDC);
+        contexto.stop();
+    }
+
+    /** Simula 1.000 requisições com 5 comandos SQL cada e devolve quantas foram amostradas. */
+    private int requisicoesAmostradas() {
+        Logger sql = contexto.getLogger("org.hibernate.SQL");
+        int amostradas = 0;
+        for (int i = 0; i < 1_000; i++) {
+            MDC.put(FiltroCorrelacao.CHAVE_MDC, FiltroCorrelacao.gerar());
+            int antes = eventos.list.size();
+            for (int c = 0; c < 5; c++) {
+                sql.debug("select u from usuarios u where u.id=?");
+            }
+            int registrados = eventos.list.size() - antes;
+            assertTrue(registrados == 0 || registrados == 5, "rastro da requisição deve ser inteiro ou nenhum");
+            amostradas += registrados == 5 ? 1 : 0;
+        }
+        return amostradas;
+    }
+
+    @Test
+    @DisplayName("Deve manter o rastro completo de ~10% das requisições")
+    void decide_quandoCategoriaAmostrada_deveManterRequisicoesInteiras() {
+        int amostradas = requisicoesAmostradas();
+
+        assertTrue(amostradas > 50 && amostradas < 150, "amostradas: " + amostradas);
+    }
+
+    @Test
+    @DisplayName("Mesma requisição deve ter a mesma decisão no isDebugEnabled e no log")
+    void decide_quandoMesmoId_deveSerDeterministico() {
+        Logger bind = contexto.getLogger("org.hibernate.orm.jdbc.bind.BasicBinder");
+        MDC.put(FiltroCorrelacao.CHAVE_MDC, "id-fixo");
+        boolean habilitado = bind.isTraceEnabled();
+
+        for (int i = 0; i < 10; i++) {
+            assertEquals(habilitado, bind.isTraceEnabled());
+            bind.trace("binding parameter (1:BIGINT) <- [42]");
+        }
+        assertEquals(habilitado ? 10 : 0, eventos.list.size());
+    }
+
+    @Test
+    @DisplayName("Não deve descartar outras categorias, WARN/ERROR nem prefixos que não são filhos")
+    void decide_quandoForaDaAmostragem_deveManter() {
+        MDC.put(FiltroCorrelacao.CHAVE_MDC, "qualquer");
+        filtro.setTaxa(0);
+
+        contexto.getLogger("com.restaurantefiap.service.UsuarioService").debug("a");
+        contexto.getLogger("org.hibernate.SQLQuery").debug("b");
+        contexto.getLogger("org.hibernate.SQL").warn("c");
+        contexto.getLogger("org.hibernate.SQL").debug("descartado");
+
+        assertEquals(3, eventos.list.size());
+        assertFalse(eventos.list.stream().anyMatch(e -> e.getMessage().equals("descartado")));
+    }
+
+    @Test
+    @DisplayName("Taxa 1 deve desligar a amostragem e taxa fora de [0, 1] deve ser rejeitada")
+    void setTaxa_deveValidarLimites() {
+        filtro.setTaxa(1.0);
+        assertEquals(1_000, requisicoesAmostradas());
+
+        assertThrows(IllegalArgumentException.class, () -> filtro.setTaxa(1.5));
+        assertThrows(IllegalArgumentException.class, () -> filtro.setTaxa(-0.1));
+    }
+}
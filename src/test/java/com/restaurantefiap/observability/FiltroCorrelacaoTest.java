@@ -0,0 +1,77 @@
+package com.restaurantefiap.observability;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Testes unitários para {@link FiltroCorrelacao}.
+ *
+ * @author Danilo de Paula
+ */
+class FiltroCorrelacaoTest {
+
+    private final FiltroCorrelacao filtro = new FiltroCorrelacao();
+
+    private String executar(MockHttpServletRequest request, MockHttpServletResponse response) throws Exception {
+        AtomicReference<String> noMdc = new AtomicReference<>();
+        filtro.doFilter(request, response, (req, res) -> noMdc.set(MDC.get(FiltroCorrelacao.CHAVE_MDC)));
+        return noMdc.get();
+    }
+
+    @Test
+    @DisplayName("Deve gerar id, expô-lo no MDC durante a requisição e devolvê-lo no cabeçalho")
+    void doFilter_semCabecalho_deveGerarId() throws Exception {
+        // Arrange
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Act
+        String id = executar(new MockHttpServletRequest("GET", "/v1/usuarios/me"), response);
+
+        // Assert
+        assertTrue(id.matches("[0-9a-f]{16}"), id);
+        assertEquals(id, response.getHeader(FiltroCorrelacao.CABECALHO));
+        assertNull(MDC.get(FiltroCorrelacao.CHAVE_MDC), "MDC limpo ao fim da requisição");
+    }
+
+    @Test
+    @DisplayName("Deve reaproveitar o id recebido quando válido")
+    void doFilter_comCabecalhoValido_deveReaproveitar() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/v1/usuarios/me");
+        request.addHeader(FiltroCorrelacao.CABECALHO, "gw-2026.10_18-abc");
+
+        assertEquals("gw-2026.10_18-abc", executar(request, new MockHttpServletResponse()));
+    }
+
+    @Test
+    @DisplayName("Deve substituir id com quebra de linha ou longo demais")
+    void doFilter_comCabecalhoInvalido_deveGerarOutro() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/v1/usuarios/me");
+        request.addHeader(FiltroCorrelacao.CABECALHO, "abc\nFALSO log");
+
+        String id = executar(request, new MockHttpServletResponse());
+
+        assertNotEquals("abc\nFALSO log", id);
+        assertFalse(FiltroCorrelacao.valido("a".repeat(65)));
+        assertFalse(FiltroCorrelacao.valido(""));
+        assertTrue(FiltroCorrelacao.valido("a".repeat(64)));
+    }
+
+    @Test
+    @DisplayName("Ids gerados devem ter sempre 16 dígitos hexadecimais")
+    void gerar_deveTerTamanhoFixo() {
+        for (int i = 0; i < 10_000; i++) {
+            assertEquals(16, FiltroCorrelacao.gerar().length());
+        }
+    }
+}
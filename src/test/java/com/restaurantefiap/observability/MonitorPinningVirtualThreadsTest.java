@@ -0,0 +1,83 @@
+package com.restaurantefiap.observability;
+
+import com.restaurantefiap.observability.MonitorPinningVirtualThreads.OcorrenciaPinning;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para {@link MonitorPinningVirtualThreads}.
+ * <p>Valida a agregação por origem e a detecção real de pinning via JFR.</p>
+ *
+ * @author Danilo de Paula
+ */
+class MonitorPinningVirtualThreadsTest {
+
+    private final MonitorPinningVirtualThreads monitor = new MonitorPinningVirtualThreads(10);
+
+    @AfterEach
+    void parar() {
+        monitor.stop();
+    }
+
+    @Nested
+    @DisplayName("Agregação")
+    class AgregacaoTests {
+
+        @Test
+        @DisplayName("Deve agregar por origem e ordenar pela duração total")
+        void relatorio_quandoVariasOrigens_deveOrdenarPorDuracaoTotal() {
+            monitor.registrar("com.mysql.cj.NativeSession.execSQL:10", Duration.ofMillis(30));
+            monitor.registrar("com.mysql.cj.NativeSession.execSQL:10", Duration.ofMillis(50));
+            monitor.registrar("com.restaurantefiap.Outro.metodo:5", Duration.ofMillis(40));
+
+            List<OcorrenciaPinning> relatorio = monitor.relatorio();
+
+            assertEquals(2, relatorio.size());
+            assertEquals(new OcorrenciaPinning("com.mysql.cj.NativeSession.execSQL:10", 2, 80, 50), relatorio.get(0));
+            assertEquals(3, monitor.getTotal());
+        }
+    }
+
+    @Nested
+    @DisplayName("Detecção via JFR")
+    class DeteccaoTests {
+
+        private final Object trava = new Object();
+
+        private void bloquearDentroDeSynchronized() {
+            synchronized (trava) {
+                try {
+                    Thread.sleep(60);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("Deve registrar virtual thread bloqueada dentro de synchronized")
+        void start_quandoVirtualThreadPinned_deveRegistrarOrigem() throws Exception {
+            monitor.start();
+            assertTrue(monitor.isRunning());
+
+            Thread.ofVirtual().start(this::bloquearDentroDeSynchronized).join();
+
+            long limite = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+            while (monitor.getTotal() == 0 && System.nanoTime() < limite) {
+                Thread.sleep(100);
+            }
+
+            assertTrue(monitor.getTotal() > 0, "Evento de pinning não recebido");
+            assertTrue(monitor.relatorio().get(0).origem().contains("bloquearDentroDeSynchronized"),
+                    "Origem inesperada: " + monitor.relatorio());
+        }
+    }
+}
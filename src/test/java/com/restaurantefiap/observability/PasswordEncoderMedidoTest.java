@@ -0,0 +1,55 @@
+package com.restaurantefiap.observability;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Testes unitários para {@link PasswordEncoderMedido}.
+ *
+ * @author Danilo de Paula
+ */
+class PasswordEncoderMedidoTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private PasswordEncoderMedido encoder;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        encoder = new PasswordEncoderMedido(new BCryptPasswordEncoder(4), meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Deve delegar ao encoder real e medir geração e verificação por resultado")
+    void encodeEMatches_quandoChamados_deveDelegarERegistrarTimers() {
+        // Arrange
+        String hash = encoder.encode("Senha@123");
+
+        // Act
+        boolean correta = encoder.matches("Senha@123", hash);
+        boolean incorreta = encoder.matches("Outra@123", hash);
+
+        // Assert
+        assertTrue(correta);
+        assertFalse(incorreta);
+        assertEquals(1, contagem("gerar", "sucesso"));
+        assertEquals(1, contagem("verificar", "sucesso"));
+        assertEquals(1, contagem("verificar", "senha_incorreta"));
+    }
+
+    private long contagem(String operacao, String resultado) {
+        return meterRegistry.get(PasswordEncoderMedido.METRICA)
+                .tag("operacao", operacao)
+                .tag("resultado", resultado)
+                .timer()
+                .count();
+    }
+}
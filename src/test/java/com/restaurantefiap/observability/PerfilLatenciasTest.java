@@ -0,0 +1,237 @@
+package com.restaurantefiap.observability;
+
+import com.restaurantefiap.dto.response.LatenciaDTO;
+import com.restaurantefiap.dto.response.PerfilLatenciasDTO;
+import com.restaurantefiap.enums.EtapaRequisicao;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Testes unitários para {@link PerfilLatencias} e {@link CronometroRequisicao}.
+ * <p>Valida a janela deslizante, os percentis, o limite de rotas e a divisão do tempo
+ * da requisição entre as etapas.</p>
+ *
+ * @author Danilo de Paula
+ */
+class PerfilLatenciasTest {
+
+    /** Início de uma fatia de 10 s. */
+    private static final long AGORA = 1_800_000_000_000L;
+    private static final String ROTA = "GET /v1/usuarios/{id}";
+
+    private static long ms(long valor) {
+        return TimeUnit.MILLISECONDS.toNanos(valor);
+    }
+
+    private static long[] semEtapas() {
+        long[] etapas = new long[EtapaRequisicao.values().length];
+        Arrays.fill(etapas, CronometroRequisicao.AUSENTE);
+        return etapas;
+    }
+
+    private static LatenciaDTO etapa(PerfilLatenciasDTO retrato, EtapaRequisicao etapa) {
+        return retrato.etapas().get(etapa.ordinal());
+    }
+
+    // ========================================================================
+    // JANELA DESLIZANTE
+    // ========================================================================
+
+    @Nested
+    @DisplayName("Janela deslizante")
+    class JanelaTests {
+
+        private final PerfilLatencias perfil = new PerfilLatencias(10, 6, 200);
+
+        @Test
+        @DisplayName("Deve calcular os percentis da rota com erro de até 1%")
+        void retrato_quandoAmostrasNaJanela_deveCalcularPercentis() {
+            // Arrange
+            for (int i = 1; i <= 1000; i++) {
+                perfil.registrar(ROTA, ms(i), semEtapas());
+            }
+
+            // Act
+            LatenciaDTO rota = perfil.retrato(60, AGORA).rotas().getFirst();
+
+            // Assert
+            assertEquals(ROTA, rota.nome());
+            assertEquals(1000, rota.amostras());
+            assertEquals(500, rota.p50Ms(), 5);
+            assertEquals(900, rota.p90Ms(), 9);
+            assertEquals(990, rota.p99Ms(), 10);
+            assertEquals(999, rota.p999Ms(), 10);
+            assertEquals(1000, rota.maximoMs(), 10);
+        }
+
+        @Test
+        @DisplayName("Deve deixar de fora as fatias mais antigas que a janela pedida")
+        void retrato_quandoFatiasAntigas_deveConsiderarSoAJanela() {
+            // Arrange: 10 ms há 40 s, 100 ms agora
+            perfil.registrar(ROTA, ms(10), semEtapas());
+            perfil.rotacionar(AGORA - 40_000);
+            perfil.registrar(ROTA, ms(100), semEtapas());
+
+            // Act
+            LatenciaDTO ultimos30s = perfil.retrato(30, AGORA).rotas().getFirst();
+            LatenciaDTO ultimoMinuto = perfil.retrato(60, AGORA).rotas().getFirst();
+
+            // Assert
+            assertEquals(1, ultimos30s.amostras());
+            assertEquals(100, ultimos30s.p50Ms(), 1);
+            assertEquals(2, ultimoMinuto.amostras());
+            assertEquals(10, ultimoMinuto.p50Ms(), 0.1);
+        }
+
+        @Test
+        @DisplayName("Deve limitar a janela ao anel de fatias e descartar o que saiu dele")
+        void retrato_quandoJanelaMaiorQueAnel_deveLimitar() {
+            // Arrange: 6 fatias de 10 s; a amostra de 70 s atrás já foi sobrescrita
+            perfil.registrar(ROTA, ms(10), semEtapas());
+            perfil.rotacionar(AGORA - 70_000);
+
+            // Act
+            PerfilLatenciasDTO retrato = perfil.retrato(3600, AGORA);
+
+            // Assert
+            assertEquals(60, retrato.janelaSegundos());
+            assertTrue(retrato.rotas().isEmpty());
+        }
+
+        @Test
+        @DisplayName("Deve juntar várias descargas da mesma fatia")
+        void retrato_quandoConsultasNaMesmaFatia_naoDevePerderAmostras() {
+            perfil.registrar(ROTA, ms(5), semEtapas());
+            perfil.retrato(60, AGORA);
+            perfil.registrar(ROTA, ms(7), semEtapas());
+
+            assertEquals(2, perfil.retrato(60, AGORA + 1_000).rotas().getFirst().amostras());
+        }
+    }
+
+    // ========================================================================
+    // ROTAS E ETAPAS
+    // ========================================================================
+
+    @Nested
+    @DisplayName("Rotas e etapas")
+    class RotasEtapasTests {
+
+        @Test
+        @DisplayName("Deve somar o excedente de rotas em <outras>")
+        void registrar_quandoLimiteDeRotas_deveSomarEmOutras() {
+            PerfilLatencias perfil = new PerfilLatencias(10, 6, 2);
+
+            perfil.registrar("GET /a", ms(1), semEtapas());
+            perfil.registrar("GET /b", ms(1), semEtapas());
+            perfil.registrar("GET /c", ms(1), semEtapas());
+            perfil.registrar("GET /d", ms(1), semEtapas());
+
+            PerfilLatenciasDTO retrato = perfil.retrato(60, AGORA);
+            assertEquals(3, retrato.rotas().size());
+            assertEquals(PerfilLatencias.OUTRAS, retrato.rotas().getFirst().nome());
+            assertEquals(2, retrato.rotas().getFirst().amostras());
+        }
+
+        @Test
+        @DisplayName("Deve listar todas as etapas, gravando só as que ocorreram")
+        void registrar_quandoEtapaAusente_naoDeveGravarZero() {
+            PerfilLatencias perfil = new PerfilLatencias(10, 6, 200);
+            long[] etapas = semEtapas();
+            etapas[EtapaRequisicao.FILTRO.ordinal()] = ms(2);
+            etapas[EtapaRequisicao.SERVICO.ordinal()] = ms(3);
+
+            perfil.registrar(ROTA, ms(5), etapas);
+
+            PerfilLatenciasDTO retrato = perfil.retrato(60, AGORA);
+            assertEquals(EtapaRequisicao.values().length, retrato.etapas().size());
+            assertEquals(1, etapa(retrato, EtapaRequisicao.FILTRO).amostras());
+            assertEquals(3, etapa(retrato, EtapaRequisicao.SERVICO).p50Ms(), 0.05);
+            assertEquals(0, etapa(retrato, EtapaRequisicao.REPOSITORIO).amostras());
+        }
+
+        @Test
+        @DisplayName("Deve zerar rotas e etapas ao limpar")
+        void limpar_deveZerarTudo() {
+            PerfilLatencias perfil = new PerfilLatencias(10, 6, 200);
+            perfil.registrar(ROTA, ms(5), semEtapas());
+            perfil.rotacionar(AGORA);
+
+            perfil.limpar();
+
+            assertTrue(perfil.retrato(60, AGORA).rotas().isEmpty());
+        }
+    }
+
+    // ========================================================================
+    // CRONÔMETRO DA REQUISIÇÃO
+    // ========================================================================
+
+    @Nested
+    @DisplayName("Cronômetro da requisição")
+    class CronometroTests {
+
+        @AfterEach
+        void fecharCronometro() {
+            CronometroRequisicao.encerrar(System.nanoTime());
+        }
+
+        @Test
+        @DisplayName("Deve ignorar medições fora de uma requisição")
+        void acumular_semRequisicao_naoDeveFazerNada() {
+            CronometroRequisicao.acumular(EtapaRequisicao.REPOSITORIO, ms(1));
+
+            assertNull(CronometroRequisicao.encerrar(System.nanoTime()));
+        }
+
+        @Test
+        @DisplayName("Deve descontar as etapas aninhadas de filtro e de serviço")
+        void encerrar_quandoEtapasAninhadas_deveSepararOsTempos() throws InterruptedException {
+            // Arrange
+            long inicio = System.nanoTime();
+            CronometroRequisicao.iniciar(inicio);
+            Thread.sleep(2);
+            CronometroRequisicao.acumular(EtapaRequisicao.REPOSITORIO, ms(1)); // carga do usuário no filtro JWT
+            CronometroRequisicao.entrarAplicacao();
+            CronometroRequisicao.acumular(EtapaRequisicao.AUTORIZACAO, 0);
+            Thread.sleep(10);
+            CronometroRequisicao.acumular(EtapaRequisicao.REPOSITORIO, ms(2));
+            CronometroRequisicao.sairAplicacao();
+            long fim = System.nanoTime();
+
+            // Act
+            long[] etapas = CronometroRequisicao.encerrar(fim);
+            long soma = Arrays.stream(etapas).filter(ns -> ns > 0).sum();
+
+            // Assert
+            assertEquals(ms(3), etapas[EtapaRequisicao.REPOSITORIO.ordinal()]);
+            assertEquals(0, etapas[EtapaRequisicao.AUTORIZACAO.ordinal()]);
+            assertEquals(CronometroRequisicao.AUSENTE, etapas[EtapaRequisicao.SERIALIZACAO.ordinal()]);
+            assertTrue(etapas[EtapaRequisicao.FILTRO.ordinal()] >= ms(2) - ms(1));
+            assertTrue(etapas[EtapaRequisicao.SERVICO.ordinal()] >= ms(10) - ms(2));
+            assertEquals(fim - inicio, soma, "as etapas somam o tempo total");
+        }
+
+        @Test
+        @DisplayName("Deve atribuir tudo ao filtro quando a requisição não chega ao DispatcherServlet")
+        void encerrar_semAplicacao_deveSoTerFiltro() {
+            long inicio = System.nanoTime();
+            CronometroRequisicao.iniciar(inicio);
+
+            long[] etapas = CronometroRequisicao.encerrar(inicio + ms(4));
+
+            assertEquals(ms(4), etapas[EtapaRequisicao.FILTRO.ordinal()]);
+            assertEquals(CronometroRequisicao.AUSENTE, etapas[EtapaRequisicao.SERVICO.ordinal()]);
+        }
+    }
+}
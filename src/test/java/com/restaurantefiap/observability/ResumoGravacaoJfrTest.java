@@ -0,0 +1,78 @@
+package com.restaurantefiap.observability;
+
+import com.restaurantefiap.observability.ResumoGravacaoJfr.ResumoEtapa;
+
+import jdk.jfr.Recording;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Testes unitários para {@link ResumoGravacaoJfr} e os eventos {@link EventoAutenticacao}.
+ * <p>Grava eventos reais com JFR e valida o agrupamento por etapa e os percentis.</p>
+ *
+ * @author Danilo de Paula
+ */
+class ResumoGravacaoJfrTest {
+
+    @TempDir
+    Path diretorio;
+
+    @Test
+    @DisplayName("Deve agrupar os eventos por etapa e resultado com percentis ordenados")
+    void resumir_quandoGravacaoComEventos_deveAgruparPorEtapa() throws Exception {
+        // Arrange
+        Path arquivo = diretorio.resolve("auth.jfr");
+        try (Recording gravacao = new Recording()) {
+            gravacao.enable(EventoSenha.class);
+            gravacao.enable(EventoAutorizacao.class);
+            gravacao.enable(EventoFiltroJwt.class);
+            gravacao.start();
+
+            for (int i = 0; i < 10; i++) {
+                EventoSenha evento = EventoSenha.iniciar("verificar");
+                Thread.sleep(1);
+                evento.concluir(i < 7 ? "sucesso" : "senha_incorreta");
+            }
+            EventoAutorizacao.iniciar("isMaster").concluir(true);
+            EventoAutorizacao.iniciar("isMaster").concluir(false);
+            EventoFiltroJwt.iniciar().concluir("autenticado");
+
+            gravacao.stop();
+            gravacao.dump(arquivo);
+        }
+
+        // Act
+        List<ResumoEtapa> resumos = ResumoGravacaoJfr.resumir(arquivo);
+
+        // Assert
+        assertEquals(List.of("Autorizacao/isMaster", "FiltroJwt", "Senha/verificar"),
+                resumos.stream().map(ResumoEtapa::etapa).toList());
+
+        ResumoEtapa senha = resumos.get(2);
+        assertEquals(10, senha.total());
+        assertEquals(Map.of("senha_incorreta", 3, "sucesso", 7), senha.porResultado());
+        assertTrue(senha.p50().toNanos() >= 1_000_000, "cada verificação dormiu 1 ms");
+        assertTrue(senha.p50().compareTo(senha.p99()) <= 0);
+        assertTrue(senha.p99().compareTo(senha.maximo()) <= 0);
+
+        assertEquals(Map.of("negado", 1, "permitido", 1), resumos.get(0).porResultado());
+    }
+
+    @Test
+    @DisplayName("Sem gravação ativa, os eventos não devem falhar")
+    void concluir_semGravacao_naoDeveFalhar() {
+        // Act & Assert
+        EventoTokenJwt.iniciar("ler").concluir("sucesso");
+        EventoCarregarUsuario.iniciar().concluir("encontrado");
+        assertTrue(EventoAutorizacao.iniciar("isAdmin").concluir(true));
+    }
+}
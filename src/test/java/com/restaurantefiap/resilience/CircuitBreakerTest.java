@@ -0,0 +1,226 @@
+package com.restaurantefiap.resilience;
+
+import com.restaurantefiap.enums.EstadoCircuito;
+import com.restaurantefiap.exception.ServiceUnavailableException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Testes unitários para {@link CircuitBreaker}.
+ * <p>Usa um relógio manual para validar abertura, recusa, meio-abertura e chamadas lentas.</p>
+ *
+ * @author Danilo de Paula
+ */
+class CircuitBreakerTest {
+
+    private static final Duration LIMITE_LENTO = Duration.ofMillis(500);
+    private static final Duration TEMPO_ABERTO = Duration.ofSeconds(5);
+
+    private final AtomicLong relogioNs = new AtomicLong();
+    private CircuitBreaker circuito;
+
+    @BeforeEach
+    void setUp() {
+        circuito = new CircuitBreaker("teste", 3, LIMITE_LENTO, TEMPO_ABERTO,
+                e -> e instanceof DataAccessResourceFailureException, relogioNs::get);
+    }
+
+    private void falhar() {
+        assertThrows(DataAccessResourceFailureException.class, () -> circuito.executar(() -> {
+            throw new DataAccessResourceFailureException("banco fora do ar");
+        }));
+    }
+
+    private void abrir() {
+        for (int i = 0; i < 3; i++) {
+            falhar();
+        }
+    }
+
+    private void avancar(Duration duracao) {
+        relogioNs.addAndGet(duracao.toNanos());
+    }
+
+    // ========================================================================
+    // FECHADO → ABERTO
+    // ========================================================================
+
+    @Nested
+    @DisplayName("Abertura")
+    class AberturaTests {
+
+        @Test
+        @DisplayName("Deve abrir após o limiar de falhas consecutivas")
+        void executar_quandoFalhasConsecutivas_deveAbrir() {
+            // Arrange & Act
+            falhar();
+            falhar();
+            assertEquals(EstadoCircuito.FECHADO, circuito.getEstado());
+            falhar();
+
+            // Assert
+            assertEquals(EstadoCircuito.ABERTO, circuito.getEstado());
+            assertEquals(1, circuito.getAberturas());
+            assertEquals(3, circuito.getFalhas());
+        }
+
+        @Test
+        @DisplayName("Sucesso deve zerar a contagem de falhas consecutivas")
+        void executar_quandoSucessoEntreFalhas_naoDeveAbrir() {
+            // Arrange & Act
+            falhar();
+            falhar();
+            circuito.executar(() -> "ok");
+            falhar();
+            falhar();
+
+            // Assert
+            assertEquals(EstadoCircuito.FECHADO, circuito.getEstado());
+        }
+
+        @Test
+        @DisplayName("Exceção de negócio não deve contar como falha")
+        void executar_quandoExcecaoDeNegocio_naoDeveContar() {
+            // Arrange & Act
+            for (int i = 0; i < 5; i++) {
+                assertThrows(IllegalArgumentException.class, () -> circuito.executar(() -> {
+                    throw new IllegalArgumentException("inválido");
+                }));
+            }
+
+            // Assert
+            assertEquals(EstadoCircuito.FECHADO, circuito.getEstado());
+            assertEquals(0, circuito.getFalhas());
+        }
+
+        @Test
+        @DisplayName("Chamada lenta deve contar como falha mesmo com sucesso")
+        void executar_quandoChamadaLenta_deveContarComoFalha() {
+            // Arrange & Act
+            for (int i = 0; i < 3; i++) {
+                circuito.executar(() -> {
+                    avancar(LIMITE_LENTO.plusMillis(1));
+                    return "tarde";
+                });
+            }
+
+            // Assert
+            assertEquals(EstadoCircuito.ABERTO, circuito.getEstado());
+        }
+    }
+
+    // ========================================================================
+    // ABERTO
+    // ========================================================================
+
+    @Nested
+    @DisplayName("Circuito aberto")
+    class AbertoTests {
+
+        @Test
+        @DisplayName("Deve recusar sem executar a chamada e informar o Retry-After")
+        void executar_quandoAberto_deveRecusarSemExecutar() {
+            // Arrange
+            abrir();
+            AtomicInteger execucoes = new AtomicInteger();
+            avancar(Duration.ofMillis(1500));
+
+            // Act
+            ServiceUnavailableException ex = assertThrows(ServiceUnavailableException.class,
+                    () -> circuito.executar(execucoes::incrementAndGet));
+
+            // Assert
+            assertEquals(0, execucoes.get());
+            assertEquals(1, circuito.getRejeicoes());
+            assertEquals(4, ex.getRetryAfterSegundos());
+        }
+    }
+
+    // ========================================================================
+    // MEIO-ABERTO
+    // ========================================================================
+
+    @Nested
+    @DisplayName("Meio-aberto")
+    class MeioAbertoTests {
+
+        @Test
+        @DisplayName("Deve fechar quando a chamada de teste tem sucesso")
+        void executar_quandoTesteComSucesso_deveFechar() {
+            // Arrange
+            abrir();
+            avancar(TEMPO_ABERTO);
+
+            // Act
+            String resultado = circuito.executar(() -> "ok");
+
+            // Assert
+            assertEquals("ok", resultado);
+            assertEquals(EstadoCircuito.FECHADO, circuito.getEstado());
+        }
+
+        @Test
+        @DisplayName("Deve reabrir quando a chamada de teste falha")
+        void executar_quandoTesteFalha_deveReabrir() {
+            // Arrange
+            abrir();
+            avancar(TEMPO_ABERTO);
+
+            // Act
+            falhar();
+
+            // Assert
+            assertEquals(EstadoCircuito.ABERTO, circuito.getEstado());
+            assertEquals(2, circuito.getAberturas());
+            assertThrows(ServiceUnavailableException.class, () -> circuito.executar(() -> "ok"));
+        }
+
+        @Test
+        @DisplayName("Deve admitir uma única chamada de teste por vez")
+        void executar_quandoTesteEmAndamento_deveRecusarOutras() {
+            // Arrange
+            abrir();
+            avancar(TEMPO_ABERTO);
+            AtomicInteger recusadasDuranteTeste = new AtomicInteger();
+
+            // Act
+            circuito.executar(() -> {
+                try {
+                    circuito.executar(() -> "concorrente");
+                } catch (ServiceUnavailableException e) {
+                    recusadasDuranteTeste.incrementAndGet();
+                }
+                return "teste";
+            });
+
+            // Assert
+            assertEquals(1, recusadasDuranteTeste.get());
+            assertEquals(EstadoCircuito.FECHADO, circuito.getEstado());
+        }
+
+        @Test
+        @DisplayName("tentarMeioAbrir só deve meio-abrir após o tempo aberto")
+        void tentarMeioAbrir_quandoTempoAbertoPassou_deveMeioAbrir() {
+            // Arrange
+            abrir();
+
+            // Act & Assert
+            assertEquals(false, circuito.tentarMeioAbrir());
+            avancar(TEMPO_ABERTO);
+            assertTrue(circuito.tentarMeioAbrir());
+            assertEquals(EstadoCircuito.MEIO_ABERTO, circuito.getEstado());
+        }
+    }
+}
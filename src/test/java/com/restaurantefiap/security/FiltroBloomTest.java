@@ -0,0 +1,159 @@
+package com.restaurantefiap.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Testes unitários para {@link FiltroBloom} e {@link GeradorFiltroSenhasVazadas}.
+ *
+ * @author Danilo de Paula
+ */
+class FiltroBloomTest {
+
+    private static final int QUANTIDADE = 20_000;
+    private static final double FALSO_POSITIVO = 0.01;
+
+    @TempDir
+    Path diretorio;
+
+    private FiltroBloom criarComSenhas(Path arquivo) throws IOException {
+        FiltroBloom filtro = FiltroBloom.criar(arquivo, QUANTIDADE, FALSO_POSITIVO);
+        for (int i = 0; i < QUANTIDADE; i++) {
+            filtro.adicionar("vazada-" + i);
+        }
+        filtro.gravar();
+        return filtro;
+    }
+
+    // ========================================================================
+    // CONSULTA
+    // ========================================================================
+
+    @Nested
+    @DisplayName("Consulta")
+    class ConsultaTests {
+
+        @Test
+        @DisplayName("Não deve ter falsos negativos")
+        void contem_quandoSenhaInserida_deveRetornarTrue() throws IOException {
+            // Arrange
+            FiltroBloom filtro = criarComSenhas(diretorio.resolve("senhas.bloom"));
+
+            // Act & Assert
+            for (int i = 0; i < QUANTIDADE; i++) {
+                assertTrue(filtro.contem("vazada-" + i), "falso negativo: vazada-" + i);
+            }
+        }
+
+        @Test
+        @DisplayName("Taxa de falsos positivos deve ficar próxima da configurada")
+        void contem_quandoSenhaNaoInserida_deveRespeitarTaxaDeFalsosPositivos() throws IOException {
+            // Arrange
+            FiltroBloom filtro = criarComSenhas(diretorio.resolve("senhas.bloom"));
+            int consultas = 100_000;
+
+            // Act
+            int falsosPositivos = 0;
+            for (int i = 0; i < consultas; i++) {
+                if (filtro.contem("nunca-inserida-" + i)) {
+                    falsosPositivos++;
+                }
+            }
+
+            // Assert
+            double taxa = (double) falsosPositivos / consultas;
+            assertTrue(taxa < FALSO_POSITIVO * 2, "taxa de falsos positivos: " + taxa);
+        }
+    }
+
+    // ========================================================================
+    // ARQUIVO
+    // ========================================================================
+
+    @Nested
+    @DisplayName("Arquivo")
+    class ArquivoTests {
+
+        @Test
+        @DisplayName("Filtro reaberto do arquivo deve responder igual ao original")
+        void abrir_quandoArquivoGravado_deveManterConteudo() throws IOException {
+            // Arrange
+            Path arquivo = diretorio.resolve("senhas.bloom");
+            FiltroBloom original = criarComSenhas(arquivo);
+
+            // Act
+            FiltroBloom reaberto = FiltroBloom.abrir(arquivo);
+
+            // Assert
+            assertEquals(original.getNumBits(), reaberto.getNumBits());
+            assertEquals(original.getNumHashes(), reaberto.getNumHashes());
+            assertEquals(QUANTIDADE, reaberto.getInseridas());
+            for (int i = 0; i < 1_000; i++) {
+                assertTrue(reaberto.contem("vazada-" + i));
+                assertEquals(original.contem("outra-" + i), reaberto.contem("outra-" + i));
+            }
+        }
+
+        @Test
+        @DisplayName("Deve rejeitar arquivo que não é um filtro")
+        void abrir_quandoArquivoInvalido_deveLancarExcecao() throws IOException {
+            // Arrange
+            Path arquivo = Files.writeString(diretorio.resolve("lixo.bloom"), "isto não é um filtro de bloom válido");
+
+            // Act & Assert
+            assertThrows(IllegalArgumentException.class, () -> FiltroBloom.abrir(arquivo));
+        }
+    }
+
+    // ========================================================================
+    // GERADOR
+    // ========================================================================
+
+    @Nested
+    @DisplayName("Gerador a partir de lista")
+    class GeradorTests {
+
+        @Test
+        @DisplayName("Deve gerar filtro com as senhas da lista, ignorando linhas vazias")
+        void gerar_quandoListaValida_deveConterSenhas() throws IOException {
+            // Arrange
+            Path lista = Files.write(diretorio.resolve("lista.txt"),
+                    List.of("123456", "", "Password123", "senha çom acento"), StandardCharsets.UTF_8);
+            Path saida = diretorio.resolve("saida.bloom");
+
+            // Act
+            GeradorFiltroSenhasVazadas.gerar(lista, saida, 0.001);
+            FiltroBloom filtro = FiltroBloom.abrir(saida);
+
+            // Assert
+            assertEquals(3, filtro.getInseridas());
+            assertTrue(filtro.contem("Password123"));
+            assertTrue(filtro.contem("senha çom acento"));
+            assertFalse(filtro.contem("OutraSenha99"));
+        }
+
+        @Test
+        @DisplayName("Deve rejeitar lista vazia")
+        void gerar_quandoListaVazia_deveLancarExcecao() throws IOException {
+            // Arrange
+            Path lista = Files.writeString(diretorio.resolve("vazia.txt"), "\n\n");
+
+            // Act & Assert
+            assertThrows(IllegalArgumentException.class,
+                    () -> GeradorFiltroSenhasVazadas.gerar(lista, diretorio.resolve("saida.bloom"), 0.001));
+        }
+    }
+}
@@ -3,6 +3,8 @@ package com.restaurantefiap.security;
 import com.restaurantefiap.entities.usuario.UserPrincipal;
 import com.restaurantefiap.entities.usuario.Usuario;
 import com.restaurantefiap.repository.UsuarioRepository;
+import com.restaurantefiap.service.CoalescedorLeiturasUsuario;
+import com.restaurantefiap.service.ResilienciaLeiturasUsuario;
 import com.restaurantefiap.util.UsuarioTestBuilder;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -12,9 +14,12 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.util.Optional;
 
@@ -35,6 +40,13 @@ class JpaUserDetailsServiceTest {
     @Mock
     private UsuarioRepository usuarioRepository;
 
+    @Spy
+    private CoalescedorLeiturasUsuario coalescedor = new CoalescedorLeiturasUsuario(
+            true, 1000, mock(PlatformTransactionManager.class));
+
+    @Spy
+    private ResilienciaLeiturasUsuario resiliencia = new ResilienciaLeiturasUsuario(true, 5, 2000, 5000, 100, 30);
+
     @InjectMocks
     private JpaUserDetailsService jpaUserDetailsService;
 
@@ -106,9 +118,9 @@ class JpaUserDetailsServiceTest {
 
             // Assert
             UserPrincipal userPrincipal = (UserPrincipal) resultado;
-            assertEquals(usuarioExistente.getId(), userPrincipal.getUsuario().getId());
-            assertEquals(usuarioExistente.getEmail(), userPrincipal.getUsuario().getEmail());
-            assertEquals(usuarioExistente.getRole(), userPrincipal.getUsuario().getRole());
+            assertEquals(usuarioExistente.getId(), userPrincipal.getUsuario().id());
+            assertEquals(usuarioExistente.getEmail(), userPrincipal.getUsuario().dados().email());
+            assertEquals(usuarioExistente.getRole(), userPrincipal.getUsuario().role());
         }
     }
 
@@ -172,6 +184,47 @@ class JpaUserDetailsServiceTest {
             );
             verify(usuarioRepository).findByLoginIgnoreCase("");
         }
+
+        /**
+         * Verifica que, com o banco indisponível, a última credencial conhecida é usada.
+         */
+        @Test
+        @DisplayName("Deve devolver a última credencial conhecida quando o banco falha")
+        void loadUserByUsername_quandoBancoIndisponivel_deveDevolverUltimaConhecida() {
+            // Arrange
+            String login = "usuario.teste";
+            when(usuarioRepository.findByLoginIgnoreCase(login))
+                    .thenReturn(Optional.of(usuarioExistente))
+                    .thenThrow(new DataAccessResourceFailureException("conexão recusada"));
+            UserDetails primeira = jpaUserDetailsService.loadUserByUsername(login);
+
+            // Act
+            UserDetails resultado = jpaUserDetailsService.loadUserByUsername(login);
+
+            // Assert
+            assertSame(((UserPrincipal) primeira).getUsuario(), ((UserPrincipal) resultado).getUsuario());
+            assertFalse(((UserPrincipal) primeira).isDesatualizado());
+            assertTrue(((UserPrincipal) resultado).isDesatualizado(), "credencial servida sem consultar o banco");
+            assertEquals(1, resiliencia.getServidasDesatualizadas());
+        }
+
+        /**
+         * Verifica que a falha do banco é propagada quando não há credencial conhecida.
+         */
+        @Test
+        @DisplayName("Deve propagar a falha do banco sem credencial conhecida")
+        void loadUserByUsername_quandoBancoIndisponivelSemCredencial_devePropagar() {
+            // Arrange
+            String login = "usuario.teste";
+            when(usuarioRepository.findByLoginIgnoreCase(login))
+                    .thenThrow(new DataAccessResourceFailureException("conexão recusada"));
+
+            // Act & Assert
+            assertThrows(
+                    DataAccessResourceFailureException.class,
+                    () -> jpaUserDetailsService.loadUserByUsername(login)
+            );
+        }
     }
 
     // ========================================================================
@@ -0,0 +1,164 @@
+package com.restaurantefiap.service;
+
+import com.restaurantefiap.dto.response.UsuarioLoteItemDTO;
+import com.restaurantefiap.entities.usuario.Usuario;
+import com.restaurantefiap.enums.StatusItemLote;
+import com.restaurantefiap.repository.UsuarioRepository;
+import com.restaurantefiap.security.AutorizacaoService;
+import com.restaurantefiap.util.UsuarioTestBuilder;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para {@link BuscaLoteUsuariosService}.
+ * <p>Valida ordem da resposta, marcadores por item, autorização antes da consulta,
+ * divisão em blocos {@code IN} e limite de IDs.</p>
+ *
+ * @author Danilo de Paula
+ */
+@ExtendWith(MockitoExtension.class)
+class BuscaLoteUsuariosServiceTest {
+
+    private static final int MAX_IDS = 5;
+    private static final int TAMANHO_BLOCO = 2;
+
+    @Mock
+    private UsuarioRepository repository;
+
+    @Mock
+    private AutorizacaoService autorizacaoService;
+
+    private BuscaLoteUsuariosService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new BuscaLoteUsuariosService(repository, autorizacaoService, MAX_IDS, TAMANHO_BLOCO);
+    }
+
+    private static Usuario usuario(long id) {
+        Usuario usuario = UsuarioTestBuilder.criarUsuarioValido();
+        usuario.setId(id);
+        return usuario;
+    }
+
+    /**
+     * Simula o banco: devolve, em ordem invertida, os IDs do bloco que existem.
+     */
+    private void comUsuariosExistentes(Long... existentes) {
+        List<Long> ativos = Arrays.asList(existentes);
+        when(repository.findAtivosByIdIn(anyCollection())).thenAnswer(invocacao -> {
+            Collection<Long> bloco = invocacao.getArgument(0);
+            List<Usuario> encontrados = bloco.stream()
+                    .filter(ativos::contains)
+                    .map(BuscaLoteUsuariosServiceTest::usuario)
+                    .collect(java.util.stream.Collectors.toList());
+            Collections.reverse(encontrados);
+            return encontrados;
+        });
+    }
+
+    @Nested
+    @DisplayName("Busca em lote")
+    class BuscaTests {
+
+        @Test
+        @DisplayName("Deve responder na ordem da requisição, com duplicados e não encontrados")
+        void buscarPorIds_quandoMisturado_deveManterOrdem() {
+            // Arrange
+            when(autorizacaoService.isAdminOuProprio(anyLong())).thenReturn(true);
+            comUsuariosExistentes(1L, 3L, 4L);
+
+            // Act
+            List<UsuarioLoteItemDTO> resultado = service.buscarPorIds(List.of(4L, 2L, 1L, 4L, 3L));
+
+            // Assert
+            assertEquals(List.of(4L, 2L, 1L, 4L, 3L), resultado.stream().map(UsuarioLoteItemDTO::id).toList());
+            assertEquals(StatusItemLote.NAO_ENCONTRADO, resultado.get(1).status());
+            assertNull(resultado.get(1).usuario());
+            assertEquals(StatusItemLote.ENCONTRADO, resultado.get(3).status());
+            assertEquals(3L, resultado.get(4).usuario().id());
+        }
+
+        @Test
+        @DisplayName("Deve consultar os IDs distintos em blocos IN")
+        void buscarPorIds_quandoAcimaDoBloco_deveDividirConsultas() {
+            // Arrange
+            when(autorizacaoService.isAdminOuProprio(anyLong())).thenReturn(true);
+            comUsuariosExistentes(1L, 2L, 3L);
+
+            // Act
+            service.buscarPorIds(List.of(1L, 2L, 1L, 3L, 2L));
+
+            // Assert — 3 IDs distintos, blocos de 2
+            verify(repository).findAtivosByIdIn(List.of(1L, 2L));
+            verify(repository).findAtivosByIdIn(List.of(3L));
+            verifyNoMoreInteractions(repository);
+        }
+
+        @Test
+        @DisplayName("Não deve consultar IDs sem permissão")
+        void buscarPorIds_quandoSemPermissao_deveNegarSemConsultar() {
+            // Arrange
+            when(autorizacaoService.isAdminOuProprio(anyLong())).thenAnswer(inv -> inv.getArgument(0).equals(7L));
+            comUsuariosExistentes(7L, 8L);
+
+            // Act
+            List<UsuarioLoteItemDTO> resultado = service.buscarPorIds(List.of(8L, 7L));
+
+            // Assert
+            assertEquals(StatusItemLote.ACESSO_NEGADO, resultado.get(0).status());
+            assertEquals(StatusItemLote.ENCONTRADO, resultado.get(1).status());
+            verify(repository).findAtivosByIdIn(List.of(7L));
+        }
+
+        @Test
+        @DisplayName("Não deve consultar o banco quando nenhum ID é permitido")
+        void buscarPorIds_quandoTodosNegados_naoDeveConsultar() {
+            // Arrange
+            when(autorizacaoService.isAdminOuProprio(anyLong())).thenReturn(false);
+
+            // Act
+            List<UsuarioLoteItemDTO> resultado = service.buscarPorIds(List.of(1L, 2L));
+
+            // Assert
+            assertTrue(resultado.stream().allMatch(item -> item.status() == StatusItemLote.ACESSO_NEGADO));
+            verifyNoInteractions(repository);
+        }
+    }
+
+    @Nested
+    @DisplayName("Validação")
+    class ValidacaoTests {
+
+        @Test
+        @DisplayName("Deve rejeitar lista acima do limite")
+        void buscarPorIds_quandoAcimaDoLimite_deveLancarExcecao() {
+            assertThrows(IllegalArgumentException.class,
+                    () -> service.buscarPorIds(List.of(1L, 2L, 3L, 4L, 5L, 6L)));
+            verifyNoInteractions(repository, autorizacaoService);
+        }
+
+        @Test
+        @DisplayName("Deve rejeitar lista vazia ou com nulos")
+        void buscarPorIds_quandoVaziaOuComNulo_deveLancarExcecao() {
+            assertThrows(IllegalArgumentException.class, () -> service.buscarPorIds(List.of()));
+            assertThrows(IllegalArgumentException.class, () -> service.buscarPorIds(Arrays.asList(1L, null)));
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.restaurantefiap.service;
+
+import com.restaurantefiap.enums.CampoUsuario;
+import com.restaurantefiap.enums.TipoEventoUsuario;
+import com.restaurantefiap.events.UsuarioAlteradoEvento;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Testes unitários para {@link CacheJsonUsuarios}.
+ * <p>Valida a chave (ID, versão, campos), a invalidação por evento e o limite de tamanho.</p>
+ *
+ * @author Danilo de Paula
+ */
+class CacheJsonUsuariosTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private CacheJsonUsuarios novoCache(boolean habilitado, int maxUsuarios) {
+        return new CacheJsonUsuarios(objectMapper, habilitado, maxUsuarios);
+    }
+
+    @Nested
+    @DisplayName("Leitura e escrita")
+    class LeituraEscritaTests {
+
+        @Test
+        @DisplayName("Deve devolver os mesmos bytes do ObjectMapper para a mesma versão")
+        void obter_quandoMesmaVersao_deveRetornarBytes() throws Exception {
+            // Arrange
+            CacheJsonUsuarios cache = novoCache(true, 10);
+            Map<String, Object> representacao = Map.of("id", 1, "nome", "Ana");
+
+            // Act
+            byte[] gravado = cache.serializarEGuardar(1L, 3L, CacheJsonUsuarios.COMPLETO, representacao);
+            byte[] lido = cache.obter(1L, 3L, CacheJsonUsuarios.COMPLETO);
+
+            // Assert
+            assertArrayEquals(objectMapper.writeValueAsBytes(representacao), gravado);
+            assertArrayEquals(gravado, lido);
+            assertEquals(1, cache.getAcertos());
+        }
+
+        @Test
+        @DisplayName("Não deve servir bytes de outra versão ou de outro conjunto de campos")
+        void obter_quandoVersaoOuCamposDiferentes_deveRetornarNull() {
+            CacheJsonUsuarios cache = novoCache(true, 10);
+            cache.serializarEGuardar(1L, 3L, CacheJsonUsuarios.COMPLETO, Map.of("id", 1));
+
+            assertNull(cache.obter(1L, 4L, CacheJsonUsuarios.COMPLETO));
+            assertNull(cache.obter(1L, 3L, "id,nome"));
+            assertNull(cache.obter(1L, null, CacheJsonUsuarios.COMPLETO));
+            assertEquals(2, cache.getFaltas());
+        }
+
+        @Test
+        @DisplayName("Não deve substituir versão mais nova por uma mais antiga")
+        void serializarEGuardar_quandoVersaoAntiga_naoDeveSubstituir() {
+            CacheJsonUsuarios cache = novoCache(true, 10);
+            cache.serializarEGuardar(1L, 5L, CacheJsonUsuarios.COMPLETO, Map.of("v", 5));
+
+            cache.serializarEGuardar(1L, 4L, CacheJsonUsuarios.COMPLETO, Map.of("v", 4));
+
+            assertNotNull(cache.obter(1L, 5L, CacheJsonUsuarios.COMPLETO));
+            assertNull(cache.obter(1L, 4L, CacheJsonUsuarios.COMPLETO));
+        }
+
+        @Test
+        @DisplayName("Deve apenas serializar quando desabilitado")
+        void obter_quandoDesabilitado_deveRetornarNull() {
+            CacheJsonUsuarios cache = novoCache(false, 10);
+
+            byte[] json = cache.serializarEGuardar(1L, 0L, CacheJsonUsuarios.COMPLETO, Map.of("id", 1));
+
+            assertNotNull(json);
+            assertNull(cache.obter(1L, 0L, CacheJsonUsuarios.COMPLETO));
+            assertEquals(0, cache.getTamanho());
+        }
+
+        @Test
+        @DisplayName("Deve gerar a mesma chave independente da ordem dos campos")
+        void chave_deveSeguirOrdemDeDeclaracao() {
+            assertEquals("id,nome,role", CacheJsonUsuarios.chave(CampoUsuario.deParametro("role,id,nome")));
+            assertEquals("id,nome,role",
+                    CacheJsonUsuarios.chave(EnumSet.of(CampoUsuario.NOME, CampoUsuario.ROLE, CampoUsuario.ID)));
+        }
+    }
+
+    @Nested
+    @DisplayName("Invalidação e limite")
+    class InvalidacaoTests {
+
+        @Test
+        @DisplayName("Deve remover todas as representações ao receber evento do usuário")
+        void aoAlterarUsuario_deveRemoverEntrada() {
+            CacheJsonUsuarios cache = novoCache(true, 10);
+            cache.serializarEGuardar(1L, 0L, CacheJsonUsuarios.COMPLETO, Map.of("id", 1));
+            cache.serializarEGuardar(1L, 0L, "id", Map.of("id", 1));
+            cache.serializarEGuardar(2L, 0L, CacheJsonUsuarios.COMPLETO, Map.of("id", 2));
+
+            cache.aoAlterarUsuario(new UsuarioAlteradoEvento(
+                    10L, 1L, TipoEventoUsuario.ATUALIZADO, "no-a", LocalDateTime.now()));
+
+            assertNull(cache.obter(1L, 0L, CacheJsonUsuarios.COMPLETO));
+            assertNull(cache.obter(1L, 0L, "id"));
+            assertNotNull(cache.obter(2L, 0L, CacheJsonUsuarios.COMPLETO));
+            assertEquals(1, cache.getRemocoes());
+        }
+
+        @Test
+        @DisplayName("Não deve passar do limite de usuários")
+        void serializarEGuardar_quandoCheio_deveDescartarEntrada() {
+            CacheJsonUsuarios cache = novoCache(true, 3);
+
+            for (long id = 1; id <= 10; id++) {
+                cache.serializarEGuardar(id, 0L, CacheJsonUsuarios.COMPLETO, Map.of("id", id));
+            }
+
+            assertEquals(3, cache.getTamanho());
+            assertNotNull(cache.obter(10L, 0L, CacheJsonUsuarios.COMPLETO));
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.restaurantefiap.service;
+
+import com.restaurantefiap.entities.usuario.RetratoUsuario;
+import com.restaurantefiap.entities.usuario.Usuario;
+import com.restaurantefiap.util.UsuarioTestBuilder;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para {@link CoalescedorLeiturasUsuario}.
+ * <p>Valida que só a consulta líder abre transação: as seguidoras esperam sem pegar conexão.</p>
+ *
+ * @author Danilo de Paula
+ */
+class CoalescedorLeiturasUsuarioTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(8);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final CoalescedorLeiturasUsuario coalescedor =
+            new CoalescedorLeiturasUsuario(true, 5000, transactionManager);
+
+    @AfterEach
+    void encerrar() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Deve abrir uma única transação para leituras concorrentes do mesmo ID")
+    void porId_quandoConcorrente_deveAbrirTransacaoSoNoLider() throws Exception {
+        // Arrange
+        Usuario usuario = UsuarioTestBuilder.criarUsuarioValido();
+        CountDownLatch liderIniciou = new CountDownLatch(1);
+        CountDownLatch liberarLider = new CountDownLatch(1);
+        List<Future<Optional<RetratoUsuario>>> chamadas = new ArrayList<>();
+
+        // Act
+        chamadas.add(executor.submit(() -> coalescedor.porId(1L, () -> {
+            liderIniciou.countDown();
+            aguardar(liberarLider);
+            return Optional.of(usuario);
+        })));
+        assertTrue(liderIniciou.await(5, TimeUnit.SECONDS));
+        for (int i = 0; i < 5; i++) {
+            chamadas.add(executor.submit(() -> coalescedor.porId(1L, Optional::empty)));
+        }
+        long limite = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (coalescedor.getPorId().getCoalescidas() < 5 && System.nanoTime() < limite) {
+            Thread.onSpinWait();
+        }
+        liberarLider.countDown();
+
+        // Assert
+        for (Future<Optional<RetratoUsuario>> chamada : chamadas) {
+            assertEquals(usuario.getLogin(), chamada.get(5, TimeUnit.SECONDS).orElseThrow().login());
+        }
+        verify(transactionManager, times(1)).getTransaction(any());
+        verify(transactionManager, times(1)).commit(any());
+    }
+
+    private static void aguardar(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
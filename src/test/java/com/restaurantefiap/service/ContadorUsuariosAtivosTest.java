@@ -0,0 +1,112 @@
+package com.restaurantefiap.service;
+
+import com.restaurantefiap.repository.UsuarioRepository;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para {@link ContadorUsuariosAtivos}.
+ * <p>Valida carga inicial, atualização incremental após commit e reconciliação.</p>
+ *
+ * @author Danilo de Paula
+ */
+@ExtendWith(MockitoExtension.class)
+class ContadorUsuariosAtivosTest {
+
+    @Mock
+    private UsuarioRepository repository;
+
+    @InjectMocks
+    private ContadorUsuariosAtivos contador;
+
+    @AfterEach
+    void limparSincronizacao() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Nested
+    @DisplayName("Leitura do total")
+    class LeituraTests {
+
+        @Test
+        @DisplayName("Deve consultar a tabela apenas na primeira leitura")
+        void total_quandoNaoCarregado_deveConsultarUmaVez() {
+            when(repository.countAtivos()).thenReturn(10L);
+
+            assertEquals(10L, contador.total());
+            assertEquals(10L, contador.total());
+
+            verify(repository, times(1)).countAtivos();
+        }
+
+        @Test
+        @DisplayName("Deve substituir o valor ao reconciliar")
+        void reconciliar_quandoTabelaMudou_deveAtualizarValor() {
+            when(repository.countAtivos()).thenReturn(10L, 7L);
+
+            contador.reconciliar();
+            contador.reconciliar();
+
+            assertEquals(7L, contador.total());
+        }
+    }
+
+    @Nested
+    @DisplayName("Atualização incremental")
+    class IncrementalTests {
+
+        @Test
+        @DisplayName("Deve incrementar e decrementar sem consultar a tabela")
+        void registrar_quandoSemTransacao_deveAplicarImediatamente() {
+            when(repository.countAtivos()).thenReturn(5L);
+            contador.reconciliar();
+
+            contador.registrarCriacao();
+            contador.registrarCriacao();
+            contador.registrarExclusao();
+
+            assertEquals(6L, contador.total());
+            verify(repository, times(1)).countAtivos();
+        }
+
+        @Test
+        @DisplayName("Deve aplicar a alteração somente após o commit")
+        void registrarCriacao_quandoEmTransacao_deveAguardarCommit() {
+            when(repository.countAtivos()).thenReturn(5L);
+            contador.reconciliar();
+            TransactionSynchronizationManager.initSynchronization();
+
+            contador.registrarCriacao();
+            assertEquals(5L, contador.total());
+
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(TransactionSynchronization::afterCommit);
+            assertEquals(6L, contador.total());
+        }
+
+        @Test
+        @DisplayName("Não deve ficar negativo")
+        void registrarExclusao_quandoZero_naoDeveFicarNegativo() {
+            when(repository.countAtivos()).thenReturn(0L);
+            contador.reconciliar();
+
+            contador.registrarExclusao();
+
+            assertEquals(0L, contador.total());
+        }
+    }
+}
@@ -7,6 +7,8 @@ import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -50,9 +52,12 @@ class JwtServiceTest {
 
     private JwtService jwtService;
 
+    private SimpleMeterRegistry meterRegistry;
+
     @BeforeEach
     void setUp() {
-        jwtService = new JwtService();
+        meterRegistry = new SimpleMeterRegistry();
+        jwtService = new JwtService(meterRegistry);
         ReflectionTestUtils.setField(jwtService, "secretBase64", SECRET_BASE64);
         ReflectionTestUtils.setField(jwtService, "expirationMs", EXPIRATION_MS);
     }
@@ -267,6 +272,54 @@ class JwtServiceTest {
         }
     }
 
+    // ========================================================================
+    // MÉTRICAS
+    // ========================================================================
+
+    @Nested
+    @DisplayName("Métricas")
+    class MetricasTests {
+
+        @Test
+        @DisplayName("Deve medir assinatura e leitura bem-sucedidas")
+        void generateToken_quandoTokenLido_deveRegistrarTimers() {
+            // Arrange
+            when(userDetails.getUsername()).thenReturn("usuario.teste");
+
+            // Act
+            String token = jwtService.generateToken(userDetails);
+            jwtService.extractUsername(token);
+
+            // Assert
+            assertEquals(1, contagem("assinar", "sucesso"));
+            assertEquals(1, contagem("ler", "sucesso"));
+        }
+
+        @Test
+        @DisplayName("Deve separar tokens expirados e inválidos nas tags")
+        void extractUsername_quandoTokenRejeitado_deveRegistrarResultado() {
+            // Arrange
+            String expirado = criarTokenExpirado("usuario.teste");
+
+            // Act
+            assertThrows(ExpiredJwtException.class, () -> jwtService.extractUsername(expirado));
+            assertThrows(JwtException.class, () -> jwtService.extractUsername("token.invalido.xyz"));
+
+            // Assert
+            assertEquals(1, contagem("ler", "expirado"));
+            assertEquals(1, contagem("ler", "invalido"));
+            assertEquals(0, contagem("ler", "sucesso"));
+        }
+
+        private long contagem(String operacao, String resultado) {
+            return meterRegistry.get(JwtService.METRICA)
+                    .tag("operacao", operacao)
+                    .tag("resultado", resultado)
+                    .timer()
+                    .count();
+        }
+    }
+
     // ========================================================================
     // MÉTODOS AUXILIARES
     // ========================================================================
@@ -8,8 +8,10 @@ import com.restaurantefiap.entities.endereco.DadosEndereco;
 import com.restaurantefiap.entities.endereco.Endereco;
 import com.restaurantefiap.entities.usuario.Usuario;
 import com.restaurantefiap.enums.Role;
+import com.restaurantefiap.enums.TipoEventoUsuario;
 import com.restaurantefiap.exception.DuplicateResourceException;
 import com.restaurantefiap.exception.InvalidPasswordException;
+import com.restaurantefiap.exception.PreconditionFailedException;
 import com.restaurantefiap.exception.ResourceNotFoundException;
 import com.restaurantefiap.repository.UsuarioRepository;
 import com.restaurantefiap.security.PasswordHasher;
@@ -24,6 +26,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Collections;
@@ -39,6 +42,9 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.transaction.PlatformTransactionManager;
 
 /**
  * Testes unitários para {@link UsuarioService}.
@@ -59,6 +65,16 @@ class UsuarioServiceTest {
     @Mock
     private PasswordHasher passwordHasher;
 
+    @Mock
+    private ContadorUsuariosAtivos contadorAtivos;
+
+    @Mock
+    private OutboxUsuariosService outbox;
+
+    @Spy
+    private CoalescedorLeiturasUsuario coalescedor = new CoalescedorLeiturasUsuario(
+            true, 1000, mock(PlatformTransactionManager.class));
+
     @InjectMocks
     private UsuarioService service;
 
@@ -106,6 +122,7 @@ class UsuarioServiceTest {
             verify(passwordPolicy).validateOrThrow(requestDTO.password());
             verify(passwordHasher).hash(requestDTO.password());
             verify(repository).save(any(Usuario.class));
+            verify(contadorAtivos).registrarCriacao();
         }
 
         /**
@@ -356,6 +373,7 @@ class UsuarioServiceTest {
             verify(passwordPolicy).validateOrThrow("NovaSenha456");
             verify(passwordHasher).hash("NovaSenha456");
             verify(repository).save(usuarioExistente);
+            verify(outbox).registrar(id, TipoEventoUsuario.SENHA_ALTERADA);
         }
 
         /**
@@ -655,6 +673,54 @@ class UsuarioServiceTest {
             assertEquals(nomeOriginal, usuarioExistente.getNome());
             assertEquals(telefoneOriginal, usuarioExistente.getTelefone());
         }
+
+        /**
+         * Verifica atualização condicional quando a versão esperada confere.
+         */
+        @Test
+        @DisplayName("Deve atualizar quando versão esperada é a atual")
+        void atualizar_quandoVersaoConfere_deveAtualizarEFazerFlush() {
+            // Arrange
+            Long id = 1L;
+            usuarioExistente.setVersao(3L);
+            UsuarioUpdateDTO dto = new UsuarioUpdateDTO("Novo Nome", null, null);
+
+            when(repository.findAtivoById(id)).thenReturn(Optional.of(usuarioExistente));
+            when(repository.save(any(Usuario.class))).thenReturn(usuarioExistente);
+
+            // Act
+            UsuarioResponseDTO resultado = service.atualizar(id, dto, 3L);
+
+            // Assert
+            assertEquals("Novo Nome", resultado.nome());
+            assertEquals(3L, resultado.versao());
+            verify(repository).flush();
+            verify(outbox).registrar(id, TipoEventoUsuario.ATUALIZADO);
+        }
+
+        /**
+         * Verifica que versão divergente rejeita a escrita sem alterar o usuário.
+         */
+        @Test
+        @DisplayName("Deve lançar PreconditionFailed quando versão esperada está desatualizada")
+        void atualizar_quandoVersaoDivergente_deveLancarExcecao() {
+            // Arrange
+            Long id = 1L;
+            usuarioExistente.setVersao(4L);
+            String nomeOriginal = usuarioExistente.getNome();
+            UsuarioUpdateDTO dto = new UsuarioUpdateDTO("Novo Nome", null, null);
+
+            when(repository.findAtivoById(id)).thenReturn(Optional.of(usuarioExistente));
+
+            // Act & Assert
+            assertThrows(
+                    PreconditionFailedException.class,
+                    () -> service.atualizar(id, dto, 3L)
+            );
+            assertEquals(nomeOriginal, usuarioExistente.getNome());
+            verify(repository, never()).save(any());
+            verifyNoInteractions(outbox);
+        }
     }
 
     // ========================================================================
@@ -869,6 +935,8 @@ class UsuarioServiceTest {
 
             // Assert
             verify(repository).delete(usuarioExistente);
+            verify(contadorAtivos).registrarExclusao();
+            verify(outbox).registrar(id, TipoEventoUsuario.EXCLUIDO);
         }
 
         /**
@@ -887,11 +955,12 @@ class UsuarioServiceTest {
                     () -> service.excluir(idInexistente)
             );
             verify(repository, never()).delete(any());
+            verify(contadorAtivos, never()).registrarExclusao();
         }
     }
 
     // ========================================================================
-// LISTAR USUÁRIOS - 3 testes
+// LISTAR USUÁRIOS - 5 testes
 // ========================================================================
 
     @Nested
@@ -960,6 +1029,45 @@ class UsuarioServiceTest {
             assertEquals(1, resultado.getContent().size());
             assertEquals(usuarioExistente.getLogin(), resultado.getContent().get(0).login());
         }
+
+        /**
+         * Verifica listagem em fatias sem consulta de contagem.
+         */
+        @Test
+        @DisplayName("Deve listar usuários em fatias sem contar registros")
+        void listarFatia_quandoChamadoComPageable_deveRetornarFatiaSemContagem() {
+            // Arrange
+            Pageable pageable = PageRequest.of(0, 1);
+            Slice<Usuario> fatia = new SliceImpl<>(List.of(usuarioExistente), pageable, true);
+            when(repository.findSliceAtivos(pageable)).thenReturn(fatia);
+
+            // Act
+            Slice<UsuarioResponseDTO> resultado = service.listarFatia(pageable);
+
+            // Assert
+            assertTrue(resultado.hasNext());
+            assertEquals(1, resultado.getContent().size());
+            assertEquals(usuarioExistente.getLogin(), resultado.getContent().get(0).login());
+            verify(repository, never()).findAllAtivos(any(Pageable.class));
+            verify(repository, never()).countAtivos();
+        }
+
+        /**
+         * Verifica que o total vem do contador em memória.
+         */
+        @Test
+        @DisplayName("Deve retornar total de ativos a partir do contador")
+        void contarAtivos_quandoChamado_deveUsarContador() {
+            // Arrange
+            when(contadorAtivos.total()).thenReturn(42L);
+
+            // Act
+            long resultado = service.contarAtivos();
+
+            // Assert
+            assertEquals(42L, resultado);
+            verify(repository, never()).countAtivos();
+        }
     }
 
-}
\ No newline at end of file
+}
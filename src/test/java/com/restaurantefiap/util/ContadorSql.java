@@ -0,0 +1,128 @@
+package com.restaurantefiap.util;
+
+import com.restaurantefiap.dto.response.EstatisticaSqlDTO;
+import com.restaurantefiap.enums.OperacaoSql;
+import com.restaurantefiap.observability.EstatisticasSql;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Conta os comandos SQL executados durante uma ação de teste, por tipo de comando.
+ * <p>Usa as {@link EstatisticasSql} do contexto: a contagem é a diferença das execuções por
+ * comando normalizado antes e depois da ação. Serve para fixar orçamentos de consultas por
+ * requisição e pegar regressões N+1 no build.</p>
+ *
+ * <p>As estatísticas são globais: a ação não deve disparar trabalho assíncrono com SQL.</p>
+ *
+ * @author Danilo de Paula
+ */
+public final class ContadorSql {
+
+    /** Ação medida (normalmente uma chamada ao MockMvc). */
+    @FunctionalInterface
+    public interface Acao {
+        void executar() throws Exception;
+    }
+
+    private final Map<String, Long> porComando;
+
+    private ContadorSql(Map<String, Long> porComando) {
+        this.porComando = porComando;
+    }
+
+    /**
+     * Executa a ação e conta os comandos SQL que ela disparou.
+     *
+     * @param estatisticas estatísticas do contexto
+     * @param acao         ação medida
+     * @return contagem por comando
+     * @throws Exception repassada da ação
+     */
+    public static ContadorSql contar(EstatisticasSql estatisticas, Acao acao) throws Exception {
+        Map<String, EstatisticaSqlDTO> antes = fotografar(estatisticas);
+        acao.executar();
+        Map<String, Long> diferenca = new HashMap<>();
+        fotografar(estatisticas).forEach((comando, depois) -> {
+            EstatisticaSqlDTO anterior = antes.get(comando);
+            long execucoes = depois.execucoes() - (anterior == null ? 0 : anterior.execucoes());
+            if (execucoes > 0) {
+                diferenca.put(comando, execucoes);
+            }
+        });
+        return new ContadorSql(diferenca);
+    }
+
+    /**
+     * Quantidade de comandos do tipo.
+     */
+    public long de(OperacaoSql operacao) {
+        return porComando.entrySet().stream()
+                .filter(e -> OperacaoSql.de(e.getKey()) == operacao)
+                .mapToLong(Map.Entry::getValue)
+                .sum();
+    }
+
+    /**
+     * Quantidade total de comandos.
+     */
+    public long total() {
+        return porComando.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    /**
+     * Quantidades por tipo de comando (só os que ocorreram).
+     */
+    public Map<OperacaoSql, Long> porOperacao() {
+        Map<OperacaoSql, Long> resultado = new EnumMap<>(OperacaoSql.class);
+        porComando.forEach((comando, execucoes) -> resultado.merge(OperacaoSql.de(comando), execucoes, Long::sum));
+        return resultado;
+    }
+
+    /**
+     * Falha se a ação executou mais comandos do tipo do que o orçamento, listando os comandos.
+     *
+     * @param operacao tipo de comando
+     * @param maximo   orçamento
+     * @return esta contagem, para encadear outros orçamentos
+     */
+    public ContadorSql noMaximo(OperacaoSql operacao, long maximo) {
+        if (de(operacao) > maximo) {
+            fail(String.format("Esperado no máximo %d %s, executados %d:%n%s", maximo, operacao, de(operacao), listar()));
+        }
+        return this;
+    }
+
+    /**
+     * Falha se a ação executou mais comandos, de qualquer tipo, do que o orçamento.
+     *
+     * @param maximo orçamento
+     * @return esta contagem, para encadear outros orçamentos
+     */
+    public ContadorSql totalNoMaximo(long maximo) {
+        if (total() > maximo) {
+            fail(String.format("Esperado no máximo %d comando(s), executados %d:%n%s", maximo, total(), listar()));
+        }
+        return this;
+    }
+
+    private String listar() {
+        return porComando.entrySet().stream()
+                .map(e -> "  " + e.getValue() + "x " + e.getKey())
+                .collect(Collectors.joining(System.lineSeparator()));
+    }
+
+    private static Map<String, EstatisticaSqlDTO> fotografar(EstatisticasSql estatisticas) {
+        return estatisticas.top(Integer.MAX_VALUE).stream()
+                .collect(Collectors.toMap(EstatisticaSqlDTO::comando, e -> e));
+    }
+
+    @Override
+    public String toString() {
+        return porOperacao().toString();
+    }
+}
@@ -0,0 +1,65 @@
+package com.restaurantefiap.util;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+
+/**
+ * {@link DataSource} de teste que injeta latência e falhas na obtenção de conexões.
+ * <p>Simula o MySQL lento ou fora do ar sem depender de um banco real: com {@link #falhar}
+ * ligado, todo pedido de conexão lança {@link SQLTransientConnectionException}; com
+ * {@link #latenciaMs} positiva, cada pedido espera antes de ser atendido.</p>
+ *
+ * @author Danilo de Paula
+ */
+public class DataSourceComFalhas extends DelegatingDataSource {
+
+    private volatile boolean falhar;
+    private volatile long latenciaMs;
+
+    public DataSourceComFalhas(DataSource alvo) {
+        super(alvo);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        simularBanco();
+        return super.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        simularBanco();
+        return super.getConnection(username, password);
+    }
+
+    public void falhar(boolean falhar) {
+        this.falhar = falhar;
+    }
+
+    public void latenciaMs(long latenciaMs) {
+        this.latenciaMs = latenciaMs;
+    }
+
+    /** Volta ao comportamento normal (sem falhas nem latência). */
+    public void normalizar() {
+        falhar = false;
+        latenciaMs = 0;
+    }
+
+    private void simularBanco() throws SQLException {
+        if (latenciaMs > 0) {
+            try {
+                Thread.sleep(latenciaMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (falhar) {
+            throw new SQLTransientConnectionException("Falha simulada: banco indisponível.");
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package com.restaurantefiap.validation;
+
+import com.restaurantefiap.enums.FormatoValidacao;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Testes unitários para {@link Formatos}.
+ * <p>Teste diferencial: entradas aleatórias e mutações de valores válidos precisam ter o
+ * mesmo resultado no validador escrito à mão e na regex de {@link ValidationPatterns}.</p>
+ *
+ * @author Danilo de Paula
+ */
+class FormatosTest {
+
+    private static final long SEMENTE = 20260118L;
+    private static final int ITERACOES = 100_000;
+
+    /** Caracteres que exercitam as bordas das regex: dígitos, pontuação, espaços, Latin-1 e surrogates. */
+    private static final String ALFABETO = "0123456789999555+()-_.' \t\n\r\u000B\f"
+            + "abcdezAEZSPRJDFTO@#$%^&+=!*?/"
+            + "ÀÖ×Øö÷øÿĀ\u00A0\u0085\u2028\u2029\uD83D\uDE00";
+
+    private static void compararComRegex(FormatoValidacao formato, List<String> validos) {
+        Pattern regex = Pattern.compile(formato.getRegex());
+        Random random = new Random(SEMENTE + formato.ordinal());
+
+        for (String valido : validos) {
+            verificar(formato, regex, valido);
+        }
+        for (int i = 0; i < ITERACOES; i++) {
+            String entrada = i % 2 == 0
+                    ? aleatoria(random)
+                    : mutar(validos.get(random.nextInt(validos.size())), random);
+            verificar(formato, regex, entrada);
+        }
+    }
+
+    private static void verificar(FormatoValidacao formato, Pattern regex, String entrada) {
+        boolean esperado = regex.matcher(entrada).matches();
+        if (formato.aceita(entrada) != esperado) {
+            fail(String.format("%s diverge da regex para \"%s\" (regex: %s)", formato, escapar(entrada), esperado));
+        }
+    }
+
+    private static String escapar(String entrada) {
+        StringBuilder sb = new StringBuilder();
+        for (char c : entrada.toCharArray()) {
+            sb.append(c < 0x20 || c > 0x7E ? String.format("\\u%04X", (int) c) : String.valueOf(c));
+        }
+        return sb.toString();
+    }
+
+    private static String aleatoria(Random random) {
+        int tamanho = random.nextInt(24);
+        StringBuilder sb = new StringBuilder(tamanho);
+        for (int i = 0; i < tamanho; i++) {
+            sb.append(ALFABETO.charAt(random.nextInt(ALFABETO.length())));
+        }
+        return sb.toString();
+    }
+
+    /** Aplica de 1 a 3 inserções, remoções ou trocas de caractere. */
+    private static String mutar(String valido, Random random) {
+        StringBuilder sb = new StringBuilder(valido);
+        int edicoes = 1 + random.nextInt(3);
+        for (int e = 0; e < edicoes; e++) {
+            char c = ALFABETO.charAt(random.nextInt(ALFABETO.length()));
+            int operacao = random.nextInt(3);
+            if (operacao == 0 || sb.isEmpty()) {
+                sb.insert(random.nextInt(sb.length() + 1), c);
+            } else if (operacao == 1) {
+                sb.deleteCharAt(random.nextInt(sb.length()));
+            } else {
+                sb.setCharAt(random.nextInt(sb.length()), c);
+            }
+        }
+        return sb.toString();
+    }
+
+    // ========================================================================
+    // EQUIVALÊNCIA COM AS REGEX
+    // ========================================================================
+
+    @Nested
+    @DisplayName("Equivalência com ValidationPatterns")
+    class EquivalenciaTests {
+
+        @Test
+        @DisplayName("TELEFONE_BR deve aceitar exatamente o que a regex aceita")
+        void telefone_deveSerEquivalenteARegex() {
+            compararComRegex(FormatoValidacao.TELEFONE_BR, List.of(
+                    "(11) 91234-5678", "11912345678", "11 91234 5678", "+55 (11) 91234-5678",
+                    "(11) 1234-5678", "1112345678", "+5511912345678", "91234-5678", "12345678"));
+        }
+
+        @Test
+        @DisplayName("CEP deve aceitar exatamente o que a regex aceita")
+        void cep_deveSerEquivalenteARegex() {
+            compararComRegex(FormatoValidacao.CEP, List.of("01234-567", "01234567"));
+        }
+
+        @Test
+        @DisplayName("UF_BR deve aceitar exatamente o que a regex aceita")
+        void uf_deveSerEquivalenteARegex() {
+            compararComRegex(FormatoValidacao.UF_BR, List.of("SP", "RJ", "DF", "TO", "AC"));
+        }
+
+        @Test
+        @DisplayName("NOME_PROPRIO deve aceitar exatamente o que a regex aceita")
+        void nomeProprio_deveSerEquivalenteARegex() {
+            compararComRegex(FormatoValidacao.NOME_PROPRIO, List.of(
+                    "João Silva", "Maria D'Ávila", "Ana", "Øyvind Ærø"));
+        }
+
+        @Test
+        @DisplayName("LOGIN_USUARIO deve aceitar exatamente o que a regex aceita")
+        void login_deveSerEquivalenteARegex() {
+            compararComRegex(FormatoValidacao.LOGIN_USUARIO, List.of(
+                    "usuario.teste", "joao_silva-01", "abc", "a1234567890123456789"));
+        }
+
+        @Test
+        @DisplayName("SENHA_FORTE deve aceitar exatamente o que a regex aceita")
+        void senhaForte_deveSerEquivalenteARegex() {
+            compararComRegex(FormatoValidacao.SENHA_FORTE, List.of(
+                    "Teste@123", "Senha#Forte9", "aA1!aaaa", "aA1!😀😀aaa"));
+        }
+    }
+
+    // ========================================================================
+    // CASOS DE BORDA
+    // ========================================================================
+
+    @Nested
+    @DisplayName("Casos de borda")
+    class BordaTests {
+
+        @Test
+        @DisplayName("Senha deve contar code points, como o ponto da regex")
+        void senhaForte_quandoParSubstituto_deveContarUmCaractere() {
+            // 8 unidades UTF-16, mas 7 code points
+            assertFalse(Formatos.senhaForte("aA1!😀aa"));
+            assertTrue(Formatos.senhaForte("aA1!😀aaa"));
+        }
+
+        @Test
+        @DisplayName("UF deve rejeitar minúsculas e siglas inexistentes")
+        void uf_quandoSiglaInvalida_deveRejeitar() {
+            assertFalse(Formatos.uf("sp"));
+            assertFalse(Formatos.uf("XX"));
+            assertFalse(Formatos.uf("S"));
+            assertEquals(27, contarUfsValidas());
+        }
+
+        private int contarUfsValidas() {
+            int total = 0;
+            for (char a = 'A'; a <= 'Z'; a++) {
+                for (char b = 'A'; b <= 'Z'; b++) {
+                    if (Formatos.uf("" + a + b)) {
+                        total++;
+                    }
+                }
+            }
+            return total;
+        }
+
+        @Test
+        @DisplayName("Telefone deve rejeitar quebra de linha no fim")
+        void telefone_quandoQuebraDeLinhaFinal_deveRejeitar() {
+            assertFalse(Formatos.telefone("11912345678\n"));
+        }
+    }
+}